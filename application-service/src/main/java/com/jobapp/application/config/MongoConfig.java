@@ -5,11 +5,16 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.domain.Sort;
 
 import com.jobapp.application.model.Application;
+import com.jobapp.application.model.StatusHistoryBucket;
+import com.jobapp.application.model.TimerLease;
 
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 
 /**
  * MongoDB configuration for setting up indexes in application-service
@@ -30,6 +35,8 @@ public class MongoConfig {
     @PostConstruct
     public void setupIndexes() {
         setupApplicationIndexes();
+        setupStatusHistoryIndexes();
+        setupTimerLeaseIndexes();
     }
     
     private void setupApplicationIndexes() {
@@ -39,7 +46,8 @@ public class MongoConfig {
         IndexDefinition candidateJobIndex = new Index()
                 .on("candidate_id", Sort.Direction.ASC)
                 .on("job_id", Sort.Direction.ASC)
-                .unique();
+                .unique()
+                .named("candidate_job_idx");
         indexOps.ensureIndex(candidateJobIndex);
         
         // Index on candidate_id for candidate-specific queries
@@ -75,19 +83,22 @@ public class MongoConfig {
         // Compound index on candidate_id and status
         IndexDefinition candidateStatusIndex = new Index()
                 .on("candidate_id", Sort.Direction.ASC)
-                .on("status", Sort.Direction.ASC);
+                .on("status", Sort.Direction.ASC)
+                .named("candidate_status_idx");
         indexOps.ensureIndex(candidateStatusIndex);
         
-        // Compound index on job_id and status
+        // Compound index on job_id and status, also used by bulk operations by job IDs
         IndexDefinition jobStatusIndex = new Index()
                 .on("job_id", Sort.Direction.ASC)
-                .on("status", Sort.Direction.ASC);
+                .on("status", Sort.Direction.ASC)
+                .named("job_status_idx");
         indexOps.ensureIndex(jobStatusIndex);
         
         // Compound index on employer_id and status
         IndexDefinition employerStatusIndex = new Index()
                 .on("employer_id", Sort.Direction.ASC)
-                .on("status", Sort.Direction.ASC);
+                .on("status", Sort.Direction.ASC)
+                .named("employer_status_idx");
         indexOps.ensureIndex(employerStatusIndex);
         
         // Compound index on candidate_id, status, and applied_at
@@ -150,10 +161,94 @@ public class MongoConfig {
                 .on("employer_id", Sort.Direction.ASC);
         indexOps.ensureIndex(analyticsIndex);
         
-        // Index for bulk operations by job IDs
-        IndexDefinition bulkJobIndex = new Index()
+        // Keyset index for the candidate timeline; _id breaks applied_at ties and the trailing status key
+        // lets the per-status filter be applied to index entries before documents are fetched
+        IndexDefinition candidateTimelineIndex = new Index()
+                .on("candidate_id", Sort.Direction.ASC)
+                .on("applied_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .on("status", Sort.Direction.ASC)
+                .named("candidate_timeline_idx");
+        indexOps.ensureIndex(candidateTimelineIndex);
+        
+        // Indexes for streaming exports, so newest-first cursors walk an index instead of sorting in memory
+        IndexDefinition employerAppliedIndex = new Index()
+                .on("employer_id", Sort.Direction.ASC)
+                .on("applied_at", Sort.Direction.DESC)
+                .named("employer_applied_idx");
+        indexOps.ensureIndex(employerAppliedIndex);
+        
+        IndexDefinition jobAppliedIndex = new Index()
                 .on("job_id", Sort.Direction.ASC)
-                .on("status", Sort.Direction.ASC);
-        indexOps.ensureIndex(bulkJobIndex);
+                .on("applied_at", Sort.Direction.DESC)
+                .named("job_applied_idx");
+        indexOps.ensureIndex(jobAppliedIndex);
+        
+        // Indexes for ranked job applications: best match score first, newest first among equal scores
+        IndexDefinition jobScoreIndex = new Index()
+                .on("job_id", Sort.Direction.ASC)
+                .on("match_score", Sort.Direction.DESC)
+                .on("applied_at", Sort.Direction.DESC)
+                .named("job_score_idx");
+        indexOps.ensureIndex(jobScoreIndex);
+        
+        IndexDefinition jobStatusScoreIndex = new Index()
+                .on("job_id", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("match_score", Sort.Direction.DESC)
+                .on("applied_at", Sort.Direction.DESC)
+                .named("job_status_score_idx");
+        indexOps.ensureIndex(jobStatusScoreIndex);
+        
+        // Index for the match score backfill to walk unscored applications in _id order
+        IndexDefinition scoredAtIndex = new Index()
+                .on("scored_at", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("scored_at_idx");
+        indexOps.ensureIndex(scoredAtIndex);
+        
+        // Index for the outbox relay to find applications with unpublished events, oldest first
+        IndexDefinition pendingEventsIndex = new Index()
+                .on("pending_events.occurred_at", Sort.Direction.ASC)
+                .sparse()
+                .named("pending_events_idx");
+        indexOps.ensureIndex(pendingEventsIndex);
+        
+        // Index for the status history sweep to find applications with changes not yet appended to the history
+        IndexDefinition pendingHistoryIndex = new Index()
+                .on("pending_history.changeId", Sort.Direction.ASC)
+                .sparse()
+                .named("pending_history_idx");
+        indexOps.ensureIndex(pendingHistoryIndex);
+    }
+    
+    private void setupStatusHistoryIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(StatusHistoryBucket.class);
+        
+        // Compound index for appending to the newest bucket and paging the timeline newest first
+        IndexDefinition applicationBucketIndex = new Index()
+                .on("application_id", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.DESC)
+                .named("application_bucket_idx");
+        indexOps.ensureIndex(applicationBucketIndex);
+        
+        // At most one open bucket per application, so racing appends cannot each open their own
+        IndexDefinition openBucketIndex = new Index()
+                .on("application_id", Sort.Direction.ASC)
+                .unique()
+                .partial(PartialIndexFilter.of(Criteria.where("count").lt(StatusHistoryBucket.BUCKET_SIZE)))
+                .named("open_bucket_idx");
+        indexOps.ensureIndex(openBucketIndex);
+    }
+    
+    private void setupTimerLeaseIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(TimerLease.class);
+        
+        // Leases are only needed while replicas may still hold the timer; drop them a week after they ran out
+        IndexDefinition leaseTtlIndex = new Index()
+                .on("lease_until", Sort.Direction.ASC)
+                .expire(Duration.ofDays(7))
+                .named("lease_ttl_idx");
+        indexOps.ensureIndex(leaseTtlIndex);
     }
-}
\ No newline at end of file
+}
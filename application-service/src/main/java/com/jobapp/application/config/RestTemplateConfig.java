@@ -1,18 +0,0 @@
-package com.jobapp.application.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
-
-/**
- * Configuration for RestTemplate to communicate with other services
- * Requirements: 2.3, 2.5, 4.1, 4.2
- */
-@Configuration
-public class RestTemplateConfig {
-    
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-}
\ No newline at end of file
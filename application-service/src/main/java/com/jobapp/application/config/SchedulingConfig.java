@@ -0,0 +1,13 @@
+package com.jobapp.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background tasks such as the outbox relay
+ * Requirements: 4.3
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
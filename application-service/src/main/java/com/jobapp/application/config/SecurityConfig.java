@@ -1,5 +1,7 @@
 package com.jobapp.application.config;
 
+import com.jobapp.common.security.ServiceAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -7,6 +9,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -22,16 +25,22 @@ import java.util.Arrays;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
     
+    @Value("${service-auth.token:}")
+    private String serviceAuthToken;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.cors().and().csrf().disable()
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
             .authorizeHttpRequests(authz -> authz
+                // Request metrics are only scraped by user-service, with the service token
+                .requestMatchers("/actuator/requestmetrics").hasRole("SERVICE")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/applications/**").authenticated()
                 .anyRequest().authenticated()
-            );
+            )
+            .addFilterBefore(new ServiceAuthFilter(serviceAuthToken), UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
@@ -0,0 +1,30 @@
+package com.jobapp.application.config;
+
+import com.jobapp.application.service.StatusHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves status history embedded in legacy application documents into the bucketed history collection on startup
+ * Requirements: 4.2, 4.3
+ */
+@Component
+public class StatusHistoryMigration implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusHistoryMigration.class);
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        try {
+            statusHistoryService.migrateEmbeddedHistory();
+        } catch (Exception e) {
+            logger.error("Failed to migrate embedded status history: {}", e.getMessage(), e);
+        }
+    }
+}
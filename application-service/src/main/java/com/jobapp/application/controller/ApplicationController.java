@@ -1,10 +1,21 @@
 package com.jobapp.application.controller;
 
 import com.jobapp.application.dto.ApplicationResponse;
+import com.jobapp.application.dto.BulkStatusUpdateRequest;
+import com.jobapp.application.dto.BulkStatusUpdateResponse;
+import com.jobapp.application.dto.CandidateTimelineResponse;
 import com.jobapp.application.dto.CreateApplicationRequest;
 import com.jobapp.application.dto.PagedResponse;
+import com.jobapp.application.dto.PlatformApplicationStatisticsResponse;
+import com.jobapp.application.dto.StatusTimelineResponse;
 import com.jobapp.application.dto.UpdateApplicationStatusRequest;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.service.ApplicationExportService;
+import com.jobapp.application.service.ApplicationScoringService;
 import com.jobapp.application.service.ApplicationService;
+import com.jobapp.application.service.BulkStatusService;
+import com.jobapp.application.service.CandidateTimelineService;
+import com.jobapp.application.service.PlatformStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,11 +29,16 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
 
 /**
  * REST controller for job application operations
@@ -40,6 +56,21 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
     
+    @Autowired
+    private BulkStatusService bulkStatusService;
+    
+    @Autowired
+    private ApplicationExportService applicationExportService;
+    
+    @Autowired
+    private CandidateTimelineService candidateTimelineService;
+    
+    @Autowired
+    private ApplicationScoringService applicationScoringService;
+
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+    
     /**
      * Create a new job application
      * Requirements: 2.3, 2.5
@@ -150,6 +181,49 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get the status timeline of an application
+     * Requirements: 4.2, 4.3
+     */
+    @GetMapping("/{applicationId}/timeline")
+    @PreAuthorize("hasRole('CANDIDATE') or hasRole('EMPLOYER') or hasRole('ADMIN')")
+    @Operation(
+            summary = "Get application status timeline",
+            description = "Retrieve the status change history of an application, newest first, using cursor-based paging. Pass the returned nextCursor to fetch the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Timeline page retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StatusTimelineResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - no access to this application"),
+            @ApiResponse(responseCode = "404", description = "Application not found")
+    })
+    public ResponseEntity<StatusTimelineResponse> getApplicationTimeline(
+            @Parameter(description = "Application ID", required = true, example = "app123")
+            @PathVariable String applicationId,
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        
+        logger.debug("Fetching timeline for application: {} by user: {}", applicationId, authentication.getName());
+        
+        boolean isAdmin = authentication.getAuthorities().stream()
+            .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+        
+        StatusTimelineResponse response = applicationService.getStatusTimeline(
+            applicationId, authentication.getName(), isAdmin, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Get applications for the authenticated candidate
      * Requirements: 2.4
@@ -191,6 +265,50 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get the authenticated candidate's application timeline
+     * Requirements: 2.4
+     */
+    @GetMapping("/candidate/timeline")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    @Operation(
+            summary = "Get candidate's application timeline",
+            description = "Retrieve compact summaries of the authenticated candidate's applications, most recently applied first, with optional status filtering. Pass the returned nextCursor to load the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Timeline page retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CandidateTimelineResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or status"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - requires CANDIDATE role")
+    })
+    public ResponseEntity<CandidateTimelineResponse> getCandidateTimeline(
+            @Parameter(description = "Cursor returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Filter by application status", example = "APPLIED")
+            @RequestParam(required = false) String status,
+            Authentication authentication) {
+        
+        String candidateId = authentication.getName();
+        logger.debug("Fetching timeline for candidate: {}, cursor: {}, size: {}, status: {}", 
+                    candidateId, cursor, size, status);
+        
+        ApplicationStatus applicationStatus = status != null && !status.isEmpty()
+            ? ApplicationStatus.valueOf(status.toUpperCase()) : null;
+        CandidateTimelineResponse response = candidateTimelineService.getTimeline(
+            candidateId, applicationStatus, cursor, size);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Get applications for a specific job (for employers)
      * Requirements: 4.1, 4.2
@@ -214,6 +332,61 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get applications for a specific job ranked by skill match score (for employers)
+     * Requirements: 4.1, 4.2
+     */
+    @GetMapping("/job/{jobId}/ranked")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @Operation(
+            summary = "Get ranked job applications",
+            description = "Applications for the job ordered by the stored skill match score (0-100), best match first. " +
+                         "The score compares the candidate's skills and experience with the job's required skills, " +
+                         "preferred skills and experience level. Unscored applications are listed last."
+    )
+    public ResponseEntity<PagedResponse<ApplicationResponse>> getRankedJobApplications(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String status,
+            Authentication authentication) {
+        
+        String employerId = authentication.getName();
+        logger.debug("Fetching ranked applications for job: {} by employer: {}, page: {}, size: {}, status: {}", 
+                    jobId, employerId, page, size, status);
+        
+        PagedResponse<ApplicationResponse> response = applicationService.getRankedJobApplications(
+            jobId, employerId, page, size, status);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Recompute the match scores of a candidate's applications after their skill profile changed.
+     * Called by user-service with the service token, or by an admin; the profile is read back from
+     * user-service, so callers cannot supply scores.
+     * Requirements: 4.1, 4.2
+     */
+    @PostMapping("/candidates/{candidateId}/rescore")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('SERVICE')")
+    @Operation(
+            summary = "Rescore candidate applications",
+            description = "Recompute the stored skill match scores of all applications of the candidate from their current profile"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Applications rescored"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Candidate not found"),
+            @ApiResponse(responseCode = "503", description = "Candidate profile could not be read from user-service")
+    })
+    public ResponseEntity<Map<String, Integer>> rescoreCandidateApplications(@PathVariable String candidateId) {
+        logger.info("Rescoring applications of candidate: {}", candidateId);
+        
+        int rescored = applicationScoringService.rescoreCandidate(candidateId);
+        
+        return ResponseEntity.ok(Map.of("rescored", rescored));
+    }
+    
     /**
      * Get all applications for the authenticated employer
      * Requirements: 4.1, 4.2
@@ -236,6 +409,46 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Export the authenticated employer's applications as CSV or NDJSON
+     * Requirements: 4.1, 4.2
+     */
+    @GetMapping("/employer/export")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @Operation(
+            summary = "Export employer applications",
+            description = "Stream all applications of the authenticated employer, optionally restricted to one job and/or status, as CSV or newline-delimited JSON. Rows are written as they are read, so exports of any size complete in constant memory."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or invalid status"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - requires EMPLOYER role")
+    })
+    public ResponseEntity<StreamingResponseBody> exportEmployerApplications(
+            @Parameter(description = "Export format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Restrict the export to one job") @RequestParam(required = false) String jobId,
+            @Parameter(description = "Restrict the export to one status") @RequestParam(required = false) String status,
+            Authentication authentication) {
+        
+        String employerId = authentication.getName();
+        logger.info("Exporting applications for employer: {}, job: {}, status: {}, format: {}", 
+                   employerId, jobId, status, format);
+        
+        // Resolve parameters before streaming starts so bad input still gets a 400
+        ApplicationExportService.Format exportFormat = ApplicationExportService.Format.fromValue(format);
+        ApplicationStatus applicationStatus = status != null && !status.isEmpty()
+            ? ApplicationStatus.valueOf(status.toUpperCase()) : null;
+        
+        StreamingResponseBody body = out -> applicationExportService.exportEmployerApplications(
+            employerId, jobId, applicationStatus, exportFormat, out);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"applications." + exportFormat.getFileExtension() + "\"")
+            .body(body);
+    }
+    
     /**
      * Update application status (for employers)
      * Requirements: 4.1, 4.2, 4.3
@@ -290,6 +503,41 @@ public class ApplicationController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Update the status of many applications at once (for employers)
+     * Requirements: 4.1, 4.2, 4.3
+     */
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    @Operation(
+            summary = "Bulk update application status",
+            description = "Transition many applications to the same status, selected either by a list of application IDs or by job and current status. A job and status selection transitions at most 1000 applications per request; hasMore tells whether to repeat it. Each transition is validated server-side and the response reports an outcome per application."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Bulk update processed; see per-application outcomes",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkStatusUpdateResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Missing selection or invalid request data"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - requires EMPLOYER role")
+    })
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateApplicationStatus(
+            @Parameter(description = "Bulk status update request", required = true)
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            Authentication authentication) {
+        
+        String employerId = authentication.getName();
+        logger.info("Bulk updating applications to: {} by employer: {}", request.getTargetStatus(), employerId);
+        
+        BulkStatusUpdateResponse response = bulkStatusService.bulkUpdateStatus(employerId, request);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Withdraw application (for candidates)
      * Requirements: 2.4
@@ -343,4 +591,18 @@ public class ApplicationController {
         
         return ResponseEntity.ok(statistics);
     }
+
+    /**
+     * Get platform-wide application statistics for the admin dashboard
+     * Requirements: 5.4
+     */
+    @GetMapping("/admin/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PlatformApplicationStatisticsResponse> getPlatformStatistics(
+            @RequestParam(defaultValue = "30") int days) {
+
+        logger.debug("Fetching platform application statistics for the last {} days", days);
+
+        return ResponseEntity.ok(platformStatisticsService.getPlatformStatistics(days));
+    }
 }
\ No newline at end of file
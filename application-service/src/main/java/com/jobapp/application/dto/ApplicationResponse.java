@@ -1,7 +1,6 @@
 package com.jobapp.application.dto;
 
 import com.jobapp.application.model.ApplicationStatus;
-import com.jobapp.application.model.StatusChange;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,7 +28,7 @@ public class ApplicationResponse {
     private LocalDateTime offerExpiresAt;
     private LocalDateTime appliedAt;
     private LocalDateTime updatedAt;
-    private List<StatusChange> statusHistory;
+    private Integer matchScore;
     
     // Job information (populated when needed)
     private String jobTitle;
@@ -179,12 +178,12 @@ public class ApplicationResponse {
         this.updatedAt = updatedAt;
     }
     
-    public List<StatusChange> getStatusHistory() {
-        return statusHistory;
+    public Integer getMatchScore() {
+        return matchScore;
     }
     
-    public void setStatusHistory(List<StatusChange> statusHistory) {
-        this.statusHistory = statusHistory;
+    public void setMatchScore(Integer matchScore) {
+        this.matchScore = matchScore;
     }
     
     public String getJobTitle() {
@@ -0,0 +1,90 @@
+package com.jobapp.application.dto;
+
+import com.jobapp.application.model.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact application summary for list views such as the candidate timeline.
+ * Leaves out cover letter, documents, notes and offer details, which only the detail view needs.
+ * Requirements: 2.4
+ */
+public class ApplicationSummaryResponse {
+
+    private String id;
+    private String jobId;
+    private String employerId;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime interviewScheduled;
+    private LocalDateTime offerExpiresAt;
+
+    // Constructors
+    public ApplicationSummaryResponse() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getInterviewScheduled() {
+        return interviewScheduled;
+    }
+
+    public void setInterviewScheduled(LocalDateTime interviewScheduled) {
+        this.interviewScheduled = interviewScheduled;
+    }
+
+    public LocalDateTime getOfferExpiresAt() {
+        return offerExpiresAt;
+    }
+
+    public void setOfferExpiresAt(LocalDateTime offerExpiresAt) {
+        this.offerExpiresAt = offerExpiresAt;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jobapp.application.dto;
+
+import com.jobapp.application.model.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for transitioning many applications to the same status at once.
+ * Targets are selected either by an explicit list of application IDs or by a filter of job plus current status.
+ * Requirements: 4.1, 4.2, 4.3
+ */
+public class BulkStatusUpdateRequest {
+
+    @Size(max = 1000, message = "At most 1000 application IDs can be updated per request")
+    private List<String> applicationIds;
+
+    // Filter selection (used when applicationIds is empty)
+    private String jobId;
+    private ApplicationStatus currentStatus;
+
+    @NotNull(message = "Target status is required")
+    private ApplicationStatus targetStatus;
+
+    @Size(max = 2000, message = "Notes must not exceed 2000 characters")
+    private String notes;
+
+    @Size(max = 500, message = "Reason must not exceed 500 characters")
+    private String reason;
+
+    private String rejectionReason;
+
+    // Constructors
+    public BulkStatusUpdateRequest() {}
+
+    // Getters and Setters
+    public List<String> getApplicationIds() {
+        return applicationIds;
+    }
+
+    public void setApplicationIds(List<String> applicationIds) {
+        this.applicationIds = applicationIds;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public ApplicationStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(ApplicationStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public ApplicationStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public void setTargetStatus(ApplicationStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public void setRejectionReason(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+
+    /**
+     * Check if the request selects applications by explicit IDs
+     * @return true if application IDs were supplied
+     */
+    public boolean hasApplicationIds() {
+        return applicationIds != null && !applicationIds.isEmpty();
+    }
+
+    /**
+     * Check if the request selects applications by job and current status
+     * @return true if a complete filter was supplied
+     */
+    public boolean hasFilter() {
+        return jobId != null && !jobId.isEmpty() && currentStatus != null;
+    }
+}
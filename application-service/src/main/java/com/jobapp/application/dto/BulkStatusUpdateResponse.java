@@ -0,0 +1,123 @@
+package com.jobapp.application.dto;
+
+import com.jobapp.application.model.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk status transition with a per-application outcome
+ * Requirements: 4.1, 4.2, 4.3
+ */
+public class BulkStatusUpdateResponse {
+
+    /**
+     * Outcome of the transition for a single application
+     */
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        FORBIDDEN,
+        INVALID_TRANSITION,
+        CONFLICT
+    }
+
+    private ApplicationStatus targetStatus;
+    private int requested;
+    private int updated;
+    private int failed;
+    private List<ItemResult> results;
+
+    /**
+     * True when a filter selection matched more applications than one request transitions;
+     * repeating the request continues with the remaining ones
+     */
+    private boolean hasMore;
+
+    // Constructors
+    public BulkStatusUpdateResponse() {}
+
+    public BulkStatusUpdateResponse(ApplicationStatus targetStatus, List<ItemResult> results) {
+        this.targetStatus = targetStatus;
+        this.results = results;
+        this.requested = results.size();
+        this.updated = (int) results.stream().filter(result -> result.getOutcome() == Outcome.UPDATED).count();
+        this.failed = requested - updated;
+    }
+
+    // Getters and Setters
+    public ApplicationStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public void setTargetStatus(ApplicationStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Result of the transition for one application
+     */
+    public static class ItemResult {
+        private String applicationId;
+        private Outcome outcome;
+        private ApplicationStatus previousStatus;
+        private String message;
+
+        public ItemResult() {}
+
+        public ItemResult(String applicationId, Outcome outcome, ApplicationStatus previousStatus, String message) {
+            this.applicationId = applicationId;
+            this.outcome = outcome;
+            this.previousStatus = previousStatus;
+            this.message = message;
+        }
+
+        public String getApplicationId() { return applicationId; }
+        public void setApplicationId(String applicationId) { this.applicationId = applicationId; }
+        public Outcome getOutcome() { return outcome; }
+        public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+        public ApplicationStatus getPreviousStatus() { return previousStatus; }
+        public void setPreviousStatus(ApplicationStatus previousStatus) { this.previousStatus = previousStatus; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
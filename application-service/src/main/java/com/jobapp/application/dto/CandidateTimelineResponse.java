@@ -0,0 +1,48 @@
+package com.jobapp.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of a candidate's application timeline (most recently applied first)
+ * Requirements: 2.4
+ */
+public class CandidateTimelineResponse {
+
+    private List<ApplicationSummaryResponse> applications;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public CandidateTimelineResponse() {}
+
+    public CandidateTimelineResponse(List<ApplicationSummaryResponse> applications, String nextCursor) {
+        this.applications = applications;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<ApplicationSummaryResponse> getApplications() {
+        return applications;
+    }
+
+    public void setApplications(List<ApplicationSummaryResponse> applications) {
+        this.applications = applications;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobapp.application.dto;
+
+import java.util.Map;
+
+/**
+ * Response DTO for platform-wide application statistics, consumed by the admin dashboard in user-service
+ * Requirements: 5.4
+ */
+public class PlatformApplicationStatisticsResponse {
+
+    private long totalApplications;
+    private long applicationsThisMonth;
+    private Map<String, Long> applicationsByStatus;
+    private double averageApplicationsPerJob;
+    private double applicationSuccessRate;
+    private Map<String, Long> applicationsByDay;
+
+    // Constructors
+    public PlatformApplicationStatisticsResponse() {}
+
+    // Getters and Setters
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+
+    public long getApplicationsThisMonth() {
+        return applicationsThisMonth;
+    }
+
+    public void setApplicationsThisMonth(long applicationsThisMonth) {
+        this.applicationsThisMonth = applicationsThisMonth;
+    }
+
+    public Map<String, Long> getApplicationsByStatus() {
+        return applicationsByStatus;
+    }
+
+    public void setApplicationsByStatus(Map<String, Long> applicationsByStatus) {
+        this.applicationsByStatus = applicationsByStatus;
+    }
+
+    public double getAverageApplicationsPerJob() {
+        return averageApplicationsPerJob;
+    }
+
+    public void setAverageApplicationsPerJob(double averageApplicationsPerJob) {
+        this.averageApplicationsPerJob = averageApplicationsPerJob;
+    }
+
+    public double getApplicationSuccessRate() {
+        return applicationSuccessRate;
+    }
+
+    public void setApplicationSuccessRate(double applicationSuccessRate) {
+        this.applicationSuccessRate = applicationSuccessRate;
+    }
+
+    public Map<String, Long> getApplicationsByDay() {
+        return applicationsByDay;
+    }
+
+    public void setApplicationsByDay(Map<String, Long> applicationsByDay) {
+        this.applicationsByDay = applicationsByDay;
+    }
+}
@@ -0,0 +1,60 @@
+package com.jobapp.application.dto;
+
+import com.jobapp.application.model.StatusChange;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of an application's status timeline (newest first)
+ * Requirements: 4.2, 4.3
+ */
+public class StatusTimelineResponse {
+
+    private String applicationId;
+    private List<StatusChange> entries;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public StatusTimelineResponse() {}
+
+    public StatusTimelineResponse(String applicationId, List<StatusChange> entries, String nextCursor) {
+        this.applicationId = applicationId;
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public List<StatusChange> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<StatusChange> entries) {
+        this.entries = entries;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,14 @@
+package com.jobapp.application.exception;
+
+import com.jobapp.application.model.ApplicationStatus;
+
+/**
+ * Exception thrown when an application's status changed between reading it and writing a transition
+ * Requirements: 4.1, 4.2
+ */
+public class ConcurrentStatusChangeException extends RuntimeException {
+    
+    public ConcurrentStatusChangeException(String applicationId, ApplicationStatus expectedStatus) {
+        super(String.format("Application %s is no longer in status %s; reload it and try again", applicationId, expectedStatus));
+    }
+}
@@ -17,4 +17,8 @@ public class DuplicateApplicationException extends RuntimeException {
     public DuplicateApplicationException(String candidateId, String jobId) {
         super(String.format("Application already exists for candidate %s and job %s", candidateId, jobId));
     }
+    
+    public DuplicateApplicationException(String candidateId, String jobId, Throwable cause) {
+        super(String.format("Application already exists for candidate %s and job %s", candidateId, jobId), cause);
+    }
 }
\ No newline at end of file
@@ -50,6 +50,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    @ExceptionHandler(ConcurrentStatusChangeException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentStatusChange(ConcurrentStatusChangeException ex, WebRequest request) {
+        logger.warn("Concurrent status change: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "STATUS_CONFLICT",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     @ExceptionHandler(InvalidApplicationStatusException.class)
     public ResponseEntity<ErrorResponse> handleInvalidApplicationStatus(InvalidApplicationStatusException ex, WebRequest request) {
         logger.warn("Invalid application status transition: {}", ex.getMessage());
@@ -84,6 +97,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
     
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex, WebRequest request) {
+        logger.warn("Upstream service unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "SERVICE_UNAVAILABLE",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, WebRequest request) {
         logger.warn("Access denied: {}", ex.getMessage());
@@ -0,0 +1,16 @@
+package com.jobapp.application.exception;
+
+/**
+ * Exception thrown when a service this request depends on cannot be reached or fails
+ * Requirements: 4.1, 4.2
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -87,9 +87,47 @@ public class Application {
     @Field("updated_at")
     private LocalDateTime updatedAt;
     
-    @Field("status_history")
+    /**
+     * Skill match score (0-100) of the candidate's profile against the job's requirements.
+     * Stored so ranked lists are read from the job_score_idx index instead of being scored per request.
+     */
+    @Field("match_score")
+    private Integer matchScore;
+    
+    @Field("scored_at")
+    private LocalDateTime scoredAt;
+    
+    /**
+     * Status changes written together with the status itself and removed once they have been appended
+     * to the bucketed history collection; the full history is not stored on the application document.
+     */
+    @Field("pending_history")
     private List<StatusChange> statusHistory;
     
+    @Field("history_flush_token")
+    private String historyFlushToken;
+    
+    @Field("history_flush_until")
+    private LocalDateTime historyFlushUntil;
+    
+    /**
+     * Outbox events written atomically with this document and removed once the relay has published them
+     */
+    @Field("pending_events")
+    private List<OutboxEvent> pendingEvents;
+    
+    /**
+     * Outbox events the relay gave up on after repeated delivery failures, kept for inspection and replay
+     */
+    @Field("parked_events")
+    private List<OutboxEvent> parkedEvents;
+    
+    @Field("outbox_lease_token")
+    private String outboxLeaseToken;
+    
+    @Field("outbox_lease_until")
+    private LocalDateTime outboxLeaseUntil;
+    
     // Constructors
     public Application() {
         this.appliedAt = LocalDateTime.now();
@@ -265,6 +303,92 @@ public class Application {
         this.statusHistory = statusHistory;
     }
     
+    public String getHistoryFlushToken() {
+        return historyFlushToken;
+    }
+    
+    public void setHistoryFlushToken(String historyFlushToken) {
+        this.historyFlushToken = historyFlushToken;
+    }
+    
+    public LocalDateTime getHistoryFlushUntil() {
+        return historyFlushUntil;
+    }
+    
+    public void setHistoryFlushUntil(LocalDateTime historyFlushUntil) {
+        this.historyFlushUntil = historyFlushUntil;
+    }
+    
+    public Integer getMatchScore() {
+        return matchScore;
+    }
+    
+    public void setMatchScore(Integer matchScore) {
+        this.matchScore = matchScore;
+    }
+    
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+    
+    public void setScoredAt(LocalDateTime scoredAt) {
+        this.scoredAt = scoredAt;
+    }
+    
+    public List<OutboxEvent> getPendingEvents() {
+        return pendingEvents;
+    }
+    
+    public void setPendingEvents(List<OutboxEvent> pendingEvents) {
+        this.pendingEvents = pendingEvents;
+    }
+    
+    public List<OutboxEvent> getParkedEvents() {
+        return parkedEvents;
+    }
+    
+    public void setParkedEvents(List<OutboxEvent> parkedEvents) {
+        this.parkedEvents = parkedEvents;
+    }
+    
+    public String getOutboxLeaseToken() {
+        return outboxLeaseToken;
+    }
+    
+    public void setOutboxLeaseToken(String outboxLeaseToken) {
+        this.outboxLeaseToken = outboxLeaseToken;
+    }
+    
+    public LocalDateTime getOutboxLeaseUntil() {
+        return outboxLeaseUntil;
+    }
+    
+    public void setOutboxLeaseUntil(LocalDateTime outboxLeaseUntil) {
+        this.outboxLeaseUntil = outboxLeaseUntil;
+    }
+    
+    /**
+     * Queue an outbox event to be persisted together with the next write of this application
+     * @param event the event to publish
+     */
+    public void addPendingEvent(OutboxEvent event) {
+        if (pendingEvents == null) {
+            pendingEvents = new java.util.ArrayList<>();
+        }
+        pendingEvents.add(event);
+    }
+    
+    /**
+     * Queue a status change to be persisted together with the next write of this application
+     * @param statusChange the status change to append to the history
+     */
+    public void addStatusChange(StatusChange statusChange) {
+        if (statusHistory == null) {
+            statusHistory = new java.util.ArrayList<>();
+        }
+        statusHistory.add(statusChange);
+    }
+    
     /**
      * Update application status with history tracking
      * @param newStatus the new status
@@ -276,13 +400,10 @@ public class Application {
         this.status = newStatus;
         this.updatedAt = LocalDateTime.now();
         
-        // Add to status history
-        if (statusHistory == null) {
-            statusHistory = new java.util.ArrayList<>();
-        }
-        
+        // Record the change for appending to the history collection
         StatusChange statusChange = new StatusChange(oldStatus, newStatus, changedBy, reason, LocalDateTime.now());
-        statusHistory.add(statusChange);
+        addStatusChange(statusChange);
+        addPendingEvent(OutboxEvent.statusChanged(oldStatus, newStatus, changedBy, reason, statusChange.getChangedAt()));
         
         // Set specific fields based on status
         switch (newStatus) {
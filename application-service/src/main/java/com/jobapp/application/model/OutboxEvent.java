@@ -0,0 +1,152 @@
+package com.jobapp.application.model;
+
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Embedded outbox entry describing a change to an application that still has to be published.
+ * Events are written in the same document write as the change itself and removed by the relay
+ * once they have been delivered.
+ * Requirements: 4.3
+ */
+public class OutboxEvent {
+
+    public enum EventType {
+        APPLICATION_CREATED,
+        STATUS_CHANGED,
+        APPLICATION_WITHDRAWN,
+        INTERVIEW_REMINDER
+    }
+
+    @Field("event_id")
+    private String eventId;
+
+    private EventType type;
+
+    @Field("from_status")
+    private ApplicationStatus fromStatus;
+
+    @Field("to_status")
+    private ApplicationStatus toStatus;
+
+    @Field("changed_by")
+    private String changedBy;
+
+    private String reason;
+
+    @Field("occurred_at")
+    private LocalDateTime occurredAt;
+
+    /**
+     * Failed delivery attempts so far; the relay parks the event once this reaches its limit
+     */
+    private int attempts;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(EventType type, ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                       String changedBy, String reason, LocalDateTime occurredAt) {
+        this.eventId = UUID.randomUUID().toString();
+        this.type = type;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedBy = changedBy;
+        this.reason = reason;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Create the event for a status change, classifying withdrawals separately
+     * @param fromStatus the previous status
+     * @param toStatus the new status
+     * @param changedBy who changed the status
+     * @param reason optional reason for the change
+     * @param occurredAt when the change happened
+     * @return the outbox event
+     */
+    public static OutboxEvent statusChanged(ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                                            String changedBy, String reason, LocalDateTime occurredAt) {
+        EventType type = toStatus == ApplicationStatus.WITHDRAWN ? EventType.APPLICATION_WITHDRAWN : EventType.STATUS_CHANGED;
+        return new OutboxEvent(type, fromStatus, toStatus, changedBy, reason, occurredAt);
+    }
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public void setType(EventType type) {
+        this.type = type;
+    }
+
+    public ApplicationStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(ApplicationStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public ApplicationStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(ApplicationStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "eventId='" + eventId + '\'' +
+                ", type=" + type +
+                ", fromStatus=" + fromStatus +
+                ", toStatus=" + toStatus +
+                ", occurredAt=" + occurredAt +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
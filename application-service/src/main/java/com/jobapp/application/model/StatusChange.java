@@ -1,13 +1,15 @@
 package com.jobapp.application.model;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
- * Embedded document for tracking status changes in applications
+ * Status change entry stored in application status history buckets
  * Requirements: 4.2, 4.3
  */
 public class StatusChange {
     
+    private String changeId; // Identifies the entry so a retried append does not store it twice
     private ApplicationStatus fromStatus;
     private ApplicationStatus toStatus;
     private String changedBy; // User ID who made the change
@@ -19,6 +21,7 @@ public class StatusChange {
     
     public StatusChange(ApplicationStatus fromStatus, ApplicationStatus toStatus, 
                        String changedBy, String reason, LocalDateTime changedAt) {
+        this.changeId = UUID.randomUUID().toString();
         this.fromStatus = fromStatus;
         this.toStatus = toStatus;
         this.changedBy = changedBy;
@@ -27,6 +30,14 @@ public class StatusChange {
     }
     
     // Getters and Setters
+    public String getChangeId() {
+        return changeId;
+    }
+    
+    public void setChangeId(String changeId) {
+        this.changeId = changeId;
+    }
+    
     public ApplicationStatus getFromStatus() {
         return fromStatus;
     }
@@ -88,7 +99,8 @@ public class StatusChange {
     @Override
     public String toString() {
         return "StatusChange{" +
-                "fromStatus=" + fromStatus +
+                "changeId='" + changeId + '\'' +
+                ", fromStatus=" + fromStatus +
                 ", toStatus=" + toStatus +
                 ", changedBy='" + changedBy + '\'' +
                 ", reason='" + reason + '\'' +
@@ -0,0 +1,104 @@
+package com.jobapp.application.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only bucket of status changes for a single application.
+ * History is split into buckets of about {@link #BUCKET_SIZE} entries so that
+ * the application document itself stays small regardless of how many transitions it goes through.
+ * Requirements: 4.2, 4.3
+ */
+@Document(collection = "application_status_history")
+@CompoundIndex(name = "application_bucket_idx", def = "{'application_id': 1, '_id': -1}")
+public class StatusHistoryBucket {
+
+    /**
+     * Number of status changes after which a bucket is closed and the next append opens a new one
+     */
+    public static final int BUCKET_SIZE = 50;
+
+    @Id
+    private String id;
+
+    @Field("application_id")
+    private String applicationId;
+
+    private int count;
+
+    @Field("first_changed_at")
+    private LocalDateTime firstChangedAt;
+
+    @Field("last_changed_at")
+    private LocalDateTime lastChangedAt;
+
+    private List<StatusChange> changes;
+
+    // Constructors
+    public StatusHistoryBucket() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public LocalDateTime getFirstChangedAt() {
+        return firstChangedAt;
+    }
+
+    public void setFirstChangedAt(LocalDateTime firstChangedAt) {
+        this.firstChangedAt = firstChangedAt;
+    }
+
+    public LocalDateTime getLastChangedAt() {
+        return lastChangedAt;
+    }
+
+    public void setLastChangedAt(LocalDateTime lastChangedAt) {
+        this.lastChangedAt = lastChangedAt;
+    }
+
+    public List<StatusChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<StatusChange> changes) {
+        this.changes = changes;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusHistoryBucket{" +
+                "id='" + id + '\'' +
+                ", applicationId='" + applicationId + '\'' +
+                ", count=" + count +
+                ", firstChangedAt=" + firstChangedAt +
+                ", lastChangedAt=" + lastChangedAt +
+                '}';
+    }
+}
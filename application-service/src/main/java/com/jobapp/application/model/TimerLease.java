@@ -0,0 +1,76 @@
+package com.jobapp.application.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+/**
+ * Lease on a single scheduled timer, shared by all replicas of the service.
+ * Every replica keeps the same timers in its own timing wheel; the replica that claims the lease first
+ * fires the timer and marks it completed, the others drop it or retry once an abandoned lease has run out.
+ * Requirements: 4.3
+ */
+@Document(collection = "scheduler_leases")
+public class TimerLease {
+
+    /**
+     * Timer key of the form {@code <kind>:<applicationId>:<deadlineEpochMillis>}
+     */
+    @Id
+    private String id;
+
+    private String owner;
+
+    @Field("lease_until")
+    private Instant leaseUntil;
+
+    private boolean completed;
+
+    // Constructors
+    public TimerLease() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(Instant leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    @Override
+    public String toString() {
+        return "TimerLease{" +
+                "id='" + id + '\'' +
+                ", owner='" + owner + '\'' +
+                ", leaseUntil=" + leaseUntil +
+                ", completed=" + completed +
+                '}';
+    }
+}
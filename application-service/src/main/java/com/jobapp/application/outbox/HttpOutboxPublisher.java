@@ -0,0 +1,35 @@
+package com.jobapp.application.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Publishes outbox batches to notification-service's application event endpoint
+ * Requirements: 4.3
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "publisher", havingValue = "http", matchIfMissing = true)
+public class HttpOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpOutboxPublisher.class);
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${outbox.notification-service-url:http://notification-service:8085}")
+    private String notificationServiceUrl;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        String url = notificationServiceUrl + "/api/notifications/events/applications";
+        restTemplate.postForEntity(url, messages, Void.class);
+        logger.debug("Published {} application events to {}", messages.size(), url);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobapp.application.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Broker stand-in that logs application events instead of delivering them, for local runs without notification-service
+ * Requirements: 4.3
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "publisher", havingValue = "log")
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxPublisher.class);
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            logger.info("Application event {} {} for application {}: {} -> {}",
+                       message.getEventId(), message.getType(), message.getApplicationId(),
+                       message.getFromStatus(), message.getToStatus());
+        }
+    }
+}
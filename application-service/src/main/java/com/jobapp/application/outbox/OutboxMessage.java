@@ -0,0 +1,139 @@
+package com.jobapp.application.outbox;
+
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Wire format of an application event published by the outbox relay
+ * Requirements: 4.3
+ */
+public class OutboxMessage {
+
+    private String eventId;
+    private String type;
+    private String applicationId;
+    private String candidateId;
+    private String jobId;
+    private String employerId;
+    private String fromStatus;
+    private String toStatus;
+    private String changedBy;
+    private String reason;
+    private LocalDateTime occurredAt;
+
+    // Constructors
+    public OutboxMessage() {}
+
+    /**
+     * Build the message for an outbox event of the given application
+     * @param application the application the event belongs to
+     * @param event the outbox event
+     * @return the message to publish
+     */
+    public static OutboxMessage from(Application application, OutboxEvent event) {
+        OutboxMessage message = new OutboxMessage();
+        message.eventId = event.getEventId();
+        message.type = event.getType() != null ? event.getType().name() : null;
+        message.applicationId = application.getId();
+        message.candidateId = application.getCandidateId();
+        message.jobId = application.getJobId();
+        message.employerId = application.getEmployerId();
+        message.fromStatus = event.getFromStatus() != null ? event.getFromStatus().name() : null;
+        message.toStatus = event.getToStatus() != null ? event.getToStatus().name() : null;
+        message.changedBy = event.getChangedBy();
+        message.reason = event.getReason();
+        message.occurredAt = event.getOccurredAt();
+        return message;
+    }
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobapp.application.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for application events drained from the outbox
+ * Requirements: 4.3
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publish a batch of events. Events of the same application appear in the order they occurred.
+     * The call must only return normally once the whole batch has been accepted; any exception
+     * leaves the events in the outbox to be retried.
+     * @param messages the events to publish
+     */
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,277 @@
+package com.jobapp.application.outbox;
+
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Relays outbox events embedded in application documents to the configured {@link OutboxPublisher}.
+ * Applications with the oldest pending events are drained first; all pending events of an application
+ * go out in one batch in the order they occurred and are only removed after the batch was accepted,
+ * which gives at-least-once delivery with per-application ordering. Each relay pass leases the applications
+ * it publishes, so the ordering also holds with several replicas; the lease must outlast a publish call.
+ * Events that keep failing are retried with backoff and parked on the application after
+ * {@code outbox.relay.max-attempts} attempts; only the latest {@link #MAX_PARKED_EVENTS} parked events are kept.
+ * Requirements: 4.3
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(10);
+
+    /**
+     * Parked events kept per application; older ones are dropped, having been logged and counted when parked
+     */
+    static final int MAX_PARKED_EVENTS = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final OutboxPublisher publisher;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Counter parkedCounter;
+    private final Timer lagTimer;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(MongoTemplate mongoTemplate, OutboxPublisher publisher, MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.lease-duration:PT30S}") Duration leaseDuration,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.mongoTemplate = mongoTemplate;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+
+        this.publishedCounter = Counter.builder("outbox.events.published")
+            .description("Application events delivered by the outbox relay")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.publish.failures")
+            .description("Outbox batches that failed to publish and will be retried")
+            .register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.events.parked")
+            .description("Outbox events set aside after exhausting their delivery attempts")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.relay.lag")
+            .description("Time between an application change and delivery of its event")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("outbox.relay.oldest.pending.age", oldestPendingAgeMillis, AtomicLong::get)
+            .description("Age in milliseconds of the oldest undelivered application event")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Drain the outbox until it is empty or a publish fails
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        try {
+            while (relayBatch() == batchSize) {
+                // keep draining full batches
+            }
+        } catch (Exception e) {
+            logger.error("Outbox relay pass failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publish the pending events of up to one batch of applications.
+     * When the batch is rejected, each application is retried on its own so one undeliverable application
+     * does not hold back the others; applications that still fail are backed off and counted an attempt.
+     * @return number of applications whose events were delivered
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        String token = UUID.randomUUID().toString();
+        List<Application> applications = claim(token, now);
+
+        if (applications.isEmpty()) {
+            oldestPendingAgeMillis.set(0);
+            return 0;
+        }
+
+        List<OutboxMessage> messages = new ArrayList<>();
+        LocalDateTime oldest = now;
+        for (Application application : applications) {
+            messages.addAll(messagesOf(application));
+            for (OutboxEvent event : application.getPendingEvents()) {
+                if (event.getOccurredAt() != null && event.getOccurredAt().isBefore(oldest)) {
+                    oldest = event.getOccurredAt();
+                }
+            }
+        }
+        oldestPendingAgeMillis.set(Duration.between(oldest, now).toMillis());
+
+        Exception batchFailure = null;
+        try {
+            publisher.publish(messages);
+        } catch (Exception e) {
+            failureCounter.increment();
+            batchFailure = e;
+        }
+
+        // Ordered, so parking an application's events happens before its lease is released
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Application.class);
+        List<OutboxMessage> delivered = new ArrayList<>();
+        int deliveredApplications = 0;
+        for (Application application : applications) {
+            List<OutboxMessage> applicationMessages = messagesOf(application);
+            Exception failure = batchFailure;
+            if (batchFailure != null && applications.size() > 1) {
+                try {
+                    publisher.publish(applicationMessages);
+                    failure = null;
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+
+            if (failure == null) {
+                // Remove exactly the delivered events; events added since the read stay pending
+                List<String> eventIds = application.getPendingEvents().stream().map(OutboxEvent::getEventId).toList();
+                bulkOps.updateOne(leased(application, token), new Update()
+                    .pull("pendingEvents", new Document("event_id", new Document("$in", eventIds)))
+                    .unset("outboxLeaseToken")
+                    .unset("outboxLeaseUntil"));
+                delivered.addAll(applicationMessages);
+                deliveredApplications++;
+            } else {
+                recordFailure(bulkOps, application, token, now, failure);
+            }
+        }
+        bulkOps.execute();
+
+        LocalDateTime deliveredAt = LocalDateTime.now();
+        for (OutboxMessage message : delivered) {
+            if (message.getOccurredAt() != null) {
+                lagTimer.record(Duration.between(message.getOccurredAt(), deliveredAt));
+            }
+        }
+        publishedCounter.increment(delivered.size());
+        logger.debug("Relayed {} outbox events for {} applications", delivered.size(), deliveredApplications);
+
+        return batchFailure == null ? applications.size() : deliveredApplications;
+    }
+
+    /**
+     * Lease up to one batch of applications with due events, oldest events first.
+     * An application's events are only published while its lease is held, so replicas never deliver
+     * events of the same application concurrently or out of order.
+     */
+    private List<Application> claim(String token, LocalDateTime now) {
+        Query candidates = Query.query(where("pendingEvents.occurredAt").lte(now).andOperator(leaseFree(now)))
+            .with(Sort.by(Sort.Direction.ASC, "pendingEvents.occurredAt"))
+            .limit(batchSize);
+        candidates.fields().include("id");
+        List<String> applicationIds = mongoTemplate.find(candidates, Application.class).stream()
+            .map(Application::getId)
+            .toList();
+        if (applicationIds.isEmpty()) {
+            return List.of();
+        }
+
+        mongoTemplate.updateMulti(Query.query(where("id").in(applicationIds).andOperator(leaseFree(now))),
+            new Update().set("outboxLeaseToken", token).set("outboxLeaseUntil", now.plus(leaseDuration)),
+            Application.class);
+
+        Query claimed = Query.query(where("outboxLeaseToken").is(token))
+            .with(Sort.by(Sort.Direction.ASC, "pendingEvents.occurredAt"));
+        claimed.fields().include("id").include("candidateId").include("jobId").include("employerId").include("pendingEvents");
+        return mongoTemplate.find(claimed, Application.class);
+    }
+
+    private Criteria leaseFree(LocalDateTime now) {
+        return new Criteria().orOperator(where("outboxLeaseUntil").exists(false), where("outboxLeaseUntil").lt(now));
+    }
+
+    private Query leased(Application application, String token) {
+        return Query.query(where("id").is(application.getId()).and("outboxLeaseToken").is(token));
+    }
+
+    private List<OutboxMessage> messagesOf(Application application) {
+        return application.getPendingEvents().stream()
+            .map(event -> OutboxMessage.from(application, event))
+            .toList();
+    }
+
+    /**
+     * Count a failed attempt against the application's events, park those that reached the attempt limit
+     * and keep the lease until the retry backoff has passed
+     */
+    private void recordFailure(BulkOperations bulkOps, Application application, String token,
+                               LocalDateTime now, Exception failure) {
+        List<OutboxEvent> parked = new ArrayList<>();
+        List<String> retried = new ArrayList<>();
+        int attempts = 0;
+        for (OutboxEvent event : application.getPendingEvents()) {
+            event.setAttempts(event.getAttempts() + 1);
+            if (event.getAttempts() >= maxAttempts) {
+                parked.add(event);
+            } else {
+                retried.add(event.getEventId());
+                attempts = Math.max(attempts, event.getAttempts());
+            }
+        }
+
+        if (!parked.isEmpty()) {
+            List<String> parkedIds = parked.stream().map(OutboxEvent::getEventId).toList();
+            bulkOps.updateOne(leased(application, token), new Update()
+                .pull("pendingEvents", new Document("event_id", new Document("$in", parkedIds)))
+                .push("parkedEvents").slice(-MAX_PARKED_EVENTS).each(parked.toArray()));
+            parkedCounter.increment(parked.size());
+            logger.error("Parked {} outbox events of application {} after {} failed attempts: {}",
+                parked.size(), application.getId(), maxAttempts, failure.getMessage());
+        }
+
+        Update release = new Update().unset("outboxLeaseToken");
+        if (retried.isEmpty()) {
+            release.unset("outboxLeaseUntil");
+        } else {
+            release.inc("pending_events.$[retried].attempts", 1)
+                .filterArray(where("retried.event_id").in(retried))
+                .set("outboxLeaseUntil", now.plus(backoff(attempts)));
+            logger.warn("Failed to publish {} outbox events of application {} (attempt {} of {}), will retry: {}",
+                retried.size(), application.getId(), attempts, maxAttempts, failure.getMessage());
+        }
+        bulkOps.updateOne(leased(application, token), release);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = RETRY_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+    }
+}
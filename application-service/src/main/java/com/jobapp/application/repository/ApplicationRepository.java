@@ -19,6 +19,13 @@ import java.util.Optional;
 @Repository
 public interface ApplicationRepository extends MongoRepository<Application, String> {
     
+    /**
+     * Projection of the list queries: the pending status changes and outbox events, and the leases of
+     * their background writers, are never part of a response, so they are not read for every row
+     */
+    String LIST_FIELDS = "{ 'pending_history': 0, 'history_flush_token': 0, 'history_flush_until': 0, "
+        + "'pending_events': 0, 'parked_events': 0, 'outbox_lease_token': 0, 'outbox_lease_until': 0 }";
+    
     /**
      * Find application by candidate and job (unique constraint)
      * @param candidateId the candidate ID
@@ -41,6 +48,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications for the candidate
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByCandidateId(String candidateId, Pageable pageable);
     
     /**
@@ -50,6 +58,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications matching the criteria
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByCandidateIdAndStatus(String candidateId, ApplicationStatus status, Pageable pageable);
     
     /**
@@ -58,6 +67,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications for the job
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByJobId(String jobId, Pageable pageable);
     
     /**
@@ -67,6 +77,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications matching the criteria
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByJobIdAndStatus(String jobId, ApplicationStatus status, Pageable pageable);
     
     /**
@@ -75,6 +86,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications for the employer
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByEmployerId(String employerId, Pageable pageable);
     
     /**
@@ -84,6 +96,7 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
      * @param pageable pagination information
      * @return Page of applications matching the criteria
      */
+    @Query(fields = LIST_FIELDS)
     Page<Application> findByEmployerIdAndStatus(String employerId, ApplicationStatus status, Pageable pageable);
     
     /**
@@ -0,0 +1,327 @@
+package com.jobapp.application.scheduler;
+
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.OutboxEvent;
+import com.jobapp.application.model.StatusChange;
+import com.jobapp.application.model.TimerLease;
+import com.jobapp.application.service.StatusHistoryService;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Fires offer expirations and interview reminders from an in-process {@link TimingWheel}.
+ * Timers are loaded from Mongo once at startup and afterwards kept current from status transitions on this
+ * replica plus a cheap resync of recently updated applications, so deadlines are never found by rescanning.
+ * Every replica holds every timer; a {@link TimerLeaseService} lease decides which replica fires it.
+ * Firing is guarded by the state the timer was created for, so a stale timer is a no-op.
+ * Requirements: 4.1, 4.3
+ */
+@Service
+public class ApplicationTimerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationTimerService.class);
+
+    static final String OFFER_EXPIRY = "offer-expiry";
+    static final String INTERVIEW_REMINDER = "interview-reminder";
+    static final String SYSTEM_ACTOR = "system";
+
+    private static final Duration RESYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final StatusHistoryService statusHistoryService;
+    private final TimerLeaseService timerLeaseService;
+
+    private final boolean enabled;
+    private final long tickMs;
+    private final int wheelSize;
+    private final Duration reminderLead;
+
+    private final Map<String, TimingWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+    private final Counter firedCounter;
+    private final Counter skippedCounter;
+
+    private volatile TimingWheel wheel;
+    private volatile LocalDateTime lastSync;
+    private ScheduledExecutorService ticker;
+    private ExecutorService firingPool;
+
+    public ApplicationTimerService(MongoTemplate mongoTemplate, StatusHistoryService statusHistoryService,
+                                   TimerLeaseService timerLeaseService, MeterRegistry meterRegistry,
+                                   @Value("${scheduler.enabled:true}") boolean enabled,
+                                   @Value("${scheduler.tick-ms:1000}") long tickMs,
+                                   @Value("${scheduler.wheel-size:64}") int wheelSize,
+                                   @Value("${scheduler.interview-reminder-lead:PT24H}") Duration reminderLead) {
+        this.mongoTemplate = mongoTemplate;
+        this.statusHistoryService = statusHistoryService;
+        this.timerLeaseService = timerLeaseService;
+        this.enabled = enabled;
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.reminderLead = reminderLead;
+
+        this.firedCounter = Counter.builder("scheduler.timers.fired")
+            .description("Timers fired by this replica")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("scheduler.timers.skipped")
+            .description("Due timers left to another replica holding the lease")
+            .register(meterRegistry);
+        Gauge.builder("scheduler.timers.pending", this, ApplicationTimerService::getPendingTimers)
+            .description("Timers waiting in the timing wheel")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load all pending timers and start the wheel once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Application timer scheduler is disabled");
+            return;
+        }
+
+        wheel = new TimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+        firingPool = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "application-timer-fire");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-timer-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        long loaded = load(null);
+        lastSync = loadStartedAt;
+        logger.info("Loaded {} application timers", loaded);
+
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (firingPool != null) {
+            firingPool.shutdown();
+        }
+    }
+
+    /**
+     * Pick up transitions made by other replicas, including bulk updates, since the last sync
+     */
+    @Scheduled(fixedDelayString = "${scheduler.resync-interval-ms:60000}", initialDelayString = "${scheduler.resync-interval-ms:60000}")
+    public void resync() {
+        if (wheel == null) {
+            return;
+        }
+        try {
+            LocalDateTime syncStartedAt = LocalDateTime.now();
+            long synced = load(lastSync.minus(RESYNC_OVERLAP));
+            lastSync = syncStartedAt;
+            logger.debug("Resynced {} recently updated applications into the timing wheel", synced);
+        } catch (Exception e) {
+            logger.error("Application timer resync failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reschedule the timers of an application after its status, interview time or offer expiry changed
+     * @param application the application in its new state
+     */
+    public void onStatusChanged(Application application) {
+        if (wheel == null || application.getId() == null) {
+            return;
+        }
+
+        cancel(OFFER_EXPIRY, application.getId());
+        cancel(INTERVIEW_REMINDER, application.getId());
+
+        if (application.getStatus() == ApplicationStatus.OFFER_MADE && application.getOfferExpiresAt() != null) {
+            LocalDateTime expiresAt = application.getOfferExpiresAt().truncatedTo(ChronoUnit.MILLIS);
+            schedule(OFFER_EXPIRY, application.getId(), expiresAt, toEpochMillis(expiresAt));
+        } else if (application.getStatus() == ApplicationStatus.INTERVIEW_SCHEDULED && application.getInterviewScheduled() != null
+                && application.getInterviewScheduled().isAfter(LocalDateTime.now())) {
+            LocalDateTime interviewAt = application.getInterviewScheduled().truncatedTo(ChronoUnit.MILLIS);
+            schedule(INTERVIEW_REMINDER, application.getId(), interviewAt, toEpochMillis(interviewAt.minus(reminderLead)));
+        }
+    }
+
+    /**
+     * @return number of timers currently held in the wheel
+     */
+    public int getPendingTimers() {
+        TimingWheel current = wheel;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * Stream applications that may need a timer into the wheel
+     * @param updatedSince only consider applications updated after this time, or null for all
+     * @return number of applications examined
+     */
+    long load(LocalDateTime updatedSince) {
+        Criteria criteria;
+        if (updatedSince == null) {
+            criteria = new Criteria().orOperator(
+                where("status").is(ApplicationStatus.OFFER_MADE).and("offerExpiresAt").ne(null),
+                where("status").is(ApplicationStatus.INTERVIEW_SCHEDULED).and("interviewScheduled").gt(LocalDateTime.now()));
+        } else {
+            // Any recent update counts, so timers of applications that left these states are cancelled too
+            criteria = where("updatedAt").gte(updatedSince);
+        }
+
+        Query query = Query.query(criteria).cursorBatchSize(500);
+        query.fields().include("id").include("status").include("offerExpiresAt").include("interviewScheduled");
+
+        long count = 0;
+        try (Stream<Application> applications = mongoTemplate.stream(query, Application.class)) {
+            for (Application application : (Iterable<Application>) applications::iterator) {
+                onStatusChanged(application);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    void tick() {
+        try {
+            for (Runnable task : wheel.advance(System.currentTimeMillis())) {
+                firingPool.execute(task);
+            }
+        } catch (Exception e) {
+            logger.error("Timing wheel tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fire a due timer if this replica wins its lease
+     */
+    void fire(String kind, String applicationId, LocalDateTime at, long fireAtMs) {
+        String timerKey = kind + ":" + applicationId + ":" + fireAtMs;
+        try {
+            if (!timerLeaseService.tryAcquire(timerKey)) {
+                skippedCounter.increment();
+                TimerLease lease = timerLeaseService.find(timerKey);
+                if (lease != null && !lease.isCompleted() && lease.getLeaseUntil() != null) {
+                    // Another replica is firing it; take over if that replica dies before completing
+                    scheduleAt(kind, applicationId, at, fireAtMs, lease.getLeaseUntil().toEpochMilli());
+                }
+                return;
+            }
+
+            if (OFFER_EXPIRY.equals(kind)) {
+                expireOffer(applicationId, at);
+            } else {
+                remindInterview(applicationId, at);
+            }
+            timerLeaseService.complete(timerKey);
+            firedCounter.increment();
+        } catch (Exception e) {
+            logger.error("Failed to fire {} timer for application {}: {}", kind, applicationId, e.getMessage(), e);
+        }
+    }
+
+    private void expireOffer(String applicationId, LocalDateTime expiresAt) {
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        String reason = "Offer expired";
+
+        UpdateResult result = mongoTemplate.updateFirst(
+            Query.query(where("id").is(applicationId)
+                .and("status").is(ApplicationStatus.OFFER_MADE)
+                .and("offerExpiresAt").is(expiresAt)),
+            new Update()
+                .set("status", ApplicationStatus.OFFER_DECLINED)
+                .set("updatedAt", changedAt)
+                .push("statusHistory", new StatusChange(ApplicationStatus.OFFER_MADE,
+                    ApplicationStatus.OFFER_DECLINED, SYSTEM_ACTOR, reason, changedAt))
+                .push("pendingEvents", OutboxEvent.statusChanged(ApplicationStatus.OFFER_MADE,
+                    ApplicationStatus.OFFER_DECLINED, SYSTEM_ACTOR, reason, changedAt)),
+            Application.class);
+
+        if (result.getModifiedCount() > 0) {
+            statusHistoryService.flushPending(applicationId);
+            logger.info("Offer for application {} expired at {}", applicationId, expiresAt);
+        }
+    }
+
+    private void remindInterview(String applicationId, LocalDateTime interviewAt) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        UpdateResult result = mongoTemplate.updateFirst(
+            Query.query(where("id").is(applicationId)
+                .and("status").is(ApplicationStatus.INTERVIEW_SCHEDULED)
+                .and("interviewScheduled").is(interviewAt)),
+            new Update().push("pendingEvents", new OutboxEvent(OutboxEvent.EventType.INTERVIEW_REMINDER,
+                ApplicationStatus.INTERVIEW_SCHEDULED, ApplicationStatus.INTERVIEW_SCHEDULED, SYSTEM_ACTOR,
+                "Interview scheduled at " + interviewAt, now)),
+            Application.class);
+
+        if (result.getModifiedCount() > 0) {
+            logger.info("Queued interview reminder for application {} (interview at {})", applicationId, interviewAt);
+        }
+    }
+
+    private void schedule(String kind, String applicationId, LocalDateTime at, long fireAtMs) {
+        scheduleAt(kind, applicationId, at, fireAtMs, fireAtMs);
+    }
+
+    private void scheduleAt(String kind, String applicationId, LocalDateTime at, long fireAtMs, long deadlineMs) {
+        String key = kind + ":" + applicationId;
+        // Registering inside compute means the task cannot run its remove before the handle is in the map
+        timeouts.compute(key, (k, previous) -> {
+            if (previous != null) {
+                previous.cancel();
+            }
+            TimingWheel.Timeout[] self = new TimingWheel.Timeout[1];
+            self[0] = wheel.schedule(deadlineMs, () -> {
+                timeouts.remove(key, self[0]);
+                fire(kind, applicationId, at, fireAtMs);
+            });
+            return self[0];
+        });
+    }
+
+    private void cancel(String kind, String applicationId) {
+        TimingWheel.Timeout timeout = timeouts.remove(kind + ":" + applicationId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
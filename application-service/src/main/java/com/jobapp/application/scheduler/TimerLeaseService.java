@@ -0,0 +1,87 @@
+package com.jobapp.application.scheduler;
+
+import com.jobapp.application.model.TimerLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Claims and completes {@link TimerLease}s so that each timer is fired by exactly one replica.
+ * A claim succeeds when no lease exists yet or the previous holder let it run out without completing it.
+ * Requirements: 4.3
+ */
+@Component
+public class TimerLeaseService {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration leaseDuration;
+    private final String owner;
+
+    public TimerLeaseService(MongoTemplate mongoTemplate,
+                             @Value("${scheduler.lease-duration:PT5M}") Duration leaseDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseDuration = leaseDuration;
+        this.owner = hostName() + "-" + UUID.randomUUID();
+    }
+
+    /**
+     * Try to claim the lease of a timer
+     * @param timerKey the timer key
+     * @return true if this replica now holds the lease and should fire the timer
+     */
+    public boolean tryAcquire(String timerKey) {
+        Instant now = Instant.now();
+        Query claimable = Query.query(where("_id").is(timerKey).and("completed").is(false).and("leaseUntil").lt(now));
+        Update claim = new Update().set("owner", owner).set("leaseUntil", now.plus(leaseDuration));
+
+        try {
+            TimerLease lease = mongoTemplate.findAndModify(claimable, claim,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), TimerLease.class);
+            return lease != null && owner.equals(lease.getOwner());
+        } catch (DuplicateKeyException e) {
+            // The lease exists and is either completed or still held by another replica
+            return false;
+        }
+    }
+
+    /**
+     * Mark a timer as fired so that no replica fires it again
+     * @param timerKey the timer key
+     */
+    public void complete(String timerKey) {
+        mongoTemplate.updateFirst(Query.query(where("_id").is(timerKey).and("owner").is(owner)),
+            new Update().set("completed", true), TimerLease.class);
+    }
+
+    /**
+     * Look up the current lease of a timer
+     * @param timerKey the timer key
+     * @return the lease, or null if the timer was never claimed
+     */
+    public TimerLease find(String timerKey) {
+        return mongoTemplate.findById(timerKey, TimerLease.class);
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
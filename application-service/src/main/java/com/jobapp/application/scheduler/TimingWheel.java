@@ -0,0 +1,227 @@
+package com.jobapp.application.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel holding timers in fixed-size rings of buckets.
+ * The lowest wheel has a resolution of one tick; each overflow wheel covers a full revolution of the wheel
+ * below it per tick and is created on demand, so timers of any distance can be held without rescanning.
+ * Timers are kept in doubly-linked bucket lists, which makes scheduling and cancelling O(1).
+ * When the clock reaches the slot of a bucket on a higher wheel its timers cascade down to finer wheels,
+ * and timers draining out of the lowest wheel are returned by {@link #advance(long)} as due.
+ * A timer never fires before its deadline and at most one tick after it.
+ * The wheel is thread-safe; all state is guarded by the wheel's monitor.
+ * Requirements: 4.3
+ */
+public class TimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Level root;
+    private final List<Timeout> due = new ArrayList<>();
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick and at least two buckets");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMs, startMs - (startMs % tickMs));
+    }
+
+    /**
+     * Schedule a task
+     * @param deadlineMs epoch milliseconds at which the task becomes due
+     * @param task the task to hand out once due
+     * @return handle for cancelling the timer
+     */
+    public synchronized Timeout schedule(long deadlineMs, Runnable task) {
+        // Buckets are keyed by the floor of the expiration; rounding up to the next tick keeps timers from firing early
+        Timeout timeout = new Timeout(this, deadlineMs, deadlineMs + tickMs - 1, task);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Move the clock forward tick by tick, cascading timers from coarser wheels
+     * @param nowMs current epoch milliseconds
+     * @return tasks that became due, in no particular order
+     */
+    public synchronized List<Runnable> advance(long nowMs) {
+        List<Timeout> drained = new ArrayList<>();
+        while (root.currentTime + tickMs <= nowMs) {
+            long tick = root.currentTime + tickMs;
+            for (Level level = root; level != null && tick % level.tickMs == 0; level = level.overflow) {
+                level.currentTime = tick;
+                level.buckets[(int) ((tick / level.tickMs) % wheelSize)].drainTo(drained);
+            }
+            for (Timeout timeout : drained) {
+                place(timeout);
+            }
+            drained.clear();
+        }
+
+        List<Runnable> tasks = new ArrayList<>(due.size());
+        for (Timeout timeout : due) {
+            timeout.bucket = null;
+            timeout.state = Timeout.EXPIRED;
+            tasks.add(timeout.task);
+        }
+        size -= due.size();
+        due.clear();
+        return tasks;
+    }
+
+    /**
+     * @return number of timers that have neither fired nor been cancelled
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Timeout timeout) {
+        if (!root.add(timeout)) {
+            due.add(timeout);
+        }
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.state = Timeout.CANCELLED;
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+        } else {
+            due.remove(timeout);
+        }
+        size--;
+        return true;
+    }
+
+    private final class Level {
+
+        private final long tickMs;
+        private final long interval;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMs, long currentTime) {
+            this.tickMs = tickMs;
+            this.interval = tickMs * wheelSize;
+            this.currentTime = currentTime;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        /**
+         * @return false when the timer is already due
+         */
+        private boolean add(Timeout timeout) {
+            long expiration = timeout.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                buckets[(int) ((expiration / tickMs) % wheelSize)].add(timeout);
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, currentTime - (currentTime % interval));
+            }
+            return overflow.add(timeout);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final Timeout head = new Timeout(null, 0, 0, null);
+
+        private Bucket() {
+            head.next = head;
+            head.prev = head;
+        }
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            timeout.prev.next = timeout.next;
+            timeout.next.prev = timeout.prev;
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.bucket = null;
+        }
+
+        private void drainTo(List<Timeout> target) {
+            Timeout timeout = head.next;
+            while (timeout != head) {
+                Timeout next = timeout.next;
+                remove(timeout);
+                target.add(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled timer
+     */
+    public static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TimingWheel wheel;
+        private final long deadlineMs;
+        private final long expirationMs;
+        private final Runnable task;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+        private int state = PENDING;
+
+        private Timeout(TimingWheel wheel, long deadlineMs, long expirationMs, Runnable task) {
+            this.wheel = wheel;
+            this.deadlineMs = deadlineMs;
+            this.expirationMs = expirationMs;
+            this.task = task;
+        }
+
+        public long getDeadlineMs() {
+            return deadlineMs;
+        }
+
+        /**
+         * Cancel the timer
+         * @return true if the timer was still pending
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            synchronized (wheel) {
+                return state == CANCELLED;
+            }
+        }
+
+        public boolean isExpired() {
+            synchronized (wheel) {
+                return state == EXPIRED;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.jobapp.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for streaming an employer's applications as CSV or NDJSON.
+ * Applications are read through a server-side cursor in chunks of {@link #CHUNK_SIZE}; each chunk is enriched
+ * with one batched candidate lookup through {@link CandidateDirectoryClient} and written straight to the
+ * output, so memory stays constant regardless of how many rows are exported.
+ * Requirements: 4.1, 4.2
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportService.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String JOB_SERVICE_URL = "http://job-service:8083";
+
+    private static final List<String> COLUMNS = List.of(
+        "applicationId", "jobId", "jobTitle", "candidateId", "candidateName", "candidateEmail",
+        "status", "appliedAt", "updatedAt", "interviewScheduled", "salaryOffered", "offerExpiresAt");
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return name().toLowerCase();
+        }
+
+        public static Format fromValue(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CandidateDirectoryClient candidateDirectoryClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Stream the employer's applications, newest first, to the given output
+     * @param employerId the employer whose applications are exported
+     * @param jobId optional job to restrict the export to
+     * @param status optional status to restrict the export to
+     * @param format the output format
+     * @param out the stream to write to; it is flushed after every chunk but not closed
+     * @return number of rows written
+     */
+    public long exportEmployerApplications(String employerId, String jobId, ApplicationStatus status,
+                                           Format format, OutputStream out) throws IOException {
+        logger.info("Exporting applications for employer: {}, job: {}, status: {}, format: {}",
+                   employerId, jobId, status, format);
+
+        // Scoping by employer_id also enforces job ownership without a call to the job service
+        Criteria criteria = where("employerId").is(employerId);
+        if (jobId != null && !jobId.isEmpty()) {
+            criteria = criteria.and("jobId").is(jobId);
+        }
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "appliedAt"))
+            .cursorBatchSize(CHUNK_SIZE);
+        query.fields().include("id").include("candidateId").include("jobId").include("status")
+            .include("appliedAt").include("updatedAt").include("interviewScheduled")
+            .include("salaryOffered").include("offerExpiresAt");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\n");
+        }
+
+        // An employer has few jobs compared to applications, so titles are kept for the whole export
+        Map<String, String> jobTitles = new HashMap<>();
+        List<Application> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rows = 0;
+
+        try (Stream<Application> stream = mongoTemplate.stream(query, Application.class)) {
+            Iterator<Application> applications = stream.iterator();
+            while (applications.hasNext()) {
+                chunk.add(applications.next());
+                if (chunk.size() == CHUNK_SIZE || !applications.hasNext()) {
+                    rows += writeChunk(chunk, jobTitles, format, writer);
+                    chunk.clear();
+                }
+            }
+        }
+
+        writer.flush();
+        logger.info("Exported {} applications for employer: {}", rows, employerId);
+        return rows;
+    }
+
+    private int writeChunk(List<Application> chunk, Map<String, String> jobTitles,
+                           Format format, Writer writer) throws IOException {
+        Set<String> candidateIds = new LinkedHashSet<>();
+        for (Application application : chunk) {
+            candidateIds.add(application.getCandidateId());
+            jobTitles.computeIfAbsent(application.getJobId(), this::fetchJobTitle);
+        }
+        Map<String, Map<String, Object>> candidates = fetchCandidates(candidateIds);
+
+        for (Application application : chunk) {
+            Map<String, Object> candidate = candidates.getOrDefault(application.getCandidateId(), Map.of());
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("applicationId", application.getId());
+            row.put("jobId", application.getJobId());
+            row.put("jobTitle", jobTitles.get(application.getJobId()));
+            row.put("candidateId", application.getCandidateId());
+            row.put("candidateName", candidate.get("name"));
+            row.put("candidateEmail", candidate.get("email"));
+            row.put("status", application.getStatus() != null ? application.getStatus().name() : null);
+            row.put("appliedAt", toText(application.getAppliedAt()));
+            row.put("updatedAt", toText(application.getUpdatedAt()));
+            row.put("interviewScheduled", toText(application.getInterviewScheduled()));
+            row.put("salaryOffered", application.getSalaryOffered());
+            row.put("offerExpiresAt", toText(application.getOfferExpiresAt()));
+
+            if (format == Format.CSV) {
+                writeCsvRow(row, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write("\n");
+            }
+        }
+
+        writer.flush();
+        return chunk.size();
+    }
+
+    private String fetchJobTitle(String jobId) {
+        try {
+            Map<?, ?> job = restTemplate.getForObject(JOB_SERVICE_URL + "/api/jobs/" + jobId, Map.class);
+            return job != null && job.get("title") != null ? job.get("title").toString() : "";
+        } catch (Exception e) {
+            logger.warn("Could not fetch job info for job: {}", jobId, e);
+            return "";
+        }
+    }
+
+    private Map<String, Map<String, Object>> fetchCandidates(Set<String> candidateIds) {
+        try {
+            return candidateDirectoryClient.getCandidates(candidateIds);
+        } catch (Exception e) {
+            logger.warn("Could not fetch candidate info for {} candidates", candidateIds.size(), e);
+            return new HashMap<>();
+        }
+    }
+
+    private void writeCsvRow(Map<String, Object> row, Writer writer) throws IOException {
+        boolean first = true;
+        for (Object value : row.values()) {
+            if (!first) {
+                writer.write(",");
+            }
+            writer.write(escapeCsv(value));
+            first = false;
+        }
+        writer.write("\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Neutralise values a spreadsheet would evaluate as a formula
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private static String toText(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -0,0 +1,242 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.exception.ResourceNotFoundException;
+import com.jobapp.application.exception.ServiceUnavailableException;
+import com.jobapp.application.model.Application;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service that computes and stores the skill match score of applications.
+ * An application is scored in the background right after it is created and again whenever the candidate's
+ * skills or experience change, so ranked lists only read the stored score through the job_score_idx index.
+ * Creating an application never waits on job-service or user-service for scoring.
+ * Applications that could not be scored, because job-service or user-service was unavailable or
+ * they predate scoring, are picked up by a periodic backfill that walks them in _id order.
+ * Requirements: 4.1, 4.2
+ */
+@Service
+public class ApplicationScoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationScoringService.class);
+
+    // External service URLs (should be configured via properties)
+    private static final String JOB_SERVICE_URL = "http://job-service:8083";
+
+    // New applications waiting to be scored; when full they are left for the backfill
+    private static final int SCORING_QUEUE_CAPACITY = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CandidateDirectoryClient candidateDirectoryClient;
+
+    @Autowired
+    private SkillMatchScorer skillMatchScorer;
+
+    @Value("${scoring.backfill-batch-size:200}")
+    private int backfillBatchSize = 200;
+
+    // Last application ID the backfill reached; null starts a new sweep from the beginning
+    private volatile String backfillCursor;
+
+    private final ThreadPoolExecutor scoringPool = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(SCORING_QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "application-scoring");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    @PreDestroy
+    public void stop() {
+        scoringPool.shutdown();
+    }
+
+    /**
+     * Queue a newly inserted application for scoring. It is left unscored for the backfill if the queue
+     * is full or the job or the candidate profile cannot be fetched, so scoring never fails an application.
+     * @param application the inserted application
+     */
+    public void scoreNewApplicationAsync(Application application) {
+        try {
+            scoringPool.execute(() -> scoreNewApplication(application));
+        } catch (RejectedExecutionException e) {
+            logger.debug("Scoring queue is full; application {} is left for the backfill", application.getId());
+        }
+    }
+
+    /**
+     * Score a newly inserted application and store its score
+     * @param application the inserted application
+     */
+    void scoreNewApplication(Application application) {
+        try {
+            applyScores(List.of(application), fetchCandidates(Set.of(application.getCandidateId())), new HashMap<>());
+        } catch (Exception e) {
+            logger.warn("Failed to score application {}: {}", application.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute the scores of all of a candidate's applications from their current profile
+     * @param candidateId the candidate whose skills or experience changed
+     * @return the number of applications rescored
+     * @throws ResourceNotFoundException if user-service does not know the candidate
+     * @throws ServiceUnavailableException if the candidate profile could not be read from user-service
+     */
+    public int rescoreCandidate(String candidateId) {
+        Map<String, Map<String, Object>> candidates;
+        try {
+            candidates = candidateDirectoryClient.getCandidates(Set.of(candidateId));
+        } catch (RestClientException e) {
+            throw new ServiceUnavailableException("Candidate profile could not be read from user-service", e);
+        }
+        if (!candidates.containsKey(candidateId)) {
+            throw new ResourceNotFoundException("Candidate", candidateId);
+        }
+
+        Query query = Query.query(where("candidateId").is(candidateId));
+        query.fields().include("id").include("candidateId").include("jobId");
+        List<Application> applications = mongoTemplate.find(query, Application.class);
+
+        int rescored = applyScores(applications, candidates, new HashMap<>());
+        logger.info("Rescored {} of {} applications for candidate {}", rescored, applications.size(), candidateId);
+        return rescored;
+    }
+
+    /**
+     * Score one batch of unscored applications, continuing from where the previous run stopped
+     */
+    @Scheduled(fixedDelayString = "${scoring.backfill-interval-ms:300000}",
+               initialDelayString = "${scoring.backfill-interval-ms:300000}")
+    public void backfillUnscored() {
+        Criteria criteria = where("scoredAt").is(null);
+        String cursor = backfillCursor;
+        if (cursor != null) {
+            criteria = criteria.and("id").gt(new ObjectId(cursor));
+        }
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.ASC, "id"))
+            .limit(backfillBatchSize);
+        query.fields().include("id").include("candidateId").include("jobId");
+
+        List<Application> applications;
+        try {
+            applications = mongoTemplate.find(query, Application.class);
+        } catch (Exception e) {
+            logger.warn("Match score backfill failed: {}", e.getMessage());
+            return;
+        }
+        // Applications skipped in this sweep are retried in the next one
+        backfillCursor = applications.size() < backfillBatchSize ? null
+            : applications.get(applications.size() - 1).getId();
+        if (applications.isEmpty()) {
+            return;
+        }
+
+        Set<String> candidateIds = new LinkedHashSet<>();
+        for (Application application : applications) {
+            candidateIds.add(application.getCandidateId());
+        }
+        int scored = applyScores(applications, fetchCandidates(candidateIds), new HashMap<>());
+        logger.debug("Match score backfill scored {} of {} applications", scored, applications.size());
+    }
+
+    private int applyScores(List<Application> applications, Map<String, Map<String, Object>> candidates,
+                            Map<String, SkillMatchScorer.JobRequirements> jobs) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class);
+        LocalDateTime now = LocalDateTime.now();
+        int scored = 0;
+        for (Application application : applications) {
+            Map<String, Object> candidate = candidates.get(application.getCandidateId());
+            if (candidate == null) {
+                continue;
+            }
+            // Each job is fetched once per call, including jobs that could not be fetched
+            if (!jobs.containsKey(application.getJobId())) {
+                jobs.put(application.getJobId(), fetchJobRequirements(application.getJobId()));
+            }
+            SkillMatchScorer.JobRequirements job = jobs.get(application.getJobId());
+            if (job == null) {
+                continue;
+            }
+            // updated_at is left alone: a score change is not a change to the application
+            bulkOps.updateOne(Query.query(where("id").is(application.getId())),
+                new Update().set("matchScore", score(candidate, job)).set("scoredAt", now));
+            scored++;
+        }
+        if (scored > 0) {
+            bulkOps.execute();
+        }
+        return scored;
+    }
+
+    private int score(Map<String, Object> candidate, SkillMatchScorer.JobRequirements job) {
+        Object skills = candidate.get("skills");
+        Object years = candidate.get("yearsOfExperience");
+        return skillMatchScorer.score(skills instanceof Collection ? toStrings((Collection<?>) skills) : null,
+            years instanceof Number ? ((Number) years).intValue() : null, job);
+    }
+
+    private static List<String> toStrings(Collection<?> values) {
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                strings.add(value.toString());
+            }
+        }
+        return strings;
+    }
+
+    private SkillMatchScorer.JobRequirements fetchJobRequirements(String jobId) {
+        try {
+            Map<?, ?> job = restTemplate.getForObject(JOB_SERVICE_URL + "/api/jobs/" + jobId, Map.class);
+            return job != null ? SkillMatchScorer.JobRequirements.fromJob(job) : null;
+        } catch (Exception e) {
+            logger.warn("Failed to fetch requirements of job {} for scoring: {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, Map<String, Object>> fetchCandidates(Set<String> candidateIds) {
+        try {
+            return candidateDirectoryClient.getCandidates(candidateIds);
+        } catch (Exception e) {
+            logger.warn("Failed to fetch {} candidate profiles for scoring: {}", candidateIds.size(), e.getMessage());
+            return new HashMap<>();
+        }
+    }
+}
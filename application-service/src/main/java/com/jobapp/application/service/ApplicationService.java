@@ -3,20 +3,31 @@ package com.jobapp.application.service;
 import com.jobapp.application.dto.ApplicationResponse;
 import com.jobapp.application.dto.CreateApplicationRequest;
 import com.jobapp.application.dto.PagedResponse;
+import com.jobapp.application.dto.StatusTimelineResponse;
 import com.jobapp.application.dto.UpdateApplicationStatusRequest;
+import com.jobapp.application.exception.ConcurrentStatusChangeException;
 import com.jobapp.application.exception.DuplicateApplicationException;
 import com.jobapp.application.exception.InvalidApplicationStatusException;
 import com.jobapp.application.exception.ResourceNotFoundException;
 import com.jobapp.application.model.Application;
 import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.OutboxEvent;
+import com.jobapp.application.model.StatusChange;
 import com.jobapp.application.repository.ApplicationRepository;
+import com.jobapp.application.scheduler.ApplicationTimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -25,6 +36,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
 /**
  * Service class for managing job applications
  * Requirements: 2.3, 2.4, 2.5, 4.1, 4.2, 4.3
@@ -38,9 +51,21 @@ public class ApplicationService {
     @Autowired
     private ApplicationRepository applicationRepository;
     
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
     @Autowired
     private RestTemplate restTemplate;
     
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+    
+    @Autowired
+    private ApplicationTimerService applicationTimerService;
+    
+    @Autowired
+    private ApplicationScoringService applicationScoringService;
+    
     // External service URLs (should be configured via properties)
     private static final String JOB_SERVICE_URL = "http://job-service:8083";
     private static final String USER_SERVICE_URL = "http://user-service:8082";
@@ -52,11 +77,6 @@ public class ApplicationService {
     public ApplicationResponse createApplication(String candidateId, CreateApplicationRequest request) {
         logger.info("Creating application for candidate {} and job {}", candidateId, request.getJobId());
         
-        // Check if application already exists
-        if (applicationRepository.existsByCandidateIdAndJobId(candidateId, request.getJobId())) {
-            throw new DuplicateApplicationException(candidateId, request.getJobId());
-        }
-        
         // Validate job exists and is active
         validateJobExists(request.getJobId());
         
@@ -68,10 +88,25 @@ public class ApplicationService {
         application.setCoverLetter(request.getCoverLetter());
         application.setResumeUrl(request.getResumeUrl());
         application.setAdditionalDocuments(request.getAdditionalDocuments());
-        
-        Application savedApplication = applicationRepository.save(application);
+        application.addStatusChange(new StatusChange(null, ApplicationStatus.APPLIED, candidateId, null,
+            application.getAppliedAt()));
+        application.addPendingEvent(new OutboxEvent(OutboxEvent.EventType.APPLICATION_CREATED, null,
+            ApplicationStatus.APPLIED, candidateId, null, application.getAppliedAt()));
+        
+        // Single insert; the unique candidate_id + job_id index rejects duplicates atomically,
+        // so concurrent double-submits cannot both pass a separate existence check
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.insert(application);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateApplicationException(candidateId, request.getJobId(), e);
+        }
         
         logger.info("Application created successfully with ID: {}", savedApplication.getId());
+        statusHistoryService.flushPending(savedApplication.getId());
+        
+        // Scored in the background so ranked lists read the stored score without delaying the candidate
+        applicationScoringService.scoreNewApplicationAsync(savedApplication);
         
         return convertToResponse(savedApplication);
     }
@@ -90,6 +125,24 @@ public class ApplicationService {
         return convertToResponse(application);
     }
     
+    /**
+     * Get one page of an application's status timeline, newest first
+     * Requirements: 4.2, 4.3
+     */
+    @Transactional(readOnly = true)
+    public StatusTimelineResponse getStatusTimeline(String applicationId, String userId, boolean isAdmin, String cursor, int size) {
+        logger.debug("Fetching status timeline for application: {}, cursor: {}, size: {}", applicationId, cursor, size);
+        
+        Application application = applicationRepository.findById(applicationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Application", applicationId));
+        
+        if (!isAdmin && !application.getCandidateId().equals(userId) && !application.getEmployerId().equals(userId)) {
+            throw new AccessDeniedException("No access to the timeline of application " + applicationId);
+        }
+        
+        return statusHistoryService.getTimeline(applicationId, cursor, size);
+    }
+    
     /**
      * Get applications for a candidate
      * Requirements: 2.4
@@ -145,6 +198,37 @@ public class ApplicationService {
         return new PagedResponse<>(responses, page, size, applicationPage.getTotalElements());
     }
     
+    /**
+     * Get applications for a job ranked by skill match score, best match first (for employers).
+     * Applications that are not scored yet come last.
+     * Requirements: 4.1, 4.2
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<ApplicationResponse> getRankedJobApplications(String jobId, String employerId, int page, int size, String status) {
+        logger.debug("Fetching ranked applications for job: {}, employer: {}, page: {}, size: {}, status: {}", 
+                    jobId, employerId, page, size, status);
+        
+        // Validate employer owns the job
+        validateEmployerOwnsJob(employerId, jobId);
+        
+        // Served by job_score_idx / job_status_score_idx, so no scoring or in-memory sort happens here
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "matchScore", "appliedAt"));
+        Page<Application> applicationPage;
+        
+        if (status != null && !status.isEmpty()) {
+            ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
+            applicationPage = applicationRepository.findByJobIdAndStatus(jobId, applicationStatus, pageable);
+        } else {
+            applicationPage = applicationRepository.findByJobId(jobId, pageable);
+        }
+        
+        List<ApplicationResponse> responses = applicationPage.getContent().stream()
+            .map(this::convertToResponseWithCandidateInfo)
+            .collect(Collectors.toList());
+        
+        return new PagedResponse<>(responses, page, size, applicationPage.getTotalElements());
+    }
+    
     /**
      * Get applications for an employer (all jobs)
      * Requirements: 4.1, 4.2
@@ -192,9 +276,12 @@ public class ApplicationService {
         }
         
         // Update application based on new status
-        updateApplicationFields(application, request, employerId);
+        ApplicationStatus currentStatus = application.getStatus();
+        Update update = updateApplicationFields(application, request, employerId);
         
-        Application updatedApplication = applicationRepository.save(application);
+        Application updatedApplication = applyTransition(applicationId, currentStatus, update);
+        statusHistoryService.flushPending(applicationId);
+        applicationTimerService.onStatusChanged(updatedApplication);
         
         logger.info("Application {} status updated successfully to {}", applicationId, request.getStatus());
         
@@ -221,9 +308,12 @@ public class ApplicationService {
             throw new InvalidApplicationStatusException("Cannot withdraw application in final status: " + application.getStatus());
         }
         
-        application.updateStatus(ApplicationStatus.WITHDRAWN, candidateId, "Withdrawn by candidate");
+        ApplicationStatus currentStatus = application.getStatus();
+        Update update = statusUpdate(application, ApplicationStatus.WITHDRAWN, candidateId, "Withdrawn by candidate");
         
-        Application updatedApplication = applicationRepository.save(application);
+        Application updatedApplication = applyTransition(applicationId, currentStatus, update);
+        statusHistoryService.flushPending(applicationId);
+        applicationTimerService.onStatusChanged(updatedApplication);
         
         logger.info("Application {} withdrawn successfully", applicationId);
         
@@ -302,39 +392,86 @@ public class ApplicationService {
         }
     }
     
-    private void updateApplicationFields(Application application, UpdateApplicationStatusRequest request, String employerId) {
-        application.updateStatus(request.getStatus(), employerId, request.getReason());
+    private Update updateApplicationFields(Application application, UpdateApplicationStatusRequest request, String employerId) {
+        Update update = statusUpdate(application, request.getStatus(), employerId, request.getReason());
         
         if (request.getNotes() != null) {
             application.setNotes(request.getNotes());
+            update.set("notes", request.getNotes());
         }
         
         switch (request.getStatus()) {
             case INTERVIEW_SCHEDULED:
                 if (request.getInterviewScheduled() != null) {
                     application.setInterviewScheduled(request.getInterviewScheduled());
+                    update.set("interviewScheduled", request.getInterviewScheduled());
                 }
                 if (request.getInterviewNotes() != null) {
                     application.setInterviewNotes(request.getInterviewNotes());
+                    update.set("interviewNotes", request.getInterviewNotes());
                 }
                 break;
             case OFFER_MADE:
                 if (request.getSalaryOffered() != null) {
                     application.setSalaryOffered(request.getSalaryOffered());
+                    update.set("salaryOffered", request.getSalaryOffered());
                 }
                 if (request.getOfferDetails() != null) {
                     application.setOfferDetails(request.getOfferDetails());
+                    update.set("offerDetails", request.getOfferDetails());
                 }
                 if (request.getOfferExpiresAt() != null) {
                     application.setOfferExpiresAt(request.getOfferExpiresAt());
+                    update.set("offerExpiresAt", request.getOfferExpiresAt());
                 }
                 break;
             case REJECTED:
                 if (request.getRejectionReason() != null) {
                     application.setRejectionReason(request.getRejectionReason());
+                    update.set("rejectionReason", request.getRejectionReason());
                 }
                 break;
         }
+        
+        return update;
+    }
+    
+    /**
+     * Apply a status change to the loaded application and describe the same change as an update,
+     * so only the changed fields are written and concurrently written fields are left alone
+     */
+    private Update statusUpdate(Application application, ApplicationStatus newStatus, String changedBy, String reason) {
+        int history = application.getStatusHistory() != null ? application.getStatusHistory().size() : 0;
+        int events = application.getPendingEvents() != null ? application.getPendingEvents().size() : 0;
+        
+        application.updateStatus(newStatus, changedBy, reason);
+        
+        Update update = new Update()
+            .set("status", newStatus)
+            .set("updatedAt", application.getUpdatedAt())
+            .push("statusHistory").each(application.getStatusHistory().subList(history, application.getStatusHistory().size()).toArray())
+            .push("pendingEvents").each(application.getPendingEvents().subList(events, application.getPendingEvents().size()).toArray());
+        if (newStatus == ApplicationStatus.REJECTED && application.getRejectionReason() != null) {
+            update.set("rejectionReason", application.getRejectionReason());
+        } else if (newStatus == ApplicationStatus.HIRED) {
+            update.unset("rejectionReason");
+        }
+        return update;
+    }
+    
+    /**
+     * Write a status transition only if the application is still in the status it was validated against
+     * @return the application as written
+     * @throws ConcurrentStatusChangeException if the status changed in the meantime
+     */
+    private Application applyTransition(String applicationId, ApplicationStatus currentStatus, Update update) {
+        Application updatedApplication = mongoTemplate.findAndModify(
+            Query.query(where("id").is(applicationId).and("status").is(currentStatus)),
+            update, FindAndModifyOptions.options().returnNew(true), Application.class);
+        if (updatedApplication == null) {
+            throw new ConcurrentStatusChangeException(applicationId, currentStatus);
+        }
+        return updatedApplication;
     }
     
     private ApplicationResponse convertToResponse(Application application) {
@@ -356,7 +493,7 @@ public class ApplicationService {
         response.setOfferExpiresAt(application.getOfferExpiresAt());
         response.setAppliedAt(application.getAppliedAt());
         response.setUpdatedAt(application.getUpdatedAt());
-        response.setStatusHistory(application.getStatusHistory());
+        response.setMatchScore(application.getMatchScore());
         
         return response;
     }
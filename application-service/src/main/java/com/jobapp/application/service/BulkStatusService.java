@@ -0,0 +1,226 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.BulkStatusUpdateRequest;
+import com.jobapp.application.dto.BulkStatusUpdateResponse;
+import com.jobapp.application.dto.BulkStatusUpdateResponse.ItemResult;
+import com.jobapp.application.dto.BulkStatusUpdateResponse.Outcome;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.OutboxEvent;
+import com.jobapp.application.model.StatusChange;
+import com.jobapp.application.scheduler.ApplicationTimerService;
+import com.mongodb.bulk.BulkWriteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for transitioning many applications to one status in a few round trips.
+ * Transitions are validated against {@link ApplicationStatus#canTransitionTo} and applied with
+ * unordered bulk writes whose filters include the status observed at validation time,
+ * so an application changed concurrently is reported as a conflict instead of being overwritten.
+ * Each update also pushes its status history entry and outbox event, keeping the change, its history
+ * and its notification in one write.
+ * Requirements: 4.1, 4.2, 4.3
+ */
+@Service
+public class BulkStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkStatusService.class);
+
+    static final int WRITE_CHUNK_SIZE = 500;
+
+    /**
+     * Most applications a filter selection transitions per request, matching the limit on explicit ID lists;
+     * callers repeat the request while the response reports more matching applications
+     */
+    static final int MAX_FILTER_SELECTION = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Autowired
+    private ApplicationTimerService applicationTimerService;
+
+    /**
+     * Apply a status transition to every application selected by the request
+     * @param employerId the employer performing the transition
+     * @param request the selection and target status
+     * @return per-application outcomes
+     */
+    public BulkStatusUpdateResponse bulkUpdateStatus(String employerId, BulkStatusUpdateRequest request) {
+        if (!request.hasApplicationIds() && !request.hasFilter()) {
+            throw new IllegalArgumentException("Either applicationIds or jobId with currentStatus must be provided");
+        }
+
+        ApplicationStatus target = request.getTargetStatus();
+        logger.info("Bulk updating applications to {} by employer {}", target, employerId);
+
+        List<Application> loaded = loadSelection(employerId, request);
+        boolean hasMore = false;
+        if (!request.hasApplicationIds() && loaded.size() > MAX_FILTER_SELECTION) {
+            loaded = loaded.subList(0, MAX_FILTER_SELECTION);
+            hasMore = true;
+        }
+        Map<String, ItemResult> results = new LinkedHashMap<>();
+        List<Application> planned = new ArrayList<>();
+
+        if (request.hasApplicationIds()) {
+            Map<String, Application> byId = loaded.stream()
+                .collect(Collectors.toMap(Application::getId, application -> application));
+            for (String applicationId : new LinkedHashSet<>(request.getApplicationIds())) {
+                Application application = byId.get(applicationId);
+                if (application == null) {
+                    results.put(applicationId, new ItemResult(applicationId, Outcome.NOT_FOUND, null, "Application not found"));
+                } else {
+                    classify(application, employerId, target, results, planned);
+                }
+            }
+        } else {
+            for (Application application : loaded) {
+                classify(application, employerId, target, results, planned);
+            }
+        }
+
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Set<String> updated = new LinkedHashSet<>();
+
+        for (int from = 0; from < planned.size(); from += WRITE_CHUNK_SIZE) {
+            List<Application> chunk = planned.subList(from, Math.min(from + WRITE_CHUNK_SIZE, planned.size()));
+            Set<String> applied = applyChunk(chunk, employerId, request, changedAt);
+
+            for (Application application : chunk) {
+                if (applied.contains(application.getId())) {
+                    results.put(application.getId(), new ItemResult(application.getId(), Outcome.UPDATED,
+                        application.getStatus(), null));
+                    updated.add(application.getId());
+                } else {
+                    results.put(application.getId(), new ItemResult(application.getId(), Outcome.CONFLICT,
+                        application.getStatus(), "Application status changed concurrently"));
+                }
+            }
+        }
+
+        // Cancel offer-expiry and interview-reminder timers the way a single transition does
+        for (Application application : planned) {
+            if (updated.contains(application.getId())) {
+                application.setStatus(target);
+                applicationTimerService.onStatusChanged(application);
+            }
+        }
+
+        try {
+            statusHistoryService.flushPending(updated);
+        } catch (Exception e) {
+            logger.warn("Failed to append status history of bulk update by employer {}: {}", employerId, e.getMessage());
+        }
+
+        BulkStatusUpdateResponse response = new BulkStatusUpdateResponse(target, new ArrayList<>(results.values()));
+        response.setHasMore(hasMore);
+        logger.info("Bulk status update to {} by employer {} finished: {} updated, {} failed",
+                   target, employerId, response.getUpdated(), response.getFailed());
+        return response;
+    }
+
+    private List<Application> loadSelection(String employerId, BulkStatusUpdateRequest request) {
+        Query query;
+        if (request.hasApplicationIds()) {
+            query = Query.query(where("id").in(request.getApplicationIds()));
+        } else {
+            // One past the cap tells whether more applications match than this request transitions
+            query = Query.query(where("employerId").is(employerId)
+                .and("jobId").is(request.getJobId())
+                .and("status").is(request.getCurrentStatus()))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(MAX_FILTER_SELECTION + 1);
+        }
+        query.fields().include("id").include("employerId").include("status")
+            .include("offerExpiresAt").include("interviewScheduled");
+        return mongoTemplate.find(query, Application.class);
+    }
+
+    private void classify(Application application, String employerId, ApplicationStatus target,
+                          Map<String, ItemResult> results, List<Application> planned) {
+        if (!employerId.equals(application.getEmployerId())) {
+            results.put(application.getId(), new ItemResult(application.getId(), Outcome.FORBIDDEN,
+                null, "Employer does not have permission to update this application"));
+        } else if (!application.getStatus().canTransitionTo(target)) {
+            results.put(application.getId(), new ItemResult(application.getId(), Outcome.INVALID_TRANSITION,
+                application.getStatus(), "Invalid status transition from " + application.getStatus() + " to " + target));
+        } else {
+            // Reserve the position in the result order; the outcome is filled in once the write completes
+            results.put(application.getId(), null);
+            planned.add(application);
+        }
+    }
+
+    /**
+     * Write one chunk of conditional updates
+     * @return IDs of the applications that were actually transitioned
+     */
+    private Set<String> applyChunk(List<Application> chunk, String employerId,
+                                   BulkStatusUpdateRequest request, LocalDateTime changedAt) {
+        ApplicationStatus target = request.getTargetStatus();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class);
+
+        for (Application application : chunk) {
+            Update update = new Update()
+                .set("status", target)
+                .set("updatedAt", changedAt)
+                .push("statusHistory", new StatusChange(application.getStatus(), target,
+                    employerId, request.getReason(), changedAt))
+                .push("pendingEvents", OutboxEvent.statusChanged(application.getStatus(), target,
+                    employerId, request.getReason(), changedAt));
+            if (request.getNotes() != null) {
+                update.set("notes", request.getNotes());
+            }
+            if (target == ApplicationStatus.REJECTED) {
+                String rejectionReason = request.getRejectionReason() != null ? request.getRejectionReason() : request.getReason();
+                if (rejectionReason != null) {
+                    update.set("rejectionReason", rejectionReason);
+                }
+            } else if (target == ApplicationStatus.HIRED) {
+                update.unset("rejectionReason");
+            }
+
+            bulkOps.updateOne(Query.query(where("id").is(application.getId())
+                .and("employerId").is(employerId)
+                .and("status").is(application.getStatus())), update);
+        }
+
+        BulkWriteResult result = bulkOps.execute();
+        Set<String> chunkIds = chunk.stream().map(Application::getId).collect(Collectors.toCollection(HashSet::new));
+        if (result.getMatchedCount() == chunk.size()) {
+            return chunkIds;
+        }
+
+        // Some filters no longer matched; find out which applications carry this write
+        Query written = Query.query(where("id").in(chunkIds).and("status").is(target).and("updatedAt").is(changedAt));
+        written.fields().include("id");
+        return mongoTemplate.find(written, Application.class).stream()
+            .map(Application::getId)
+            .collect(Collectors.toSet());
+    }
+}
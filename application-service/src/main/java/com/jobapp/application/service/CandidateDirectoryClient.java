@@ -0,0 +1,51 @@
+package com.jobapp.application.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client for the candidate profiles kept by user-service.
+ * Profiles are looked up in batches through the internal {@code /api/candidates/batch} endpoint, which
+ * accepts the service token the shared RestTemplate sends with every call.
+ * Requirements: 4.1, 4.2
+ */
+@Service
+public class CandidateDirectoryClient {
+
+    // External service URL (should be configured via properties)
+    private static final String USER_SERVICE_URL = "http://user-service:8082";
+
+    private final RestTemplate restTemplate;
+
+    public CandidateDirectoryClient(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Fetch the profiles of several candidates in one call
+     * @param candidateIds the candidates to look up
+     * @return profiles keyed by candidate ID; candidates unknown to user-service are left out
+     * @throws RestClientException if user-service cannot be reached or rejects the call
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Map<String, Object>> getCandidates(Collection<String> candidateIds) {
+        Map<String, Map<String, Object>> candidates = new HashMap<>();
+        if (candidateIds.isEmpty()) {
+            return candidates;
+        }
+        Map<String, Object>[] response = restTemplate.postForObject(
+            USER_SERVICE_URL + "/api/candidates/batch", new ArrayList<>(candidateIds), Map[].class);
+        if (response != null) {
+            for (Map<String, Object> candidate : response) {
+                candidates.put(String.valueOf(candidate.get("id")), candidate);
+            }
+        }
+        return candidates;
+    }
+}
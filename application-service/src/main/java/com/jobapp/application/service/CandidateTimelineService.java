@@ -0,0 +1,119 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.ApplicationSummaryResponse;
+import com.jobapp.application.dto.CandidateTimelineResponse;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for a candidate's application timeline, most recently applied first.
+ * Pages are addressed by a keyset cursor of the form {@code <appliedAtEpochMillis>:<applicationId>}
+ * and read through the {@code candidate_timeline_idx} index, whose trailing status key lets the
+ * per-status filter be evaluated on index entries without fetching non-matching documents.
+ * Only the fields of {@link ApplicationSummaryResponse} are loaded.
+ * Requirements: 2.4
+ */
+@Service
+public class CandidateTimelineService {
+
+    static final String TIMELINE_INDEX = "candidate_timeline_idx";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Read one page of a candidate's applications
+     * @param candidateId the candidate ID
+     * @param status optional status filter
+     * @param cursor the cursor returned by the previous page, or null for the first page
+     * @param size the maximum number of applications to return
+     * @return the page of application summaries with the cursor for the next page
+     */
+    public CandidateTimelineResponse getTimeline(String candidateId, ApplicationStatus status, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Criteria criteria = where("candidateId").is(candidateId);
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            int separator = cursor.indexOf(':');
+            LocalDateTime appliedAt;
+            String lastId;
+            try {
+                appliedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(cursor.substring(0, separator))),
+                    ZoneId.systemDefault());
+                lastId = cursor.substring(separator + 1);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+            }
+            if (!ObjectId.isValid(lastId)) {
+                throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+            }
+            // Same applied_at falls back to the _id tie-breaker so no application is skipped or repeated
+            criteria = criteria.orOperator(
+                where("appliedAt").lt(appliedAt),
+                where("appliedAt").is(appliedAt).and("id").lt(new ObjectId(lastId)));
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "appliedAt", "id"))
+            .limit(limit + 1)
+            .withHint(TIMELINE_INDEX);
+        query.fields().include("id").include("jobId").include("employerId").include("status")
+            .include("appliedAt").include("updatedAt").include("interviewScheduled").include("offerExpiresAt");
+
+        List<Application> applications = mongoTemplate.find(query, Application.class);
+        boolean hasMore = applications.size() > limit;
+        if (hasMore) {
+            applications = applications.subList(0, limit);
+        }
+
+        List<ApplicationSummaryResponse> summaries = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            summaries.add(toSummary(application));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Application last = applications.get(applications.size() - 1);
+            nextCursor = toEpochMillis(last.getAppliedAt()) + ":" + last.getId();
+        }
+        return new CandidateTimelineResponse(summaries, nextCursor);
+    }
+
+    private ApplicationSummaryResponse toSummary(Application application) {
+        ApplicationSummaryResponse summary = new ApplicationSummaryResponse();
+        summary.setId(application.getId());
+        summary.setJobId(application.getJobId());
+        summary.setEmployerId(application.getEmployerId());
+        summary.setStatus(application.getStatus());
+        summary.setAppliedAt(application.getAppliedAt());
+        summary.setUpdatedAt(application.getUpdatedAt());
+        summary.setInterviewScheduled(application.getInterviewScheduled());
+        summary.setOfferExpiresAt(application.getOfferExpiresAt());
+        return summary;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
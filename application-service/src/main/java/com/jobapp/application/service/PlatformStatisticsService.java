@@ -0,0 +1,115 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.PlatformApplicationStatisticsResponse;
+import com.jobapp.application.model.ApplicationStatus;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for platform-wide application statistics used by the admin dashboard.
+ * All figures come from a single $facet aggregation, so the dashboard pays one round trip to MongoDB.
+ * Requirements: 5.4
+ */
+@Service
+public class PlatformStatisticsService {
+
+    private static final String APPLICATIONS_COLLECTION = "applications";
+    private static final int MAX_TREND_DAYS = 366;
+
+    // Applications that ended with the candidate taking the job
+    private static final Set<String> SUCCESSFUL_STATUSES =
+        Set.of(ApplicationStatus.OFFER_ACCEPTED.name(), ApplicationStatus.HIRED.name());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Get platform-wide application statistics
+     * @param days number of days covered by the daily application trend
+     * @return application statistics
+     */
+    public PlatformApplicationStatisticsResponse getPlatformStatistics(int days) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        int span = Math.max(1, Math.min(days, MAX_TREND_DAYS));
+        // Raw collection aggregations bypass type mapping, so bounds are passed as Dates
+        Date monthStart = Date.from(today.withDayOfMonth(1).atStartOfDay(zone).toInstant());
+        Date trendStart = Date.from(today.minusDays(span).atStartOfDay(zone).toInstant());
+
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.facet(Aggregation.group("status").count().as("count")).as("byStatus")
+                .and(Aggregation.match(where("applied_at").gte(monthStart)), Aggregation.count().as("count")).as("thisMonth")
+                .and(Aggregation.group("job_id"), Aggregation.count().as("count")).as("jobs")
+                .and(Aggregation.match(where("applied_at").gte(trendStart)),
+                    Aggregation.project().and(DateOperators.DateToString.dateOf("applied_at")
+                        .toString("%Y-%m-%d").withTimezone(DateOperators.Timezone.valueOf(zone.getId()))).as("day"),
+                    Aggregation.group("day").count().as("count")).as("byDay"));
+
+        Document facets = mongoTemplate.aggregate(aggregation, APPLICATIONS_COLLECTION, Document.class)
+            .getUniqueMappedResult();
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Long> byDay = new TreeMap<>();
+        long thisMonth = 0L;
+        long jobs = 0L;
+        if (facets != null) {
+            putCounts(facets, "byStatus", byStatus);
+            putCounts(facets, "byDay", byDay);
+            thisMonth = singleCount(facets, "thisMonth");
+            jobs = singleCount(facets, "jobs");
+        }
+
+        long total = 0L;
+        long successful = 0L;
+        for (Map.Entry<String, Long> entry : byStatus.entrySet()) {
+            total += entry.getValue();
+            if (SUCCESSFUL_STATUSES.contains(entry.getKey())) {
+                successful += entry.getValue();
+            }
+        }
+
+        PlatformApplicationStatisticsResponse stats = new PlatformApplicationStatisticsResponse();
+        stats.setTotalApplications(total);
+        stats.setApplicationsThisMonth(thisMonth);
+        stats.setApplicationsByStatus(byStatus);
+        stats.setAverageApplicationsPerJob(jobs > 0 ? (double) total / jobs : 0.0);
+        stats.setApplicationSuccessRate(total > 0 ? (double) successful / total : 0.0);
+        stats.setApplicationsByDay(byDay);
+        return stats;
+    }
+
+    private long singleCount(Document facets, String facet) {
+        List<Document> rows = facets.getList(facet, Document.class);
+        if (rows == null || rows.isEmpty()) {
+            return 0L;
+        }
+        return ((Number) rows.get(0).get("count")).longValue();
+    }
+
+    private void putCounts(Document facets, String facet, Map<String, Long> counts) {
+        List<Document> rows = facets.getList(facet, Document.class);
+        if (rows != null) {
+            for (Document row : rows) {
+                Object key = row.get("_id");
+                if (key != null) {
+                    counts.put(key.toString(), ((Number) row.get("count")).longValue());
+                }
+            }
+        }
+    }
+}
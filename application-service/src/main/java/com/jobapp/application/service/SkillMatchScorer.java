@@ -0,0 +1,142 @@
+package com.jobapp.application.service;
+
+import com.jobapp.common.jobs.ExperienceLevel;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Scores a candidate's skills and experience against a job's requirements on a 0-100 scale.
+ * Required skill coverage weighs most, then preferred skill coverage, then how well the candidate's
+ * years of experience fit the job's experience level. Components the job does not specify are left
+ * out and the remaining weights are rescaled, so a job without preferred skills is not penalised.
+ * Requirements: 4.1, 4.2
+ */
+@Component
+public class SkillMatchScorer {
+
+    static final double REQUIRED_WEIGHT = 0.60;
+    static final double PREFERRED_WEIGHT = 0.25;
+    static final double EXPERIENCE_WEIGHT = 0.15;
+
+    /**
+     * Score a candidate against a job
+     * @param candidateSkills the candidate's skills, may be null
+     * @param yearsOfExperience the candidate's years of experience, null when unknown
+     * @param job the job's requirements
+     * @return the match score between 0 and 100
+     */
+    public int score(Collection<String> candidateSkills, Integer yearsOfExperience, JobRequirements job) {
+        Set<String> skills = normalize(candidateSkills);
+        double weighted = 0;
+        double totalWeight = 0;
+
+        if (!job.getRequiredSkills().isEmpty()) {
+            weighted += REQUIRED_WEIGHT * coverage(skills, job.getRequiredSkills());
+            totalWeight += REQUIRED_WEIGHT;
+        }
+        if (!job.getPreferredSkills().isEmpty()) {
+            weighted += PREFERRED_WEIGHT * coverage(skills, job.getPreferredSkills());
+            totalWeight += PREFERRED_WEIGHT;
+        }
+        ExperienceLevel level = experienceLevel(job.getExperienceLevel());
+        if (level != null) {
+            weighted += EXPERIENCE_WEIGHT * experienceFit(yearsOfExperience, level.getMinYears(), level.getMaxYears());
+            totalWeight += EXPERIENCE_WEIGHT;
+        }
+
+        // A job that asks for nothing is fully matched by everyone
+        if (totalWeight == 0) {
+            return 100;
+        }
+        return (int) Math.round(100 * weighted / totalWeight);
+    }
+
+    /**
+     * The experience level named in a job response, null when the job has none or job-service sent one
+     * this service does not know
+     */
+    private static ExperienceLevel experienceLevel(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return ExperienceLevel.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static double coverage(Set<String> candidateSkills, Set<String> jobSkills) {
+        int matched = 0;
+        for (String skill : jobSkills) {
+            if (candidateSkills.contains(skill)) {
+                matched++;
+            }
+        }
+        return (double) matched / jobSkills.size();
+    }
+
+    private static double experienceFit(Integer years, int minYears, int maxYears) {
+        if (years == null) {
+            return 0;
+        }
+        if (years < minYears) {
+            return (double) years / minYears;
+        }
+        if (years > maxYears) {
+            // Overqualified candidates lose a little per extra year, but never more than half
+            return Math.max(0.5, 1 - 0.1 * (years - maxYears));
+        }
+        return 1;
+    }
+
+    static Set<String> normalize(Collection<?> skills) {
+        Set<String> normalized = new HashSet<>();
+        if (skills != null) {
+            for (Object skill : skills) {
+                if (skill != null) {
+                    String value = skill.toString().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+                    if (!value.isEmpty()) {
+                        normalized.add(value);
+                    }
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * The parts of a job that scoring depends on, read from a job-service job response
+     */
+    public static class JobRequirements {
+        private final Set<String> requiredSkills;
+        private final Set<String> preferredSkills;
+        private final String experienceLevel;
+
+        public JobRequirements(Collection<?> requiredSkills, Collection<?> preferredSkills, String experienceLevel) {
+            this.requiredSkills = normalize(requiredSkills);
+            this.preferredSkills = normalize(preferredSkills);
+            this.experienceLevel = experienceLevel;
+        }
+
+        public static JobRequirements fromJob(Map<?, ?> job) {
+            Object level = job.get("experienceLevel");
+            return new JobRequirements(asList(job.get("requiredSkills")), asList(job.get("preferredSkills")),
+                level != null ? level.toString() : null);
+        }
+
+        private static List<?> asList(Object value) {
+            return value instanceof List ? (List<?>) value : List.of();
+        }
+
+        public Set<String> getRequiredSkills() { return requiredSkills; }
+        public Set<String> getPreferredSkills() { return preferredSkills; }
+        public String getExperienceLevel() { return experienceLevel; }
+    }
+}
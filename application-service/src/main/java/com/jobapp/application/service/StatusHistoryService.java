@@ -0,0 +1,369 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.StatusTimelineResponse;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.StatusChange;
+import com.jobapp.application.model.StatusHistoryBucket;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for the append-only, bucketed application status history.
+ * Status changes are written to the application document together with the status itself, then moved
+ * into the newest open bucket of the application and read back newest-first through an opaque cursor
+ * of the form {@code <bucketId>:<offset>}.
+ * Requirements: 4.2, 4.3
+ */
+@Service
+public class StatusHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusHistoryService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int BUCKET_FETCH_BATCH = 3;
+    private static final int MIGRATION_BATCH_SIZE = 500;
+    private static final String APPLICATIONS_COLLECTION = "applications";
+    private static final String LEGACY_HISTORY_FIELD = "status_history";
+    private static final int MAX_APPEND_ATTEMPTS = 3;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final Duration FLUSH_LEASE = Duration.ofSeconds(30);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Append an application's pending status changes to its history, logging instead of failing the caller.
+     * Changes left pending are picked up again by {@link #flushStalePending()}.
+     * @param applicationId the application ID
+     */
+    public void flushPending(String applicationId) {
+        try {
+            flushPending(List.of(applicationId));
+        } catch (Exception e) {
+            logger.warn("Failed to append pending status history of application {}: {}", applicationId, e.getMessage());
+        }
+    }
+
+    /**
+     * Move the pending status changes of applications into their history buckets.
+     * Applications are claimed with a short lease so two flushes never append the same changes, and changes
+     * already found in a bucket (from a flush that stopped before clearing them) are not appended again.
+     * @param applicationIds the applications to flush
+     * @return number of status changes appended
+     */
+    public int flushPending(Collection<String> applicationIds) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+            Query.query(where("id").in(applicationIds).and("statusHistory.changeId").exists(true)
+                .orOperator(where("historyFlushUntil").exists(false), where("historyFlushUntil").lt(now))),
+            new Update().set("historyFlushToken", token).set("historyFlushUntil", now.plus(FLUSH_LEASE)),
+            Application.class);
+
+        Query claimed = Query.query(where("historyFlushToken").is(token));
+        claimed.fields().include("id").include("statusHistory");
+        List<Application> applications = mongoTemplate.find(claimed, Application.class);
+        if (applications.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> changeIds = new HashSet<>();
+        for (Application application : applications) {
+            for (StatusChange change : application.getStatusHistory()) {
+                changeIds.add(change.getChangeId());
+            }
+        }
+        Set<String> appended = findAppendedChangeIds(
+            applications.stream().map(Application::getId).collect(Collectors.toList()), changeIds);
+
+        Map<String, List<StatusChange>> changesByApplication = new LinkedHashMap<>();
+        for (Application application : applications) {
+            List<StatusChange> changes = application.getStatusHistory().stream()
+                .filter(change -> !appended.contains(change.getChangeId()))
+                .collect(Collectors.toList());
+            if (!changes.isEmpty()) {
+                changesByApplication.put(application.getId(), changes);
+            }
+        }
+        appendAll(changesByApplication);
+
+        // Remove only the flushed entries; changes pushed while this flush ran stay pending
+        BulkOperations release = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class);
+        for (Application application : applications) {
+            List<String> flushed = application.getStatusHistory().stream()
+                .map(StatusChange::getChangeId)
+                .collect(Collectors.toList());
+            release.updateOne(Query.query(where("id").is(application.getId()).and("historyFlushToken").is(token)),
+                new Update()
+                    .pull("statusHistory", new Document("changeId", new Document("$in", flushed)))
+                    .unset("historyFlushToken")
+                    .unset("historyFlushUntil"));
+        }
+        release.execute();
+
+        return changesByApplication.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Retry status changes that were written with their application but not yet appended to the history,
+     * e.g. because the instance stopped between the two writes
+     */
+    @Scheduled(fixedDelayString = "${status-history.flush-interval-ms:60000}")
+    public void flushStalePending() {
+        Query stale = Query.query(where("statusHistory.changeId").exists(true)).limit(FLUSH_BATCH_SIZE);
+        stale.fields().include("id");
+        try {
+            List<String> applicationIds = mongoTemplate.find(stale, Application.class).stream()
+                .map(Application::getId)
+                .collect(Collectors.toList());
+            int flushed = flushPending(applicationIds);
+            if (flushed > 0) {
+                logger.info("Appended {} pending status changes to the history", flushed);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to append pending status history: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Append status changes to the application's newest open bucket, opening a new bucket when it is full.
+     * Only one bucket per application is open (holds fewer than {@link StatusHistoryBucket#BUCKET_SIZE} entries);
+     * when two appends race to open it, the unique open-bucket index rejects one, which then retries and appends
+     * to the bucket the other one opened.
+     * @param applicationId the application ID
+     * @param changes the status changes in the order they happened
+     */
+    public void append(String applicationId, List<StatusChange> changes) {
+        if (applicationId == null || changes == null || changes.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < changes.size(); from += StatusHistoryBucket.BUCKET_SIZE) {
+            List<StatusChange> batch = changes.subList(from, Math.min(from + StatusHistoryBucket.BUCKET_SIZE, changes.size()));
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    mongoTemplate.findAndModify(openBucket(applicationId).with(Sort.by(Sort.Direction.DESC, "_id")),
+                        appendUpdate(batch), FindAndModifyOptions.options().upsert(true), StatusHistoryBucket.class);
+                    break;
+                } catch (DuplicateKeyException e) {
+                    if (attempt >= MAX_APPEND_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Append status changes for many applications with a single unordered bulk write.
+     * Appends rejected because a concurrent append opened the bucket first are retried one by one.
+     * @param changesByApplication status changes keyed by application ID
+     */
+    public void appendAll(Map<String, List<StatusChange>> changesByApplication) {
+        if (changesByApplication == null || changesByApplication.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusHistoryBucket.class);
+        List<String> bulkApplicationIds = new ArrayList<>();
+        for (Map.Entry<String, List<StatusChange>> entry : changesByApplication.entrySet()) {
+            List<StatusChange> changes = entry.getValue();
+            if (changes == null || changes.isEmpty()) {
+                continue;
+            }
+            if (changes.size() > StatusHistoryBucket.BUCKET_SIZE) {
+                append(entry.getKey(), changes);
+                continue;
+            }
+            bulkOps.upsert(openBucket(entry.getKey()), appendUpdate(changes));
+            bulkApplicationIds.add(entry.getKey());
+        }
+
+        if (bulkApplicationIds.isEmpty()) {
+            return;
+        }
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            for (BulkWriteError error : e.getErrors()) {
+                String applicationId = bulkApplicationIds.get(error.getIndex());
+                append(applicationId, changesByApplication.get(applicationId));
+            }
+        }
+    }
+
+    private Query openBucket(String applicationId) {
+        return Query.query(where("application_id").is(applicationId).and("count").lt(StatusHistoryBucket.BUCKET_SIZE));
+    }
+
+    private Update appendUpdate(List<StatusChange> changes) {
+        return new Update()
+            .push("changes").each(changes.toArray())
+            .inc("count", changes.size())
+            .min("first_changed_at", changes.get(0).getChangedAt())
+            .max("last_changed_at", changes.get(changes.size() - 1).getChangedAt());
+    }
+
+    private Set<String> findAppendedChangeIds(List<String> applicationIds, Set<String> changeIds) {
+        Query query = Query.query(where("application_id").in(applicationIds).and("changes.changeId").in(changeIds));
+        query.fields().include("changes.changeId");
+
+        Set<String> appended = new HashSet<>();
+        for (StatusHistoryBucket bucket : mongoTemplate.find(query, StatusHistoryBucket.class)) {
+            for (StatusChange change : bucket.getChanges()) {
+                if (changeIds.contains(change.getChangeId())) {
+                    appended.add(change.getChangeId());
+                }
+            }
+        }
+        return appended;
+    }
+
+    /**
+     * Read one page of an application's status history, newest first
+     * @param applicationId the application ID
+     * @param cursor the cursor returned by the previous page, or null for the first page
+     * @param size the maximum number of entries to return
+     * @return the page of status changes with the cursor for the next page
+     */
+    public StatusTimelineResponse getTimeline(String applicationId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        String cursorBucketId = null;
+        int cursorOffset = Integer.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                cursorBucketId = cursor.substring(0, separator);
+                cursorOffset = Integer.parseInt(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+            }
+            if (!ObjectId.isValid(cursorBucketId) || cursorOffset < 0) {
+                throw new IllegalArgumentException("Invalid timeline cursor: " + cursor);
+            }
+        }
+
+        List<StatusChange> entries = new ArrayList<>(limit);
+        ObjectId upperBound = cursorBucketId != null ? new ObjectId(cursorBucketId) : null;
+        boolean inclusive = true;
+
+        while (true) {
+            Criteria criteria = where("application_id").is(applicationId);
+            if (upperBound != null) {
+                criteria = inclusive ? criteria.and("_id").lte(upperBound) : criteria.and("_id").lt(upperBound);
+            }
+            Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "_id")).limit(BUCKET_FETCH_BATCH);
+            List<StatusHistoryBucket> buckets = mongoTemplate.find(query, StatusHistoryBucket.class);
+            if (buckets.isEmpty()) {
+                return new StatusTimelineResponse(applicationId, entries, null);
+            }
+
+            for (int b = 0; b < buckets.size(); b++) {
+                StatusHistoryBucket bucket = buckets.get(b);
+                List<StatusChange> changes = bucket.getChanges() != null ? bucket.getChanges() : List.of();
+                int index = bucket.getId().equals(cursorBucketId) ? Math.min(cursorOffset, changes.size()) : changes.size();
+
+                while (index > 0 && entries.size() < limit) {
+                    entries.add(changes.get(--index));
+                }
+
+                if (entries.size() == limit) {
+                    boolean more = index > 0 || b < buckets.size() - 1
+                        || mongoTemplate.exists(Query.query(where("application_id").is(applicationId)
+                            .and("_id").lt(new ObjectId(bucket.getId()))), StatusHistoryBucket.class);
+                    String nextCursor = more ? bucket.getId() + ":" + index : null;
+                    return new StatusTimelineResponse(applicationId, entries, nextCursor);
+                }
+            }
+
+            upperBound = new ObjectId(buckets.get(buckets.size() - 1).getId());
+            inclusive = false;
+        }
+    }
+
+    /**
+     * Move status history still embedded in application documents into history buckets.
+     * Each document is unset after its history has been appended, so the migration can be re-run safely.
+     * @return number of application documents migrated
+     */
+    public long migrateEmbeddedHistory() {
+        Query legacy = Query.query(where(LEGACY_HISTORY_FIELD).exists(true)).limit(MIGRATION_BATCH_SIZE);
+        legacy.fields().include("_id").include(LEGACY_HISTORY_FIELD);
+
+        long migrated = 0;
+        while (true) {
+            List<Document> documents = mongoTemplate.find(legacy, Document.class, APPLICATIONS_COLLECTION);
+            long migratedInBatch = 0;
+
+            for (Document document : documents) {
+                Object id = document.get("_id");
+                try {
+                    List<StatusChange> changes = new ArrayList<>();
+                    for (Document raw : document.getList(LEGACY_HISTORY_FIELD, Document.class, List.of())) {
+                        changes.add(mongoTemplate.getConverter().read(StatusChange.class, raw));
+                    }
+                    changes.sort(Comparator.comparing(StatusChange::getChangedAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder())));
+
+                    append(String.valueOf(id), changes);
+                    mongoTemplate.updateFirst(Query.query(where("_id").is(id)),
+                        new Update().unset(LEGACY_HISTORY_FIELD), APPLICATIONS_COLLECTION);
+                    migratedInBatch++;
+                } catch (Exception e) {
+                    logger.error("Failed to migrate embedded status history for application {}", id, e);
+                }
+            }
+
+            migrated += migratedInBatch;
+            if (documents.size() < MIGRATION_BATCH_SIZE || migratedInBatch == 0) {
+                break;
+            }
+        }
+
+        if (migrated > 0) {
+            logger.info("Migrated embedded status history of {} applications into history buckets", migrated);
+        }
+        return migrated;
+    }
+}
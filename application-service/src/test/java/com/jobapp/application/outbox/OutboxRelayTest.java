@@ -0,0 +1,182 @@
+package com.jobapp.application.outbox;
+
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay
+ * Requirements: 4.3
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OutboxPublisher publisher;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(mongoTemplate, publisher, meterRegistry, 100, Duration.ofSeconds(30), 3);
+    }
+
+    @Test
+    void relayBatch_PendingEvents_PublishesInOrderAndRemovesThem() {
+        // Given
+        Application application = new Application("candidate123", "job123", "employer123");
+        application.setId("app123");
+        application.updateStatus(ApplicationStatus.IN_REVIEW, "employer123", null);
+        application.updateStatus(ApplicationStatus.REJECTED, "employer123", "Position filled");
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(application));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Application.class)).thenReturn(bulkOperations);
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        verify(mongoTemplate).updateMulti(any(Query.class),
+                argThat(update -> update.getUpdateObject().get("$set", Document.class).containsKey("outboxLeaseToken")),
+                eq(Application.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publish(captor.capture());
+        assertThat(captor.getValue()).extracting(OutboxMessage::getToStatus).containsExactly("IN_REVIEW", "REJECTED");
+        assertThat(captor.getValue()).allMatch(message -> "app123".equals(message.getApplicationId()));
+
+        verify(bulkOperations).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+        assertThat(meterRegistry.counter("outbox.events.published").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.timer("outbox.relay.lag").count()).isEqualTo(2);
+    }
+
+    @Test
+    void relayBatch_PublishFails_KeepsEventsForRetryWithBackoff() {
+        // Given
+        Application application = application("app123", 0);
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(application));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Application.class)).thenReturn(bulkOperations);
+        doThrow(new RuntimeException("notification-service unavailable")).when(publisher).publish(anyList());
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isZero();
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(any(Query.class), captor.capture());
+        Document update = captor.getValue().getUpdateObject();
+        assertThat(update.get("$inc", Document.class)).containsKey("pending_events.$[retried].attempts");
+        assertThat(update.get("$set", Document.class)).containsKey("outboxLeaseUntil");
+        assertThat(update).doesNotContainKey("$pull");
+        assertThat(meterRegistry.counter("outbox.publish.failures").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("outbox.relay.oldest.pending.age").gauge().value()).isGreaterThanOrEqualTo(5000.0);
+    }
+
+    @Test
+    void relayBatch_BatchRejected_DeliversOtherApplicationsOnTheirOwn() {
+        // Given
+        Application healthy = application("app1", 0);
+        Application poison = application("app2", 0);
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(healthy, poison));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Application.class)).thenReturn(bulkOperations);
+        doAnswer(invocation -> {
+            List<OutboxMessage> messages = invocation.getArgument(0);
+            if (messages.stream().anyMatch(message -> "app2".equals(message.getApplicationId()))) {
+                throw new RuntimeException("400 Bad Request");
+            }
+            return null;
+        }).when(publisher).publish(anyList());
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        verify(publisher, times(3)).publish(anyList());
+        assertThat(meterRegistry.counter("outbox.events.published").count()).isEqualTo(1.0);
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void relayBatch_LastAttemptFails_ParksEvents() {
+        // Given
+        Application application = application("app123", 2);
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(application));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Application.class)).thenReturn(bulkOperations);
+        doThrow(new RuntimeException("400 Bad Request")).when(publisher).publish(anyList());
+
+        // When
+        outboxRelay.relayBatch();
+
+        // Then
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), captor.capture());
+        Document park = captor.getAllValues().get(0).getUpdateObject();
+        assertThat(park.get("$pull", Document.class)).containsKey("pendingEvents");
+        Update.Modifiers modifiers = (Update.Modifiers) park.get("$push", Document.class).get("parkedEvents");
+        assertThat(modifiers.getModifiers()).anyMatch(modifier -> "$slice".equals(modifier.getKey())
+                && Integer.valueOf(-OutboxRelay.MAX_PARKED_EVENTS).equals(modifier.getValue()));
+        Document release = captor.getAllValues().get(1).getUpdateObject();
+        assertThat(release.get("$unset", Document.class)).containsKeys("outboxLeaseToken", "outboxLeaseUntil");
+        assertThat(meterRegistry.counter("outbox.events.parked").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void relayBatch_EmptyOutbox_PublishesNothing() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of());
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(relayed).isZero();
+        verifyNoInteractions(publisher);
+    }
+
+    private Application application(String id, int attempts) {
+        Application application = new Application("candidate123", "job123", "employer123");
+        application.setId(id);
+        OutboxEvent event = new OutboxEvent(OutboxEvent.EventType.APPLICATION_CREATED, null,
+                ApplicationStatus.APPLIED, "candidate123", null, LocalDateTime.now().minusSeconds(5));
+        event.setAttempts(attempts);
+        application.addPendingEvent(event);
+        return application;
+    }
+}
@@ -7,14 +7,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -131,6 +140,23 @@ class ApplicationRepositoryTest {
         assertThat(hiredApps.getContent().get(0).getJobId()).isEqualTo("job3");
     }
     
+    @Test
+    @DisplayName("Should not read pending history and outbox events in list queries")
+    void testListQueriesExcludePendingFields() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        assertThat(applicationRepository.findById(testApplication2.getId()).orElseThrow().getStatusHistory()).isNotEmpty();
+        
+        // When
+        Application listed = applicationRepository.findByJobId("job2", pageable).getContent().get(0);
+        
+        // Then
+        assertThat(listed.getStatus()).isEqualTo(ApplicationStatus.IN_REVIEW);
+        assertThat(listed.getStatusHistory()).isNullOrEmpty();
+        assertThat(listed.getPendingEvents()).isNullOrEmpty();
+        assertThat(listed.getParkedEvents()).isNullOrEmpty();
+    }
+    
     @Test
     @DisplayName("Should find applications by job ID")
     void testFindByJobId() {
@@ -434,4 +460,40 @@ class ApplicationRepositoryTest {
         
         assertThat(page2.getContent()).isEmpty();
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should accept exactly one of many parallel submits for the same candidate and job")
+    void testConcurrentInsertsForSamePairAreRejectedByUniqueIndex() throws Exception {
+        // Given
+        int submitters = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(submitters);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        
+        // When
+        for (int i = 0; i < submitters; i++) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    applicationRepository.insert(new Application("candidate-race", "job-race", "employer-race"));
+                    inserted.incrementAndGet();
+                } catch (DuplicateKeyException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        // Then
+        assertThat(inserted.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(submitters - 1);
+        assertThat(applicationRepository.countByCandidateId("candidate-race")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.jobapp.application.scheduler;
+
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.TimerLease;
+import com.jobapp.application.service.StatusHistoryService;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApplicationTimerService
+ * Requirements: 4.1, 4.3
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationTimerServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
+    @Mock
+    private TimerLeaseService timerLeaseService;
+
+    private ApplicationTimerService timerService;
+
+    private final LocalDateTime expiresAt = LocalDateTime.of(2030, 1, 15, 10, 30);
+
+    @BeforeEach
+    void setUp() {
+        timerService = new ApplicationTimerService(mongoTemplate, statusHistoryService, timerLeaseService,
+                new SimpleMeterRegistry(), true, 1000, 64, Duration.ofHours(24));
+        when(mongoTemplate.stream(any(Query.class), eq(Application.class))).thenReturn(Stream.empty());
+        timerService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerService.stop();
+    }
+
+    @Test
+    void onStatusChanged_OfferMadeThenAccepted_SchedulesAndCancelsTimer() {
+        // Given
+        Application application = application(ApplicationStatus.OFFER_MADE);
+        application.setOfferExpiresAt(expiresAt);
+
+        // When
+        timerService.onStatusChanged(application);
+        int afterOffer = timerService.getPendingTimers();
+        application.setStatus(ApplicationStatus.OFFER_ACCEPTED);
+        timerService.onStatusChanged(application);
+
+        // Then
+        assertThat(afterOffer).isEqualTo(1);
+        assertThat(timerService.getPendingTimers()).isZero();
+    }
+
+    @Test
+    void fire_LeaseAcquired_ExpiresOfferAndCompletesLease() {
+        // Given
+        when(timerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Application.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        timerService.fire(ApplicationTimerService.OFFER_EXPIRY, "app123", expiresAt, 42L);
+
+        // Then
+        verify(mongoTemplate).updateFirst(any(Query.class), argThat(update ->
+                update.getUpdateObject().get("$push", Document.class).containsKey("statusHistory")),
+                eq(Application.class));
+        verify(statusHistoryService).flushPending("app123");
+        verify(timerLeaseService).complete(ApplicationTimerService.OFFER_EXPIRY + ":app123:42");
+    }
+
+    @Test
+    void fire_OfferAlreadyAnswered_DoesNotRecordHistory() {
+        // Given
+        when(timerLeaseService.tryAcquire(anyString())).thenReturn(true);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Application.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        timerService.fire(ApplicationTimerService.OFFER_EXPIRY, "app123", expiresAt, 42L);
+
+        // Then
+        verifyNoInteractions(statusHistoryService);
+        verify(timerLeaseService).complete(anyString());
+    }
+
+    @Test
+    void fire_LeaseHeldByOtherReplica_RetriesAfterLeaseRunsOut() {
+        // Given
+        TimerLease lease = new TimerLease();
+        lease.setLeaseUntil(Instant.now().plusSeconds(300));
+        when(timerLeaseService.tryAcquire(anyString())).thenReturn(false);
+        when(timerLeaseService.find(anyString())).thenReturn(lease);
+
+        // When
+        timerService.fire(ApplicationTimerService.INTERVIEW_REMINDER, "app123", expiresAt, 42L);
+
+        // Then
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Application.class));
+        assertThat(timerService.getPendingTimers()).isEqualTo(1);
+    }
+
+    @Test
+    void fire_LeaseCompletedByOtherReplica_DropsTimer() {
+        // Given
+        TimerLease lease = new TimerLease();
+        lease.setCompleted(true);
+        lease.setLeaseUntil(Instant.now().plusSeconds(300));
+        when(timerLeaseService.tryAcquire(anyString())).thenReturn(false);
+        when(timerLeaseService.find(anyString())).thenReturn(lease);
+
+        // When
+        timerService.fire(ApplicationTimerService.INTERVIEW_REMINDER, "app123", expiresAt, 42L);
+
+        // Then
+        assertThat(timerService.getPendingTimers()).isZero();
+    }
+
+    private Application application(ApplicationStatus status) {
+        Application application = new Application("candidate123", "job123", "employer123");
+        application.setId("app123");
+        application.setStatus(status);
+        return application;
+    }
+}
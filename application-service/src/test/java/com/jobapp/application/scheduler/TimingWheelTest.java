@@ -0,0 +1,96 @@
+package com.jobapp.application.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel
+ * Requirements: 4.3
+ */
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void advance_TimerOnLowestWheel_FiresAtDeadlineNotBefore() {
+        // Given
+        TimingWheel wheel = new TimingWheel(10, 8, START);
+        wheel.schedule(START + 35, () -> fired.add("a"));
+
+        // When / Then
+        runDue(wheel.advance(START + 30));
+        assertThat(fired).isEmpty();
+
+        runDue(wheel.advance(START + 40));
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_TimersOnOverflowWheels_CascadeAndFireWithinOneTick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(10, 8, START);
+        long[] delays = { 95, 700, 5_000, 123_456 };
+        List<Long> firedAt = new ArrayList<>();
+        long[] clock = { START };
+        for (long delay : delays) {
+            wheel.schedule(START + delay, () -> {
+                fired.add(String.valueOf(delay));
+                firedAt.add(clock[0] - START);
+            });
+        }
+
+        // When
+        for (clock[0] = START; clock[0] <= START + 130_000; clock[0] += 10) {
+            runDue(wheel.advance(clock[0]));
+        }
+
+        // Then
+        assertThat(fired).containsExactly("95", "700", "5000", "123456");
+        for (int i = 0; i < delays.length; i++) {
+            assertThat(firedAt.get(i)).isBetween(delays[i], delays[i] + 10);
+        }
+    }
+
+    @Test
+    void cancel_PendingTimer_NeverFires() {
+        // Given
+        TimingWheel wheel = new TimingWheel(10, 8, START);
+        TimingWheel.Timeout cancelled = wheel.schedule(START + 500, () -> fired.add("cancelled"));
+        wheel.schedule(START + 500, () -> fired.add("kept"));
+
+        // When
+        boolean result = cancelled.cancel();
+        runDue(wheel.advance(START + 1_000));
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    void schedule_DeadlineInPast_FiresOnNextAdvance() {
+        // Given
+        TimingWheel wheel = new TimingWheel(10, 8, START);
+        TimingWheel.Timeout timeout = wheel.schedule(START - 5_000, () -> fired.add("late"));
+
+        // When
+        runDue(wheel.advance(START));
+
+        // Then
+        assertThat(fired).containsExactly("late");
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    private void runDue(List<Runnable> due) {
+        due.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,134 @@
+package com.jobapp.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApplicationExportService
+ * Requirements: 4.1, 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationExportServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private CandidateDirectoryClient candidateDirectoryClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ApplicationExportService applicationExportService;
+
+    @Test
+    void exportEmployerApplications_Csv_WritesEnrichedAndEscapedRows() throws Exception {
+        // Given
+        Application application = application("app1", "candidate1");
+        when(mongoTemplate.stream(any(Query.class), eq(Application.class))).thenReturn(Stream.of(application));
+        when(restTemplate.getForObject(contains("/api/jobs/job123"), eq(Map.class)))
+                .thenReturn(Map.of("title", "Engineer, Backend"));
+        when(candidateDirectoryClient.getCandidates(Set.of("candidate1"))).thenReturn(Map.of("candidate1",
+                Map.of("id", "candidate1", "name", "=HYPERLINK(\"x\")", "email", "jane@example.com")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = applicationExportService.exportEmployerApplications("employer123", null,
+                ApplicationStatus.APPLIED, ApplicationExportService.Format.CSV, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("applicationId,jobId,jobTitle,candidateId,candidateName,candidateEmail,status");
+        assertThat(lines[1]).startsWith("app1,job123,\"Engineer, Backend\",candidate1,\"'=HYPERLINK(\"\"x\"\")\",jane@example.com,APPLIED,");
+    }
+
+    @Test
+    void exportEmployerApplications_MultipleChunks_BatchesLookupsPerChunk() throws Exception {
+        // Given
+        List<Application> applications = IntStream.range(0, ApplicationExportService.CHUNK_SIZE + 1)
+                .mapToObj(i -> application("app" + i, "candidate" + i))
+                .toList();
+        when(mongoTemplate.stream(any(Query.class), eq(Application.class))).thenReturn(applications.stream());
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(Map.of("title", "Engineer"));
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = applicationExportService.exportEmployerApplications("employer123", "job123",
+                null, ApplicationExportService.Format.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(ApplicationExportService.CHUNK_SIZE + 1);
+        assertThat(lines).hasSize(ApplicationExportService.CHUNK_SIZE + 1);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("applicationId").asText()).isEqualTo("app0");
+        assertThat(first.get("jobTitle").asText()).isEqualTo("Engineer");
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+        verify(candidateDirectoryClient, times(2)).getCandidates(any());
+    }
+
+    @Test
+    void exportEmployerApplications_EnrichmentUnavailable_StillWritesRows() throws Exception {
+        // Given
+        when(mongoTemplate.stream(any(Query.class), eq(Application.class)))
+                .thenReturn(Stream.of(application("app1", "candidate1")));
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenThrow(new ResourceAccessException("down"));
+        when(candidateDirectoryClient.getCandidates(any())).thenThrow(new ResourceAccessException("down"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = applicationExportService.exportEmployerApplications("employer123", null,
+                null, ApplicationExportService.Format.CSV, out);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")[1]).startsWith("app1,job123,,candidate1,,,APPLIED,");
+    }
+
+    @Test
+    void formatFromValue_UnknownFormat_ThrowsException() {
+        assertThatThrownBy(() -> ApplicationExportService.Format.fromValue("xlsx"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xlsx");
+    }
+
+    private Application application(String id, String candidateId) {
+        Application application = new Application(candidateId, "job123", "employer123");
+        application.setId(id);
+        application.setAppliedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return application;
+    }
+}
@@ -0,0 +1,152 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.exception.ResourceNotFoundException;
+import com.jobapp.application.exception.ServiceUnavailableException;
+import com.jobapp.application.model.Application;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApplicationScoringService
+ * Requirements: 4.1, 4.2
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationScoringServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private CandidateDirectoryClient candidateDirectoryClient;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Spy
+    private SkillMatchScorer skillMatchScorer = new SkillMatchScorer();
+
+    @InjectMocks
+    private ApplicationScoringService applicationScoringService;
+
+    private final Map<String, Object> job = Map.of(
+        "id", "job123", "requiredSkills", List.of("Java", "Spring"), "experienceLevel", "JUNIOR");
+
+    private final Map<String, Object> candidate = Map.of(
+        "id", "candidate123", "skills", List.of("java", "spring"), "yearsOfExperience", 2);
+
+    @Test
+    void scoreNewApplication_ProfileAndJobAvailable_StoresScore() {
+        // Given
+        when(restTemplate.getForObject(contains("/api/jobs/job123"), eq(Map.class))).thenReturn(job);
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of("candidate123", candidate));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        // When
+        applicationScoringService.scoreNewApplication(application("app1"));
+
+        // Then
+        verify(bulkOperations).updateOne(any(Query.class), update.capture());
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class).get("matchScore"))
+            .isEqualTo(100);
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void scoreNewApplication_JobServiceDown_LeavesUnscored() {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenThrow(new RuntimeException("down"));
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of("candidate123", candidate));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+
+        // When
+        applicationScoringService.scoreNewApplication(application("app1"));
+
+        // Then
+        verify(bulkOperations, never()).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    void scoreNewApplicationAsync_ScoresInTheBackground() {
+        // Given
+        when(restTemplate.getForObject(contains("/api/jobs/job123"), eq(Map.class))).thenReturn(job);
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of("candidate123", candidate));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+
+        // When
+        applicationScoringService.scoreNewApplicationAsync(application("app1"));
+
+        // Then
+        verify(bulkOperations, timeout(5000)).execute();
+        applicationScoringService.stop();
+    }
+
+    @Test
+    void rescoreCandidate_FetchesEachJobOnceAndBulkUpdates() {
+        // Given
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of("candidate123", candidate));
+        when(restTemplate.getForObject(contains("/api/jobs/job123"), eq(Map.class))).thenReturn(job);
+        Application first = application("app1");
+        Application second = application("app2");
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(first, second));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+
+        // When
+        int rescored = applicationScoringService.rescoreCandidate("candidate123");
+
+        // Then
+        assertThat(rescored).isEqualTo(2);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void rescoreCandidate_UnknownCandidate_ThrowsException() {
+        when(candidateDirectoryClient.getCandidates(any())).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> applicationScoringService.rescoreCandidate("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void rescoreCandidate_UserServiceDown_ThrowsServiceUnavailable() {
+        when(candidateDirectoryClient.getCandidates(any())).thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThatThrownBy(() -> applicationScoringService.rescoreCandidate("candidate123"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private Application application(String id) {
+        Application application = new Application("candidate123", "job123", "employer123");
+        application.setId(id);
+        return application;
+    }
+}
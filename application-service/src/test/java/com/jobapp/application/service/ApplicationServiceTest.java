@@ -3,22 +3,34 @@ package com.jobapp.application.service;
 import com.jobapp.application.dto.ApplicationResponse;
 import com.jobapp.application.dto.CreateApplicationRequest;
 import com.jobapp.application.dto.PagedResponse;
+import com.jobapp.application.dto.StatusTimelineResponse;
 import com.jobapp.application.dto.UpdateApplicationStatusRequest;
+import com.jobapp.application.exception.ConcurrentStatusChangeException;
 import com.jobapp.application.exception.DuplicateApplicationException;
 import com.jobapp.application.exception.InvalidApplicationStatusException;
 import com.jobapp.application.exception.ResourceNotFoundException;
 import com.jobapp.application.model.Application;
 import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.OutboxEvent;
 import com.jobapp.application.repository.ApplicationRepository;
+import com.jobapp.application.scheduler.ApplicationTimerService;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
@@ -40,9 +52,21 @@ class ApplicationServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
+    @Mock
+    private ApplicationTimerService applicationTimerService;
+
+    @Mock
+    private ApplicationScoringService applicationScoringService;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -70,9 +94,8 @@ class ApplicationServiceTest {
     @Test
     void createApplication_ValidRequest_ReturnsApplicationResponse() {
         // Given
-        when(applicationRepository.existsByCandidateIdAndJobId("candidate123", "job123")).thenReturn(false);
         when(restTemplate.getForObject(anyString(), eq(Object.class))).thenReturn(new Object());
-        when(applicationRepository.save(any(Application.class))).thenReturn(testApplication);
+        when(applicationRepository.insert(any(Application.class))).thenReturn(testApplication);
 
         // When
         ApplicationResponse result = applicationService.createApplication("candidate123", createRequest);
@@ -85,28 +108,37 @@ class ApplicationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ApplicationStatus.APPLIED);
         assertThat(result.getCoverLetter()).isEqualTo("Test cover letter");
 
-        verify(applicationRepository).existsByCandidateIdAndJobId("candidate123", "job123");
-        verify(applicationRepository).save(any(Application.class));
+        verify(applicationRepository, never()).existsByCandidateIdAndJobId(anyString(), anyString());
+        verify(applicationScoringService).scoreNewApplicationAsync(any(Application.class));
+        verify(applicationRepository).insert(argThat((Application application) -> application.getPendingEvents() != null
+                && application.getPendingEvents().size() == 1
+                && application.getPendingEvents().get(0).getType() == OutboxEvent.EventType.APPLICATION_CREATED
+                && application.getStatusHistory().size() == 1
+                && application.getStatusHistory().get(0).getFromStatus() == null
+                && application.getStatusHistory().get(0).getToStatus() == ApplicationStatus.APPLIED));
+        verify(statusHistoryService).flushPending("app123");
     }
 
     @Test
     void createApplication_DuplicateApplication_ThrowsException() {
         // Given
-        when(applicationRepository.existsByCandidateIdAndJobId("candidate123", "job123")).thenReturn(true);
+        when(restTemplate.getForObject(anyString(), eq(Object.class))).thenReturn(new Object());
+        when(applicationRepository.insert(any(Application.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: applications index: candidate_job_idx"));
 
         // When & Then
         assertThatThrownBy(() -> applicationService.createApplication("candidate123", createRequest))
                 .isInstanceOf(DuplicateApplicationException.class)
-                .hasMessageContaining("Application already exists");
+                .hasMessageContaining("Application already exists")
+                .hasCauseInstanceOf(DuplicateKeyException.class);
 
-        verify(applicationRepository).existsByCandidateIdAndJobId("candidate123", "job123");
+        verify(applicationRepository).insert(any(Application.class));
         verify(applicationRepository, never()).save(any(Application.class));
     }
 
     @Test
     void createApplication_JobNotFound_ThrowsException() {
         // Given
-        when(applicationRepository.existsByCandidateIdAndJobId("candidate123", "job123")).thenReturn(false);
         when(restTemplate.getForObject(anyString(), eq(Object.class))).thenThrow(new RuntimeException("Job not found"));
 
         // When & Then
@@ -114,7 +146,7 @@ class ApplicationServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Job not found");
 
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationRepository, never()).insert(any(Application.class));
     }
 
     @Test
@@ -245,7 +277,8 @@ class ApplicationServiceTest {
         updatedApplication.setStatus(ApplicationStatus.IN_REVIEW);
 
         when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
-        when(applicationRepository.save(any(Application.class))).thenReturn(updatedApplication);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Application.class)))
+                .thenReturn(updatedApplication);
 
         // When
         ApplicationResponse result = applicationService.updateApplicationStatus("app123", "employer123", updateRequest);
@@ -256,7 +289,31 @@ class ApplicationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ApplicationStatus.IN_REVIEW);
 
         verify(applicationRepository).findById("app123");
-        verify(applicationRepository).save(any(Application.class));
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class), eq(Application.class));
+        assertThat(query.getValue().getQueryObject()).containsEntry("status", ApplicationStatus.APPLIED);
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set).containsEntry("status", ApplicationStatus.IN_REVIEW).containsEntry("notes", "Application looks promising");
+        assertThat(set).doesNotContainKeys("pendingEvents", "statusHistory", "outboxLeaseToken");
+        assertThat(update.getValue().getUpdateObject().get("$push", Document.class)).containsKeys("statusHistory", "pendingEvents");
+        verify(applicationRepository, never()).save(any(Application.class));
+        verify(statusHistoryService).flushPending("app123");
+        verify(applicationTimerService).onStatusChanged(argThat(app -> app.getStatus() == ApplicationStatus.IN_REVIEW));
+    }
+
+    @Test
+    void updateApplicationStatus_StatusChangedConcurrently_ThrowsConflict() {
+        // Given
+        when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Application.class)))
+                .thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> applicationService.updateApplicationStatus("app123", "employer123", updateRequest))
+                .isInstanceOf(ConcurrentStatusChangeException.class);
+
+        verifyNoInteractions(statusHistoryService, applicationTimerService);
     }
 
     @Test
@@ -296,7 +353,8 @@ class ApplicationServiceTest {
         withdrawnApplication.setStatus(ApplicationStatus.WITHDRAWN);
 
         when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
-        when(applicationRepository.save(any(Application.class))).thenReturn(withdrawnApplication);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Application.class)))
+                .thenReturn(withdrawnApplication);
 
         // When
         ApplicationResponse result = applicationService.withdrawApplication("app123", "candidate123");
@@ -307,7 +365,23 @@ class ApplicationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ApplicationStatus.WITHDRAWN);
 
         verify(applicationRepository).findById("app123");
-        verify(applicationRepository).save(any(Application.class));
+        verify(mongoTemplate).findAndModify(argThat(query -> query.getQueryObject().get("status") == ApplicationStatus.APPLIED),
+                argThat(update -> update.getUpdateObject().get("$set", Document.class).get("status") == ApplicationStatus.WITHDRAWN),
+                any(FindAndModifyOptions.class), eq(Application.class));
+        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationTimerService).onStatusChanged(withdrawnApplication);
+    }
+
+    @Test
+    void withdrawApplication_StatusChangedConcurrently_ThrowsConflict() {
+        // Given
+        when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
+
+        // When & Then
+        assertThatThrownBy(() -> applicationService.withdrawApplication("app123", "candidate123"))
+                .isInstanceOf(ConcurrentStatusChangeException.class);
+
+        verifyNoInteractions(statusHistoryService, applicationTimerService);
     }
 
     @Test
@@ -405,4 +479,31 @@ class ApplicationServiceTest {
         verify(applicationRepository, times(6)).countByEmployerIdAndStatus(eq("employer123"),
                 any(ApplicationStatus.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getStatusTimeline_Participant_ReturnsTimelinePage() {
+        // Given
+        StatusTimelineResponse timeline = new StatusTimelineResponse("app123", List.of(), null);
+        when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
+        when(statusHistoryService.getTimeline("app123", null, 20)).thenReturn(timeline);
+
+        // When
+        StatusTimelineResponse result = applicationService.getStatusTimeline("app123", "candidate123", false, null, 20);
+
+        // Then
+        assertThat(result).isSameAs(timeline);
+        verify(statusHistoryService).getTimeline("app123", null, 20);
+    }
+
+    @Test
+    void getStatusTimeline_UnrelatedUser_ThrowsAccessDenied() {
+        // Given
+        when(applicationRepository.findById("app123")).thenReturn(Optional.of(testApplication));
+
+        // When & Then
+        assertThatThrownBy(() -> applicationService.getStatusTimeline("app123", "someoneElse", false, null, 20))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(statusHistoryService, never()).getTimeline(anyString(), any(), anyInt());
+    }
+}
@@ -0,0 +1,177 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.BulkStatusUpdateRequest;
+import com.jobapp.application.dto.BulkStatusUpdateResponse;
+import com.jobapp.application.dto.BulkStatusUpdateResponse.Outcome;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.scheduler.ApplicationTimerService;
+import com.mongodb.bulk.BulkWriteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkStatusService
+ * Requirements: 4.1, 4.2, 4.3
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkStatusServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StatusHistoryService statusHistoryService;
+
+    @Mock
+    private ApplicationTimerService applicationTimerService;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    @InjectMocks
+    private BulkStatusService bulkStatusService;
+
+    private BulkStatusUpdateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new BulkStatusUpdateRequest();
+        request.setTargetStatus(ApplicationStatus.REJECTED);
+        request.setRejectionReason("Position filled");
+    }
+
+    @Test
+    void bulkUpdateStatus_MixedSelection_ReportsOutcomePerApplication() {
+        // Given
+        request.setApplicationIds(List.of("app1", "app2", "app3", "missing"));
+        Application valid = application("app1", "employer123", ApplicationStatus.IN_REVIEW);
+        Application otherEmployer = application("app2", "otherEmployer", ApplicationStatus.APPLIED);
+        Application hired = application("app3", "employer123", ApplicationStatus.HIRED);
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(valid, otherEmployer, hired));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getMatchedCount()).thenReturn(1);
+
+        // When
+        BulkStatusUpdateResponse response = bulkStatusService.bulkUpdateStatus("employer123", request);
+
+        // Then
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkStatusUpdateResponse.ItemResult::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.FORBIDDEN, Outcome.INVALID_TRANSITION, Outcome.NOT_FOUND);
+
+        verify(bulkOperations, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(statusHistoryService).flushPending(argThat((Collection<String> ids) -> ids.size() == 1 && ids.contains("app1")));
+        verify(applicationTimerService).onStatusChanged(argThat(app -> "app1".equals(app.getId())
+                && app.getStatus() == ApplicationStatus.REJECTED));
+        verify(applicationTimerService, times(1)).onStatusChanged(any(Application.class));
+    }
+
+    @Test
+    void bulkUpdateStatus_ConcurrentChange_ReportsConflict() {
+        // Given
+        request.setJobId("job123");
+        request.setCurrentStatus(ApplicationStatus.APPLIED);
+        Application first = application("app1", "employer123", ApplicationStatus.APPLIED);
+        Application second = application("app2", "employer123", ApplicationStatus.APPLIED);
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(first));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getMatchedCount()).thenReturn(1);
+
+        // When
+        BulkStatusUpdateResponse response = bulkStatusService.bulkUpdateStatus("employer123", request);
+
+        // Then
+        assertThat(response.getResults()).extracting(BulkStatusUpdateResponse.ItemResult::getOutcome)
+                .containsExactly(Outcome.UPDATED, Outcome.CONFLICT);
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(Application.class));
+    }
+
+    @Test
+    void bulkUpdateStatus_LargeSelection_WritesInChunks() {
+        // Given
+        request.setJobId("job123");
+        request.setCurrentStatus(ApplicationStatus.APPLIED);
+        List<Application> applicants = IntStream.range(0, BulkStatusService.WRITE_CHUNK_SIZE + 1)
+                .mapToObj(i -> application("app" + i, "employer123", ApplicationStatus.APPLIED))
+                .toList();
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(applicants);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getMatchedCount()).thenReturn(BulkStatusService.WRITE_CHUNK_SIZE, 1);
+
+        // When
+        BulkStatusUpdateResponse response = bulkStatusService.bulkUpdateStatus("employer123", request);
+
+        // Then
+        assertThat(response.getUpdated()).isEqualTo(BulkStatusService.WRITE_CHUNK_SIZE + 1);
+        verify(bulkOperations, times(2)).execute();
+    }
+
+    @Test
+    void bulkUpdateStatus_FilterMatchesMoreThanCap_TransitionsCapAndReportsMore() {
+        // Given
+        request.setJobId("job123");
+        request.setCurrentStatus(ApplicationStatus.APPLIED);
+        List<Application> applicants = IntStream.range(0, BulkStatusService.MAX_FILTER_SELECTION + 1)
+                .mapToObj(i -> application("app" + i, "employer123", ApplicationStatus.APPLIED))
+                .toList();
+
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(applicants);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Application.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getMatchedCount()).thenReturn(BulkStatusService.WRITE_CHUNK_SIZE);
+
+        // When
+        BulkStatusUpdateResponse response = bulkStatusService.bulkUpdateStatus("employer123", request);
+
+        // Then
+        assertThat(response.getRequested()).isEqualTo(BulkStatusService.MAX_FILTER_SELECTION);
+        assertThat(response.isHasMore()).isTrue();
+        verify(mongoTemplate).find(argThat(query -> query.getLimit() == BulkStatusService.MAX_FILTER_SELECTION + 1),
+                eq(Application.class));
+    }
+
+    @Test
+    void bulkUpdateStatus_NoSelection_ThrowsException() {
+        assertThatThrownBy(() -> bulkStatusService.bulkUpdateStatus("employer123", request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("applicationIds");
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private Application application(String id, String employerId, ApplicationStatus status) {
+        Application application = new Application("candidate-" + id, "job123", employerId);
+        application.setId(id);
+        application.setStatus(status);
+        return application;
+    }
+}
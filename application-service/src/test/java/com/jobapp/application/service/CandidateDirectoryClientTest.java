@@ -0,0 +1,73 @@
+package com.jobapp.application.service;
+
+import com.jobapp.common.security.ServiceAuthFilter;
+import com.jobapp.common.security.ServiceRestTemplateAutoConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+/**
+ * Unit tests for CandidateDirectoryClient, through the RestTemplate the service is configured with
+ * Requirements: 4.1, 4.2
+ */
+class CandidateDirectoryClientTest {
+
+    private MockRestServiceServer server;
+    private CandidateDirectoryClient candidateDirectoryClient;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new ServiceRestTemplateAutoConfiguration()
+            .restTemplate(false, Duration.ofSeconds(5), Duration.ofSeconds(10), "internal-token");
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        candidateDirectoryClient = new CandidateDirectoryClient(restTemplate);
+    }
+
+    @Test
+    void getCandidates_SendsServiceTokenAndKeysProfilesById() {
+        // Given
+        server.expect(requestTo("http://user-service:8082/api/candidates/batch"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header(ServiceAuthFilter.HEADER, "internal-token"))
+            .andExpect(content().json("[\"candidate1\"]"))
+            .andRespond(withSuccess("[{\"id\":\"candidate1\",\"name\":\"Jane Doe\",\"email\":\"jane@example.com\"}]",
+                MediaType.APPLICATION_JSON));
+
+        // When
+        Map<String, Map<String, Object>> candidates = candidateDirectoryClient.getCandidates(List.of("candidate1"));
+
+        // Then
+        server.verify();
+        assertThat(candidates).containsOnlyKeys("candidate1");
+        assertThat(candidates.get("candidate1")).containsEntry("name", "Jane Doe");
+    }
+
+    @Test
+    void getCandidates_Rejected_Throws() {
+        server.expect(requestTo("http://user-service:8082/api/candidates/batch"))
+            .andRespond(withStatus(HttpStatus.FORBIDDEN));
+
+        assertThatThrownBy(() -> candidateDirectoryClient.getCandidates(List.of("candidate1")))
+            .isInstanceOf(HttpClientErrorException.Forbidden.class);
+    }
+
+    @Test
+    void getCandidates_NoCandidates_MakesNoCall() {
+        assertThat(candidateDirectoryClient.getCandidates(List.of())).isEmpty();
+
+        server.verify();
+    }
+}
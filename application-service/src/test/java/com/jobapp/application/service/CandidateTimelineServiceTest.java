@@ -0,0 +1,101 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.CandidateTimelineResponse;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CandidateTimelineService
+ * Requirements: 2.4
+ */
+@ExtendWith(MockitoExtension.class)
+class CandidateTimelineServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private CandidateTimelineService candidateTimelineService;
+
+    private final LocalDateTime appliedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Test
+    void getTimeline_MoreRowsThanPage_ReturnsCursorOfLastRow() {
+        // Given
+        List<Application> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(application(new ObjectId().toHexString(), appliedAt.minusDays(i)));
+        }
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(rows);
+
+        // When
+        CandidateTimelineResponse response = candidateTimelineService.getTimeline("candidate123", null, null, 2);
+
+        // Then
+        assertThat(response.getApplications()).hasSize(2);
+        assertThat(response.isHasMore()).isTrue();
+        long expectedMillis = appliedAt.minusDays(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertThat(response.getNextCursor()).isEqualTo(expectedMillis + ":" + rows.get(1).getId());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Application.class));
+        assertThat(query.getValue().getLimit()).isEqualTo(3);
+        assertThat(query.getValue().getHint()).isEqualTo(CandidateTimelineService.TIMELINE_INDEX);
+        assertThat(query.getValue().getFieldsObject()).doesNotContainKey("coverLetter");
+    }
+
+    @Test
+    void getTimeline_WithCursorAndStatus_FiltersAfterCursor() {
+        // Given
+        String lastId = new ObjectId().toHexString();
+        long millis = appliedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of());
+
+        // When
+        CandidateTimelineResponse response = candidateTimelineService.getTimeline("candidate123",
+                ApplicationStatus.APPLIED, millis + ":" + lastId, 20);
+
+        // Then
+        assertThat(response.getApplications()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Application.class));
+        assertThat(query.getValue().getQueryObject()).containsKeys("candidateId", "status", "$or");
+    }
+
+    @Test
+    void getTimeline_MalformedCursor_ThrowsException() {
+        assertThatThrownBy(() -> candidateTimelineService.getTimeline("candidate123", null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid timeline cursor");
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private Application application(String id, LocalDateTime appliedAt) {
+        Application application = new Application("candidate123", "job123", "employer123");
+        application.setId(id);
+        application.setAppliedAt(appliedAt);
+        return application;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobapp.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SkillMatchScorer
+ * Requirements: 4.1, 4.2
+ */
+class SkillMatchScorerTest {
+
+    private final SkillMatchScorer scorer = new SkillMatchScorer();
+
+    @Test
+    void score_AllRequirementsMet_Returns100() {
+        SkillMatchScorer.JobRequirements job = new SkillMatchScorer.JobRequirements(
+            List.of("Java", "Spring Boot"), List.of("Docker"), "MID_LEVEL");
+
+        assertThat(scorer.score(List.of("java", " spring  boot ", "docker"), 4, job)).isEqualTo(100);
+    }
+
+    @Test
+    void score_PartialMatch_WeighsRequiredSkillsMost() {
+        SkillMatchScorer.JobRequirements job = new SkillMatchScorer.JobRequirements(
+            List.of("Java", "Spring"), List.of("Docker"), "MID_LEVEL");
+
+        // Half the required skills, no preferred skills, experience within range
+        int score = scorer.score(List.of("Java"), 3, job);
+
+        assertThat(score).isEqualTo((int) Math.round(100 * (0.60 * 0.5 + 0.15)));
+        assertThat(scorer.score(List.of("Docker"), 3, job)).isLessThan(score);
+    }
+
+    @Test
+    void score_MissingComponents_RescalesWeights() {
+        SkillMatchScorer.JobRequirements job = new SkillMatchScorer.JobRequirements(List.of("Java"), null, null);
+
+        assertThat(scorer.score(List.of("Java"), null, job)).isEqualTo(100);
+        assertThat(scorer.score(null, null, new SkillMatchScorer.JobRequirements(null, null, null))).isEqualTo(100);
+    }
+
+    @Test
+    void score_ExperienceOutsideRange_LowersScore() {
+        SkillMatchScorer.JobRequirements job = new SkillMatchScorer.JobRequirements(null, null, "SENIOR");
+
+        assertThat(scorer.score(null, 6, job)).isEqualTo(100);
+        assertThat(scorer.score(null, 2, job)).isEqualTo(40);
+        assertThat(scorer.score(null, 10, job)).isEqualTo(80);
+        assertThat(scorer.score(null, 30, job)).isEqualTo(50);
+        assertThat(scorer.score(null, null, job)).isZero();
+    }
+}
@@ -0,0 +1,137 @@
+package com.jobapp.application.service;
+
+import com.jobapp.application.dto.StatusTimelineResponse;
+import com.jobapp.application.model.Application;
+import com.jobapp.application.model.ApplicationStatus;
+import com.jobapp.application.model.StatusChange;
+import com.jobapp.application.model.StatusHistoryBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for bucketed status history storage and timeline paging
+ * Requirements: 4.2, 4.3
+ */
+@DataMongoTest
+@Import(StatusHistoryService.class)
+@TestPropertySource(properties = {
+    "spring.data.mongodb.uri=mongodb://localhost:27017/jobapp_test"
+})
+class StatusHistoryServiceTest {
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(StatusHistoryBucket.class);
+        mongoTemplate.dropCollection(Application.class);
+    }
+
+    @Test
+    @DisplayName("Should open a new bucket once the current one is full")
+    void testAppendRollsOverToNewBucket() {
+        // When
+        for (int i = 0; i < StatusHistoryBucket.BUCKET_SIZE + 5; i++) {
+            statusHistoryService.append("app1", List.of(change(i)));
+        }
+
+        // Then
+        List<StatusHistoryBucket> buckets = mongoTemplate.findAll(StatusHistoryBucket.class);
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets).extracting(StatusHistoryBucket::getCount)
+                .containsExactlyInAnyOrder(StatusHistoryBucket.BUCKET_SIZE, 5);
+    }
+
+    @Test
+    @DisplayName("Should move pending changes into the history once, even if a previous flush already appended some")
+    void testFlushPendingSkipsChangesAlreadyAppended() {
+        // Given
+        StatusChange appended = change(0);
+        StatusChange pending = change(1);
+        statusHistoryService.append("app1", List.of(appended));
+
+        Application application = new Application("candidate1", "job1", "employer1");
+        application.setId("app1");
+        application.addStatusChange(appended);
+        application.addStatusChange(pending);
+        mongoTemplate.insert(application);
+
+        // When
+        int flushed = statusHistoryService.flushPending(List.of("app1"));
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(statusHistoryService.getTimeline("app1", null, 20).getEntries())
+                .extracting(StatusChange::getReason)
+                .containsExactly("change-1", "change-0");
+        assertThat(mongoTemplate.findById("app1", Application.class).getStatusHistory()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page the timeline newest first across bucket boundaries")
+    void testTimelinePagingAcrossBuckets() {
+        // Given
+        int total = StatusHistoryBucket.BUCKET_SIZE + 15;
+        for (int i = 0; i < total; i++) {
+            statusHistoryService.append("app1", List.of(change(i)));
+        }
+        statusHistoryService.append("app2", List.of(change(0)));
+
+        // When
+        List<String> reasons = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            StatusTimelineResponse page = statusHistoryService.getTimeline("app1", cursor, 20);
+            page.getEntries().forEach(entry -> reasons.add(entry.getReason()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(4);
+        assertThat(reasons).hasSize(total);
+        assertThat(reasons.get(0)).isEqualTo("change-" + (total - 1));
+        assertThat(reasons.get(total - 1)).isEqualTo("change-0");
+    }
+
+    @Test
+    @DisplayName("Should return an empty last page for an application without history")
+    void testTimelineWithoutHistory() {
+        // When
+        StatusTimelineResponse page = statusHistoryService.getTimeline("unknown", null, 20);
+
+        // Then
+        assertThat(page.getEntries()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void testTimelineRejectsInvalidCursor() {
+        assertThatThrownBy(() -> statusHistoryService.getTimeline("app1", "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private StatusChange change(int sequence) {
+        return new StatusChange(ApplicationStatus.APPLIED, ApplicationStatus.IN_REVIEW, "employer1",
+                "change-" + sequence, LocalDateTime.now().plusSeconds(sequence));
+    }
+}
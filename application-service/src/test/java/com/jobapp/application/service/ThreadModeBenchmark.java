@@ -0,0 +1,197 @@
+package com.jobapp.application.service;
+
+import com.jobapp.common.security.ServiceRestTemplateAutoConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Throughput and latency of the platform-thread and the virtual-thread execution mode for requests that,
+ * like application enrichment, spend their time blocked on calls to other services.
+ * Each request to an embedded Tomcat makes {@code benchmark.fan-out} sequential calls through the shared
+ * RestTemplate to a stub service that answers after {@code benchmark.latency-ms}. In the platform mode
+ * Tomcat runs on its default pool of 200 threads and the RestTemplate on HttpURLConnection; in the virtual
+ * mode both run on virtual threads as with spring.threads.virtual.enabled. The virtual mode needs a Java 21
+ * runtime and is skipped on older ones.
+ * Not part of the unit test run (the class name does not match the surefire includes); run it with
+ * {@code mvn -pl application-service test -Dtest=ThreadModeBenchmark [-Dbenchmark.concurrency=400]
+ * [-Dbenchmark.seconds=10]}.
+ * Requirements: 4.1, 4.2
+ */
+class ThreadModeBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int FAN_OUT = Integer.getInteger("benchmark.fan-out", 2);
+    private static final long LATENCY_MS = Long.getLong("benchmark.latency-ms", 50);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmup", 3));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer downstream;
+    private ExecutorService downstreamThreads;
+    private String downstreamUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] body = "{\"id\":\"job1\",\"title\":\"Java Developer\"}".getBytes(StandardCharsets.UTF_8);
+        downstreamThreads = Executors.newCachedThreadPool();
+        downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 1000);
+        downstream.setExecutor(downstreamThreads);
+        downstream.createContext("/api/jobs", exchange -> {
+            try {
+                Thread.sleep(LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        downstream.start();
+        downstreamUrl = "http://localhost:" + downstream.getAddress().getPort() + "/api/jobs/job1";
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstream.stop(0);
+        downstreamThreads.shutdownNow();
+    }
+
+    @Test
+    void compareModes() throws Exception {
+        System.out.printf("%nBlocking fan-out, Java %d, %d clients, %d x %d ms downstream calls, %ds per run%n",
+            Runtime.version().feature(), CONCURRENCY, FAN_OUT, LATENCY_MS, MEASUREMENT.toSeconds());
+        System.out.printf("%-10s %12s %10s %10s %10s%n", "mode", "requests/s", "p50 (ms)", "p99 (ms)", "errors");
+        report("platform", false);
+        if (Runtime.version().feature() >= 21) {
+            report("virtual", true);
+        } else {
+            System.out.printf("%-10s skipped, virtual threads need Java 21%n", "virtual");
+        }
+    }
+
+    private void report(String mode, boolean virtualThreads) throws Exception {
+        Tomcat tomcat = startService(mode, virtualThreads);
+        try {
+            URI uri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + "/enrich");
+            run(uri, WARMUP);
+            Result result = run(uri, MEASUREMENT);
+            long[] latencies = result.latencies();
+            Arrays.sort(latencies);
+            System.out.printf("%-10s %12.0f %10.2f %10.2f %10d%n", mode,
+                latencies.length / (double) MEASUREMENT.toSeconds(),
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, result.errors());
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private Tomcat startService(String mode, boolean virtualThreads) throws Exception {
+        RestTemplate restTemplate = new ServiceRestTemplateAutoConfiguration()
+            .restTemplate(virtualThreads, Duration.ofSeconds(5), Duration.ofSeconds(10), "");
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(tempDir.resolve(mode).toString());
+        tomcat.setPort(0);
+        if (virtualThreads) {
+            tomcat.getConnector().getProtocolHandler().setExecutor(new VirtualThreadTaskExecutor("tomcat-handler-"));
+        }
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "enrich", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                for (int i = 0; i < FAN_OUT; i++) {
+                    restTemplate.getForObject(downstreamUrl, String.class);
+                }
+                response.setContentType("application/json");
+                response.getWriter().write("{}");
+            }
+        });
+        context.addServletMappingDecoded("/enrich", "enrich");
+        tomcat.start();
+        return tomcat;
+    }
+
+    private Result run(URI uri, Duration duration) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newFixedThreadPool(4))
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                int errors = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            errors++;
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        errors++;
+                        continue;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return new Result(Arrays.copyOf(latencies, count), errors);
+            }));
+        }
+        long[] all = new long[0];
+        int errors = 0;
+        for (Future<Result> future : futures) {
+            Result result = future.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + result.latencies().length);
+            System.arraycopy(result.latencies(), 0, all, offset, result.latencies().length);
+            errors += result.errors();
+        }
+        clients.shutdown();
+        return new Result(all, errors);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private record Result(long[] latencies, int errors) {}
+}
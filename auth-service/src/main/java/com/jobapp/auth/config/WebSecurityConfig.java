@@ -3,7 +3,9 @@ package com.jobapp.auth.config;
 import com.jobapp.auth.security.JwtAuthenticationEntryPoint;
 import com.jobapp.auth.security.JwtRequestFilter;
 import com.jobapp.auth.service.UserDetailsServiceImpl;
+import com.jobapp.common.security.ServiceAuthFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -31,6 +33,9 @@ public class WebSecurityConfig {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Value("${service-auth.token:}")
+    private String serviceAuthToken;
+
     @Bean
     public JwtRequestFilter authenticationJwtTokenFilter() {
         return new JwtRequestFilter();
@@ -63,6 +68,8 @@ public class WebSecurityConfig {
                         .requestMatchers("/api-docs/**").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
+                        // Request metrics are only scraped by user-service, with the service token
+                        .requestMatchers("/actuator/requestmetrics").hasRole("SERVICE")
                         .requestMatchers("/actuator/**").permitAll()
                         // Admin only endpoints
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -79,6 +86,7 @@ public class WebSecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new ServiceAuthFilter(serviceAuthToken), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
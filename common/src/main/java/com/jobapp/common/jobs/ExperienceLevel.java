@@ -1,7 +1,8 @@
-package com.jobapp.job.model;
+package com.jobapp.common.jobs;
 
 /**
- * Enumeration for experience levels
+ * Enumeration for the experience levels of jobs; application-service scores candidates against the same
+ * year ranges
  * Requirements: 2.1, 2.2
  */
 public enum ExperienceLevel {
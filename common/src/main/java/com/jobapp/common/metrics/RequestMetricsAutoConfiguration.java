@@ -0,0 +1,28 @@
+package com.jobapp.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the request metrics filter and its actuator endpoint in every servlet-based service
+ * Requirements: 5.4
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestMetricsAutoConfiguration {
+
+    @Bean
+    public RequestMetricsFilter requestMetricsFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                                     @Value("${spring.application.name}") String service) {
+        return new RequestMetricsFilter(meterRegistry, service);
+    }
+
+    @Bean
+    public RequestMetricsEndpoint requestMetricsEndpoint(RequestMetricsFilter requestMetricsFilter) {
+        return new RequestMetricsEndpoint(requestMetricsFilter);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobapp.common.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/requestmetrics}) serving the cumulative request totals of this
+ * process, scraped by user-service for the admin system report. Reading it changes nothing, and the
+ * services only serve it to authenticated callers.
+ * Requirements: 5.4
+ */
+@Endpoint(id = "requestmetrics")
+public class RequestMetricsEndpoint {
+
+    private final RequestMetricsFilter requestMetricsFilter;
+
+    public RequestMetricsEndpoint(RequestMetricsFilter requestMetricsFilter) {
+        this.requestMetricsFilter = requestMetricsFilter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> requestMetrics() {
+        return requestMetricsFilter.snapshot();
+    }
+}
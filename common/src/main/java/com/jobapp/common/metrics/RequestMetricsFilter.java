@@ -0,0 +1,214 @@
+package com.jobapp.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request metrics shared by all services.
+ * Every API request is timed into the {@code http.server.endpoint.requests} timer, tagged by method,
+ * route pattern and outcome, and in-flight requests are published as {@code http.server.endpoint.active}.
+ * The filter also keeps process-lifetime cumulative totals (requests, server errors, latency histogram,
+ * per-endpoint counts) and the peak concurrency of each recent one-minute window, exposed through the
+ * {@code requestmetrics} actuator endpoint for the admin system report. Micrometer's own histograms
+ * are time-windowed, so they cannot be differenced between scrapes. Peaks are kept per fixed window
+ * rather than since the last read, so any number of readers see the same values and the peaks of
+ * several instances can be added up window by window.
+ * Registered in every service by {@link RequestMetricsAutoConfiguration}.
+ * Requirements: 5.4
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String TIMER = "http.server.endpoint.requests";
+
+    /** Upper bounds of the latency histogram buckets; slower requests only count towards the total */
+    static final long[] LATENCY_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /** Length of a peak concurrency window, aligned to the epoch */
+    static final int PEAK_WINDOW_SECONDS = 60;
+
+    /** Windows kept for the scraper; an hour covers a scrape interval with plenty of missed scrapes */
+    static final int PEAK_WINDOWS = 60;
+
+    private final MeterRegistry meterRegistry;
+    private final String service;
+    private final String instance = UUID.randomUUID().toString();
+    private final Duration[] serviceLevelObjectives;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalTimeMicros = new LongAdder();
+    private final LongAdder[] latencyCounts = new LongAdder[LATENCY_BOUNDS_MS.length];
+    private final Map<String, LongAdder> endpointCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** One slot per retained window: the window number in the high and its peak in the low 32 bits */
+    private final AtomicLongArray peakWindows = new AtomicLongArray(PEAK_WINDOWS);
+
+    public RequestMetricsFilter(ObjectProvider<MeterRegistry> meterRegistry, String service) {
+        // Web test slices run without metrics auto-configuration
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.service = service;
+        this.serviceLevelObjectives = new Duration[LATENCY_BOUNDS_MS.length];
+        for (int i = 0; i < LATENCY_BOUNDS_MS.length; i++) {
+            latencyCounts[i] = new LongAdder();
+            serviceLevelObjectives[i] = Duration.ofMillis(LATENCY_BOUNDS_MS[i]);
+        }
+        Gauge.builder("http.server.endpoint.active", inFlight, AtomicInteger::get)
+            .description("API requests currently in flight")
+            .register(this.meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        recordPeak(inFlight.incrementAndGet());
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            record(request, response.getStatus(), failed, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Cumulative totals of this process and its recent peak concurrency; reading has no side effects
+     * @return the snapshot served by the requestmetrics actuator endpoint
+     */
+    public Map<String, Object> snapshot() {
+        List<Long> bounds = new ArrayList<>(LATENCY_BOUNDS_MS.length);
+        List<Long> counts = new ArrayList<>(LATENCY_BOUNDS_MS.length);
+        for (int i = 0; i < LATENCY_BOUNDS_MS.length; i++) {
+            bounds.add(LATENCY_BOUNDS_MS[i]);
+            counts.add(latencyCounts[i].sum());
+        }
+        Map<String, Long> endpoints = new LinkedHashMap<>();
+        endpointCounts.forEach((endpoint, count) -> endpoints.put(endpoint, count.sum()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("service", service);
+        snapshot.put("instance", instance);
+        snapshot.put("requests", requests.sum());
+        snapshot.put("errors", errors.sum());
+        snapshot.put("totalTimeMs", totalTimeMicros.sum() / 1000.0);
+        snapshot.put("latencyBoundsMs", bounds);
+        snapshot.put("latencyCounts", counts);
+        snapshot.put("inFlight", inFlight.get());
+        snapshot.put("peaks", peaks());
+        snapshot.put("endpoints", endpoints);
+        return snapshot;
+    }
+
+    /**
+     * Peak concurrency of the retained windows that saw any requests
+     * @return peak per window, keyed by the window start in epoch seconds, oldest first
+     */
+    Map<Long, Integer> peaks() {
+        long currentWindow = currentWindow();
+        Map<Long, Integer> peaks = new TreeMap<>();
+        for (int slot = 0; slot < PEAK_WINDOWS; slot++) {
+            long packed = peakWindows.get(slot);
+            long window = packed >>> 32;
+            if (packed != 0 && window > currentWindow - PEAK_WINDOWS) {
+                peaks.put(window * PEAK_WINDOW_SECONDS, (int) packed);
+            }
+        }
+        // Requests still running since an earlier window count towards the current one
+        int running = inFlight.get();
+        if (running > 0) {
+            peaks.merge(currentWindow * PEAK_WINDOW_SECONDS, running, Math::max);
+        }
+        return peaks;
+    }
+
+    private void recordPeak(int level) {
+        long window = currentWindow();
+        int slot = (int) (window % PEAK_WINDOWS);
+        long current;
+        long updated;
+        do {
+            current = peakWindows.get(slot);
+            // A slot still holding an older window starts over at this level
+            int peak = current >>> 32 == window ? Math.max((int) current, level) : level;
+            updated = window << 32 | peak;
+        } while (current != updated && !peakWindows.compareAndSet(slot, current, updated));
+    }
+
+    private static long currentWindow() {
+        return System.currentTimeMillis() / 1000 / PEAK_WINDOW_SECONDS;
+    }
+
+    private void record(HttpServletRequest request, int status, boolean failed, long elapsedNanos) {
+        boolean serverError = failed || status >= 500;
+        String uri = routeOf(request, status);
+
+        Timer.builder(TIMER)
+            .description("API request latency by endpoint")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .tag("outcome", serverError ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS")
+            .serviceLevelObjectives(serviceLevelObjectives)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        requests.increment();
+        if (serverError) {
+            errors.increment();
+        }
+        totalTimeMicros.add(elapsedNanos / 1000);
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        for (int i = 0; i < LATENCY_BOUNDS_MS.length; i++) {
+            if (elapsedMillis <= LATENCY_BOUNDS_MS[i]) {
+                // Counts are cumulative: a request belongs to every bucket whose bound it is under
+                for (int j = i; j < LATENCY_BOUNDS_MS.length; j++) {
+                    latencyCounts[j].increment();
+                }
+                break;
+            }
+        }
+        endpointCounts.computeIfAbsent(request.getMethod() + " " + uri, key -> new LongAdder()).increment();
+    }
+
+    private static String routeOf(HttpServletRequest request, int status) {
+        // Route patterns keep the endpoint set bounded; unmatched paths are not recorded one by one
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return status == 404 ? "NOT_FOUND" : "UNKNOWN";
+    }
+}
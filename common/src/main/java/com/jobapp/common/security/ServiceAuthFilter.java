@@ -0,0 +1,47 @@
+package com.jobapp.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates calls made by the other platform services.
+ * A request carrying the shared service token ({@code service-auth.token}) in the {@value #HEADER}
+ * header is authenticated with ROLE_SERVICE, which the internal endpoints require. Without a
+ * configured token no request is authenticated this way.
+ * Requirements: 6.1, 6.2
+ */
+public class ServiceAuthFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Service-Token";
+    public static final String ROLE = "ROLE_SERVICE";
+
+    private final byte[] token;
+
+    public ServiceAuthFilter(String token) {
+        this.token = token != null ? token.trim().getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String presented = request.getHeader(HEADER);
+        if (token.length > 0 && presented != null
+                && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "service", null, List.of(new SimpleGrantedAuthority(ROLE))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
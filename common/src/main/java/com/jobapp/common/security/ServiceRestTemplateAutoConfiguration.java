@@ -0,0 +1,64 @@
+package com.jobapp.common.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * The RestTemplate every service uses for calls to the other platform services.
+ * In the virtual-thread execution mode on a Java 21 runtime calls go through the JDK HttpClient running
+ * on virtual threads, which blocks without pinning its carrier thread, instead of HttpURLConnection.
+ * Connect and read timeouts come from {@code rest-client.connect-timeout} and
+ * {@code rest-client.read-timeout}, and every call carries the shared service token in the
+ * {@value ServiceAuthFilter#HEADER} header so internal endpoints of the other services accept it.
+ * Requirements: 2.3, 2.5, 4.1, 4.2
+ */
+@AutoConfiguration
+@ConditionalOnClass(RestTemplate.class)
+public class ServiceRestTemplateAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RestTemplate restTemplate(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${rest-client.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${rest-client.read-timeout:PT10S}") Duration readTimeout,
+            @Value("${service-auth.token:}") String serviceAuthToken) {
+        RestTemplate restTemplate = new RestTemplate(
+            requestFactory(virtualThreadsEnabled, connectTimeout, readTimeout));
+        if (serviceAuthToken != null && !serviceAuthToken.isBlank()) {
+            String token = serviceAuthToken.trim();
+            restTemplate.getInterceptors().add((request, body, execution) -> {
+                request.getHeaders().set(ServiceAuthFilter.HEADER, token);
+                return execution.execute(request, body);
+            });
+        }
+        return restTemplate;
+    }
+
+    private static ClientHttpRequestFactory requestFactory(boolean virtualThreadsEnabled,
+                                                           Duration connectTimeout, Duration readTimeout) {
+        if (virtualThreadsEnabled && Runtime.version().feature() >= 21) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .executor(new VirtualThreadTaskExecutor("http-client-"))
+                .connectTimeout(connectTimeout)
+                .build();
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(readTimeout);
+            return requestFactory;
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+}
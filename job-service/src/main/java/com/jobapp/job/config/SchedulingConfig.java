@@ -0,0 +1,13 @@
+package com.jobapp.job.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background tasks such as the employer snapshot resync
+ * Requirements: 2.2, 7.4
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
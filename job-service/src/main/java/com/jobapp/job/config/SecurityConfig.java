@@ -1,5 +1,7 @@
 package com.jobapp.job.config;
 
+import com.jobapp.common.security.ServiceAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -18,6 +20,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
     
+    @Value("${service-auth.token:}")
+    private String serviceAuthToken;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
@@ -35,15 +40,21 @@ public class SecurityConfig {
                 .requestMatchers("/api/jobs/company/{employerId}/profile").permitAll() // Public company profile
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                // Request metrics are only scraped by user-service, with the service token
+                .requestMatchers("/actuator/requestmetrics").hasRole("SERVICE")
                 // Protected endpoints
                 .requestMatchers("/api/jobs/employer/**").hasRole("EMPLOYER")
                 .requestMatchers("/api/jobs").hasRole("EMPLOYER")
                 .requestMatchers("/api/jobs/{id}/activate").hasRole("EMPLOYER")
                 .requestMatchers("/api/jobs/{id}/deactivate").hasRole("EMPLOYER")
                 .requestMatchers("/api/jobs/expired").hasRole("ADMIN")
+                .requestMatchers("/api/jobs/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
         
+        // Calls from the other services carry the shared service token
+        http.addFilterBefore(new ServiceAuthFilter(serviceAuthToken), UsernamePasswordAuthenticationFilter.class);
+        
         // Add JWT authentication filter here when implemented
         // http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
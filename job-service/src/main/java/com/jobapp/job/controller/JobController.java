@@ -2,8 +2,10 @@ package com.jobapp.job.controller;
 
 import com.jobapp.job.dto.*;
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
+import com.jobapp.job.service.EmployerSnapshotService;
 import com.jobapp.job.service.JobService;
+import com.jobapp.job.service.PlatformStatisticsService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 
+import java.util.List;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,10 +41,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class JobController {
     
     private final JobService jobService;
+    private final PlatformStatisticsService platformStatisticsService;
+    private final EmployerSnapshotService employerSnapshotService;
     
     @Autowired
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, PlatformStatisticsService platformStatisticsService,
+                         EmployerSnapshotService employerSnapshotService) {
         this.jobService = jobService;
+        this.platformStatisticsService = platformStatisticsService;
+        this.employerSnapshotService = employerSnapshotService;
     }
     
     /**
@@ -286,6 +295,23 @@ public class JobController {
         return ResponseEntity.ok(statistics);
     }
     
+    /**
+     * Get platform-wide job statistics for the admin dashboard
+     */
+    @GetMapping("/admin/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get platform job statistics", description = "Get platform-wide job counts, breakdowns and the daily posting trend")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required")
+    })
+    public ResponseEntity<PlatformJobStatisticsResponse> getPlatformStatistics(
+            @Parameter(description = "Days covered by the posting trend") @RequestParam(defaultValue = "30") int days) {
+        
+        return ResponseEntity.ok(platformStatisticsService.getPlatformStatistics(days));
+    }
+    
     /**
      * Search jobs with filters and full-text search (public endpoint)
      */
@@ -498,6 +524,47 @@ public class JobController {
         return ResponseEntity.ok(companyProfile);
     }
     
+    /**
+     * Receive changed company information of an employer (called by user-service)
+     */
+    @PutMapping("/company/{employerId}/snapshot")
+    @PreAuthorize("hasRole('SERVICE')")
+    @Operation(summary = "Update company snapshot", description = "Store the company information user-service sent after an employer changed; older versions are ignored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Company information stored"),
+        @ApiResponse(responseCode = "400", description = "Invalid company information"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - service token required")
+    })
+    public ResponseEntity<Void> updateCompanySnapshot(
+            @Parameter(description = "Employer/Company ID") @PathVariable String employerId,
+            @Valid @RequestBody EmployerSnapshotRequest request) {
+        
+        employerSnapshotService.apply(employerId, request);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Receive changed company information of a batch of employers (called by user-service)
+     */
+    @PutMapping("/companies/snapshots")
+    @PreAuthorize("hasRole('SERVICE')")
+    @Operation(summary = "Update company snapshots", description = "Store the company information user-service sent after a bulk change of employers; older versions are ignored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Company information stored"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - service token required")
+    })
+    public ResponseEntity<Void> updateCompanySnapshots(@RequestBody List<EmployerSnapshotRequest> requests) {
+        
+        for (EmployerSnapshotRequest request : requests) {
+            if (request.getId() != null && request.getUpdatedAt() != null) {
+                employerSnapshotService.apply(request.getId(), request);
+            }
+        }
+        
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Clean up expired jobs (admin endpoint)
      */
@@ -0,0 +1,110 @@
+package com.jobapp.job.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an employer's company information as sent by user-service, both in change events and in
+ * bulk resync responses. updatedAt is the employer's update time and orders the versions.
+ * Requirements: 2.2, 7.4
+ */
+public class EmployerSnapshotRequest {
+    
+    private String id;
+    private String companyName;
+    private String description;
+    private String website;
+    private String logoUrl;
+    private String address;
+    private Boolean isApproved;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    
+    @NotNull(message = "Update time is required")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public EmployerSnapshotRequest() {}
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getCompanyName() {
+        return companyName;
+    }
+    
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getWebsite() {
+        return website;
+    }
+    
+    public void setWebsite(String website) {
+        this.website = website;
+    }
+    
+    public String getLogoUrl() {
+        return logoUrl;
+    }
+    
+    public void setLogoUrl(String logoUrl) {
+        this.logoUrl = logoUrl;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public Boolean getIsApproved() {
+        return isApproved;
+    }
+    
+    public void setIsApproved(Boolean isApproved) {
+        this.isApproved = isApproved;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobapp.job.dto;
+
+import java.util.Map;
+
+/**
+ * DTO for platform-wide job statistics, consumed by the admin dashboard in user-service
+ * Requirements: 5.4
+ */
+public class PlatformJobStatisticsResponse {
+    
+    private long totalJobs;
+    private long activeJobs;
+    private long inactiveJobs;
+    private long jobsThisMonth;
+    private Map<String, Long> jobsByType;
+    private Map<String, Long> jobsByLocation;
+    private Map<String, Long> postingsByDay;
+    
+    // Constructors
+    public PlatformJobStatisticsResponse() {}
+    
+    // Getters and Setters
+    public long getTotalJobs() {
+        return totalJobs;
+    }
+    
+    public void setTotalJobs(long totalJobs) {
+        this.totalJobs = totalJobs;
+    }
+    
+    public long getActiveJobs() {
+        return activeJobs;
+    }
+    
+    public void setActiveJobs(long activeJobs) {
+        this.activeJobs = activeJobs;
+    }
+    
+    public long getInactiveJobs() {
+        return inactiveJobs;
+    }
+    
+    public void setInactiveJobs(long inactiveJobs) {
+        this.inactiveJobs = inactiveJobs;
+    }
+    
+    public long getJobsThisMonth() {
+        return jobsThisMonth;
+    }
+    
+    public void setJobsThisMonth(long jobsThisMonth) {
+        this.jobsThisMonth = jobsThisMonth;
+    }
+    
+    public Map<String, Long> getJobsByType() {
+        return jobsByType;
+    }
+    
+    public void setJobsByType(Map<String, Long> jobsByType) {
+        this.jobsByType = jobsByType;
+    }
+    
+    public Map<String, Long> getJobsByLocation() {
+        return jobsByLocation;
+    }
+    
+    public void setJobsByLocation(Map<String, Long> jobsByLocation) {
+        this.jobsByLocation = jobsByLocation;
+    }
+    
+    public Map<String, Long> getPostingsByDay() {
+        return postingsByDay;
+    }
+    
+    public void setPostingsByDay(Map<String, Long> postingsByDay) {
+        this.postingsByDay = postingsByDay;
+    }
+}
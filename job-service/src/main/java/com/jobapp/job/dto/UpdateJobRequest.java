@@ -1,7 +1,7 @@
 package com.jobapp.job.dto;
 
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
 import com.jobapp.job.model.SalaryRange;
 
 import jakarta.validation.constraints.Size;
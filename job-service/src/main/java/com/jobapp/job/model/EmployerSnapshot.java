@@ -0,0 +1,139 @@
+package com.jobapp.job.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of an employer's public company information, owned by user-service.
+ * The ID is the employer ID. sourceUpdatedAt is the employer's update time in user-service and
+ * orders the versions; syncedAt is when this copy was last confirmed against user-service.
+ * Requirements: 2.2, 7.4
+ */
+@Document(collection = "employer_snapshots")
+public class EmployerSnapshot {
+    
+    @Id
+    private String id;
+    
+    @Field("company_name")
+    private String companyName;
+    
+    private String description;
+    
+    private String website;
+    
+    @Field("logo_url")
+    private String logoUrl;
+    
+    private String address;
+    
+    @Field("is_approved")
+    private Boolean isApproved;
+    
+    @Field("is_active")
+    private Boolean isActive;
+    
+    @Field("created_at")
+    private LocalDateTime createdAt;
+    
+    @Field("source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+    
+    @Field("synced_at")
+    private LocalDateTime syncedAt;
+    
+    // Constructors
+    public EmployerSnapshot() {}
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getCompanyName() {
+        return companyName;
+    }
+    
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getWebsite() {
+        return website;
+    }
+    
+    public void setWebsite(String website) {
+        this.website = website;
+    }
+    
+    public String getLogoUrl() {
+        return logoUrl;
+    }
+    
+    public void setLogoUrl(String logoUrl) {
+        this.logoUrl = logoUrl;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public Boolean getIsApproved() {
+        return isApproved;
+    }
+    
+    public void setIsApproved(Boolean isApproved) {
+        this.isApproved = isApproved;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getSourceUpdatedAt() {
+        return sourceUpdatedAt;
+    }
+    
+    public void setSourceUpdatedAt(LocalDateTime sourceUpdatedAt) {
+        this.sourceUpdatedAt = sourceUpdatedAt;
+    }
+    
+    public LocalDateTime getSyncedAt() {
+        return syncedAt;
+    }
+    
+    public void setSyncedAt(LocalDateTime syncedAt) {
+        this.syncedAt = syncedAt;
+    }
+}
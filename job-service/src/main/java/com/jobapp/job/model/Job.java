@@ -1,5 +1,7 @@
 package com.jobapp.job.model;
 
+import com.jobapp.common.jobs.ExperienceLevel;
+
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.TextIndexed;
@@ -2,7 +2,7 @@ package com.jobapp.job.repository;
 
 import com.jobapp.job.model.Job;
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
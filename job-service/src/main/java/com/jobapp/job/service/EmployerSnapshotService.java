@@ -0,0 +1,166 @@
+package com.jobapp.job.service;
+
+import com.jobapp.job.dto.EmployerSnapshotRequest;
+import com.jobapp.job.model.EmployerSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Keeps the local {@code employer_snapshots} copy of the company information user-service owns, so
+ * job details and company profiles render without a remote call.
+ * user-service pushes a snapshot whenever an employer changes; a snapshot older than the one stored is
+ * ignored. A read that finds no snapshot, or one not confirmed within the maximum age (an event may
+ * have been lost), queues the employer, and a background task fetches the queued employers from
+ * user-service in bulk. Company profiles are public, so the queue is capped and employers user-service
+ * does not know are remembered for a while instead of being asked for on every read.
+ * Requirements: 2.2, 7.4
+ */
+@Service
+public class EmployerSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployerSnapshotService.class);
+
+    // External service URL (should be configured via properties)
+    private static final String USER_SERVICE_URL = "http://user-service:8082";
+    private static final int RESYNC_BATCH = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final RestTemplate restTemplate;
+    private final Duration maxAge;
+    private final int maxPending;
+    private final Duration unknownTtl;
+    private final Set<String> pendingResync = ConcurrentHashMap.newKeySet();
+    // Employers user-service did not return, with the time until which they are not queued again
+    private final Map<String, LocalDateTime> unknownEmployers = new ConcurrentHashMap<>();
+
+    public EmployerSnapshotService(MongoTemplate mongoTemplate,
+                                   RestTemplate restTemplate,
+                                   @Value("${employer-snapshot.max-age:PT1H}") Duration maxAge,
+                                   @Value("${employer-snapshot.max-pending:10000}") int maxPending,
+                                   @Value("${employer-snapshot.unknown-ttl:PT1H}") Duration unknownTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.restTemplate = restTemplate;
+        this.maxAge = maxAge;
+        this.maxPending = maxPending;
+        this.unknownTtl = unknownTtl;
+    }
+
+    /**
+     * Get the stored company information of an employer without calling user-service.
+     * A missing or stale snapshot is queued for resync; a stale one is still returned.
+     * @param employerId the employer ID
+     * @return the snapshot, if one is stored
+     */
+    public Optional<EmployerSnapshot> find(String employerId) {
+        EmployerSnapshot snapshot = mongoTemplate.findById(employerId, EmployerSnapshot.class);
+        if (snapshot == null || snapshot.getSyncedAt() == null
+                || snapshot.getSyncedAt().isBefore(LocalDateTime.now().minus(maxAge))) {
+            queueResync(employerId);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Store the company information of an employer unless a newer version is already stored
+     * @param employerId the employer ID
+     * @param change the company information sent by user-service
+     */
+    public void apply(String employerId, EmployerSnapshotRequest change) {
+        Update update = new Update().set("companyName", change.getCompanyName())
+            .set("description", change.getDescription())
+            .set("website", change.getWebsite())
+            .set("logoUrl", change.getLogoUrl())
+            .set("address", change.getAddress())
+            .set("isApproved", change.getIsApproved())
+            .set("isActive", change.getIsActive())
+            .set("createdAt", change.getCreatedAt())
+            .set("sourceUpdatedAt", change.getUpdatedAt())
+            .set("syncedAt", LocalDateTime.now());
+        try {
+            // Matches only if no newer version is stored; otherwise the upsert collides on the ID
+            mongoTemplate.upsert(Query.query(where("id").is(employerId).and("sourceUpdatedAt").lte(change.getUpdatedAt())),
+                update, EmployerSnapshot.class);
+        } catch (DuplicateKeyException e) {
+            logger.debug("Skipping stale company information of employer {}", employerId);
+        }
+        pendingResync.remove(employerId);
+        unknownEmployers.remove(employerId);
+    }
+
+    /**
+     * Fetch the queued employers from user-service in batches and store their company information
+     */
+    @Scheduled(fixedDelayString = "${employer-snapshot.resync-interval-ms:5000}")
+    public void resyncPending() {
+        LocalDateTime now = LocalDateTime.now();
+        unknownEmployers.values().removeIf(until -> !until.isAfter(now));
+
+        List<String> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            EmployerSnapshotRequest[] snapshots;
+            try {
+                snapshots = restTemplate.getForObject(USER_SERVICE_URL + "/api/employers/snapshots?ids={ids}",
+                    EmployerSnapshotRequest[].class, String.join(",", batch));
+            } catch (Exception e) {
+                // user-service unavailable; the stored snapshots keep being served and the next run tries again
+                logger.warn("Failed to resync company information of {} employers: {}", batch.size(), e.getMessage());
+                pendingResync.addAll(batch);
+                return;
+            }
+            Set<String> found = new HashSet<>();
+            if (snapshots != null) {
+                for (EmployerSnapshotRequest snapshot : snapshots) {
+                    apply(snapshot.getId(), snapshot);
+                    found.add(snapshot.getId());
+                }
+            }
+            for (String employerId : batch) {
+                if (!found.contains(employerId) && unknownEmployers.size() < maxPending) {
+                    unknownEmployers.put(employerId, now.plus(unknownTtl));
+                }
+            }
+        }
+    }
+
+    private void queueResync(String employerId) {
+        LocalDateTime unknownUntil = unknownEmployers.get(employerId);
+        if (unknownUntil != null && unknownUntil.isAfter(LocalDateTime.now())) {
+            return;
+        }
+        // A full queue drops the request; the employer is queued again on a later read
+        if (pendingResync.size() < maxPending) {
+            pendingResync.add(employerId);
+        }
+    }
+
+    private List<String> nextBatch() {
+        List<String> batch = new ArrayList<>(RESYNC_BATCH);
+        Iterator<String> pending = pendingResync.iterator();
+        while (pending.hasNext() && batch.size() < RESYNC_BATCH) {
+            batch.add(pending.next());
+            pending.remove();
+        }
+        return batch;
+    }
+}
@@ -5,7 +5,7 @@ import com.jobapp.job.exception.ResourceNotFoundException;
 import com.jobapp.job.exception.UnauthorizedException;
 import com.jobapp.job.model.Job;
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
 import com.jobapp.job.repository.JobRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,10 +35,12 @@ import java.util.stream.Collectors;
 public class JobService {
     
     private final JobRepository jobRepository;
+    private final EmployerSnapshotService employerSnapshotService;
     
     @Autowired
-    public JobService(JobRepository jobRepository) {
+    public JobService(JobRepository jobRepository, EmployerSnapshotService employerSnapshotService) {
         this.jobRepository = jobRepository;
+        this.employerSnapshotService = employerSnapshotService;
     }
     
     /**
@@ -517,11 +519,16 @@ public class JobService {
         
         JobDetailResponse response = convertToJobDetailResponse(job);
         
-        // Add company information (this would typically come from user-service)
-        // For now, we'll create a placeholder
+        // Add company information from the local snapshot of user-service's employer
         JobDetailResponse.CompanyInfo companyInfo = new JobDetailResponse.CompanyInfo();
         companyInfo.setId(job.getEmployerId());
-        companyInfo.setName("Company Name"); // This should come from user-service
+        employerSnapshotService.find(job.getEmployerId()).ifPresent(snapshot -> {
+            companyInfo.setName(snapshot.getCompanyName());
+            companyInfo.setDescription(snapshot.getDescription());
+            companyInfo.setWebsite(snapshot.getWebsite());
+            companyInfo.setLogoUrl(snapshot.getLogoUrl());
+            companyInfo.setAddress(snapshot.getAddress());
+        });
         response.setCompany(companyInfo);
         
         // Add related jobs (same company, similar skills, or location)
@@ -577,13 +584,17 @@ public class JobService {
         CompanyProfileResponse response = new CompanyProfileResponse();
         response.setId(employerId);
         
-        // This information should come from user-service
-        // For now, we'll set placeholder values
-        response.setCompanyName("Company Name");
-        response.setDescription("Company Description");
-        response.setWebsite("https://company.com");
-        response.setIsApproved(true);
-        response.setIsActive(true);
+        // Company information from the local snapshot of user-service's employer
+        employerSnapshotService.find(employerId).ifPresent(snapshot -> {
+            response.setCompanyName(snapshot.getCompanyName());
+            response.setDescription(snapshot.getDescription());
+            response.setWebsite(snapshot.getWebsite());
+            response.setLogoUrl(snapshot.getLogoUrl());
+            response.setAddress(snapshot.getAddress());
+            response.setIsApproved(snapshot.getIsApproved());
+            response.setIsActive(snapshot.getIsActive());
+            response.setCreatedAt(snapshot.getCreatedAt());
+        });
         
         // Set job statistics
         long activeJobs = jobRepository.countByEmployerIdAndIsActive(employerId, true);
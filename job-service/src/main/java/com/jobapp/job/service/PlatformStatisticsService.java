@@ -0,0 +1,104 @@
+package com.jobapp.job.service;
+
+import com.jobapp.job.dto.PlatformJobStatisticsResponse;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for platform-wide job statistics used by the admin dashboard.
+ * All figures come from a single $facet aggregation, so the dashboard pays one round trip to MongoDB.
+ * Requirements: 5.4
+ */
+@Service
+public class PlatformStatisticsService {
+    
+    private static final String JOBS_COLLECTION = "jobs";
+    private static final int TOP_LOCATIONS = 20;
+    private static final int MAX_TREND_DAYS = 366;
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    /**
+     * Get platform-wide job statistics
+     * @param days number of days covered by the daily posting trend
+     * @return job statistics
+     */
+    public PlatformJobStatisticsResponse getPlatformStatistics(int days) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        int span = Math.max(1, Math.min(days, MAX_TREND_DAYS));
+        // Raw collection aggregations bypass type mapping, so bounds are passed as Dates
+        Date monthStart = Date.from(today.withDayOfMonth(1).atStartOfDay(zone).toInstant());
+        Date trendStart = Date.from(today.minusDays(span).atStartOfDay(zone).toInstant());
+        
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.match(where("is_active").is(true)), Aggregation.count().as("count")).as("active")
+                .and(Aggregation.match(where("created_at").gte(monthStart)), Aggregation.count().as("count")).as("thisMonth")
+                .and(Aggregation.group("job_type").count().as("count")).as("byType")
+                .and(Aggregation.match(where("is_active").is(true)), Aggregation.sortByCount("location"),
+                    Aggregation.limit(TOP_LOCATIONS)).as("byLocation")
+                .and(Aggregation.match(where("created_at").gte(trendStart)),
+                    Aggregation.project().and(DateOperators.DateToString.dateOf("created_at")
+                        .toString("%Y-%m-%d").withTimezone(DateOperators.Timezone.valueOf(zone.getId()))).as("day"),
+                    Aggregation.group("day").count().as("count")).as("byDay"));
+        
+        AggregationResults<Document> results = mongoTemplate.aggregate(aggregation, JOBS_COLLECTION, Document.class);
+        Document facets = results.getUniqueMappedResult();
+        
+        PlatformJobStatisticsResponse stats = new PlatformJobStatisticsResponse();
+        if (facets == null) {
+            stats.setJobsByType(new LinkedHashMap<>());
+            stats.setJobsByLocation(new LinkedHashMap<>());
+            stats.setPostingsByDay(new TreeMap<>());
+            return stats;
+        }
+        
+        long totalJobs = singleCount(facets, "total");
+        long activeJobs = singleCount(facets, "active");
+        stats.setTotalJobs(totalJobs);
+        stats.setActiveJobs(activeJobs);
+        stats.setInactiveJobs(totalJobs - activeJobs);
+        stats.setJobsThisMonth(singleCount(facets, "thisMonth"));
+        stats.setJobsByType(countsByKey(facets, "byType", new LinkedHashMap<>()));
+        stats.setJobsByLocation(countsByKey(facets, "byLocation", new LinkedHashMap<>()));
+        stats.setPostingsByDay(countsByKey(facets, "byDay", new TreeMap<>()));
+        
+        return stats;
+    }
+    
+    private long singleCount(Document facets, String facet) {
+        List<Document> rows = facets.getList(facet, Document.class);
+        if (rows == null || rows.isEmpty()) {
+            return 0L;
+        }
+        return ((Number) rows.get(0).get("count")).longValue();
+    }
+    
+    private Map<String, Long> countsByKey(Document facets, String facet, Map<String, Long> counts) {
+        List<Document> rows = facets.getList(facet, Document.class);
+        if (rows != null) {
+            for (Document row : rows) {
+                Object key = row.get("_id");
+                counts.put(key != null ? key.toString() : "Unspecified", ((Number) row.get("count")).longValue());
+            }
+        }
+        return counts;
+    }
+}
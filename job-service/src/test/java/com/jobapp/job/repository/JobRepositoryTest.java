@@ -2,7 +2,7 @@ package com.jobapp.job.repository;
 
 import com.jobapp.job.model.Job;
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
 import com.jobapp.job.model.SalaryRange;
 import com.jobapp.job.model.SalaryPeriod;
 import org.junit.jupiter.api.BeforeEach;
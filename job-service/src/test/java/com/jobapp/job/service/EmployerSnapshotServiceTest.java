@@ -0,0 +1,163 @@
+package com.jobapp.job.service;
+
+import com.jobapp.job.dto.EmployerSnapshotRequest;
+import com.jobapp.job.model.EmployerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployerSnapshotService
+ * Requirements: 2.2, 7.4
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployerSnapshotServiceTest {
+
+    private static final String SNAPSHOTS_URL = "http://user-service:8082/api/employers/snapshots?ids={ids}";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private EmployerSnapshotService employerSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        employerSnapshotService = new EmployerSnapshotService(mongoTemplate, restTemplate, Duration.ofHours(1), 2,
+            Duration.ofHours(1));
+    }
+
+    @Test
+    void find_FreshSnapshot_ServedWithoutResync() {
+        // Given
+        when(mongoTemplate.findById("employer1", EmployerSnapshot.class)).thenReturn(snapshot("employer1", LocalDateTime.now()));
+
+        // When
+        Optional<EmployerSnapshot> snapshot = employerSnapshotService.find("employer1");
+        employerSnapshotService.resyncPending();
+
+        // Then
+        assertEquals("Acme Corp", snapshot.orElseThrow().getCompanyName());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void find_MissingOrStaleSnapshots_ResyncedInOneBulkCall() {
+        // Given
+        when(mongoTemplate.findById("employer1", EmployerSnapshot.class)).thenReturn(null);
+        when(mongoTemplate.findById("employer2", EmployerSnapshot.class))
+            .thenReturn(snapshot("employer2", LocalDateTime.now().minusHours(2)));
+        when(restTemplate.getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class), anyString()))
+            .thenReturn(new EmployerSnapshotRequest[] { change("employer1"), change("employer2") });
+
+        // When
+        assertTrue(employerSnapshotService.find("employer1").isEmpty());
+        assertTrue(employerSnapshotService.find("employer2").isPresent());
+        employerSnapshotService.resyncPending();
+        employerSnapshotService.resyncPending();
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class),
+            argThat((String ids) -> ids.equals("employer1,employer2") || ids.equals("employer2,employer1")));
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), any(Update.class), eq(EmployerSnapshot.class));
+    }
+
+    @Test
+    void resyncPending_UserServiceUnavailable_RetriesOnNextRun() {
+        // Given
+        when(mongoTemplate.findById("employer1", EmployerSnapshot.class)).thenReturn(null);
+        when(restTemplate.getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class), anyString()))
+            .thenThrow(new ResourceAccessException("Connection refused"))
+            .thenReturn(new EmployerSnapshotRequest[] { change("employer1") });
+
+        // When
+        employerSnapshotService.find("employer1");
+        employerSnapshotService.resyncPending();
+        employerSnapshotService.resyncPending();
+
+        // Then
+        verify(restTemplate, times(2)).getForObject(SNAPSHOTS_URL, EmployerSnapshotRequest[].class, "employer1");
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(EmployerSnapshot.class));
+    }
+
+    @Test
+    void resyncPending_UnknownEmployer_NotRequestedAgain() {
+        // Given
+        when(mongoTemplate.findById("missing", EmployerSnapshot.class)).thenReturn(null);
+        when(restTemplate.getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class), anyString()))
+            .thenReturn(new EmployerSnapshotRequest[0]);
+
+        // When
+        employerSnapshotService.find("missing");
+        employerSnapshotService.resyncPending();
+        employerSnapshotService.find("missing");
+        employerSnapshotService.resyncPending();
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(SNAPSHOTS_URL, EmployerSnapshotRequest[].class, "missing");
+    }
+
+    @Test
+    void find_QueueFull_DropsFurtherEmployers() {
+        // Given
+        when(mongoTemplate.findById(anyString(), eq(EmployerSnapshot.class))).thenReturn(null);
+        when(restTemplate.getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class), anyString()))
+            .thenReturn(new EmployerSnapshotRequest[0]);
+
+        // When
+        employerSnapshotService.find("employer1");
+        employerSnapshotService.find("employer2");
+        employerSnapshotService.find("employer3");
+        employerSnapshotService.resyncPending();
+
+        // Then
+        verify(restTemplate).getForObject(eq(SNAPSHOTS_URL), eq(EmployerSnapshotRequest[].class),
+            argThat((String ids) -> ids.split(",").length == 2 && !ids.contains("employer3")));
+    }
+
+    @Test
+    void apply_NewerVersionStored_IgnoresOlderChange() {
+        // Given
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(EmployerSnapshot.class)))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        // When & Then
+        assertDoesNotThrow(() -> employerSnapshotService.apply("employer1", change("employer1")));
+    }
+
+    private static EmployerSnapshot snapshot(String employerId, LocalDateTime syncedAt) {
+        EmployerSnapshot snapshot = new EmployerSnapshot();
+        snapshot.setId(employerId);
+        snapshot.setCompanyName("Acme Corp");
+        snapshot.setSyncedAt(syncedAt);
+        return snapshot;
+    }
+
+    private static EmployerSnapshotRequest change(String employerId) {
+        EmployerSnapshotRequest change = new EmployerSnapshotRequest();
+        change.setId(employerId);
+        change.setCompanyName("Acme Corp");
+        change.setIsApproved(true);
+        change.setIsActive(true);
+        change.setUpdatedAt(LocalDateTime.now());
+        return change;
+    }
+}
@@ -3,9 +3,10 @@ package com.jobapp.job.service;
 import com.jobapp.job.dto.*;
 import com.jobapp.job.exception.ResourceNotFoundException;
 import com.jobapp.job.exception.UnauthorizedException;
+import com.jobapp.job.model.EmployerSnapshot;
 import com.jobapp.job.model.Job;
 import com.jobapp.job.model.JobType;
-import com.jobapp.job.model.ExperienceLevel;
+import com.jobapp.common.jobs.ExperienceLevel;
 import com.jobapp.job.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,9 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private EmployerSnapshotService employerSnapshotService;
+
     @InjectMocks
     private JobService jobService;
 
@@ -108,4 +112,31 @@ class JobServiceTest {
         assertEquals("Job not found with id: " + jobId, exception.getMessage());
         verify(jobRepository).findById(jobId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCompanyProfile_SnapshotStored_UsesLocalCompanyInformation() {
+        // Given
+        EmployerSnapshot snapshot = new EmployerSnapshot();
+        snapshot.setId(employerId);
+        snapshot.setCompanyName("Acme Corp");
+        snapshot.setWebsite("https://acme.example");
+        snapshot.setIsApproved(true);
+        snapshot.setIsActive(true);
+        when(jobRepository.countByEmployerId(employerId)).thenReturn(1L);
+        when(jobRepository.countByEmployerIdAndIsActive(employerId, true)).thenReturn(1L);
+        when(jobRepository.findByEmployerId(eq(employerId), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testJob)));
+        when(jobRepository.findByEmployerIdAndIsActive(eq(employerId), eq(true), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(testJob)));
+        when(employerSnapshotService.find(employerId)).thenReturn(Optional.of(snapshot));
+
+        // When
+        CompanyProfileResponse response = jobService.getCompanyProfile(employerId);
+
+        // Then
+        assertEquals("Acme Corp", response.getCompanyName());
+        assertEquals("https://acme.example", response.getWebsite());
+        assertTrue(response.getIsApproved());
+        assertEquals(1, response.getTotalJobs());
+    }
+}
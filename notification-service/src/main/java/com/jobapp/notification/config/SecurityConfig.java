@@ -0,0 +1,39 @@
+package com.jobapp.notification.config;
+
+import com.jobapp.common.security.ServiceAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Security configuration for the notification service.
+ * The notification API stays open to the other services as before; the application events published by
+ * application-service's outbox and the request metrics scraped by user-service require the service token.
+ * Requirements: 5.4
+ */
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    @Value("${service-auth.token:}")
+    private String serviceAuthToken;
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http.csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/actuator/requestmetrics").hasRole("SERVICE")
+                .requestMatchers("/api/notifications/events/**").hasRole("SERVICE")
+                .anyRequest().permitAll()
+            )
+            .addFilterBefore(new ServiceAuthFilter(serviceAuthToken), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
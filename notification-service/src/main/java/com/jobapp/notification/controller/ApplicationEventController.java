@@ -0,0 +1,47 @@
+package com.jobapp.notification.controller;
+
+import com.jobapp.notification.dto.ApplicationEventMessage;
+import com.jobapp.notification.model.ApplicationEvent;
+import com.jobapp.notification.service.ApplicationEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Validated
+@RequestMapping("/api/notifications/events")
+@Tag(name = "Application Events", description = "Application events delivered by application-service")
+public class ApplicationEventController {
+    
+    @Autowired
+    private ApplicationEventService eventService;
+    
+    @PostMapping("/applications")
+    @Operation(summary = "Ingest application events", 
+               description = "Accept a batch of application events from the application-service outbox. Redelivered events are ignored.")
+    public ResponseEntity<ApplicationEventService.IngestResult> ingestApplicationEvents(
+            @RequestBody List<@Valid ApplicationEventMessage> messages) {
+        return ResponseEntity.ok(eventService.ingest(messages));
+    }
+    
+    @GetMapping("/applications/{applicationId}")
+    @Operation(summary = "Get application events", 
+               description = "List the events recorded for an application in the order they occurred")
+    public ResponseEntity<List<ApplicationEvent>> getApplicationEvents(
+            @Parameter(description = "Application ID") @PathVariable String applicationId) {
+        return ResponseEntity.ok(eventService.getEventsForApplication(applicationId));
+    }
+    
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleInvalidEvents(ConstraintViolationException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
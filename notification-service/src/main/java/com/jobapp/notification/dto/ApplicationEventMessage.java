@@ -0,0 +1,117 @@
+package com.jobapp.notification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDateTime;
+
+public class ApplicationEventMessage {
+    
+    @NotBlank(message = "Event ID is required")
+    private String eventId;
+    
+    @NotBlank(message = "Event type is required")
+    private String type;
+    
+    @NotBlank(message = "Application ID is required")
+    private String applicationId;
+    
+    private String candidateId;
+    private String jobId;
+    private String employerId;
+    private String fromStatus;
+    private String toStatus;
+    private String changedBy;
+    private String reason;
+    private LocalDateTime occurredAt;
+    
+    public ApplicationEventMessage() {}
+    
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public String getCandidateId() {
+        return candidateId;
+    }
+    
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getEmployerId() {
+        return employerId;
+    }
+    
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+    
+    public String getFromStatus() {
+        return fromStatus;
+    }
+    
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+    
+    public String getToStatus() {
+        return toStatus;
+    }
+    
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+    
+    public String getChangedBy() {
+        return changedBy;
+    }
+    
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,144 @@
+package com.jobapp.notification.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event received from application-service's outbox relay.
+ * The unique eventId makes redelivered events idempotent.
+ */
+@Document(collection = "application_events")
+@CompoundIndex(name = "application_occurred_idx", def = "{'applicationId': 1, 'occurredAt': 1}")
+public class ApplicationEvent {
+    
+    @Id
+    private String id;
+    
+    @Indexed(unique = true)
+    private String eventId;
+    
+    private String type;
+    private String applicationId;
+    private String candidateId;
+    private String jobId;
+    private String employerId;
+    private String fromStatus;
+    private String toStatus;
+    private String changedBy;
+    private String reason;
+    private LocalDateTime occurredAt;
+    private LocalDateTime receivedAt;
+    
+    public ApplicationEvent() {
+        this.receivedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getApplicationId() {
+        return applicationId;
+    }
+    
+    public void setApplicationId(String applicationId) {
+        this.applicationId = applicationId;
+    }
+    
+    public String getCandidateId() {
+        return candidateId;
+    }
+    
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getEmployerId() {
+        return employerId;
+    }
+    
+    public void setEmployerId(String employerId) {
+        this.employerId = employerId;
+    }
+    
+    public String getFromStatus() {
+        return fromStatus;
+    }
+    
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+    
+    public String getToStatus() {
+        return toStatus;
+    }
+    
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+    
+    public String getChangedBy() {
+        return changedBy;
+    }
+    
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+    
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+}
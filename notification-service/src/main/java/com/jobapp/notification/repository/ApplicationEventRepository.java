@@ -0,0 +1,15 @@
+package com.jobapp.notification.repository;
+
+import com.jobapp.notification.model.ApplicationEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationEventRepository extends MongoRepository<ApplicationEvent, String> {
+    
+    List<ApplicationEvent> findByApplicationIdOrderByOccurredAtAsc(String applicationId);
+    
+    boolean existsByEventId(String eventId);
+}
@@ -0,0 +1,81 @@
+package com.jobapp.notification.service;
+
+import com.jobapp.notification.dto.ApplicationEventMessage;
+import com.jobapp.notification.model.ApplicationEvent;
+import com.jobapp.notification.repository.ApplicationEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ApplicationEventService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationEventService.class);
+    
+    @Autowired
+    private ApplicationEventRepository eventRepository;
+    
+    /**
+     * Record a batch of application events in the order they were sent.
+     * The relay delivers at least once, so events already recorded are skipped.
+     */
+    public IngestResult ingest(List<ApplicationEventMessage> messages) {
+        int accepted = 0;
+        int duplicates = 0;
+        
+        for (ApplicationEventMessage message : messages) {
+            try {
+                eventRepository.insert(toEvent(message));
+                accepted++;
+            } catch (DuplicateKeyException e) {
+                logger.debug("Skipping already recorded application event {}", message.getEventId());
+                duplicates++;
+            }
+        }
+        
+        logger.info("Ingested application events: {} accepted, {} duplicates", accepted, duplicates);
+        return new IngestResult(accepted, duplicates);
+    }
+    
+    public List<ApplicationEvent> getEventsForApplication(String applicationId) {
+        return eventRepository.findByApplicationIdOrderByOccurredAtAsc(applicationId);
+    }
+    
+    private ApplicationEvent toEvent(ApplicationEventMessage message) {
+        ApplicationEvent event = new ApplicationEvent();
+        event.setEventId(message.getEventId());
+        event.setType(message.getType());
+        event.setApplicationId(message.getApplicationId());
+        event.setCandidateId(message.getCandidateId());
+        event.setJobId(message.getJobId());
+        event.setEmployerId(message.getEmployerId());
+        event.setFromStatus(message.getFromStatus());
+        event.setToStatus(message.getToStatus());
+        event.setChangedBy(message.getChangedBy());
+        event.setReason(message.getReason());
+        event.setOccurredAt(message.getOccurredAt());
+        return event;
+    }
+    
+    public static class IngestResult {
+        private final int accepted;
+        private final int duplicates;
+        
+        public IngestResult(int accepted, int duplicates) {
+            this.accepted = accepted;
+            this.duplicates = duplicates;
+        }
+        
+        public int getAccepted() {
+            return accepted;
+        }
+        
+        public int getDuplicates() {
+            return duplicates;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobapp.notification.service;
+
+import com.jobapp.notification.dto.ApplicationEventMessage;
+import com.jobapp.notification.model.ApplicationEvent;
+import com.jobapp.notification.repository.ApplicationEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationEventServiceTest {
+    
+    @Mock
+    private ApplicationEventRepository eventRepository;
+    
+    @InjectMocks
+    private ApplicationEventService eventService;
+    
+    @Test
+    void ingest_NewEvents_RecordsInOrder() {
+        // Given
+        when(eventRepository.insert(any(ApplicationEvent.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        ApplicationEventService.IngestResult result = eventService.ingest(List.of(
+                message("event1", "APPLICATION_CREATED"), message("event2", "STATUS_CHANGED")));
+        
+        // Then
+        assertEquals(2, result.getAccepted());
+        assertEquals(0, result.getDuplicates());
+        
+        ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventRepository, times(2)).insert(captor.capture());
+        assertEquals("event1", captor.getAllValues().get(0).getEventId());
+        assertEquals("event2", captor.getAllValues().get(1).getEventId());
+    }
+    
+    @Test
+    void ingest_RedeliveredEvent_IsSkipped() {
+        // Given
+        when(eventRepository.insert(any(ApplicationEvent.class)))
+                .thenThrow(new DuplicateKeyException("duplicate eventId"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        ApplicationEventService.IngestResult result = eventService.ingest(List.of(
+                message("event1", "APPLICATION_CREATED"), message("event2", "STATUS_CHANGED")));
+        
+        // Then
+        assertEquals(1, result.getAccepted());
+        assertEquals(1, result.getDuplicates());
+    }
+    
+    private ApplicationEventMessage message(String eventId, String type) {
+        ApplicationEventMessage message = new ApplicationEventMessage();
+        message.setEventId(eventId);
+        message.setType(type);
+        message.setApplicationId("app123");
+        message.setOccurredAt(LocalDateTime.now());
+        return message;
+    }
+}
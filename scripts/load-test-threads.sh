@@ -0,0 +1,113 @@
+#!/bin/bash
+
+# Compare throughput and p99 latency of a service on the platform-thread pool and in the
+# virtual-thread execution mode (VIRTUAL_THREADS_ENABLED). The service is restarted through
+# docker-compose once per mode and loaded with hey (https://github.com/rakyll/hey).
+#
+# Usage: ./scripts/load-test-threads.sh <service> <path> [concurrency] [duration]
+#   TOKEN=<jwt> JAVA_RUNTIME_IMAGE=eclipse-temurin:21-jre \
+#     ./scripts/load-test-threads.sh application-service /api/applications/employer/my-applications 200 60s
+
+set -e
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+SERVICE=$1
+REQUEST_PATH=$2
+CONCURRENCY=${3:-200}
+DURATION=${4:-60s}
+WARMUP=${WARMUP:-15s}
+RESULTS_DIR=${RESULTS_DIR:-load-test-results}
+
+if [ -z "$SERVICE" ] || [ -z "$REQUEST_PATH" ]; then
+    echo "Usage: $0 <service> <path> [concurrency] [duration]"
+    exit 1
+fi
+
+if ! command -v hey > /dev/null 2>&1; then
+    echo -e "${RED}❌ hey is required: go install github.com/rakyll/hey@latest${NC}"
+    exit 1
+fi
+
+case $SERVICE in
+    user-service) PORT=8082 ;;
+    job-service) PORT=8083 ;;
+    application-service) PORT=8084 ;;
+    *) echo -e "${RED}❌ Unsupported service: $SERVICE${NC}"; exit 1 ;;
+esac
+
+BASE_URL="http://localhost:$PORT"
+AUTH_HEADER=()
+if [ -n "$TOKEN" ]; then
+    AUTH_HEADER=(-H "Authorization: Bearer $TOKEN")
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+wait_for_health() {
+    for _ in $(seq 1 60); do
+        if curl -s -o /dev/null -w "%{http_code}" "$BASE_URL/actuator/health" | grep -q "200"; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo -e "${RED}❌ $SERVICE did not become healthy${NC}"
+    exit 1
+}
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+    local output="$RESULTS_DIR/$SERVICE-$mode.txt"
+
+    echo -e "${BLUE}▶ Starting $SERVICE with VIRTUAL_THREADS_ENABLED=$virtual${NC}"
+    VIRTUAL_THREADS_ENABLED=$virtual docker-compose up -d --no-deps "$SERVICE" > /dev/null
+    wait_for_health
+
+    local java_version
+    java_version=$(curl -s "$BASE_URL/actuator/info" | sed -n 's/.*"java":{"version":"\([0-9]*\).*/\1/p')
+    if [ "$virtual" = "true" ] && [ -n "$java_version" ] && [ "$java_version" -lt 21 ]; then
+        echo -e "${YELLOW}⚠️  $SERVICE runs on Java $java_version; set JAVA_RUNTIME_IMAGE to a Java 21 image, otherwise both runs use platform threads${NC}"
+    fi
+
+    echo -e "${YELLOW}Warming up for $WARMUP...${NC}"
+    hey -z "$WARMUP" -c "$CONCURRENCY" "${AUTH_HEADER[@]}" "$BASE_URL$REQUEST_PATH" > /dev/null
+
+    echo -e "${YELLOW}Measuring for $DURATION at concurrency $CONCURRENCY...${NC}"
+    hey -z "$DURATION" -c "$CONCURRENCY" "${AUTH_HEADER[@]}" "$BASE_URL$REQUEST_PATH" > "$output"
+
+    if [ "$virtual" = "true" ]; then
+        curl -s "$BASE_URL/actuator/metrics/jvm.threads.virtual.pinned" > "$RESULTS_DIR/$SERVICE-pinned.json" || true
+    fi
+}
+
+summary() {
+    local output="$RESULTS_DIR/$SERVICE-$1.txt"
+    local rps p99 errors
+    rps=$(awk '/Requests\/sec/ {print $2}' "$output")
+    p99=$(awk '/ 99% in/ {printf "%.1f", $3 * 1000}' "$output")
+    errors=$(awk '/^  \[[0-9]+\]/ && $1 != "[200]" {sum += $2} END {print sum + 0}' "$output")
+    printf "%-10s %14s %12s %10s\n" "$1" "$rps" "$p99" "$errors"
+}
+
+echo -e "${BLUE}🔨 Building $SERVICE${NC}"
+docker-compose build "$SERVICE" > /dev/null
+
+run_mode platform false
+run_mode virtual true
+
+# Leave the service in its default mode
+VIRTUAL_THREADS_ENABLED=false docker-compose up -d --no-deps "$SERVICE" > /dev/null
+
+echo
+echo -e "${GREEN}📊 $SERVICE $REQUEST_PATH (concurrency $CONCURRENCY, $DURATION)${NC}"
+printf "%-10s %14s %12s %10s\n" "mode" "requests/sec" "p99 (ms)" "non-200"
+summary platform
+summary virtual
+echo
+echo "Raw hey output and pinning metrics are in $RESULTS_DIR/"
@@ -1,20 +1,34 @@
 package com.jobapp.user.config;
 
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.jobapp.user.service.FileStorage;
+import com.jobapp.user.service.LocalFileStorage;
+import com.jobapp.user.service.S3FileStorage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.unit.DataSize;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import jakarta.servlet.MultipartConfigElement;
 
 /**
- * Configuration for file upload settings
+ * Configuration for file upload settings and the storage backend.
+ * {@code app.file.storage.type} selects the local upload directory ({@code local}, the default) or an
+ * S3-compatible bucket ({@code s3}); a custom endpoint with path-style access points the latter at MinIO.
+ * Uploaded files are served under /files by {@link com.jobapp.user.controller.FileServingController}.
  * Requirements: 9.4
  */
 @Configuration
-public class FileUploadConfig implements WebMvcConfigurer {
+public class FileUploadConfig {
     
     @Bean
     public MultipartConfigElement multipartConfigElement() {
@@ -29,11 +43,33 @@ public class FileUploadConfig implements WebMvcConfigurer {
         return factory.createMultipartConfig();
     }
     
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Serve uploaded files statically
-        registry.addResourceHandler("/files/**")
-                .addResourceLocations("file:uploads/")
-                .setCachePeriod(3600); // Cache for 1 hour
+    @Bean
+    @ConditionalOnProperty(name = "app.file.storage.type", havingValue = "local", matchIfMissing = true)
+    public FileStorage localFileStorage(@Value("${app.file.upload.dir:uploads}") String uploadDir) {
+        return new LocalFileStorage(uploadDir);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.file.storage.type", havingValue = "s3")
+    public FileStorage s3FileStorage(@Value("${app.file.storage.s3.bucket}") String bucket,
+                                     @Value("${app.file.storage.s3.region:us-east-1}") String region,
+                                     @Value("${app.file.storage.s3.endpoint:}") String endpoint,
+                                     @Value("${app.file.storage.s3.path-style-access:false}") boolean pathStyleAccess,
+                                     @Value("${app.file.storage.s3.access-key:}") String accessKey,
+                                     @Value("${app.file.storage.s3.secret-key:}") String secretKey) {
+        // Without configured keys the default chain (environment, profile, instance role) is used
+        AWSCredentialsProvider credentials = accessKey.isBlank()
+            ? DefaultAWSCredentialsProviderChain.getInstance()
+            : new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey));
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+            .withCredentials(credentials)
+            .withPathStyleAccessEnabled(pathStyleAccess);
+        if (endpoint.isBlank()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        }
+        AmazonS3 s3 = builder.build();
+        return new S3FileStorage(s3, bucket);
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,43 @@
 package com.jobapp.user.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 import org.springframework.data.domain.Sort;
 
 import com.jobapp.user.model.Candidate;
 import com.jobapp.user.model.Employer;
 import com.jobapp.user.model.Admin;
+import com.jobapp.user.model.AdminAuditEntry;
+import com.jobapp.user.model.FileBlob;
+import com.jobapp.user.model.RequestMetricsBucket;
+import com.jobapp.user.model.ResumeExtractionJob;
+import com.jobapp.user.model.ResumeText;
+import com.jobapp.user.model.UploadSession;
 
 import jakarta.annotation.PostConstruct;
 
+import java.time.Duration;
+
 /**
  * MongoDB configuration for setting up indexes
- * Requirements: 1.1, 1.2, 1.5, 3.1, 3.4, 5.1, 5.4 - Email uniqueness and search optimization
+ * Requirements: 1.1, 1.2, 1.4, 1.5, 3.1, 3.4, 5.1, 5.4 - Email uniqueness and search optimization
  */
 @Configuration
 public class MongoConfig {
     
     private final MongoTemplate mongoTemplate;
+    private final Duration requestMetricsRetention;
     
-    public MongoConfig(MongoTemplate mongoTemplate) {
+    public MongoConfig(MongoTemplate mongoTemplate,
+                       @Value("${request-metrics.retention:P90D}") Duration requestMetricsRetention) {
         this.mongoTemplate = mongoTemplate;
+        this.requestMetricsRetention = requestMetricsRetention;
     }
     
     /**
@@ -35,6 +48,11 @@ public class MongoConfig {
         setupCandidateIndexes();
         setupEmployerIndexes();
         setupAdminIndexes();
+        setupAdminAuditIndexes();
+        setupRequestMetricsIndexes();
+        setupFileBlobIndexes();
+        setupResumeTextIndexes();
+        setupUploadSessionIndexes();
     }
     
     private void setupCandidateIndexes() {
@@ -100,6 +118,12 @@ public class MongoConfig {
                 .on("linkedin_profile", Sort.Direction.ASC)
                 .sparse();
         indexOps.ensureIndex(linkedinIndex);
+        
+        // Multikey index on name/email search tokens for indexed admin search
+        IndexDefinition searchTokensIndex = new Index()
+                .on("search_tokens", Sort.Direction.ASC)
+                .named("search_tokens_idx");
+        indexOps.ensureIndex(searchTokensIndex);
     }
     
     private void setupEmployerIndexes() {
@@ -166,18 +190,28 @@ public class MongoConfig {
                 .sparse();
         indexOps.ensureIndex(logoIndex);
         
-        // Compound index for pending approval queries
-        IndexDefinition pendingApprovalIndex = new Index()
+        // Compound index for the keyset-paged pending and approved listings, newest first; it replaces the
+        // unnamed is_approved/is_active/created_at index, which it covers as a prefix
+        dropIndexIfExists(indexOps, "is_approved_1_is_active_1_created_at_-1");
+        IndexDefinition approvalListingIndex = new Index()
                 .on("is_approved", Sort.Direction.ASC)
                 .on("is_active", Sort.Direction.ASC)
-                .on("created_at", Sort.Direction.DESC);
-        indexOps.ensureIndex(pendingApprovalIndex);
+                .on("created_at", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("approval_listing_idx");
+        indexOps.ensureIndex(approvalListingIndex);
         
         // Text index on company_name and description for search
         IndexDefinition textSearchIndex = new Index()
                 .on("company_name", Sort.Direction.ASC)
                 .on("description", Sort.Direction.ASC);
         indexOps.ensureIndex(textSearchIndex);
+        
+        // Multikey index on company name/email search tokens for indexed admin search
+        IndexDefinition searchTokensIndex = new Index()
+                .on("search_tokens", Sort.Direction.ASC)
+                .named("search_tokens_idx");
+        indexOps.ensureIndex(searchTokensIndex);
     }
     
     private void setupAdminIndexes() {
@@ -273,4 +307,108 @@ public class MongoConfig {
                 .on("login_count", Sort.Direction.DESC);
         indexOps.ensureIndex(performanceIndex);
     }
-}
\ No newline at end of file
+    
+    private void setupAdminAuditIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(AdminAuditEntry.class);
+        
+        // Compound index for one admin's actions, newest first
+        IndexDefinition adminOccurredIndex = new Index()
+                .on("admin_email", Sort.Direction.ASC)
+                .on("occurred_at", Sort.Direction.DESC)
+                .named("admin_occurred_idx");
+        indexOps.ensureIndex(adminOccurredIndex);
+        
+        // Index on occurred_at for the system-wide audit trail
+        IndexDefinition occurredAtIndex = new Index()
+                .on("occurred_at", Sort.Direction.DESC)
+                .named("occurred_at_idx");
+        indexOps.ensureIndex(occurredAtIndex);
+    }
+    
+    private void setupRequestMetricsIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(RequestMetricsBucket.class);
+        
+        // TTL index on bucket_start; also serves the report window scan
+        IndexDefinition bucketStartIndex = new Index()
+                .on("bucket_start", Sort.Direction.ASC)
+                .expire(requestMetricsRetention)
+                .named("bucket_start_ttl_idx");
+        indexOps.ensureIndex(bucketStartIndex);
+        
+        // Compound index for an instance's latest bucket before the report window
+        IndexDefinition instanceBucketIndex = new Index()
+                .on("instance", Sort.Direction.ASC)
+                .on("bucket_start", Sort.Direction.ASC)
+                .named("instance_bucket_idx");
+        indexOps.ensureIndex(instanceBucketIndex);
+    }
+    
+    private void setupFileBlobIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(FileBlob.class);
+        
+        // Compound multikey index for releasing an account's previous file of a category
+        IndexDefinition ownerCategoryIndex = new Index()
+                .on("owners", Sort.Direction.ASC)
+                .on("category", Sort.Direction.ASC)
+                .named("owner_category_idx");
+        indexOps.ensureIndex(ownerCategoryIndex);
+        
+        // Sparse index on released_at for the garbage collection of unreferenced files
+        IndexDefinition releasedAtIndex = new Index()
+                .on("released_at", Sort.Direction.ASC)
+                .sparse()
+                .named("released_at_idx");
+        indexOps.ensureIndex(releasedAtIndex);
+    }
+    
+    private void setupResumeTextIndexes() {
+        // Text index on the extracted resume text for candidate search
+        IndexDefinition resumeTextIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .onField("text")
+                .named("resume_text_idx")
+                .build();
+        mongoTemplate.indexOps(ResumeText.class).ensureIndex(resumeTextIndex);
+        
+        IndexOperations jobIndexOps = mongoTemplate.indexOps(ResumeExtractionJob.class);
+        
+        // Compound index for claiming due items
+        IndexDefinition statusAvailableIndex = new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("available_at", Sort.Direction.ASC)
+                .named("status_available_idx");
+        jobIndexOps.ensureIndex(statusAvailableIndex);
+        
+        // Compound index for reclaiming items whose worker lease expired
+        IndexDefinition statusLeaseIndex = new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("lease_until", Sort.Direction.ASC)
+                .named("status_lease_idx");
+        jobIndexOps.ensureIndex(statusLeaseIndex);
+    }
+    
+    private void setupUploadSessionIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(UploadSession.class);
+        
+        // Expired sessions are deleted with their chunks by UploadSessionService; the TTL index only
+        // removes those it missed a day later, so no session loses track of its chunks first
+        dropIndexIfExists(indexOps, "expires_at_ttl_idx");
+        IndexDefinition expiresAtIndex = new Index()
+                .on("expires_at", Sort.Direction.ASC)
+                .expire(Duration.ofDays(1))
+                .named("expires_at_backstop_ttl_idx");
+        indexOps.ensureIndex(expiresAtIndex);
+        
+        // Open sessions of an owner, counted when a new one is opened
+        IndexDefinition ownerIndex = new Index()
+                .on("owner_id", Sort.Direction.ASC)
+                .on("expires_at", Sort.Direction.ASC)
+                .named("owner_expires_idx");
+        indexOps.ensureIndex(ownerIndex);
+    }
+    
+    private static void dropIndexIfExists(IndexOperations indexOps, String name) {
+        if (indexOps.getIndexInfo().stream().anyMatch(index -> name.equals(index.getName()))) {
+            indexOps.dropIndex(name);
+        }
+    }
+}
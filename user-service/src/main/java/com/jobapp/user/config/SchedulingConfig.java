@@ -0,0 +1,13 @@
+package com.jobapp.user.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background tasks such as the nightly analytics rollup reconciliation
+ * Requirements: 5.4
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
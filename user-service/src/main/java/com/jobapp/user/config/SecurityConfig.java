@@ -1,5 +1,7 @@
 package com.jobapp.user.config;
 
+import com.jobapp.common.security.ServiceAuthFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -9,6 +11,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Security configuration for the user service
@@ -18,6 +21,9 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
     
+    @Value("${service-auth.token:}")
+    private String serviceAuthToken;
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -33,8 +39,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/employers/register").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/requestmetrics").hasRole("SERVICE")
                 .anyRequest().authenticated()
-            );
+            )
+            .addFilterBefore(new ServiceAuthFilter(serviceAuthToken), UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
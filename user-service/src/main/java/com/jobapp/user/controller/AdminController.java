@@ -4,6 +4,8 @@ import com.jobapp.user.dto.*;
 import com.jobapp.user.model.Admin;
 import com.jobapp.user.model.AdminRole;
 import com.jobapp.user.service.AdminService;
+import com.jobapp.user.service.BulkModerationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +14,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.security.Principal;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Admin Controller for admin authentication and user management
@@ -29,9 +37,17 @@ import java.security.Principal;
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class AdminController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private BulkModerationService bulkModerationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/login")
     @Operation(summary = "Admin login", description = "Authenticate admin with SUPER_ADMIN role verification")
     public ResponseEntity<AdminLoginResponse> adminLogin(@Valid @RequestBody AdminLoginRequest request) {
@@ -188,6 +204,33 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // Bulk Moderation
+
+    @PostMapping(value = "/users/employers/bulk", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk moderate employers",
+               description = "Approve, reject, block or unblock employers selected by ID list or filter; progress is streamed as one JSON object per line")
+    public ResponseEntity<StreamingResponseBody> bulkModerateEmployers(
+            @Valid @RequestBody BulkModerationRequest request,
+            Principal principal) {
+        String adminEmail = principal.getName();
+        // Checked before streaming starts, so a bad request still gets an error status
+        bulkModerationService.checkEmployerRequest(request, adminEmail);
+        return streamProgress(request, listener -> bulkModerationService.moderateEmployers(request, adminEmail, listener));
+    }
+
+    @PostMapping(value = "/users/candidates/bulk", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk moderate candidates",
+               description = "Block or unblock candidates selected by ID list or filter; progress is streamed as one JSON object per line")
+    public ResponseEntity<StreamingResponseBody> bulkModerateCandidates(
+            @Valid @RequestBody BulkModerationRequest request,
+            Principal principal) {
+        String adminEmail = principal.getName();
+        bulkModerationService.checkCandidateRequest(request, adminEmail);
+        return streamProgress(request, listener -> bulkModerationService.moderateCandidates(request, adminEmail, listener));
+    }
+
     // Admin Management
 
     @GetMapping("/admins")
@@ -277,6 +320,16 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/analytics/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild analytics rollups", description = "Rebuild the daily user analytics rollups from account history and recount the totals")
+    public ResponseEntity<MessageResponse> rebuildUserRollups(
+            @Parameter(description = "Number of past days to rebuild") @RequestParam(defaultValue = "365") int days,
+            Principal principal) {
+        MessageResponse response = adminService.rebuildUserRollups(days, principal.getName());
+        return ResponseEntity.ok(response);
+    }
+
     // Content Moderation Endpoints
 
     @GetMapping("/moderation/jobs")
@@ -348,4 +401,35 @@ public class AdminController {
         SystemReportSummary response = adminService.getSystemReportsSummary(days, principal.getName());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<StreamingResponseBody> streamProgress(BulkModerationRequest request,
+                                                                 Consumer<Consumer<BulkModerationProgress>> operation) {
+        StreamingResponseBody body = out -> {
+            // The operation runs to completion even if the client stops reading
+            AtomicBoolean connected = new AtomicBoolean(true);
+            AtomicReference<BulkModerationProgress> last =
+                    new AtomicReference<>(new BulkModerationProgress(request.getAction(), 0));
+            Consumer<BulkModerationProgress> listener = progress -> {
+                last.set(progress);
+                if (connected.get()) {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(progress));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        connected.set(false);
+                    }
+                }
+            };
+            try {
+                operation.accept(listener);
+            } catch (RuntimeException e) {
+                BulkModerationProgress failed = last.get();
+                failed.setDone(true);
+                failed.setError(e.getMessage());
+                listener.accept(failed);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+}
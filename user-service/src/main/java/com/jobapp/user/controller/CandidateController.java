@@ -13,6 +13,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +28,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 @Tag(name = "Candidate Management", description = "APIs for candidate registration and profile management")
 public class CandidateController {
     
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    
     @Autowired
     private CandidateService candidateService;
     
@@ -63,6 +67,43 @@ public class CandidateController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get candidate profiles for a batch of IDs
+     * Requirements: 1.1
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('EMPLOYER') or hasRole('ADMIN') or hasRole('SERVICE')")
+    @Operation(summary = "Get candidate profiles in batch", description = "Retrieve up to 1000 candidate profiles by ID in one call; unknown IDs are omitted")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Candidate profiles retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Too many candidate IDs"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<List<CandidateResponse>> getCandidatesByIds(@RequestBody List<String> candidateIds) {
+        if (candidateIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(candidateService.getCandidatesByIds(candidateIds));
+    }
+    
+    /**
+     * Search candidates by resume content
+     * Requirements: 1.4
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('EMPLOYER') or hasRole('ADMIN')")
+    @Operation(summary = "Search candidates by resume", description = "Find candidates whose extracted resume text matches the search terms, best match first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching candidates retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<List<CandidateResponse>> searchCandidatesByResume(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(candidateService.searchByResumeText(query, boundedLimit));
+    }
+    
     /**
      * Get candidate profile by email
      * Requirements: 1.1
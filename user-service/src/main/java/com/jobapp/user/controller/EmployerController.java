@@ -2,15 +2,21 @@ package com.jobapp.user.controller;
 
 import com.jobapp.user.dto.EmployerRegistrationRequest;
 import com.jobapp.user.dto.EmployerProfileUpdateRequest;
+import com.jobapp.user.dto.EmployerPageResponse;
 import com.jobapp.user.dto.EmployerResponse;
+import com.jobapp.user.dto.EmployerSnapshotResponse;
 import com.jobapp.user.dto.MessageResponse;
+import com.jobapp.user.service.EmployerDirectoryService;
+import com.jobapp.user.service.EmployerDirectoryService.Listing;
 import com.jobapp.user.service.EmployerService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,9 +35,14 @@ import java.util.List;
 @Tag(name = "Employer Management", description = "APIs for employer registration and profile management")
 public class EmployerController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     @Autowired
     private EmployerService employerService;
     
+    @Autowired
+    private EmployerDirectoryService employerDirectoryService;
+    
     /**
      * Register a new employer
      * Requirements: 3.1
@@ -165,29 +176,82 @@ public class EmployerController {
      */
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get pending employers", description = "Get all employers pending approval (admin only)")
+    @Operation(summary = "Get pending employers", description = "Get employers pending approval, most recently registered first. Pass the returned nextCursor to load the following page (admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Pending employers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<EmployerResponse>> getPendingEmployers() {
-        List<EmployerResponse> response = employerService.getPendingEmployers();
+    public ResponseEntity<EmployerPageResponse> getPendingEmployers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        EmployerPageResponse response = employerDirectoryService.getPage(Listing.PENDING, cursor, size);
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Stream all pending employers as NDJSON (Admin only)
+     * Requirements: 3.4
+     */
+    @GetMapping(value = "/pending/stream", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream pending employers", description = "Stream all employers pending approval as newline-delimited JSON (admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Pending employers streamed successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<StreamingResponseBody> streamPendingEmployers() {
+        return streamListing(Listing.PENDING);
+    }
+    
     /**
      * Get approved employers
      * Requirements: 3.1
      */
     @GetMapping("/approved")
     @PreAuthorize("hasRole('ADMIN') or hasRole('CANDIDATE')")
-    @Operation(summary = "Get approved employers", description = "Get all approved employers")
+    @Operation(summary = "Get approved employers", description = "Get approved employers, most recently registered first. Pass the returned nextCursor to load the following page")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Approved employers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<EmployerPageResponse> getApprovedEmployers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        EmployerPageResponse response = employerDirectoryService.getPage(Listing.APPROVED, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Stream all approved employers as NDJSON
+     * Requirements: 3.1
+     */
+    @GetMapping(value = "/approved/stream", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('CANDIDATE')")
+    @Operation(summary = "Stream approved employers", description = "Stream all approved employers as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Approved employers streamed successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public ResponseEntity<StreamingResponseBody> streamApprovedEmployers() {
+        return streamListing(Listing.APPROVED);
+    }
+    
+    /**
+     * Get the company information of several employers, for job-service to resync its snapshots
+     * Requirements: 3.1
+     */
+    @GetMapping("/snapshots")
+    @PreAuthorize("hasRole('SERVICE')")
+    @Operation(summary = "Get employer snapshots", description = "Get the company information of up to 100 employers by ID; internal, requires the service token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Employer snapshots retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Too many employers requested"),
         @ApiResponse(responseCode = "403", description = "Access denied")
     })
-    public ResponseEntity<List<EmployerResponse>> getApprovedEmployers() {
-        List<EmployerResponse> response = employerService.getApprovedEmployers();
+    public ResponseEntity<List<EmployerSnapshotResponse>> getEmployerSnapshots(@RequestParam List<String> ids) {
+        List<EmployerSnapshotResponse> response = employerService.getEmployerSnapshots(ids);
         return ResponseEntity.ok(response);
     }
     
@@ -221,4 +285,11 @@ public class EmployerController {
         String message = canPost ? "Employer can post jobs" : "Employer cannot post jobs - approval required";
         return ResponseEntity.ok(new MessageResponse(message));
     }
+    
+    private ResponseEntity<StreamingResponseBody> streamListing(Listing listing) {
+        StreamingResponseBody body = out -> employerDirectoryService.streamListing(listing, out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.jobapp.user.controller;
+
+import com.jobapp.user.service.FileServingService;
+import com.jobapp.user.service.LogoVariantService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Serves uploaded files at the URLs returned by the upload endpoints ({@code /files/<category>/<name>})
+ * Requirements: 9.4
+ */
+@RestController
+@Tag(name = "File Upload", description = "APIs for file upload and management")
+public class FileServingController {
+
+    @Autowired
+    private FileServingService fileServingService;
+
+    @Autowired
+    private LogoVariantService logoVariantService;
+
+    /**
+     * Serve an uploaded file, or a resized variant of a logo, with conditional and range request support
+     * Requirements: 9.4
+     */
+    @GetMapping("/files/{category}/{filename:.+}")
+    @Operation(summary = "Serve file", description = "Serve an uploaded file by its URL")
+    public void serveFile(
+            @PathVariable String category,
+            @PathVariable String filename,
+            @Parameter(description = "Longest side in pixels; logos are served from the closest resized variant")
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        LogoVariantService.Selection selection = logoVariantService.select(category, filename, size);
+        fileServingService.serve(category, selection.filename(), selection.provisional(), request, response);
+    }
+}
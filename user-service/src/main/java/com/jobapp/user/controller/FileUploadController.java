@@ -1,32 +1,33 @@
 package com.jobapp.user.controller;
 
+import com.jobapp.user.dto.DirectUploadCompleteRequest;
+import com.jobapp.user.dto.DirectUploadRequest;
 import com.jobapp.user.dto.FileUploadResponse;
 import com.jobapp.user.dto.MessageResponse;
+import com.jobapp.user.dto.PresignedUploadResponse;
+import com.jobapp.user.service.FileServingService;
 import com.jobapp.user.service.FileUploadService;
-import com.jobapp.user.service.CandidateService;
-import com.jobapp.user.service.EmployerService;
+import com.jobapp.user.service.LogoVariantService;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Optional;
 
 /**
  * REST controller for file upload operations
@@ -41,10 +42,10 @@ public class FileUploadController {
     private FileUploadService fileUploadService;
     
     @Autowired
-    private CandidateService candidateService;
+    private FileServingService fileServingService;
     
     @Autowired
-    private EmployerService employerService;
+    private LogoVariantService logoVariantService;
     
     /**
      * Upload resume for candidate
@@ -65,9 +66,6 @@ public class FileUploadController {
         
         FileUploadResponse response = fileUploadService.uploadResume(file, candidateId);
         
-        // Update candidate's resume URL
-        candidateService.updateResumeUrl(candidateId, response.getFileUrl());
-        
         return ResponseEntity.ok(response);
     }
     
@@ -90,8 +88,91 @@ public class FileUploadController {
         
         FileUploadResponse response = fileUploadService.uploadLogo(file, employerId);
         
-        // Update employer's logo URL
-        employerService.updateLogoUrl(employerId, response.getFileUrl());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Presign a direct resume upload for candidate
+     * Requirements: 1.4
+     */
+    @PostMapping("/upload/resume/{candidateId}/presign")
+    @PreAuthorize("hasRole('CANDIDATE') and #candidateId == authentication.principal.id")
+    @Operation(summary = "Presign resume upload", description = "Get a URL to upload the resume directly to the storage")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+        @ApiResponse(responseCode = "400", description = "File validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "413", description = "File size exceeds limit"),
+        @ApiResponse(responseCode = "501", description = "Storage does not support direct uploads")
+    })
+    public ResponseEntity<?> presignResumeUpload(
+            @PathVariable String candidateId,
+            @Valid @RequestBody DirectUploadRequest request) {
+        
+        return presigned(fileUploadService.presignResumeUpload(request, candidateId));
+    }
+    
+    /**
+     * Complete a direct resume upload for candidate
+     * Requirements: 1.4
+     */
+    @PostMapping("/upload/resume/{candidateId}/complete")
+    @PreAuthorize("hasRole('CANDIDATE') and #candidateId == authentication.principal.id")
+    @Operation(summary = "Complete resume upload", description = "Validate and attach a directly uploaded resume")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resume uploaded successfully"),
+        @ApiResponse(responseCode = "400", description = "Upload not found or file validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "413", description = "File size exceeds limit")
+    })
+    public ResponseEntity<FileUploadResponse> completeResumeUpload(
+            @PathVariable String candidateId,
+            @Valid @RequestBody DirectUploadCompleteRequest request) {
+        
+        FileUploadResponse response = fileUploadService.completeResumeUpload(request.getKey(), candidateId);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Presign a direct logo upload for employer
+     * Requirements: 3.4
+     */
+    @PostMapping("/upload/logo/{employerId}/presign")
+    @PreAuthorize("hasRole('EMPLOYER') and #employerId == authentication.principal.id")
+    @Operation(summary = "Presign logo upload", description = "Get a URL to upload the logo directly to the storage")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload URL issued"),
+        @ApiResponse(responseCode = "400", description = "File validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "413", description = "File size exceeds limit"),
+        @ApiResponse(responseCode = "501", description = "Storage does not support direct uploads")
+    })
+    public ResponseEntity<?> presignLogoUpload(
+            @PathVariable String employerId,
+            @Valid @RequestBody DirectUploadRequest request) {
+        
+        return presigned(fileUploadService.presignLogoUpload(request, employerId));
+    }
+    
+    /**
+     * Complete a direct logo upload for employer
+     * Requirements: 3.4
+     */
+    @PostMapping("/upload/logo/{employerId}/complete")
+    @PreAuthorize("hasRole('EMPLOYER') and #employerId == authentication.principal.id")
+    @Operation(summary = "Complete logo upload", description = "Validate and attach a directly uploaded logo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Logo uploaded successfully"),
+        @ApiResponse(responseCode = "400", description = "Upload not found or file validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "413", description = "File size exceeds limit")
+    })
+    public ResponseEntity<FileUploadResponse> completeLogoUpload(
+            @PathVariable String employerId,
+            @Valid @RequestBody DirectUploadCompleteRequest request) {
+        
+        FileUploadResponse response = fileUploadService.completeLogoUpload(request.getKey(), employerId);
         
         return ResponseEntity.ok(response);
     }
@@ -122,33 +203,21 @@ public class FileUploadController {
     @Operation(summary = "Download file", description = "Download or serve uploaded files")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "File served successfully"),
-        @ApiResponse(responseCode = "404", description = "File not found")
+        @ApiResponse(responseCode = "206", description = "Requested byte range served"),
+        @ApiResponse(responseCode = "304", description = "File not modified"),
+        @ApiResponse(responseCode = "404", description = "File not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
     })
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @PathVariable String category,
-            @PathVariable String filename) {
+            @PathVariable String filename,
+            @Parameter(description = "Longest side in pixels; logos are served from the closest resized variant")
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         
-        try {
-            Path filePath = Paths.get("uploads", category, filename);
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = Files.probeContentType(filePath);
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, 
-                               "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (IOException e) {
-            return ResponseEntity.notFound().build();
-        }
+        LogoVariantService.Selection selection = logoVariantService.select(category, filename, size);
+        fileServingService.serve(category, selection.filename(), selection.provisional(), request, response);
     }
     
     /**
@@ -201,4 +270,13 @@ public class FileUploadController {
             };
         });
     }
+    
+    private static ResponseEntity<?> presigned(Optional<PresignedUploadResponse> upload) {
+        if (upload.isEmpty()) {
+            // Local storage only accepts uploads through this service
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
+                    .body(new MessageResponse("Direct uploads are not supported by the configured storage"));
+        }
+        return ResponseEntity.ok(upload.get());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.jobapp.user.controller;
+
+import com.jobapp.user.dto.DirectUploadRequest;
+import com.jobapp.user.dto.FileUploadResponse;
+import com.jobapp.user.dto.UploadSessionCompleteRequest;
+import com.jobapp.user.dto.UploadSessionResponse;
+import com.jobapp.user.service.FileUploadService;
+import com.jobapp.user.service.UploadSessionService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+
+/**
+ * REST controller for resumable chunked uploads of resumes ({@code category} "resume", by candidates)
+ * and logos ("logo", by employers). A client opens a session, PUTs the chunks as raw bodies in any order
+ * and again after a lost connection, asks for the session to learn which chunks are missing, and
+ * finalizes the session with the file's SHA-256 digest.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@RestController
+@RequestMapping("/api/files/upload/{category}/{ownerId}/sessions")
+@Tag(name = "File Upload", description = "APIs for file upload and management")
+public class UploadSessionController {
+    
+    private static final String OWNER_ONLY = "((#category == 'resume' and hasRole('CANDIDATE'))"
+        + " or (#category == 'logo' and hasRole('EMPLOYER'))) and #ownerId == authentication.principal.id";
+    
+    @Autowired
+    private FileUploadService fileUploadService;
+    
+    @Autowired
+    private UploadSessionService uploadSessionService;
+    
+    /**
+     * Open a resumable upload
+     * Requirements: 1.4, 3.4
+     */
+    @PostMapping
+    @PreAuthorize(OWNER_ONLY)
+    @Operation(summary = "Start resumable upload", description = "Open a chunked upload session for a validated file")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Upload session created"),
+        @ApiResponse(responseCode = "400", description = "File validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "413", description = "File size exceeds limit")
+    })
+    public ResponseEntity<UploadSessionResponse> startSession(
+            @PathVariable String category,
+            @PathVariable String ownerId,
+            @Valid @RequestBody DirectUploadRequest request) {
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new UploadSessionResponse(fileUploadService.startUploadSession(category, ownerId, request)));
+    }
+    
+    /**
+     * Get the received chunks of a resumable upload
+     * Requirements: 1.4, 3.4
+     */
+    @GetMapping("/{sessionId}")
+    @PreAuthorize(OWNER_ONLY)
+    @Operation(summary = "Get upload session", description = "Get the chunks received so far")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload session retrieved"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired")
+    })
+    public ResponseEntity<UploadSessionResponse> getSession(
+            @PathVariable String category,
+            @PathVariable String ownerId,
+            @PathVariable String sessionId) {
+        
+        return ResponseEntity.ok(new UploadSessionResponse(uploadSessionService.get(sessionId, category, ownerId)));
+    }
+    
+    /**
+     * Upload one chunk; sending a chunk again is harmless
+     * Requirements: 1.4, 3.4
+     */
+    @PutMapping("/{sessionId}/chunks/{index}")
+    @PreAuthorize(OWNER_ONLY)
+    @Operation(summary = "Upload chunk", description = "Write a chunk sent as the raw request body at its offset")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Chunk received"),
+        @ApiResponse(responseCode = "400", description = "Chunk index or length invalid"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired")
+    })
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            @PathVariable String category,
+            @PathVariable String ownerId,
+            @PathVariable String sessionId,
+            @PathVariable int index,
+            HttpServletRequest request) throws IOException {
+        
+        return ResponseEntity.ok(new UploadSessionResponse(
+                uploadSessionService.writeChunk(sessionId, category, ownerId, index, request.getInputStream())));
+    }
+    
+    /**
+     * Finalize a resumable upload
+     * Requirements: 1.4, 3.4
+     */
+    @PostMapping("/{sessionId}/complete")
+    @PreAuthorize(OWNER_ONLY)
+    @Operation(summary = "Complete resumable upload", description = "Verify and store the assembled file")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "File uploaded successfully"),
+        @ApiResponse(responseCode = "400", description = "Upload incomplete, digest mismatch or file validation failed"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "404", description = "Upload session not found or expired")
+    })
+    public ResponseEntity<FileUploadResponse> completeSession(
+            @PathVariable String category,
+            @PathVariable String ownerId,
+            @PathVariable String sessionId,
+            @Valid @RequestBody UploadSessionCompleteRequest request) {
+        
+        FileUploadResponse response = fileUploadService.completeUploadSession(category, ownerId, sessionId,
+                request.getSha256());
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobapp.user.dto;
+
+import com.jobapp.user.model.ModerationAction;
+
+/**
+ * DTO for the progress of a bulk moderation, streamed after every batch. matched is the number of
+ * accounts the action applied to when it started; the last message has done set, and error if the
+ * operation stopped early.
+ * Requirements: 5.3
+ */
+public class BulkModerationProgress {
+    
+    private ModerationAction action;
+    private long matched;
+    private long processed;
+    private long updated;
+    private boolean done;
+    private String error;
+    
+    // Constructors
+    public BulkModerationProgress() {}
+    
+    public BulkModerationProgress(ModerationAction action, long matched) {
+        this.action = action;
+        this.matched = matched;
+    }
+    
+    // Getters and Setters
+    public ModerationAction getAction() {
+        return action;
+    }
+    
+    public void setAction(ModerationAction action) {
+        this.action = action;
+    }
+    
+    public long getMatched() {
+        return matched;
+    }
+    
+    public void setMatched(long matched) {
+        this.matched = matched;
+    }
+    
+    public long getProcessed() {
+        return processed;
+    }
+    
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+    
+    public long getUpdated() {
+        return updated;
+    }
+    
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+    
+    public boolean isDone() {
+        return done;
+    }
+    
+    public void setDone(boolean done) {
+        this.done = done;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+}
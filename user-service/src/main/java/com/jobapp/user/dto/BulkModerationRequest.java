@@ -0,0 +1,125 @@
+package com.jobapp.user.dto;
+
+import com.jobapp.user.model.ModerationAction;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a bulk moderation request. The accounts are given either as a list of IDs or as filter
+ * criteria; accounts the action does not apply to (such as already blocked ones) are skipped.
+ * Requirements: 5.3
+ */
+public class BulkModerationRequest {
+    
+    @NotNull(message = "Action is required")
+    private ModerationAction action;
+    
+    @Size(max = 10000, message = "At most 10000 IDs can be moderated at once")
+    private List<String> ids;
+    
+    // Filter criteria, used when no IDs are given
+    private Boolean isApproved;
+    private Boolean isActive;
+    private LocalDateTime createdAfter;
+    private LocalDateTime createdBefore;
+    
+    @Size(min = 10, max = 500, message = "Reason must be between 10 and 500 characters")
+    private String reason;
+    
+    @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
+    private String notes;
+    
+    private Boolean sendNotification = true;
+    
+    // Constructors
+    public BulkModerationRequest() {}
+    
+    public BulkModerationRequest(ModerationAction action, List<String> ids, String reason) {
+        this.action = action;
+        this.ids = ids;
+        this.reason = reason;
+    }
+    
+    /**
+     * Whether any filter criterion is set
+     */
+    public boolean hasFilter() {
+        return isApproved != null || isActive != null || createdAfter != null || createdBefore != null;
+    }
+    
+    // Getters and Setters
+    public ModerationAction getAction() {
+        return action;
+    }
+    
+    public void setAction(ModerationAction action) {
+        this.action = action;
+    }
+    
+    public List<String> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+    
+    public Boolean getIsApproved() {
+        return isApproved;
+    }
+    
+    public void setIsApproved(Boolean isApproved) {
+        this.isApproved = isApproved;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public LocalDateTime getCreatedAfter() {
+        return createdAfter;
+    }
+    
+    public void setCreatedAfter(LocalDateTime createdAfter) {
+        this.createdAfter = createdAfter;
+    }
+    
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+    
+    public void setCreatedBefore(LocalDateTime createdBefore) {
+        this.createdBefore = createdBefore;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+    
+    public Boolean getSendNotification() {
+        return sendNotification;
+    }
+    
+    public void setSendNotification(Boolean sendNotification) {
+        this.sendNotification = sendNotification;
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 
+import java.util.List;
+
 /**
  * DTO for candidate profile update request
  * Requirements: 1.4, 1.5
@@ -32,6 +34,13 @@ public class CandidateProfileUpdateRequest {
              message = "Portfolio URL must be a valid URL")
     private String portfolioUrl;
     
+    @Size(max = 50, message = "At most 50 skills can be listed")
+    private List<@Size(max = 50, message = "Skill must not exceed 50 characters") String> skills;
+    
+    @Min(value = 0, message = "Years of experience must not be negative")
+    @Max(value = 60, message = "Years of experience must not exceed 60")
+    private Integer yearsOfExperience;
+    
     // Constructors
     public CandidateProfileUpdateRequest() {}
     
@@ -83,4 +92,20 @@ public class CandidateProfileUpdateRequest {
     public void setPortfolioUrl(String portfolioUrl) {
         this.portfolioUrl = portfolioUrl;
     }
+    
+    public List<String> getSkills() {
+        return skills;
+    }
+    
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+    
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+    
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.jobapp.user.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for candidate response (without sensitive information)
@@ -17,6 +18,8 @@ public class CandidateResponse {
     private String resumeUrl;
     private String linkedinProfile;
     private String portfolioUrl;
+    private List<String> skills;
+    private Integer yearsOfExperience;
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -138,4 +141,20 @@ public class CandidateResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public List<String> getSkills() {
+        return skills;
+    }
+    
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+    
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+    
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
 }
\ No newline at end of file
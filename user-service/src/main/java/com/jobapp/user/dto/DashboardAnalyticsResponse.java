@@ -34,6 +34,10 @@ public class DashboardAnalyticsResponse {
     // Generated timestamp
     private LocalDateTime generatedAt;
     
+    // Sources that did not answer in time; their sections are empty or carried over from the previous result
+    private boolean partial;
+    private List<String> unavailableSources;
+    
     // Constructors
     public DashboardAnalyticsResponse() {
         this.generatedAt = LocalDateTime.now();
@@ -120,6 +124,22 @@ public class DashboardAnalyticsResponse {
         this.generatedAt = generatedAt;
     }
     
+    public boolean isPartial() {
+        return partial;
+    }
+    
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+    
+    public List<String> getUnavailableSources() {
+        return unavailableSources;
+    }
+    
+    public void setUnavailableSources(List<String> unavailableSources) {
+        this.unavailableSources = unavailableSources;
+    }
+    
     // Inner classes for statistics
     public static class UserStatistics {
         private long totalCandidates;
@@ -0,0 +1,29 @@
+package com.jobapp.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for completing a direct upload once the client has sent the file to the storage
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class DirectUploadCompleteRequest {
+    
+    @NotBlank(message = "Upload key is required")
+    private String key;
+    
+    // Constructors
+    public DirectUploadCompleteRequest() {}
+    
+    public DirectUploadCompleteRequest(String key) {
+        this.key = key;
+    }
+    
+    // Getters and Setters
+    public String getKey() {
+        return key;
+    }
+    
+    public void setKey(String key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobapp.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO for requesting a presigned direct upload
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class DirectUploadRequest {
+    
+    @NotBlank(message = "File name is required")
+    private String fileName;
+    
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+    
+    @Positive(message = "File size must be positive")
+    private long size;
+    
+    // Constructors
+    public DirectUploadRequest() {}
+    
+    public DirectUploadRequest(String fileName, String contentType, long size) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+    }
+    
+    // Getters and Setters
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
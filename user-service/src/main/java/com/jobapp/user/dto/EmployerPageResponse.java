@@ -0,0 +1,58 @@
+package com.jobapp.user.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of an employer listing (most recently registered first)
+ * Requirements: 3.1, 3.4
+ */
+public class EmployerPageResponse {
+    
+    private List<EmployerResponse> employers;
+    private String nextCursor;
+    private boolean hasMore;
+    private Long totalCount;
+    
+    // Constructors
+    public EmployerPageResponse() {}
+    
+    public EmployerPageResponse(List<EmployerResponse> employers, String nextCursor, Long totalCount) {
+        this.employers = employers;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.totalCount = totalCount;
+    }
+    
+    // Getters and Setters
+    public List<EmployerResponse> getEmployers() {
+        return employers;
+    }
+    
+    public void setEmployers(List<EmployerResponse> employers) {
+        this.employers = employers;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public Long getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.jobapp.user.dto;
 
+import com.jobapp.user.model.Employer;
+
 import java.time.LocalDateTime;
 
 /**
@@ -51,6 +53,14 @@ public class EmployerResponse {
         this.updatedAt = updatedAt;
     }
     
+    public EmployerResponse(Employer employer) {
+        this(employer.getId(), employer.getEmail(), employer.getCompanyName(), employer.getWebsite(),
+             employer.getDescription(), employer.getLogoUrl(), employer.getAddress(), employer.getContactPerson(),
+             employer.getContactPhone(), employer.getIsApproved(), employer.getIsActive(),
+             employer.getApprovalDate(), employer.getApprovedBy(), employer.getRejectionReason(),
+             employer.getCreatedAt(), employer.getUpdatedAt());
+    }
+    
     // Getters and Setters
     public String getId() {
         return id;
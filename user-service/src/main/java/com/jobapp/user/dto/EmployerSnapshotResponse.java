@@ -0,0 +1,121 @@
+package com.jobapp.user.dto;
+
+import com.jobapp.user.model.Employer;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the public company information of an employer that job-service keeps a local copy of.
+ * updatedAt orders the versions: job-service ignores a snapshot older than the one it holds.
+ * Requirements: 3.1, 3.4
+ */
+public class EmployerSnapshotResponse {
+    
+    private String id;
+    private String companyName;
+    private String description;
+    private String website;
+    private String logoUrl;
+    private String address;
+    private Boolean isApproved;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public EmployerSnapshotResponse() {}
+    
+    public EmployerSnapshotResponse(Employer employer) {
+        this.id = employer.getId();
+        this.companyName = employer.getCompanyName();
+        this.description = employer.getDescription();
+        this.website = employer.getWebsite();
+        this.logoUrl = employer.getLogoUrl();
+        this.address = employer.getAddress();
+        this.isApproved = employer.getIsApproved();
+        this.isActive = employer.getIsActive();
+        this.createdAt = employer.getCreatedAt();
+        this.updatedAt = employer.getUpdatedAt();
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getCompanyName() {
+        return companyName;
+    }
+    
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getWebsite() {
+        return website;
+    }
+    
+    public void setWebsite(String website) {
+        this.website = website;
+    }
+    
+    public String getLogoUrl() {
+        return logoUrl;
+    }
+    
+    public void setLogoUrl(String logoUrl) {
+        this.logoUrl = logoUrl;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public Boolean getIsApproved() {
+        return isApproved;
+    }
+    
+    public void setIsApproved(Boolean isApproved) {
+        this.isApproved = isApproved;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
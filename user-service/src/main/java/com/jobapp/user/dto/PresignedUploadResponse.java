@@ -0,0 +1,71 @@
+package com.jobapp.user.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO for a presigned direct upload: the client sends the file with the given method and headers to the
+ * upload URL, then completes the upload with the key
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class PresignedUploadResponse {
+    
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private String key;
+    private Instant expiresAt;
+    
+    // Constructors
+    public PresignedUploadResponse() {}
+    
+    public PresignedUploadResponse(String uploadUrl, String method, Map<String, String> headers, String key,
+                                   Instant expiresAt) {
+        this.uploadUrl = uploadUrl;
+        this.method = method;
+        this.headers = headers;
+        this.key = key;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Getters and Setters
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+    
+    public void setUploadUrl(String uploadUrl) {
+        this.uploadUrl = uploadUrl;
+    }
+    
+    public String getMethod() {
+        return method;
+    }
+    
+    public void setMethod(String method) {
+        this.method = method;
+    }
+    
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+    
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public void setKey(String key) {
+        this.key = key;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobapp.user.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cumulative request totals of one service process, as served by its requestmetrics actuator endpoint,
+ * with the peak concurrency of its recent one-minute windows keyed by window start in epoch seconds
+ * Requirements: 5.4
+ */
+public class RequestMetricsSnapshot {
+
+    private String service;
+    private String instance;
+    private long requests;
+    private long errors;
+    private double totalTimeMs;
+    private List<Long> latencyBoundsMs;
+    private List<Long> latencyCounts;
+    private int inFlight;
+    private Map<Long, Integer> peaks;
+    private Map<String, Long> endpoints;
+
+    // Constructors
+    public RequestMetricsSnapshot() {}
+
+    // Getters and Setters
+    public String getService() {
+        return service;
+    }
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public void setInstance(String instance) {
+        this.instance = instance;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public double getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(double totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public List<Long> getLatencyBoundsMs() {
+        return latencyBoundsMs;
+    }
+
+    public void setLatencyBoundsMs(List<Long> latencyBoundsMs) {
+        this.latencyBoundsMs = latencyBoundsMs;
+    }
+
+    public List<Long> getLatencyCounts() {
+        return latencyCounts;
+    }
+
+    public void setLatencyCounts(List<Long> latencyCounts) {
+        this.latencyCounts = latencyCounts;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public Map<Long, Integer> getPeaks() {
+        return peaks;
+    }
+
+    public void setPeaks(Map<Long, Integer> peaks) {
+        this.peaks = peaks;
+    }
+
+    public Map<String, Long> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Long> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -109,6 +109,9 @@ public class SystemReportSummary {
     // Inner classes
     public static class PerformanceMetrics {
         private double averageResponseTime;
+        private double p50ResponseTime;
+        private double p95ResponseTime;
+        private double p99ResponseTime;
         private long totalRequests;
         private double errorRate;
         private long peakConcurrentUsers;
@@ -120,6 +123,15 @@ public class SystemReportSummary {
         public double getAverageResponseTime() { return averageResponseTime; }
         public void setAverageResponseTime(double averageResponseTime) { this.averageResponseTime = averageResponseTime; }
         
+        public double getP50ResponseTime() { return p50ResponseTime; }
+        public void setP50ResponseTime(double p50ResponseTime) { this.p50ResponseTime = p50ResponseTime; }
+        
+        public double getP95ResponseTime() { return p95ResponseTime; }
+        public void setP95ResponseTime(double p95ResponseTime) { this.p95ResponseTime = p95ResponseTime; }
+        
+        public double getP99ResponseTime() { return p99ResponseTime; }
+        public void setP99ResponseTime(double p99ResponseTime) { this.p99ResponseTime = p99ResponseTime; }
+        
         public long getTotalRequests() { return totalRequests; }
         public void setTotalRequests(long totalRequests) { this.totalRequests = totalRequests; }
         
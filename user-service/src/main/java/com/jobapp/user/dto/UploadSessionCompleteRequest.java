@@ -0,0 +1,31 @@
+package com.jobapp.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO for finalizing a resumable upload with the digest of the whole file
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class UploadSessionCompleteRequest {
+    
+    @NotBlank(message = "SHA-256 digest is required")
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 digest must be 64 hexadecimal characters")
+    private String sha256;
+    
+    // Constructors
+    public UploadSessionCompleteRequest() {}
+    
+    public UploadSessionCompleteRequest(String sha256) {
+        this.sha256 = sha256;
+    }
+    
+    // Getters and Setters
+    public String getSha256() {
+        return sha256;
+    }
+    
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobapp.user.dto;
+
+import com.jobapp.user.model.UploadSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the state of a resumable upload: the client sends the chunks not yet received, each
+ * chunkSize bytes except the last
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class UploadSessionResponse {
+    
+    private String sessionId;
+    private long size;
+    private int chunkSize;
+    private int totalChunks;
+    private List<Integer> receivedChunks;
+    private LocalDateTime expiresAt;
+    
+    // Constructors
+    public UploadSessionResponse() {}
+    
+    public UploadSessionResponse(UploadSession session) {
+        this.sessionId = session.getId();
+        this.size = session.getSize();
+        this.chunkSize = session.getChunkSize();
+        this.totalChunks = session.getTotalChunks();
+        this.receivedChunks = session.getReceivedChunks().stream().sorted().toList();
+        this.expiresAt = session.getExpiresAt();
+    }
+    
+    // Getters and Setters
+    public String getSessionId() {
+        return sessionId;
+    }
+    
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+    
+    public int getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+    
+    public void setTotalChunks(int totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+    
+    public List<Integer> getReceivedChunks() {
+        return receivedChunks;
+    }
+    
+    public void setReceivedChunks(List<Integer> receivedChunks) {
+        this.receivedChunks = receivedChunks;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
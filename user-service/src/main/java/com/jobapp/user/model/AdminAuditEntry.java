@@ -0,0 +1,69 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of one admin action. Entries are written in batches by the audit log
+ * and never updated afterwards.
+ * Requirements: 5.1, 5.3
+ */
+@Document(collection = "admin_audit_log")
+public class AdminAuditEntry {
+    
+    @Id
+    private String id;
+    
+    @Field("admin_email")
+    private String adminEmail;
+    
+    private String action;
+    
+    @Field("occurred_at")
+    private LocalDateTime occurredAt;
+    
+    // Constructors
+    public AdminAuditEntry() {}
+    
+    public AdminAuditEntry(String adminEmail, String action) {
+        this.adminEmail = adminEmail;
+        this.action = action;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getAdminEmail() {
+        return adminEmail;
+    }
+    
+    public void setAdminEmail(String adminEmail) {
+        this.adminEmail = adminEmail;
+    }
+    
+    public String getAction() {
+        return action;
+    }
+    
+    public void setAction(String action) {
+        this.action = action;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jobapp.user.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of an active admin's identity, role and permissions, used for permission checks
+ * without reading the admin document on every call
+ * Requirements: 5.1
+ */
+public final class AdminPrincipal {
+    
+    private final String id;
+    private final String email;
+    private final AdminRole role;
+    private final Set<AdminPermission> permissions;
+    private final long resolvedAtMillis;
+    
+    public AdminPrincipal(String id, String email, AdminRole role, Collection<AdminPermission> permissions,
+                          long resolvedAtMillis) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.permissions = permissions == null || permissions.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(permissions));
+        this.resolvedAtMillis = resolvedAtMillis;
+    }
+    
+    public static AdminPrincipal of(Admin admin, long resolvedAtMillis) {
+        return new AdminPrincipal(admin.getId(), admin.getEmail(), admin.getRole(), admin.getPermissions(),
+                resolvedAtMillis);
+    }
+    
+    // Getters
+    public String getId() {
+        return id;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public AdminRole getRole() {
+        return role;
+    }
+    
+    public Set<AdminPermission> getPermissions() {
+        return permissions;
+    }
+    
+    public long getResolvedAtMillis() {
+        return resolvedAtMillis;
+    }
+    
+    /**
+     * Same rule as {@link Admin#hasPermission(AdminPermission)}
+     */
+    public boolean hasPermission(AdminPermission permission) {
+        if (role == AdminRole.SUPER_ADMIN) {
+            return true; // Super admin has all permissions
+        }
+        return permissions.contains(permission);
+    }
+}
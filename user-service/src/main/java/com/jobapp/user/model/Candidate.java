@@ -14,6 +14,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Candidate entity representing job seekers in the system
@@ -64,6 +65,14 @@ public class Candidate {
     @Field("portfolio_url")
     private String portfolioUrl;
     
+    @Size(max = 50, message = "At most 50 skills can be listed")
+    private List<String> skills;
+    
+    @Min(value = 0, message = "Years of experience must not be negative")
+    @Max(value = 60, message = "Years of experience must not exceed 60")
+    @Field("years_of_experience")
+    private Integer yearsOfExperience;
+    
     @Field("is_active")
     private Boolean isActive = true;
     
@@ -92,6 +101,10 @@ public class Candidate {
     @Field("unblocked_by")
     private String unblockedBy; // Admin email who unblocked
     
+    // Normalized prefix and trigram tokens of the name and email, maintained on save for admin search
+    @Field("search_tokens")
+    private List<String> searchTokens;
+    
     // Constructors
     public Candidate() {
         this.createdAt = LocalDateTime.now();
@@ -197,6 +210,24 @@ public class Candidate {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public List<String> getSkills() {
+        return skills;
+    }
+    
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+    
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
     public Boolean getIsActive() {
         return isActive;
     }
@@ -276,6 +307,14 @@ public class Candidate {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public List<String> getSearchTokens() {
+        return searchTokens;
+    }
+    
+    public void setSearchTokens(List<String> searchTokens) {
+        this.searchTokens = searchTokens;
+    }
+    
     @Override
     public String toString() {
         return "Candidate{" +
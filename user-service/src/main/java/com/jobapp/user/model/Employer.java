@@ -11,6 +11,7 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Employer entity representing companies and hiring managers in the system
@@ -104,6 +105,10 @@ public class Employer {
     @Field("unblocked_by")
     private String unblockedBy; // Admin email who unblocked
     
+    // Normalized prefix and trigram tokens of the company name and email, maintained on save for admin search
+    @Field("search_tokens")
+    private List<String> searchTokens;
+    
     @Field("created_at")
     private LocalDateTime createdAt;
     
@@ -375,6 +380,14 @@ public class Employer {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public List<String> getSearchTokens() {
+        return searchTokens;
+    }
+    
+    public void setSearchTokens(List<String> searchTokens) {
+        this.searchTokens = searchTokens;
+    }
+    
     /**
      * Check if employer is approved and active
      * @return true if employer can post jobs
@@ -391,6 +404,7 @@ public class Employer {
         this.isApproved = true;
         this.approvedBy = adminId;
         this.approvalDate = LocalDateTime.now();
+        this.approvedAt = this.approvalDate;
         this.rejectionReason = null;
         this.updatedAt = LocalDateTime.now();
     }
@@ -402,6 +416,7 @@ public class Employer {
     public void reject(String reason) {
         this.isApproved = false;
         this.rejectionReason = reason;
+        this.rejectedAt = LocalDateTime.now();
         this.approvalDate = null;
         this.approvedBy = null;
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,128 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An uploaded file stored once under its content digest.
+ * The ID is the storage key {@code <category>/<sha256>.<ext>}, which is also the path below the upload
+ * directory and the tail of the file URL. Owners are the accounts currently using the file
+ * ({@code candidate:<id>} for a resume, {@code employer:<id>} for a logo); a file without owners is
+ * removed by the garbage collection once it has been unreferenced for the grace period.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@Document(collection = "file_blobs")
+public class FileBlob {
+
+    @Id
+    private String id;
+
+    private String digest;
+
+    private String category;
+
+    @Field("content_type")
+    private String contentType;
+
+    private long size;
+
+    private List<String> owners = new ArrayList<>();
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("released_at")
+    private LocalDateTime releasedAt;
+
+    /** Set while the garbage collection deletes the file */
+    @Field("deleting_at")
+    private LocalDateTime deletingAt;
+
+    // Constructors
+    public FileBlob() {}
+
+    /**
+     * Number of accounts referencing this file
+     */
+    public int getReferenceCount() {
+        return owners != null ? owners.size() : 0;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public List<String> getOwners() {
+        return owners;
+    }
+
+    public void setOwners(List<String> owners) {
+        this.owners = owners;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getReleasedAt() {
+        return releasedAt;
+    }
+
+    public void setReleasedAt(LocalDateTime releasedAt) {
+        this.releasedAt = releasedAt;
+    }
+
+    public LocalDateTime getDeletingAt() {
+        return deletingAt;
+    }
+
+    public void setDeletingAt(LocalDateTime deletingAt) {
+        this.deletingAt = deletingAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobapp.user.model;
+
+/**
+ * Enumeration for the account moderation actions admins can apply in bulk
+ * Requirements: 5.3
+ */
+public enum ModerationAction {
+    APPROVE(AdminPermission.APPROVE_EMPLOYERS, "Approved"),
+    REJECT(AdminPermission.APPROVE_EMPLOYERS, "Rejected"),
+    BLOCK(AdminPermission.BLOCK_USERS, "Blocked"),
+    UNBLOCK(AdminPermission.BLOCK_USERS, "Unblocked");
+    
+    private final AdminPermission permission;
+    private final String pastTense;
+    
+    ModerationAction(AdminPermission permission, String pastTense) {
+        this.permission = permission;
+        this.pastTense = pastTense;
+    }
+    
+    public AdminPermission getPermission() {
+        return permission;
+    }
+    
+    public String getPastTense() {
+        return pastTense;
+    }
+    
+    /**
+     * Whether the action needs a reason, as the single-account endpoints do
+     */
+    public boolean requiresReason() {
+        return this == REJECT || this == BLOCK;
+    }
+}
@@ -0,0 +1,162 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request totals of one service process at the end of a fixed time bucket.
+ * Values are the process's cumulative totals as last scraped within the bucket, so the traffic of any
+ * window is the latest bucket in the window minus the latest bucket before it, per instance. Only the
+ * peak concurrency is not cumulative: it is kept per one-minute window as reported by the scrapes in the
+ * bucket. Keyed by {@code <instance>:<bucketStartEpochSecond>}.
+ * Requirements: 5.4
+ */
+@Document(collection = "request_metric_buckets")
+public class RequestMetricsBucket {
+
+    @Id
+    private String id;
+
+    private String service;
+
+    private String instance;
+
+    @Field("bucket_start")
+    private LocalDateTime bucketStart;
+
+    private long requests;
+
+    private long errors;
+
+    @Field("total_time_ms")
+    private double totalTimeMs;
+
+    @Field("latency_bounds_ms")
+    private List<Long> latencyBoundsMs;
+
+    @Field("latency_counts")
+    private List<Long> latencyCounts;
+
+    /** Peak concurrency per one-minute window, keyed by the window start in epoch seconds */
+    private Map<String, Integer> peaks;
+
+    private List<EndpointCount> endpoints;
+
+    // Constructors
+    public RequestMetricsBucket() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public void setInstance(String instance) {
+        this.instance = instance;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public double getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(double totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public List<Long> getLatencyBoundsMs() {
+        return latencyBoundsMs;
+    }
+
+    public void setLatencyBoundsMs(List<Long> latencyBoundsMs) {
+        this.latencyBoundsMs = latencyBoundsMs;
+    }
+
+    public List<Long> getLatencyCounts() {
+        return latencyCounts;
+    }
+
+    public void setLatencyCounts(List<Long> latencyCounts) {
+        this.latencyCounts = latencyCounts;
+    }
+
+    public Map<String, Integer> getPeaks() {
+        return peaks;
+    }
+
+    public void setPeaks(Map<String, Integer> peaks) {
+        this.peaks = peaks;
+    }
+
+    public List<EndpointCount> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointCount> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Cumulative request count of one endpoint; stored as a list because route patterns may contain dots
+     */
+    public static class EndpointCount {
+        private String endpoint;
+        private long requests;
+
+        public EndpointCount() {}
+
+        public EndpointCount(String endpoint, long requests) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+        }
+
+        public String getEndpoint() { return endpoint; }
+        public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+
+        public long getRequests() { return requests; }
+        public void setRequests(long requests) { this.requests = requests; }
+    }
+}
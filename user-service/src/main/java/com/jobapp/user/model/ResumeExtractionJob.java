@@ -0,0 +1,139 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Durable work item of the resume text extraction queue, one per candidate.
+ * Uploading a new resume replaces a queued item, so only the latest file is extracted. A worker claims
+ * an item by setting it to PROCESSING with a lease; an item whose lease has expired (the worker died)
+ * is claimed again. Items are removed once their text is stored and kept as FAILED after the last
+ * allowed attempt.
+ * Requirements: 1.4
+ */
+@Document(collection = "resume_extraction_jobs")
+public class ResumeExtractionJob {
+
+    @Id
+    private String id;
+
+    @Field("file_key")
+    private String fileKey;
+
+    private Status status;
+
+    private int attempts;
+
+    private long version;
+
+    @Field("available_at")
+    private LocalDateTime availableAt;
+
+    @Field("lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Field("claim_token")
+    private String claimToken;
+
+    @Field("last_error")
+    private String lastError;
+
+    @Field("enqueued_at")
+    private LocalDateTime enqueuedAt;
+
+    /**
+     * Processing state of a queued resume
+     */
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        FAILED
+    }
+
+    // Constructors
+    public ResumeExtractionJob() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFileKey() {
+        return fileKey;
+    }
+
+    public void setFileKey(String fileKey) {
+        this.fileKey = fileKey;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    public void setEnqueuedAt(LocalDateTime enqueuedAt) {
+        this.enqueuedAt = enqueuedAt;
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Extracted text of a candidate's current resume, indexed for full-text search.
+ * Keyed by candidate ID. The text is normalized (accents stripped, lowercased, one space between
+ * words) so the text index and search terms agree. The source version is the extraction job's
+ * version, so a result of an older upload never replaces a newer one.
+ * Requirements: 1.4
+ */
+@Document(collection = "candidate_resume_text")
+public class ResumeText {
+
+    @Id
+    private String id;
+
+    @Field("file_key")
+    private String fileKey;
+
+    private String text;
+
+    @Field("token_count")
+    private int tokenCount;
+
+    @Field("source_version")
+    private long sourceVersion;
+
+    @Field("extracted_at")
+    private LocalDateTime extractedAt;
+
+    // Constructors
+    public ResumeText() {}
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFileKey() {
+        return fileKey;
+    }
+
+    public void setFileKey(String fileKey) {
+        this.fileKey = fileKey;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    public void setTokenCount(int tokenCount) {
+        this.tokenCount = tokenCount;
+    }
+
+    public long getSourceVersion() {
+        return sourceVersion;
+    }
+
+    public void setSourceVersion(long sourceVersion) {
+        this.sourceVersion = sourceVersion;
+    }
+
+    public LocalDateTime getExtractedAt() {
+        return extractedAt;
+    }
+
+    public void setExtractedAt(LocalDateTime extractedAt) {
+        this.extractedAt = extractedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jobapp.user.model;
+
+/**
+ * Counters kept in the user analytics rollups. Event counters are incremented on the daily rollup
+ * of the day the event happened; totals describe current account state and live on the totals rollup.
+ * Requirements: 5.4
+ */
+public enum RollupCounter {
+    // Daily event counters
+    CANDIDATE_REGISTRATIONS,
+    EMPLOYER_REGISTRATIONS,
+    EMPLOYER_APPROVALS,
+    EMPLOYER_REJECTIONS,
+    CANDIDATE_BLOCKS,
+    CANDIDATE_UNBLOCKS,
+    EMPLOYER_BLOCKS,
+    EMPLOYER_UNBLOCKS,
+    
+    // Totals
+    CANDIDATES,
+    ACTIVE_CANDIDATES,
+    BLOCKED_CANDIDATES,
+    EMPLOYERS,
+    APPROVED_EMPLOYERS,
+    UNAPPROVED_EMPLOYERS,
+    PENDING_EMPLOYERS,
+    BLOCKED_EMPLOYERS;
+    
+    /**
+     * Key of the counter inside a rollup's counters map
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumable upload of a resume or logo sent in fixed-size chunks.
+ * The chunks are written into a spool file at their offsets and recorded in received_chunks, so a
+ * client that lost its connection asks which chunks arrived and sends only the missing ones. Every
+ * chunk extends the session; an abandoned session expires through the TTL index on expires_at.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@Document(collection = "upload_sessions")
+public class UploadSession {
+
+    @Id
+    private String id;
+
+    // File category of FileUploadService: "resume" or "logo"
+    private String category;
+
+    @Field("owner_id")
+    private String ownerId;
+
+    @Field("file_name")
+    private String fileName;
+
+    @Field("content_type")
+    private String contentType;
+
+    private long size;
+
+    @Field("chunk_size")
+    private int chunkSize;
+
+    @Field("received_chunks")
+    private List<Integer> receivedChunks = new ArrayList<>();
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("expires_at")
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public UploadSession() {}
+
+    /**
+     * Number of chunks the file is sent in
+     */
+    public int getTotalChunks() {
+        return (int) ((size + chunkSize - 1) / chunkSize);
+    }
+
+    /**
+     * Whether every chunk has been received
+     */
+    public boolean isComplete() {
+        return receivedChunks.size() == getTotalChunks();
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(String ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public List<Integer> getReceivedChunks() {
+        return receivedChunks;
+    }
+
+    public void setReceivedChunks(List<Integer> receivedChunks) {
+        this.receivedChunks = receivedChunks;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
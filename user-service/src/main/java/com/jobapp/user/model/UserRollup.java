@@ -0,0 +1,70 @@
+package com.jobapp.user.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-aggregated user analytics. Daily rollups are keyed by their ISO date (yyyy-MM-dd), so a date
+ * range is a single _id range read; the totals rollup holds the current account state counts.
+ * Requirements: 5.4
+ */
+@Document(collection = "user_rollups")
+public class UserRollup {
+    
+    public static final String TOTALS_ID = "totals";
+    
+    @Id
+    private String id;
+    
+    private Map<String, Long> counters = new HashMap<>();
+    
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public UserRollup() {}
+    
+    public UserRollup(String id) {
+        this.id = id;
+    }
+    
+    /**
+     * Get a counter's value, 0 when it was never incremented
+     * @param counter the counter
+     * @return the counter value
+     */
+    public long get(RollupCounter counter) {
+        Long value = counters != null ? counters.get(counter.getKey()) : null;
+        return value != null ? value : 0L;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+    
+    public void setCounters(Map<String, Long> counters) {
+        this.counters = counters;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
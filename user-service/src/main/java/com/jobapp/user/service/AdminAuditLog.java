@@ -0,0 +1,184 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Admin;
+import com.jobapp.user.model.AdminAuditEntry;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Asynchronous, append-only audit log of admin actions.
+ * Admin request paths only enqueue an entry in memory. A scheduled flush drains the queue, inserts
+ * the entries into the admin_audit_log collection in one unordered batch, and then applies each
+ * admin's action count and latest action to the admin document with a single $inc/$set, so concurrent
+ * admins never lose updates to actionsPerformed. Entries whose insert failed are put back for the next
+ * flush; entries already inserted are recognised by their pre-assigned IDs and not retried.
+ * Requirements: 5.1, 5.3
+ */
+@Service
+public class AdminAuditLog {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AdminAuditLog.class);
+    
+    private static final int DUPLICATE_KEY = 11000;
+    
+    private final MongoTemplate mongoTemplate;
+    private final LinkedBlockingDeque<AdminAuditEntry> queue;
+    private final int batchSize;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    
+    public AdminAuditLog(MongoTemplate mongoTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${audit.queue-capacity:10000}") int queueCapacity,
+                         @Value("${audit.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushedCounter = Counter.builder("admin.audit.flushed")
+            .description("Admin audit entries written to the audit collection")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("admin.audit.dropped")
+            .description("Admin audit entries dropped because the queue was full")
+            .register(meterRegistry);
+        Gauge.builder("admin.audit.queue.size", queue, LinkedBlockingDeque::size)
+            .description("Admin audit entries waiting to be flushed")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Enqueue an admin action; never blocks and never touches the database
+     * @param adminEmail the acting admin
+     * @param action description of the action
+     */
+    public void record(String adminEmail, String action) {
+        AdminAuditEntry entry = new AdminAuditEntry(adminEmail, action);
+        // The ID is fixed up front so a retried batch can skip entries that were already inserted
+        entry.setId(new ObjectId().toHexString());
+        if (!queue.offerLast(entry)) {
+            droppedCounter.increment();
+            logger.warn("Admin audit queue full, dropped action of {}: {}", adminEmail, action);
+        }
+    }
+    
+    /**
+     * Number of entries waiting to be flushed
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+    
+    /**
+     * Write all queued entries, batch by batch
+     */
+    @Scheduled(fixedDelayString = "${audit.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<AdminAuditEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!writeBatch(batch)) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    private boolean writeBatch(List<AdminAuditEntry> batch) {
+        List<AdminAuditEntry> written = batch;
+        List<AdminAuditEntry> failed = new ArrayList<>();
+        try {
+            BulkOperations inserts = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AdminAuditEntry.class);
+            inserts.insert(batch);
+            inserts.execute();
+        } catch (BulkOperationException e) {
+            Map<Integer, Integer> errorCodes = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errorCodes.put(error.getIndex(), error.getCode());
+            }
+            written = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Integer code = errorCodes.get(i);
+                if (code == null) {
+                    written.add(batch.get(i));
+                } else if (code != DUPLICATE_KEY) {
+                    failed.add(batch.get(i));
+                }
+                // Duplicates were inserted by an earlier attempt whose counters were already applied
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to write {} admin audit entries, will retry: {}", batch.size(), e.getMessage());
+            requeue(batch);
+            return false;
+        }
+        
+        if (!written.isEmpty()) {
+            applyAdminCounters(written);
+            flushedCounter.increment(written.size());
+        }
+        if (!failed.isEmpty()) {
+            logger.warn("Failed to write {} admin audit entries, will retry", failed.size());
+            requeue(failed);
+            return false;
+        }
+        return true;
+    }
+    
+    private void applyAdminCounters(List<AdminAuditEntry> entries) {
+        // Entries are in queue order, so the last one per admin is that admin's latest action
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Map<String, AdminAuditEntry> latest = new LinkedHashMap<>();
+        for (AdminAuditEntry entry : entries) {
+            counts.merge(entry.getAdminEmail(), 1, Integer::sum);
+            latest.put(entry.getAdminEmail(), entry);
+        }
+        
+        try {
+            BulkOperations updates = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Admin.class);
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                AdminAuditEntry last = latest.get(count.getKey());
+                updates.updateOne(Query.query(where("email").is(count.getKey())),
+                    new Update().inc("actionsPerformed", count.getValue())
+                        .set("lastAction", last.getAction())
+                        .set("lastActionAt", last.getOccurredAt()));
+            }
+            updates.execute();
+        } catch (Exception e) {
+            // The audit entries are the record of truth; the summary on the admin document is best-effort
+            logger.warn("Failed to update action counters of {} admins: {}", counts.size(), e.getMessage());
+        }
+    }
+    
+    private void requeue(List<AdminAuditEntry> entries) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (!queue.offerFirst(entries.get(i))) {
+                droppedCounter.increment();
+            }
+        }
+    }
+}
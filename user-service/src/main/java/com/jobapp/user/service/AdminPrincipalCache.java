@@ -0,0 +1,98 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Admin;
+import com.jobapp.user.model.AdminPrincipal;
+import com.jobapp.user.repository.AdminRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Short-lived cache of active admin principals (role and permission set) keyed by email.
+ * A principal is resolved at most once per request: after the first lookup it is attached to the
+ * request's authentication, so nested admin service calls reuse it without touching the cache or
+ * the database. Entries expire after {@code admin.principal-cache.ttl-seconds} and are evicted
+ * explicitly when an admin is created, activated or deactivated or has its permissions changed.
+ * Eviction is local to this instance; the TTL bounds how long other instances keep a stale entry.
+ * Inactive or unknown admins are never cached.
+ * Requirements: 5.1
+ */
+@Service
+public class AdminPrincipalCache {
+    
+    private final AdminRepository adminRepository;
+    private final long ttlMillis;
+    private final ConcurrentMap<String, AdminPrincipal> principals = new ConcurrentHashMap<>();
+    
+    public AdminPrincipalCache(AdminRepository adminRepository,
+                               @Value("${admin.principal-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.adminRepository = adminRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+    
+    /**
+     * Resolve the active admin with the given email
+     * @param email the admin email
+     * @return the principal, or empty if no active admin has this email
+     */
+    public Optional<AdminPrincipal> resolve(String email) {
+        long now = System.currentTimeMillis();
+        
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof AdminPrincipal attached
+                && attached.getEmail().equals(email) && !isExpired(attached, now)) {
+            return Optional.of(attached);
+        }
+        
+        AdminPrincipal principal = principals.get(email);
+        if (principal == null || isExpired(principal, now)) {
+            Optional<Admin> admin = adminRepository.findByEmailAndIsActive(email, true);
+            if (admin.isEmpty()) {
+                principals.remove(email);
+                return Optional.empty();
+            }
+            principal = AdminPrincipal.of(admin.get(), now);
+            principals.put(email, principal);
+        }
+        
+        // Carry the principal for the rest of the request; the security context is per request
+        if (authentication instanceof AbstractAuthenticationToken token && email.equals(token.getName())) {
+            token.setDetails(principal);
+        }
+        return Optional.of(principal);
+    }
+    
+    /**
+     * Drop the cached principal of one admin, e.g. after its status, role or permissions changed
+     * @param email the admin email
+     */
+    public void invalidate(String email) {
+        if (email != null) {
+            principals.remove(email);
+        }
+        // A principal attached to the current request must not outlive the change either
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof AbstractAuthenticationToken token
+                && token.getDetails() instanceof AdminPrincipal attached
+                && attached.getEmail().equals(email)) {
+            token.setDetails(null);
+        }
+    }
+    
+    /**
+     * Drop every cached principal
+     */
+    public void invalidateAll() {
+        principals.clear();
+    }
+    
+    private boolean isExpired(AdminPrincipal principal, long now) {
+        return now - principal.getResolvedAtMillis() >= ttlMillis;
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,6 +45,30 @@ public class AdminService {
     
     @Autowired
     private NotificationService notificationService;
+    
+    @Autowired
+    private UserRollupService userRollupService;
+    
+    @Autowired
+    private AdminAuditLog adminAuditLog;
+    
+    @Autowired
+    private AdminPrincipalCache adminPrincipalCache;
+    
+    @Autowired
+    private ProfileCache profileCache;
+    
+    @Autowired
+    private EmployerSnapshotPublisher employerSnapshotPublisher;
+    
+    @Autowired
+    private DashboardAggregationService dashboardAggregationService;
+    
+    @Autowired
+    private UserSearchService userSearchService;
+    
+    @Autowired
+    private RequestMetricsService requestMetricsService;
 
     /**
      * Authenticate admin with SUPER_ADMIN role verification
@@ -133,10 +158,12 @@ public class AdminService {
         Page<Candidate> candidatePage;
         
         if (search != null && !search.trim().isEmpty()) {
-            if (isActive != null) {
+            // Served by the search token index; terms without letters or digits fall back to a regex scan
+            candidatePage = userSearchService.searchCandidates(search, isActive, pageable);
+            if (candidatePage == null && isActive != null) {
                 candidatePage = candidateRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCaseAndIsActive(
                         search, search, isActive, pageable);
-            } else {
+            } else if (candidatePage == null) {
                 candidatePage = candidateRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
                         search, search, pageable);
             }
@@ -167,16 +194,18 @@ public class AdminService {
         Page<Employer> employerPage;
         
         if (search != null && !search.trim().isEmpty()) {
-            if (isApproved != null && isActive != null) {
+            // Served by the search token index; terms without letters or digits fall back to a regex scan
+            employerPage = userSearchService.searchEmployers(search, isApproved, isActive, pageable);
+            if (employerPage == null && isApproved != null && isActive != null) {
                 employerPage = employerRepository.findByCompanyNameContainingIgnoreCaseOrEmailContainingIgnoreCaseAndIsApprovedAndIsActive(
                         search, search, isApproved, isActive, pageable);
-            } else if (isApproved != null) {
+            } else if (employerPage == null && isApproved != null) {
                 employerPage = employerRepository.findByCompanyNameContainingIgnoreCaseOrEmailContainingIgnoreCaseAndIsApproved(
                         search, search, isApproved, pageable);
-            } else if (isActive != null) {
+            } else if (employerPage == null && isActive != null) {
                 employerPage = employerRepository.findByCompanyNameContainingIgnoreCaseOrEmailContainingIgnoreCaseAndIsActive(
                         search, search, isActive, pageable);
-            } else {
+            } else if (employerPage == null) {
                 employerPage = employerRepository.findByCompanyNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
                         search, search, pageable);
             }
@@ -244,6 +273,7 @@ public class AdminService {
             throw new IllegalStateException("Employer is already approved");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.setIsApproved(true);
         employer.setApprovedAt(LocalDateTime.now());
         employer.setApprovedBy(adminEmail);
@@ -253,6 +283,9 @@ public class AdminService {
         }
         
         employerRepository.save(employer);
+        profileCache.invalidateEmployer(employer.getId());
+        employerSnapshotPublisher.employerChanged(employer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_APPROVALS, totalsBefore, employer);
         
         // Send notification if requested
         if (request == null || Boolean.TRUE.equals(request.getSendNotification())) {
@@ -278,6 +311,7 @@ public class AdminService {
             throw new IllegalStateException("Cannot reject an already approved employer");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.setIsApproved(false);
         employer.setRejectedAt(LocalDateTime.now());
         employer.setRejectedBy(adminEmail);
@@ -288,6 +322,9 @@ public class AdminService {
         }
         
         employerRepository.save(employer);
+        profileCache.invalidateEmployer(employer.getId());
+        employerSnapshotPublisher.employerChanged(employer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_REJECTIONS, totalsBefore, employer);
         
         // Send notification if requested
         if (Boolean.TRUE.equals(request.getSendNotification())) {
@@ -313,6 +350,7 @@ public class AdminService {
             throw new IllegalStateException("Candidate is already blocked");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(candidate);
         candidate.setIsActive(false);
         candidate.setBlockedAt(LocalDateTime.now());
         candidate.setBlockedBy(adminEmail);
@@ -323,6 +361,8 @@ public class AdminService {
         }
         
         candidateRepository.save(candidate);
+        profileCache.invalidateCandidate(candidate.getId());
+        userRollupService.recordCandidateChange(RollupCounter.CANDIDATE_BLOCKS, totalsBefore, candidate);
         
         // Send notification if requested
         if (Boolean.TRUE.equals(request.getSendNotification())) {
@@ -348,6 +388,7 @@ public class AdminService {
             throw new IllegalStateException("Candidate is not blocked");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(candidate);
         candidate.setIsActive(true);
         candidate.setUnblockedAt(LocalDateTime.now());
         candidate.setUnblockedBy(adminEmail);
@@ -359,6 +400,8 @@ public class AdminService {
         candidate.setBlockNotes(null);
         
         candidateRepository.save(candidate);
+        profileCache.invalidateCandidate(candidate.getId());
+        userRollupService.recordCandidateChange(RollupCounter.CANDIDATE_UNBLOCKS, totalsBefore, candidate);
         
         // Send notification if requested
         if (request == null || Boolean.TRUE.equals(request.getSendNotification())) {
@@ -384,6 +427,7 @@ public class AdminService {
             throw new IllegalStateException("Employer is already blocked");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.setIsActive(false);
         employer.setBlockedAt(LocalDateTime.now());
         employer.setBlockedBy(adminEmail);
@@ -394,6 +438,9 @@ public class AdminService {
         }
         
         employerRepository.save(employer);
+        profileCache.invalidateEmployer(employer.getId());
+        employerSnapshotPublisher.employerChanged(employer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_BLOCKS, totalsBefore, employer);
         
         // Send notification if requested
         if (Boolean.TRUE.equals(request.getSendNotification())) {
@@ -419,6 +466,7 @@ public class AdminService {
             throw new IllegalStateException("Employer is not blocked");
         }
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.setIsActive(true);
         employer.setUnblockedAt(LocalDateTime.now());
         employer.setUnblockedBy(adminEmail);
@@ -430,6 +478,9 @@ public class AdminService {
         employer.setBlockNotes(null);
         
         employerRepository.save(employer);
+        profileCache.invalidateEmployer(employer.getId());
+        employerSnapshotPublisher.employerChanged(employer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_UNBLOCKS, totalsBefore, employer);
         
         // Send notification if requested
         if (request == null || Boolean.TRUE.equals(request.getSendNotification())) {
@@ -492,6 +543,7 @@ public class AdminService {
         admin.setCreatedBy(adminEmail);
         
         admin = adminRepository.save(admin);
+        adminPrincipalCache.invalidate(admin.getEmail());
         
         recordAdminAction(adminEmail, "Created admin: " + admin.getEmail());
         
@@ -514,6 +566,7 @@ public class AdminService {
         
         admin.setIsActive(true);
         adminRepository.save(admin);
+        adminPrincipalCache.invalidate(admin.getEmail());
         
         recordAdminAction(adminEmail, "Activated admin: " + admin.getEmail());
         
@@ -535,7 +588,7 @@ public class AdminService {
         }
         
         // Prevent self-deactivation
-        Admin currentAdmin = adminRepository.findByEmail(adminEmail)
+        AdminPrincipal currentAdmin = adminPrincipalCache.resolve(adminEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Current admin not found"));
         
         if (admin.getId().equals(currentAdmin.getId())) {
@@ -544,6 +597,7 @@ public class AdminService {
         
         admin.setIsActive(false);
         adminRepository.save(admin);
+        adminPrincipalCache.invalidate(admin.getEmail());
         
         recordAdminAction(adminEmail, "Deactivated admin: " + admin.getEmail() + " - Reason: " + request.getReason());
         
@@ -553,7 +607,8 @@ public class AdminService {
     // Helper methods
 
     private void verifyAdminPermission(String adminEmail, AdminPermission permission) {
-        Admin admin = adminRepository.findByEmailAndIsActive(adminEmail, true)
+        // Resolved once per request and then carried in the security context
+        AdminPrincipal admin = adminPrincipalCache.resolve(adminEmail)
                 .orElseThrow(() -> new UnauthorizedException("Admin not found or inactive"));
         
         if (!admin.hasPermission(permission)) {
@@ -562,10 +617,8 @@ public class AdminService {
     }
 
     private void recordAdminAction(String adminEmail, String action) {
-        adminRepository.findByEmail(adminEmail).ifPresent(admin -> {
-            admin.recordAction(action);
-            adminRepository.save(admin);
-        });
+        // Queued only; the audit log writes entries and admin counters in batches off the request path
+        adminAuditLog.record(adminEmail, action);
     }
 
     private AdminResponse convertToAdminResponse(Admin admin) {
@@ -596,23 +649,8 @@ public class AdminService {
     public DashboardAnalyticsResponse getDashboardAnalytics(int days, String adminEmail) {
         verifyAdminPermission(adminEmail, AdminPermission.VIEW_ANALYTICS);
         
-        DashboardAnalyticsResponse response = new DashboardAnalyticsResponse();
-        
-        // Get all analytics components
-        response.setUserStatistics(getUserAnalytics(adminEmail));
-        response.setJobStatistics(getJobAnalytics(adminEmail));
-        response.setApplicationStatistics(getApplicationAnalytics(adminEmail));
-        response.setSystemStatistics(getSystemAnalytics(adminEmail));
-        
-        // Get time series data
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        response.setUserRegistrationTrends(getUserRegistrationTrends(startDate));
-        response.setJobPostingTrends(getJobPostingTrends(startDate));
-        response.setApplicationTrends(getApplicationTrends(startDate));
-        
-        // Get geographic data (placeholder implementation)
-        response.setJobsByLocation(getJobsByLocation());
-        response.setCandidatesByLocation(getCandidatesByLocation());
+        // Users, jobs, applications and system sources are queried concurrently and the result is cached
+        DashboardAnalyticsResponse response = dashboardAggregationService.getDashboard(days);
         
         recordAdminAction(adminEmail, "Generated dashboard analytics");
         
@@ -626,25 +664,7 @@ public class AdminService {
     public DashboardAnalyticsResponse.UserStatistics getUserAnalytics(String adminEmail) {
         verifyAdminPermission(adminEmail, AdminPermission.VIEW_ANALYTICS);
         
-        DashboardAnalyticsResponse.UserStatistics stats = new DashboardAnalyticsResponse.UserStatistics();
-        
-        // Candidate statistics
-        stats.setTotalCandidates(candidateRepository.count());
-        stats.setActiveCandidates(candidateRepository.countByIsActive(true));
-        stats.setBlockedCandidates(candidateRepository.countByIsActive(false));
-        
-        // Employer statistics
-        stats.setTotalEmployers(employerRepository.count());
-        stats.setApprovedEmployers(employerRepository.countByIsApproved(true));
-        stats.setPendingEmployers(employerRepository.countPendingApproval());
-        stats.setRejectedEmployers(employerRepository.countByIsApproved(false));
-        // Note: Using countByIsApprovedAndIsActive for blocked employers
-        stats.setBlockedEmployers(employerRepository.countByIsApprovedAndIsActive(true, false));
-        
-        // Monthly statistics
-        LocalDateTime monthStart = LocalDateTime.now().withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
-        stats.setNewCandidatesThisMonth(candidateRepository.findByCreatedAtBetween(monthStart, LocalDateTime.now(), null).getTotalElements());
-        stats.setNewEmployersThisMonth(employerRepository.findByCreatedAtBetween(monthStart, LocalDateTime.now(), null).getTotalElements());
+        DashboardAnalyticsResponse.UserStatistics stats = dashboardAggregationService.computeUserStatistics();
         
         recordAdminAction(adminEmail, "Generated user analytics");
         
@@ -652,19 +672,13 @@ public class AdminService {
     }
 
     /**
-     * Get job analytics (placeholder - would need job service integration)
+     * Get job analytics from job-service
      * Requirements: 5.4
      */
     public DashboardAnalyticsResponse.JobStatistics getJobAnalytics(String adminEmail) {
         verifyAdminPermission(adminEmail, AdminPermission.VIEW_ANALYTICS);
         
-        DashboardAnalyticsResponse.JobStatistics stats = new DashboardAnalyticsResponse.JobStatistics();
-        
-        // Placeholder implementation - in real system would call job service
-        stats.setTotalJobs(0L);
-        stats.setActiveJobs(0L);
-        stats.setInactiveJobs(0L);
-        stats.setJobsThisMonth(0L);
+        DashboardAnalyticsResponse.JobStatistics stats = dashboardAggregationService.fetchJobStatistics();
         
         recordAdminAction(adminEmail, "Generated job analytics");
         
@@ -672,19 +686,13 @@ public class AdminService {
     }
 
     /**
-     * Get application analytics (placeholder - would need application service integration)
+     * Get application analytics from application-service
      * Requirements: 5.4
      */
     public DashboardAnalyticsResponse.ApplicationStatistics getApplicationAnalytics(String adminEmail) {
         verifyAdminPermission(adminEmail, AdminPermission.VIEW_ANALYTICS);
         
-        DashboardAnalyticsResponse.ApplicationStatistics stats = new DashboardAnalyticsResponse.ApplicationStatistics();
-        
-        // Placeholder implementation - in real system would call application service
-        stats.setTotalApplications(0L);
-        stats.setApplicationsThisMonth(0L);
-        stats.setAverageApplicationsPerJob(0.0);
-        stats.setApplicationSuccessRate(0.0);
+        DashboardAnalyticsResponse.ApplicationStatistics stats = dashboardAggregationService.fetchApplicationStatistics();
         
         recordAdminAction(adminEmail, "Generated application analytics");
         
@@ -698,18 +706,7 @@ public class AdminService {
     public DashboardAnalyticsResponse.SystemStatistics getSystemAnalytics(String adminEmail) {
         verifyAdminPermission(adminEmail, AdminPermission.VIEW_ANALYTICS);
         
-        DashboardAnalyticsResponse.SystemStatistics stats = new DashboardAnalyticsResponse.SystemStatistics();
-        
-        stats.setTotalAdmins(adminRepository.count());
-        stats.setActiveAdmins(adminRepository.countByIsActive(true));
-        
-        // Get aggregated statistics from repository
-        Long totalLogins = adminRepository.getTotalLoginCount();
-        Long totalActions = adminRepository.getTotalActionsCount();
-        
-        stats.setTotalLogins(totalLogins != null ? totalLogins : 0L);
-        stats.setTotalAdminActions(totalActions != null ? totalActions : 0L);
-        stats.setLastSystemUpdate(LocalDateTime.now());
+        DashboardAnalyticsResponse.SystemStatistics stats = dashboardAggregationService.computeSystemStatistics();
         
         recordAdminAction(adminEmail, "Generated system analytics");
         
@@ -783,13 +780,8 @@ public class AdminService {
         
         SystemReportSummary summary = new SystemReportSummary(days);
         
-        // Generate performance metrics (placeholder)
-        SystemReportSummary.PerformanceMetrics performance = new SystemReportSummary.PerformanceMetrics();
-        performance.setAverageResponseTime(150.0); // ms
-        performance.setTotalRequests(10000L);
-        performance.setErrorRate(0.02); // 2%
-        performance.setPeakConcurrentUsers(500L);
-        summary.setPerformance(performance);
+        // Performance metrics measured by the request metrics filter of every service
+        summary.setPerformance(requestMetricsService.summarize(days));
         
         // Generate security metrics (placeholder)
         SystemReportSummary.SecurityMetrics security = new SystemReportSummary.SecurityMetrics();
@@ -835,53 +827,21 @@ public class AdminService {
         return summary;
     }
 
-    // Helper methods for analytics
-
-    private List<DashboardAnalyticsResponse.TimeSeriesData> getUserRegistrationTrends(LocalDateTime startDate) {
-        // Placeholder implementation - would use aggregation queries
-        List<DashboardAnalyticsResponse.TimeSeriesData> trends = new ArrayList<>();
+    /**
+     * Rebuild the analytics rollups of the last days and recount the totals
+     * Requirements: 5.4
+     */
+    public MessageResponse rebuildUserRollups(int days, String adminEmail) {
+        verifyAdminPermission(adminEmail, AdminPermission.SYSTEM_SETTINGS);
         
-        LocalDateTime current = startDate;
-        while (current.isBefore(LocalDateTime.now())) {
-            String dateStr = current.toLocalDate().toString();
-            long count = candidateRepository.findByCreatedAtBetween(current, current.plusDays(1), null).getTotalElements();
-            trends.add(new DashboardAnalyticsResponse.TimeSeriesData(dateStr, count));
-            current = current.plusDays(1);
-        }
+        LocalDate today = LocalDate.now();
+        int span = Math.max(1, Math.min(days, 3650));
+        int rebuilt = userRollupService.rebuildDailyRollups(today.minusDays(span), today.minusDays(1));
+        userRollupService.reconcileTotals();
         
-        return trends;
-    }
-
-    private List<DashboardAnalyticsResponse.TimeSeriesData> getJobPostingTrends(LocalDateTime startDate) {
-        // Placeholder implementation - would call job service
-        return new ArrayList<>();
-    }
-
-    private List<DashboardAnalyticsResponse.TimeSeriesData> getApplicationTrends(LocalDateTime startDate) {
-        // Placeholder implementation - would call application service
-        return new ArrayList<>();
-    }
-
-    private Map<String, Long> getJobsByLocation() {
-        // Placeholder implementation - would call job service
-        Map<String, Long> locationMap = new HashMap<>();
-        locationMap.put("New York", 150L);
-        locationMap.put("San Francisco", 120L);
-        locationMap.put("Los Angeles", 100L);
-        locationMap.put("Chicago", 80L);
-        locationMap.put("Boston", 70L);
-        return locationMap;
-    }
-
-    private Map<String, Long> getCandidatesByLocation() {
-        // Placeholder implementation - would need location field in candidate model
-        Map<String, Long> locationMap = new HashMap<>();
-        locationMap.put("New York", 200L);
-        locationMap.put("San Francisco", 180L);
-        locationMap.put("Los Angeles", 150L);
-        locationMap.put("Chicago", 120L);
-        locationMap.put("Boston", 100L);
-        return locationMap;
+        recordAdminAction(adminEmail, "Rebuilt user analytics rollups for " + rebuilt + " days");
+        
+        return new MessageResponse("Rebuilt user analytics rollups for " + rebuilt + " days");
     }
 
     private CandidateResponse convertToCandidateResponse(Candidate candidate) {
@@ -0,0 +1,41 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Client that tells application-service a candidate's skill profile changed, so the match scores
+ * stored on that candidate's applications are recomputed once instead of on every ranked read.
+ * application-service reads the profile back from this service, so the call carries no profile data.
+ * The call is best-effort: a failure is logged and never fails the profile update.
+ * Requirements: 1.4
+ */
+@Service
+public class ApplicationScoringClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationScoringClient.class);
+
+    // External service URL (should be configured via properties)
+    private static final String APPLICATION_SERVICE_URL = "http://application-service:8084";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    /**
+     * Ask application-service to rescore the candidate's applications
+     * @param candidate the candidate whose skills or experience changed
+     */
+    public void skillProfileChanged(Candidate candidate) {
+        try {
+            restTemplate.postForLocation(APPLICATION_SERVICE_URL + "/api/applications/candidates/{candidateId}/rescore",
+                null, candidate.getId());
+        } catch (Exception e) {
+            logger.warn("Failed to request rescoring of applications for candidate {}: {}",
+                candidate.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.BulkModerationProgress;
+import com.jobapp.user.dto.BulkModerationRequest;
+import com.jobapp.user.exception.UnauthorizedException;
+import com.jobapp.user.model.AdminPrincipal;
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.ModerationAction;
+import com.jobapp.user.model.RollupCounter;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service applying a moderation action to many candidate or employer accounts at once.
+ * The accounts are selected by ID list or filter criteria and walked in ID order, one batch at a time.
+ * Each batch is written with a single unordered bulk write whose updates only match accounts the action
+ * still applies to, and is followed by one notification batch, one audit entry and one rollup update.
+ * Only the accounts the bulk write actually changed get these side effects: when fewer updates matched
+ * than were sent, the changed accounts are re-read by the timestamp and admin the action stamped on them.
+ * Progress is reported after every batch, so callers can stream it for long-running operations.
+ * Requirements: 5.3
+ */
+@Service
+public class BulkModerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkModerationService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AdminPrincipalCache adminPrincipalCache;
+    private final NotificationService notificationService;
+    private final UserRollupService userRollupService;
+    private final AdminAuditLog adminAuditLog;
+    private final ProfileCache profileCache;
+    private final EmployerSnapshotPublisher employerSnapshotPublisher;
+    private final int batchSize;
+
+    public BulkModerationService(MongoTemplate mongoTemplate,
+                                 AdminPrincipalCache adminPrincipalCache,
+                                 NotificationService notificationService,
+                                 UserRollupService userRollupService,
+                                 AdminAuditLog adminAuditLog,
+                                 ProfileCache profileCache,
+                                 EmployerSnapshotPublisher employerSnapshotPublisher,
+                                 @Value("${bulk-moderation.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.adminPrincipalCache = adminPrincipalCache;
+        this.notificationService = notificationService;
+        this.userRollupService = userRollupService;
+        this.adminAuditLog = adminAuditLog;
+        this.profileCache = profileCache;
+        this.employerSnapshotPublisher = employerSnapshotPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Check that the admin may apply the action and that the request selects employers unambiguously
+     * @throws UnauthorizedException if the admin lacks the permission
+     * @throws IllegalArgumentException if the request is incomplete or ambiguous
+     */
+    public void checkEmployerRequest(BulkModerationRequest request, String adminEmail) {
+        checkRequest(request, adminEmail);
+    }
+
+    /**
+     * Check that the admin may apply the action and that the request selects candidates unambiguously
+     * @throws UnauthorizedException if the admin lacks the permission
+     * @throws IllegalArgumentException if the request is incomplete or ambiguous
+     */
+    public void checkCandidateRequest(BulkModerationRequest request, String adminEmail) {
+        if (request.getAction() == ModerationAction.APPROVE || request.getAction() == ModerationAction.REJECT) {
+            throw new IllegalArgumentException("Candidates can only be blocked or unblocked");
+        }
+        if (request.getIsApproved() != null) {
+            throw new IllegalArgumentException("Candidates cannot be filtered by approval");
+        }
+        checkRequest(request, adminEmail);
+    }
+
+    /**
+     * Apply a moderation action to the selected employers
+     * @param request the action and the employers it applies to
+     * @param adminEmail the acting admin
+     * @param listener receives the progress after every batch and once more when done
+     * @return the final progress
+     */
+    public BulkModerationProgress moderateEmployers(BulkModerationRequest request, String adminEmail,
+                                                    Consumer<BulkModerationProgress> listener) {
+        checkEmployerRequest(request, adminEmail);
+        ModerationAction action = request.getAction();
+        Criteria eligible = switch (action) {
+            case APPROVE, REJECT -> where("isApproved").ne(true);
+            case BLOCK -> where("isActive").ne(false);
+            case UNBLOCK -> where("isActive").ne(true);
+        };
+        RollupCounter event = switch (action) {
+            case APPROVE -> RollupCounter.EMPLOYER_APPROVALS;
+            case REJECT -> RollupCounter.EMPLOYER_REJECTIONS;
+            case BLOCK -> RollupCounter.EMPLOYER_BLOCKS;
+            case UNBLOCK -> RollupCounter.EMPLOYER_UNBLOCKS;
+        };
+
+        return run(Employer.class, Employer::getId, selection(request, eligible), action, listener, batch -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Set<RollupCounter>> totalsBefore = new ArrayList<>();
+            List<Update> updates = new ArrayList<>();
+            for (Employer employer : batch) {
+                totalsBefore.add(UserRollupService.totalsOf(employer));
+                updates.add(applyToEmployer(action, employer, request, adminEmail, now));
+            }
+            String stamp = switch (action) {
+                case APPROVE -> "approved";
+                case REJECT -> "rejected";
+                case BLOCK -> "blocked";
+                case UNBLOCK -> "unblocked";
+            };
+            List<Integer> applied = write(Employer.class, batch, Employer::getId, updates, eligible,
+                stampedBy(stamp, now, adminEmail));
+            List<Employer> employers = applied.stream().map(batch::get).toList();
+
+            employers.forEach(employer -> profileCache.invalidateEmployer(employer.getId()));
+            employerSnapshotPublisher.employersChanged(employers);
+            userRollupService.recordEmployerChanges(event, applied.stream().map(totalsBefore::get).toList(), employers);
+            if (Boolean.TRUE.equals(request.getSendNotification()) && !employers.isEmpty()) {
+                notificationService.sendEmployerNotifications(action, employers, request.getReason());
+            }
+            recordBatch(adminEmail, action, employers.size(), "employers", request.getReason());
+            return employers.size();
+        });
+    }
+
+    /**
+     * Block or unblock the selected candidates
+     * @param request the action and the candidates it applies to
+     * @param adminEmail the acting admin
+     * @param listener receives the progress after every batch and once more when done
+     * @return the final progress
+     */
+    public BulkModerationProgress moderateCandidates(BulkModerationRequest request, String adminEmail,
+                                                     Consumer<BulkModerationProgress> listener) {
+        checkCandidateRequest(request, adminEmail);
+        ModerationAction action = request.getAction();
+        boolean block = action == ModerationAction.BLOCK;
+        Criteria eligible = where("isActive").ne(!block);
+        RollupCounter event = block ? RollupCounter.CANDIDATE_BLOCKS : RollupCounter.CANDIDATE_UNBLOCKS;
+
+        return run(Candidate.class, Candidate::getId, selection(request, eligible), action, listener, batch -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Set<RollupCounter>> totalsBefore = new ArrayList<>();
+            List<Update> updates = new ArrayList<>();
+            for (Candidate candidate : batch) {
+                totalsBefore.add(UserRollupService.totalsOf(candidate));
+                updates.add(applyToCandidate(block, candidate, request, adminEmail, now));
+            }
+            List<Integer> applied = write(Candidate.class, batch, Candidate::getId, updates, eligible,
+                stampedBy(block ? "blocked" : "unblocked", now, adminEmail));
+            List<Candidate> candidates = applied.stream().map(batch::get).toList();
+
+            candidates.forEach(candidate -> profileCache.invalidateCandidate(candidate.getId()));
+            userRollupService.recordCandidateChanges(event, applied.stream().map(totalsBefore::get).toList(), candidates);
+            if (Boolean.TRUE.equals(request.getSendNotification()) && !candidates.isEmpty()) {
+                notificationService.sendCandidateNotifications(action, candidates, request.getReason());
+            }
+            recordBatch(adminEmail, action, candidates.size(), "candidates", request.getReason());
+            return candidates.size();
+        });
+    }
+
+    private void checkRequest(BulkModerationRequest request, String adminEmail) {
+        if (request.getAction() == null) {
+            throw new IllegalArgumentException("Action is required");
+        }
+        AdminPrincipal admin = adminPrincipalCache.resolve(adminEmail)
+                .orElseThrow(() -> new UnauthorizedException("Admin not found or inactive"));
+        if (!admin.hasPermission(request.getAction().getPermission())) {
+            throw new UnauthorizedException("Insufficient permissions for this action");
+        }
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == request.hasFilter()) {
+            throw new IllegalArgumentException("Specify either account IDs or filter criteria");
+        }
+        if (request.getAction().requiresReason() && (request.getReason() == null || request.getReason().isBlank())) {
+            throw new IllegalArgumentException("Reason is required");
+        }
+    }
+
+    private static Criteria selection(BulkModerationRequest request, Criteria eligible) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(eligible);
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            criteria.add(where("id").in(request.getIds()));
+        }
+        if (request.getIsApproved() != null) {
+            criteria.add(where("isApproved").is(request.getIsApproved()));
+        }
+        if (request.getIsActive() != null) {
+            criteria.add(where("isActive").is(request.getIsActive()));
+        }
+        if (request.getCreatedAfter() != null) {
+            criteria.add(where("createdAt").gte(request.getCreatedAfter()));
+        }
+        if (request.getCreatedBefore() != null) {
+            criteria.add(where("createdAt").lt(request.getCreatedBefore()));
+        }
+        return new Criteria().andOperator(criteria);
+    }
+
+    private <T> BulkModerationProgress run(Class<T> type, Function<T, String> idOf, Criteria selection,
+                                           ModerationAction action, Consumer<BulkModerationProgress> listener,
+                                           Function<List<T>, Integer> applyBatch) {
+        BulkModerationProgress progress = new BulkModerationProgress(action, mongoTemplate.count(Query.query(selection), type));
+        listener.accept(progress);
+
+        String lastId = null;
+        while (true) {
+            // Keyset paging by ID: updated accounts drop out of the selection, so offsets would skip some
+            Criteria page = lastId == null ? selection : new Criteria().andOperator(selection, where("id").gt(lastId));
+            List<T> batch = mongoTemplate.find(Query.query(page).with(Sort.by(Sort.Direction.ASC, "id")).limit(batchSize), type);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = idOf.apply(batch.get(batch.size() - 1));
+            progress.setUpdated(progress.getUpdated() + applyBatch.apply(batch));
+            progress.setProcessed(progress.getProcessed() + batch.size());
+            listener.accept(progress);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        progress.setDone(true);
+        listener.accept(progress);
+        return progress;
+    }
+
+    /**
+     * Write the updates of a batch in one unordered bulk write
+     * @param written matches the accounts carrying the change this batch made
+     * @return positions within the batch of the accounts the write changed
+     */
+    private <T> List<Integer> write(Class<T> type, List<T> batch, Function<T, String> idOf, List<Update> updates,
+                                    Criteria eligible, Criteria written) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        for (int i = 0; i < batch.size(); i++) {
+            // Re-checked per account, so one changed since it was read is left alone
+            operations.updateOne(Query.query(where("id").is(idOf.apply(batch.get(i))).andOperator(eligible)), updates.get(i));
+        }
+        Set<Integer> failed = Set.of();
+        BulkWriteResult result;
+        try {
+            result = operations.execute();
+        } catch (BulkOperationException e) {
+            failed = e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+            result = e.getResult();
+            logger.warn("Failed to moderate {} of {} {} accounts: {}", failed.size(), batch.size(),
+                type.getSimpleName(), e.getMessage());
+        }
+        List<Integer> attempted = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (!failed.contains(i)) {
+                attempted.add(i);
+            }
+        }
+        if (result != null && result.wasAcknowledged() && result.getMatchedCount() == attempted.size()) {
+            return attempted;
+        }
+
+        // Some accounts no longer matched their update; only those carrying this batch's change were applied
+        Query query = Query.query(where("id").in(attempted.stream().map(i -> idOf.apply(batch.get(i))).toList())
+            .andOperator(written));
+        query.fields().include("id");
+        Set<String> changed = mongoTemplate.find(query, type).stream().map(idOf).collect(Collectors.toSet());
+        return attempted.stream().filter(i -> changed.contains(idOf.apply(batch.get(i)))).toList();
+    }
+
+    /**
+     * Criteria matching accounts stamped by an action at the given time, e.g. blockedAt and blockedBy
+     */
+    private static Criteria stampedBy(String stamp, LocalDateTime now, String adminEmail) {
+        return where(stamp + "At").is(now).and(stamp + "By").is(adminEmail);
+    }
+
+    private void recordBatch(String adminEmail, ModerationAction action, int count, String accounts, String reason) {
+        if (count > 0) {
+            adminAuditLog.record(adminEmail, "Bulk " + action.getPastTense().toLowerCase() + " " + count + " " + accounts
+                + (reason != null ? " - Reason: " + reason : ""));
+        }
+    }
+
+    /**
+     * Apply the action to the loaded employer, as the single-account action does, and return the same change as an update
+     */
+    private static Update applyToEmployer(ModerationAction action, Employer employer, BulkModerationRequest request,
+                                          String adminEmail, LocalDateTime now) {
+        Update update = new Update();
+        switch (action) {
+            case APPROVE -> {
+                employer.setIsApproved(true);
+                employer.setApprovedAt(now);
+                employer.setApprovedBy(adminEmail);
+                update.set("isApproved", true)
+                    .set("approvalDate", employer.getApprovalDate())
+                    .set("approvedAt", now)
+                    .set("approvedBy", adminEmail);
+                if (request.getNotes() != null) {
+                    employer.setApprovalNotes(request.getNotes());
+                    update.set("approvalNotes", request.getNotes());
+                }
+            }
+            case REJECT -> {
+                employer.setIsApproved(false);
+                employer.setRejectedAt(now);
+                employer.setRejectedBy(adminEmail);
+                employer.setRejectionReason(request.getReason());
+                update.set("isApproved", false)
+                    .set("rejectedAt", now)
+                    .set("rejectedBy", adminEmail)
+                    .set("rejectionReason", request.getReason());
+                if (request.getNotes() != null) {
+                    employer.setRejectionNotes(request.getNotes());
+                    update.set("rejectionNotes", request.getNotes());
+                }
+            }
+            case BLOCK -> {
+                employer.setIsActive(false);
+                employer.setBlockedAt(now);
+                employer.setBlockedBy(adminEmail);
+                employer.setBlockReason(request.getReason());
+                update.set("isActive", false)
+                    .set("blockedAt", now)
+                    .set("blockedBy", adminEmail)
+                    .set("blockReason", request.getReason());
+                if (request.getNotes() != null) {
+                    employer.setBlockNotes(request.getNotes());
+                    update.set("blockNotes", request.getNotes());
+                }
+            }
+            case UNBLOCK -> {
+                employer.setIsActive(true);
+                employer.setUnblockedAt(now);
+                employer.setUnblockedBy(adminEmail);
+                employer.setBlockedAt(null);
+                employer.setBlockedBy(null);
+                employer.setBlockReason(null);
+                employer.setBlockNotes(null);
+                update.set("isActive", true)
+                    .set("unblockedAt", now)
+                    .set("unblockedBy", adminEmail)
+                    .unset("blockedAt")
+                    .unset("blockedBy")
+                    .unset("blockReason")
+                    .unset("blockNotes");
+            }
+        }
+        employer.setUpdatedAt(now);
+        return update.set("updatedAt", now);
+    }
+
+    /**
+     * Block or unblock the loaded candidate, as the single-account action does, and return the same change as an update
+     */
+    private static Update applyToCandidate(boolean block, Candidate candidate, BulkModerationRequest request,
+                                           String adminEmail, LocalDateTime now) {
+        Update update = new Update();
+        if (block) {
+            candidate.setIsActive(false);
+            candidate.setBlockedAt(now);
+            candidate.setBlockedBy(adminEmail);
+            candidate.setBlockReason(request.getReason());
+            update.set("isActive", false)
+                .set("blockedAt", now)
+                .set("blockedBy", adminEmail)
+                .set("blockReason", request.getReason());
+            if (request.getNotes() != null) {
+                candidate.setBlockNotes(request.getNotes());
+                update.set("blockNotes", request.getNotes());
+            }
+        } else {
+            candidate.setIsActive(true);
+            candidate.setUnblockedAt(now);
+            candidate.setUnblockedBy(adminEmail);
+            candidate.setBlockedAt(null);
+            candidate.setBlockedBy(null);
+            candidate.setBlockReason(null);
+            candidate.setBlockNotes(null);
+            update.set("isActive", true)
+                .set("unblockedAt", now)
+                .set("unblockedBy", adminEmail)
+                .unset("blockedAt")
+                .unset("blockedBy")
+                .unset("blockReason")
+                .unset("blockNotes");
+        }
+        candidate.setUpdatedAt(now);
+        return update.set("updatedAt", now);
+    }
+}
@@ -4,6 +4,7 @@ import com.jobapp.user.dto.CandidateRegistrationRequest;
 import com.jobapp.user.dto.CandidateProfileUpdateRequest;
 import com.jobapp.user.dto.CandidateResponse;
 import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.RollupCounter;
 import com.jobapp.user.repository.CandidateRepository;
 import com.jobapp.user.exception.ResourceNotFoundException;
 import com.jobapp.user.exception.EmailAlreadyExistsException;
@@ -14,7 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for candidate management
@@ -30,6 +36,18 @@ public class CandidateService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private ApplicationScoringClient applicationScoringClient;
+    
+    @Autowired
+    private UserRollupService userRollupService;
+    
+    @Autowired
+    private ResumeIndexingService resumeIndexingService;
+    
+    @Autowired
+    private ProfileCache profileCache;
+    
     /**
      * Register a new candidate
      * Requirements: 1.1, 1.2
@@ -53,6 +71,7 @@ public class CandidateService {
         candidate.setUpdatedAt(LocalDateTime.now());
         
         Candidate savedCandidate = candidateRepository.save(candidate);
+        userRollupService.recordCandidateChange(RollupCounter.CANDIDATE_REGISTRATIONS, Set.of(), savedCandidate);
         return convertToResponse(savedCandidate);
     }
     
@@ -62,10 +81,12 @@ public class CandidateService {
      */
     @Transactional(readOnly = true)
     public CandidateResponse getCandidateProfile(String candidateId) {
-        Candidate candidate = candidateRepository.findById(candidateId)
-            .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with id: " + candidateId));
-        
-        return convertToResponse(candidate);
+        return profileCache.candidateById(candidateId, () -> {
+            Candidate candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with id: " + candidateId));
+            
+            return convertToResponse(candidate);
+        });
     }
     
     /**
@@ -74,10 +95,50 @@ public class CandidateService {
      */
     @Transactional(readOnly = true)
     public CandidateResponse getCandidateByEmail(String email) {
-        Candidate candidate = candidateRepository.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with email: " + email));
+        return profileCache.candidateByEmail(email, () -> {
+            Candidate candidate = candidateRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate not found with email: " + email));
+            
+            return convertToResponse(candidate);
+        });
+    }
+    
+    /**
+     * Get candidate profiles for a batch of IDs in one query; unknown IDs are skipped
+     * Requirements: 1.1
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateResponse> getCandidatesByIds(List<String> candidateIds) {
+        List<CandidateResponse> responses = new ArrayList<>();
+        for (Candidate candidate : candidateRepository.findAllById(candidateIds)) {
+            responses.add(convertToResponse(candidate));
+        }
+        return responses;
+    }
+    
+    /**
+     * Search active candidates by the text of their resume, best match first
+     * Requirements: 1.4
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateResponse> searchByResumeText(String search, int limit) {
+        List<String> candidateIds = resumeIndexingService.searchCandidateIds(search, limit);
+        Map<String, CandidateResponse> responsesById = new HashMap<>();
+        for (Candidate candidate : candidateRepository.findAllById(candidateIds)) {
+            // Blocked and deactivated candidates keep their indexed resume but are not shown to employers
+            if (Boolean.TRUE.equals(candidate.getIsActive())) {
+                responsesById.put(candidate.getId(), convertToResponse(candidate));
+            }
+        }
         
-        return convertToResponse(candidate);
+        List<CandidateResponse> responses = new ArrayList<>();
+        for (String candidateId : candidateIds) {
+            CandidateResponse response = responsesById.get(candidateId);
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+        return responses;
     }
     
     /**
@@ -115,9 +176,32 @@ public class CandidateService {
                 null : request.getPortfolioUrl());
         }
         
+        // Application match scores depend on skills and experience only
+        boolean skillProfileChanged = false;
+        
+        if (request.getSkills() != null) {
+            List<String> skills = normalizeSkills(request.getSkills());
+            if (!skills.equals(candidate.getSkills())) {
+                candidate.setSkills(skills);
+                skillProfileChanged = true;
+            }
+        }
+        
+        if (request.getYearsOfExperience() != null
+                && !request.getYearsOfExperience().equals(candidate.getYearsOfExperience())) {
+            candidate.setYearsOfExperience(request.getYearsOfExperience());
+            skillProfileChanged = true;
+        }
+        
         candidate.setUpdatedAt(LocalDateTime.now());
         
         Candidate updatedCandidate = candidateRepository.save(candidate);
+        profileCache.invalidateCandidate(candidateId);
+        
+        if (skillProfileChanged) {
+            applicationScoringClient.skillProfileChanged(updatedCandidate);
+        }
+        
         return convertToResponse(updatedCandidate);
     }
     
@@ -133,6 +217,7 @@ public class CandidateService {
         candidate.setUpdatedAt(LocalDateTime.now());
         
         Candidate updatedCandidate = candidateRepository.save(candidate);
+        profileCache.invalidateCandidate(candidateId);
         return convertToResponse(updatedCandidate);
     }
     
@@ -147,8 +232,18 @@ public class CandidateService {
     /**
      * Convert Candidate entity to CandidateResponse DTO
      */
+    private List<String> normalizeSkills(List<String> skills) {
+        List<String> normalized = new ArrayList<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.trim().isEmpty() && !normalized.contains(skill.trim())) {
+                normalized.add(skill.trim());
+            }
+        }
+        return normalized;
+    }
+    
     private CandidateResponse convertToResponse(Candidate candidate) {
-        return new CandidateResponse(
+        CandidateResponse response = new CandidateResponse(
             candidate.getId(),
             candidate.getEmail(),
             candidate.getName(),
@@ -162,5 +257,8 @@ public class CandidateService {
             candidate.getCreatedAt(),
             candidate.getUpdatedAt()
         );
+        response.setSkills(candidate.getSkills());
+        response.setYearsOfExperience(candidate.getYearsOfExperience());
+        return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,383 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.DashboardAnalyticsResponse;
+import com.jobapp.user.dto.PlatformApplicationStatistics;
+import com.jobapp.user.dto.PlatformJobStatistics;
+import com.jobapp.user.model.RollupCounter;
+import com.jobapp.user.model.UserRollup;
+import com.jobapp.user.repository.AdminRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Composes the admin dashboard from its sources: the user rollups and admin counts in this service's
+ * MongoDB, and the platform statistics of job-service and application-service.
+ * The sources are queried concurrently, each bounded by its own timeout. A source that fails or times
+ * out does not fail the dashboard: its sections are carried over from the previous result (or left
+ * empty) and the response is marked partial.
+ * Composed dashboards are cached per trend length with stale-while-revalidate: a fresh entry is served
+ * as is, a stale entry is served immediately while one background refresh replaces it, and only a
+ * missing or expired entry makes the caller wait. Concurrent refreshes of the same entry are coalesced.
+ * Partial results count as stale, so the next read retries the missing sources.
+ * Requirements: 5.4
+ */
+@Service
+public class DashboardAggregationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DashboardAggregationService.class);
+    
+    static final String SOURCE_USERS = "users";
+    static final String SOURCE_SYSTEM = "system";
+    static final String SOURCE_JOBS = "jobs";
+    static final String SOURCE_APPLICATIONS = "applications";
+    
+    private static final int MAX_DAYS = 365;
+    
+    private final UserRollupService userRollupService;
+    private final AdminRepository adminRepository;
+    private final PlatformStatisticsClient platformStatisticsClient;
+    private final Executor executor;
+    private final long localTimeoutMillis;
+    private final long jobsTimeoutMillis;
+    private final long applicationsTimeoutMillis;
+    private final long freshMillis;
+    private final long staleMillis;
+    
+    private final ConcurrentMap<Integer, CachedDashboard> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, CompletableFuture<DashboardAnalyticsResponse>> refreshes = new ConcurrentHashMap<>();
+    
+    public DashboardAggregationService(UserRollupService userRollupService,
+                                       AdminRepository adminRepository,
+                                       PlatformStatisticsClient platformStatisticsClient,
+                                       @Qualifier("applicationTaskExecutor") Executor executor,
+                                       @Value("${dashboard.timeouts.local:PT1S}") Duration localTimeout,
+                                       @Value("${dashboard.timeouts.jobs:PT2S}") Duration jobsTimeout,
+                                       @Value("${dashboard.timeouts.applications:PT2S}") Duration applicationsTimeout,
+                                       @Value("${dashboard.cache.fresh-for:PT1M}") Duration freshFor,
+                                       @Value("${dashboard.cache.stale-for:PT10M}") Duration staleFor) {
+        this.userRollupService = userRollupService;
+        this.adminRepository = adminRepository;
+        this.platformStatisticsClient = platformStatisticsClient;
+        this.executor = executor;
+        this.localTimeoutMillis = localTimeout.toMillis();
+        this.jobsTimeoutMillis = jobsTimeout.toMillis();
+        this.applicationsTimeoutMillis = applicationsTimeout.toMillis();
+        this.freshMillis = freshFor.toMillis();
+        this.staleMillis = staleFor.toMillis();
+    }
+    
+    /**
+     * Get the composed dashboard
+     * @param days number of days covered by the trend series
+     * @return the dashboard, possibly served from cache
+     */
+    public DashboardAnalyticsResponse getDashboard(int days) {
+        int span = Math.max(1, Math.min(days, MAX_DAYS));
+        // Captured on the request thread; the fan-out runs on executor threads
+        String authorization = platformStatisticsClient.currentAuthorization();
+        
+        CachedDashboard cached = cache.get(span);
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.composedAtMillis;
+            if (age < freshMillis && !cached.response.isPartial()) {
+                return cached.response;
+            }
+            if (age < staleMillis) {
+                refresh(span, authorization, cached.response);
+                return cached.response;
+            }
+        }
+        return refresh(span, authorization, cached != null ? cached.response : null).join();
+    }
+    
+    /**
+     * Drop all cached dashboards
+     */
+    public void invalidate() {
+        cache.clear();
+    }
+    
+    /**
+     * User statistics from the rollups
+     */
+    public DashboardAnalyticsResponse.UserStatistics computeUserStatistics() {
+        DashboardAnalyticsResponse.UserStatistics stats = new DashboardAnalyticsResponse.UserStatistics();
+        
+        // Read from the pre-aggregated rollups rather than counting the collections
+        UserRollup totals = userRollupService.getTotals();
+        
+        // Candidate statistics
+        stats.setTotalCandidates(totals.get(RollupCounter.CANDIDATES));
+        stats.setActiveCandidates(totals.get(RollupCounter.ACTIVE_CANDIDATES));
+        stats.setBlockedCandidates(totals.get(RollupCounter.BLOCKED_CANDIDATES));
+        
+        // Employer statistics
+        stats.setTotalEmployers(totals.get(RollupCounter.EMPLOYERS));
+        stats.setApprovedEmployers(totals.get(RollupCounter.APPROVED_EMPLOYERS));
+        stats.setPendingEmployers(totals.get(RollupCounter.PENDING_EMPLOYERS));
+        stats.setRejectedEmployers(totals.get(RollupCounter.UNAPPROVED_EMPLOYERS));
+        stats.setBlockedEmployers(totals.get(RollupCounter.BLOCKED_EMPLOYERS));
+        
+        // Monthly statistics
+        long newCandidates = 0;
+        long newEmployers = 0;
+        LocalDate today = LocalDate.now();
+        for (UserRollup day : userRollupService.getDailyRollups(today.withDayOfMonth(1), today)) {
+            newCandidates += day.get(RollupCounter.CANDIDATE_REGISTRATIONS);
+            newEmployers += day.get(RollupCounter.EMPLOYER_REGISTRATIONS);
+        }
+        stats.setNewCandidatesThisMonth(newCandidates);
+        stats.setNewEmployersThisMonth(newEmployers);
+        
+        return stats;
+    }
+    
+    /**
+     * Admin and activity statistics
+     */
+    public DashboardAnalyticsResponse.SystemStatistics computeSystemStatistics() {
+        DashboardAnalyticsResponse.SystemStatistics stats = new DashboardAnalyticsResponse.SystemStatistics();
+        
+        stats.setTotalAdmins(adminRepository.count());
+        stats.setActiveAdmins(adminRepository.countByIsActive(true));
+        
+        // Get aggregated statistics from repository
+        Long totalLogins = adminRepository.getTotalLoginCount();
+        Long totalActions = adminRepository.getTotalActionsCount();
+        
+        stats.setTotalLogins(totalLogins != null ? totalLogins : 0L);
+        stats.setTotalAdminActions(totalActions != null ? totalActions : 0L);
+        stats.setLastSystemUpdate(LocalDateTime.now());
+        
+        return stats;
+    }
+    
+    /**
+     * Job statistics from job-service; empty if job-service cannot be reached
+     */
+    public DashboardAnalyticsResponse.JobStatistics fetchJobStatistics() {
+        try {
+            PlatformJobStatistics stats = platformStatisticsClient.getJobStatistics(1, platformStatisticsClient.currentAuthorization());
+            if (stats != null) {
+                return toJobStatistics(stats);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to fetch job statistics: {}", e.getMessage());
+        }
+        return new DashboardAnalyticsResponse.JobStatistics();
+    }
+    
+    /**
+     * Application statistics from application-service; empty if application-service cannot be reached
+     */
+    public DashboardAnalyticsResponse.ApplicationStatistics fetchApplicationStatistics() {
+        try {
+            PlatformApplicationStatistics stats =
+                platformStatisticsClient.getApplicationStatistics(1, platformStatisticsClient.currentAuthorization());
+            if (stats != null) {
+                return toApplicationStatistics(stats);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to fetch application statistics: {}", e.getMessage());
+        }
+        return new DashboardAnalyticsResponse.ApplicationStatistics();
+    }
+    
+    private CompletableFuture<DashboardAnalyticsResponse> refresh(int days, String authorization,
+                                                                  DashboardAnalyticsResponse previous) {
+        CompletableFuture<DashboardAnalyticsResponse> running = refreshes.get(days);
+        if (running != null) {
+            return running;
+        }
+        CompletableFuture<DashboardAnalyticsResponse> started = new CompletableFuture<>();
+        running = refreshes.putIfAbsent(days, started);
+        if (running != null) {
+            return running;
+        }
+        
+        compose(days, authorization, previous).whenComplete((response, error) -> {
+            if (response != null) {
+                cache.put(days, new CachedDashboard(response, System.currentTimeMillis()));
+            }
+            refreshes.remove(days, started);
+            if (error != null) {
+                started.completeExceptionally(error);
+            } else {
+                started.complete(response);
+            }
+        });
+        return started;
+    }
+    
+    private CompletableFuture<DashboardAnalyticsResponse> compose(int days, String authorization,
+                                                                  DashboardAnalyticsResponse previous) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days);
+        Set<String> unavailable = ConcurrentHashMap.newKeySet();
+        
+        CompletableFuture<DashboardAnalyticsResponse.UserStatistics> users =
+            source(SOURCE_USERS, this::computeUserStatistics, localTimeoutMillis, unavailable);
+        CompletableFuture<List<DashboardAnalyticsResponse.TimeSeriesData>> registrations =
+            source(SOURCE_USERS, () -> computeUserRegistrationTrends(from, today), localTimeoutMillis, unavailable);
+        CompletableFuture<DashboardAnalyticsResponse.SystemStatistics> system =
+            source(SOURCE_SYSTEM, this::computeSystemStatistics, localTimeoutMillis, unavailable);
+        CompletableFuture<PlatformJobStatistics> jobs =
+            source(SOURCE_JOBS, () -> platformStatisticsClient.getJobStatistics(days, authorization),
+                jobsTimeoutMillis, unavailable);
+        CompletableFuture<PlatformApplicationStatistics> applications =
+            source(SOURCE_APPLICATIONS, () -> platformStatisticsClient.getApplicationStatistics(days, authorization),
+                applicationsTimeoutMillis, unavailable);
+        
+        return CompletableFuture.allOf(users, registrations, system, jobs, applications).thenApply(ignored -> {
+            DashboardAnalyticsResponse response = new DashboardAnalyticsResponse();
+            
+            response.setUserStatistics(orPrevious(users.join(), previous,
+                DashboardAnalyticsResponse::getUserStatistics, DashboardAnalyticsResponse.UserStatistics::new));
+            response.setUserRegistrationTrends(orPrevious(registrations.join(), previous,
+                DashboardAnalyticsResponse::getUserRegistrationTrends, ArrayList::new));
+            response.setSystemStatistics(orPrevious(system.join(), previous,
+                DashboardAnalyticsResponse::getSystemStatistics, DashboardAnalyticsResponse.SystemStatistics::new));
+            
+            PlatformJobStatistics jobStats = jobs.join();
+            if (jobStats != null) {
+                response.setJobStatistics(toJobStatistics(jobStats));
+                response.setJobPostingTrends(toTrend(jobStats.getPostingsByDay(), from, today));
+                response.setJobsByLocation(jobStats.getJobsByLocation() != null ? jobStats.getJobsByLocation() : new HashMap<>());
+            } else {
+                response.setJobStatistics(orPrevious(null, previous,
+                    DashboardAnalyticsResponse::getJobStatistics, DashboardAnalyticsResponse.JobStatistics::new));
+                response.setJobPostingTrends(orPrevious(null, previous,
+                    DashboardAnalyticsResponse::getJobPostingTrends, ArrayList::new));
+                response.setJobsByLocation(orPrevious(null, previous,
+                    DashboardAnalyticsResponse::getJobsByLocation, HashMap::new));
+            }
+            
+            PlatformApplicationStatistics applicationStats = applications.join();
+            if (applicationStats != null) {
+                response.setApplicationStatistics(toApplicationStatistics(applicationStats));
+                response.setApplicationTrends(toTrend(applicationStats.getApplicationsByDay(), from, today));
+            } else {
+                response.setApplicationStatistics(orPrevious(null, previous,
+                    DashboardAnalyticsResponse::getApplicationStatistics, DashboardAnalyticsResponse.ApplicationStatistics::new));
+                response.setApplicationTrends(orPrevious(null, previous,
+                    DashboardAnalyticsResponse::getApplicationTrends, ArrayList::new));
+            }
+            
+            // Placeholder until candidates carry a location
+            response.setCandidatesByLocation(getCandidatesByLocation());
+            
+            if (!unavailable.isEmpty()) {
+                response.setPartial(true);
+                response.setUnavailableSources(new ArrayList<>(new TreeSet<>(unavailable)));
+            }
+            return response;
+        });
+    }
+    
+    private <T> CompletableFuture<T> source(String name, Supplier<T> supplier, long timeoutMillis, Set<String> unavailable) {
+        return CompletableFuture.supplyAsync(() -> {
+                T value = supplier.get();
+                if (value == null) {
+                    throw new IllegalStateException("no data returned");
+                }
+                return value;
+            }, executor)
+            .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+            .exceptionally(error -> {
+                unavailable.add(name);
+                logger.warn("Dashboard source {} unavailable: {}", name, error.getMessage() != null
+                    ? error.getMessage() : error.getClass().getSimpleName());
+                return null;
+            });
+    }
+    
+    private static <T> T orPrevious(T value, DashboardAnalyticsResponse previous,
+                                    Function<DashboardAnalyticsResponse, T> section, Supplier<T> empty) {
+        if (value != null) {
+            return value;
+        }
+        T carried = previous != null ? section.apply(previous) : null;
+        return carried != null ? carried : empty.get();
+    }
+    
+    private List<DashboardAnalyticsResponse.TimeSeriesData> computeUserRegistrationTrends(LocalDate from, LocalDate today) {
+        // One range read of the daily rollups; days without a rollup had no registrations
+        Map<String, Long> registrations = new HashMap<>();
+        for (UserRollup day : userRollupService.getDailyRollups(from, today)) {
+            registrations.put(day.getId(), day.get(RollupCounter.CANDIDATE_REGISTRATIONS));
+        }
+        return toTrend(registrations, from, today);
+    }
+    
+    private static List<DashboardAnalyticsResponse.TimeSeriesData> toTrend(Map<String, Long> countsByDay,
+                                                                           LocalDate from, LocalDate today) {
+        List<DashboardAnalyticsResponse.TimeSeriesData> trend = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            String dateStr = day.toString();
+            long count = countsByDay != null ? countsByDay.getOrDefault(dateStr, 0L) : 0L;
+            trend.add(new DashboardAnalyticsResponse.TimeSeriesData(dateStr, count));
+        }
+        return trend;
+    }
+    
+    private static DashboardAnalyticsResponse.JobStatistics toJobStatistics(PlatformJobStatistics source) {
+        DashboardAnalyticsResponse.JobStatistics stats = new DashboardAnalyticsResponse.JobStatistics();
+        stats.setTotalJobs(source.getTotalJobs());
+        stats.setActiveJobs(source.getActiveJobs());
+        stats.setInactiveJobs(source.getInactiveJobs());
+        stats.setJobsThisMonth(source.getJobsThisMonth());
+        stats.setJobsByType(source.getJobsByType());
+        return stats;
+    }
+    
+    private static DashboardAnalyticsResponse.ApplicationStatistics toApplicationStatistics(PlatformApplicationStatistics source) {
+        DashboardAnalyticsResponse.ApplicationStatistics stats = new DashboardAnalyticsResponse.ApplicationStatistics();
+        stats.setTotalApplications(source.getTotalApplications());
+        stats.setApplicationsThisMonth(source.getApplicationsThisMonth());
+        stats.setApplicationsByStatus(source.getApplicationsByStatus());
+        stats.setAverageApplicationsPerJob(source.getAverageApplicationsPerJob());
+        stats.setApplicationSuccessRate(source.getApplicationSuccessRate());
+        return stats;
+    }
+    
+    private Map<String, Long> getCandidatesByLocation() {
+        // Placeholder implementation - would need location field in candidate model
+        Map<String, Long> locationMap = new HashMap<>();
+        locationMap.put("New York", 200L);
+        locationMap.put("San Francisco", 180L);
+        locationMap.put("Los Angeles", 150L);
+        locationMap.put("Chicago", 120L);
+        locationMap.put("Boston", 100L);
+        return locationMap;
+    }
+    
+    private static final class CachedDashboard {
+        private final DashboardAnalyticsResponse response;
+        private final long composedAtMillis;
+        
+        private CachedDashboard(DashboardAnalyticsResponse response, long composedAtMillis) {
+            this.response = response;
+            this.composedAtMillis = composedAtMillis;
+        }
+    }
+}
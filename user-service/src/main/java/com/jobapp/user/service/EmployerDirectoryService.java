@@ -0,0 +1,191 @@
+package com.jobapp.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.user.dto.EmployerPageResponse;
+import com.jobapp.user.dto.EmployerResponse;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service for the pending and approved employer listings, most recently registered first.
+ * Pages are addressed by a keyset cursor of the form {@code <createdAtEpochMillis>:<employerId>} and
+ * read through the {@code approval_listing_idx} index, so a deep page costs the same as the first.
+ * The full listing can also be streamed as NDJSON through a server-side cursor. Either way only the
+ * fields of {@link EmployerResponse} are loaded and memory does not grow with the number of employers.
+ * The total count comes from the user rollup totals instead of counting the collection.
+ * Requirements: 3.1, 3.4
+ */
+@Service
+public class EmployerDirectoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployerDirectoryService.class);
+
+    static final String LISTING_INDEX = "approval_listing_idx";
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Employer listings; both only contain active employers
+     */
+    public enum Listing {
+        PENDING(false),
+        APPROVED(true);
+
+        private final boolean approved;
+
+        Listing(boolean approved) {
+            this.approved = approved;
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserRollupService userRollupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Read one page of a listing
+     * @param listing the listing to read
+     * @param cursor the cursor returned by the previous page, or null for the first page
+     * @param size the maximum number of employers to return
+     * @return the page of employers with the cursor for the next page; the total count is only set on the first page
+     */
+    public EmployerPageResponse getPage(Listing listing, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        boolean firstPage = cursor == null || cursor.isEmpty();
+
+        Criteria criteria = listingCriteria(listing);
+        if (!firstPage) {
+            int separator = cursor.indexOf(':');
+            LocalDateTime createdAt;
+            String lastId;
+            try {
+                createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(cursor.substring(0, separator))),
+                    ZoneId.systemDefault());
+                lastId = cursor.substring(separator + 1);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid employer cursor: " + cursor);
+            }
+            if (!ObjectId.isValid(lastId)) {
+                throw new IllegalArgumentException("Invalid employer cursor: " + cursor);
+            }
+            // Same created_at falls back to the _id tie-breaker so no employer is skipped or repeated;
+            // the outer created_at bound keeps the index scan starting at the cursor instead of the newest entry
+            criteria = criteria.and("createdAt").lte(createdAt).orOperator(
+                where("createdAt").lt(createdAt),
+                where("createdAt").is(createdAt).and("id").lt(new ObjectId(lastId)));
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        Query query = listingQuery(criteria).limit(limit + 1);
+        List<Employer> employers = mongoTemplate.find(query, Employer.class);
+        boolean hasMore = employers.size() > limit;
+        if (hasMore) {
+            employers = employers.subList(0, limit);
+        }
+
+        List<EmployerResponse> responses = new ArrayList<>(employers.size());
+        for (Employer employer : employers) {
+            responses.add(new EmployerResponse(employer));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Employer last = employers.get(employers.size() - 1);
+            nextCursor = toEpochMillis(last.getCreatedAt()) + ":" + last.getId();
+        }
+        return new EmployerPageResponse(responses, nextCursor, firstPage ? count(listing) : null);
+    }
+
+    /**
+     * Stream a whole listing as NDJSON, one employer per line
+     * @param listing the listing to stream
+     * @param out the stream to write to; it is flushed after every chunk but not closed
+     * @return number of employers written
+     */
+    public long streamListing(Listing listing, OutputStream out) throws IOException {
+        Query query = listingQuery(listingCriteria(listing)).cursorBatchSize(CHUNK_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        try (Stream<Employer> stream = mongoTemplate.stream(query, Employer.class)) {
+            Iterator<Employer> employers = stream.iterator();
+            while (employers.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(new EmployerResponse(employers.next())));
+                writer.write("\n");
+                if (++rows % CHUNK_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        logger.debug("Streamed {} {} employers", rows, listing);
+        return rows;
+    }
+
+    /**
+     * Number of employers in a listing, read from the rollup totals
+     * @param listing the listing to count
+     * @return the employer count
+     */
+    public long count(Listing listing) {
+        Map<String, Long> totals = userRollupService.getTotals().getCounters();
+        if (listing == Listing.PENDING) {
+            return totals.getOrDefault(RollupCounter.PENDING_EMPLOYERS.getKey(), 0L);
+        }
+        // Blocked employers are the approved ones that are no longer active
+        return Math.max(0L, totals.getOrDefault(RollupCounter.APPROVED_EMPLOYERS.getKey(), 0L)
+            - totals.getOrDefault(RollupCounter.BLOCKED_EMPLOYERS.getKey(), 0L));
+    }
+
+    private Criteria listingCriteria(Listing listing) {
+        return where("isApproved").is(listing.approved).and("isActive").is(true);
+    }
+
+    private Query listingQuery(Criteria criteria) {
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+            .withHint(LISTING_INDEX);
+        query.fields().include("id").include("email").include("companyName").include("website")
+            .include("description").include("logoUrl").include("address").include("contactPerson")
+            .include("contactPhone").include("isApproved").include("isActive").include("approvalDate")
+            .include("approvedBy").include("rejectionReason").include("createdAt").include("updatedAt");
+        return query;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,7 +3,9 @@ package com.jobapp.user.service;
 import com.jobapp.user.dto.EmployerRegistrationRequest;
 import com.jobapp.user.dto.EmployerProfileUpdateRequest;
 import com.jobapp.user.dto.EmployerResponse;
+import com.jobapp.user.dto.EmployerSnapshotResponse;
 import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
 import com.jobapp.user.repository.EmployerRepository;
 import com.jobapp.user.exception.ResourceNotFoundException;
 import com.jobapp.user.exception.EmailAlreadyExistsException;
@@ -15,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Pageable;
 
@@ -26,12 +29,23 @@ import org.springframework.data.domain.Pageable;
 @Transactional
 public class EmployerService {
     
+    private static final int MAX_SNAPSHOT_BATCH = 100;
+    
     @Autowired
     private EmployerRepository employerRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private UserRollupService userRollupService;
+    
+    @Autowired
+    private ProfileCache profileCache;
+    
+    @Autowired
+    private EmployerSnapshotPublisher employerSnapshotPublisher;
+    
     /**
      * Register a new employer
      * Requirements: 3.1
@@ -58,6 +72,8 @@ public class EmployerService {
         employer.setUpdatedAt(LocalDateTime.now());
         
         Employer savedEmployer = employerRepository.save(employer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_REGISTRATIONS, Set.of(), savedEmployer);
+        employerSnapshotPublisher.employerChanged(savedEmployer);
         return convertToResponse(savedEmployer);
     }
     
@@ -67,10 +83,12 @@ public class EmployerService {
      */
     @Transactional(readOnly = true)
     public EmployerResponse getEmployerProfile(String employerId) {
-        Employer employer = employerRepository.findById(employerId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employer not found with id: " + employerId));
-        
-        return convertToResponse(employer);
+        return profileCache.employerById(employerId, () -> {
+            Employer employer = employerRepository.findById(employerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employer not found with id: " + employerId));
+            
+            return convertToResponse(employer);
+        });
     }
     
     /**
@@ -79,10 +97,12 @@ public class EmployerService {
      */
     @Transactional(readOnly = true)
     public EmployerResponse getEmployerByEmail(String email) {
-        Employer employer = employerRepository.findByEmail(email)
-            .orElseThrow(() -> new ResourceNotFoundException("Employer not found with email: " + email));
-        
-        return convertToResponse(employer);
+        return profileCache.employerByEmail(email, () -> {
+            Employer employer = employerRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Employer not found with email: " + email));
+            
+            return convertToResponse(employer);
+        });
     }
     
     /**
@@ -121,6 +141,8 @@ public class EmployerService {
         employer.setUpdatedAt(LocalDateTime.now());
         
         Employer updatedEmployer = employerRepository.save(employer);
+        profileCache.invalidateEmployer(employerId);
+        employerSnapshotPublisher.employerChanged(updatedEmployer);
         return convertToResponse(updatedEmployer);
     }
     
@@ -136,6 +158,8 @@ public class EmployerService {
         employer.setUpdatedAt(LocalDateTime.now());
         
         Employer updatedEmployer = employerRepository.save(employer);
+        profileCache.invalidateEmployer(employerId);
+        employerSnapshotPublisher.employerChanged(updatedEmployer);
         return convertToResponse(updatedEmployer);
     }
     
@@ -147,9 +171,13 @@ public class EmployerService {
         Employer employer = employerRepository.findById(employerId)
             .orElseThrow(() -> new ResourceNotFoundException("Employer not found with id: " + employerId));
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.approve(adminId);
         
         Employer updatedEmployer = employerRepository.save(employer);
+        profileCache.invalidateEmployer(employerId);
+        employerSnapshotPublisher.employerChanged(updatedEmployer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_APPROVALS, totalsBefore, updatedEmployer);
         return convertToResponse(updatedEmployer);
     }
     
@@ -161,33 +189,27 @@ public class EmployerService {
         Employer employer = employerRepository.findById(employerId)
             .orElseThrow(() -> new ResourceNotFoundException("Employer not found with id: " + employerId));
         
+        Set<RollupCounter> totalsBefore = UserRollupService.totalsOf(employer);
         employer.reject(rejectionReason);
         
         Employer updatedEmployer = employerRepository.save(employer);
+        profileCache.invalidateEmployer(employerId);
+        employerSnapshotPublisher.employerChanged(updatedEmployer);
+        userRollupService.recordEmployerChange(RollupCounter.EMPLOYER_REJECTIONS, totalsBefore, updatedEmployer);
         return convertToResponse(updatedEmployer);
     }
     
     /**
-     * Get all pending employers (for admin approval)
-     * Requirements: 3.4
-     */
-    @Transactional(readOnly = true)
-    public List<EmployerResponse> getPendingEmployers() {
-        List<Employer> pendingEmployers = employerRepository.findPendingApproval(org.springframework.data.domain.Pageable.unpaged()).getContent();
-        return pendingEmployers.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Get all approved employers
+     * Get the company information job-service keeps snapshots of; unknown IDs are left out
      * Requirements: 3.1
      */
     @Transactional(readOnly = true)
-    public List<EmployerResponse> getApprovedEmployers() {
-        List<Employer> approvedEmployers = employerRepository.findActiveApprovedEmployers(org.springframework.data.domain.Pageable.unpaged()).getContent();
-        return approvedEmployers.stream()
-                .map(this::convertToResponse)
+    public List<EmployerSnapshotResponse> getEmployerSnapshots(List<String> employerIds) {
+        if (employerIds.size() > MAX_SNAPSHOT_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_SNAPSHOT_BATCH + " employers can be requested at once");
+        }
+        return employerRepository.findAllById(employerIds).stream()
+                .map(EmployerSnapshotResponse::new)
                 .collect(Collectors.toList());
     }
     
@@ -204,10 +226,9 @@ public class EmployerService {
      */
     @Transactional(readOnly = true)
     public boolean canPostJobs(String employerId) {
-        Employer employer = employerRepository.findById(employerId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employer not found with id: " + employerId));
-        
-        return employer.canPostJobs();
+        // Same rule as Employer.canPostJobs, answered from the cached profile
+        EmployerResponse employer = getEmployerProfile(employerId);
+        return Boolean.TRUE.equals(employer.getIsApproved()) && Boolean.TRUE.equals(employer.getIsActive());
     }
     
     /**
@@ -0,0 +1,60 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.EmployerSnapshotResponse;
+import com.jobapp.user.model.Employer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Client that sends job-service the changed company information of an employer, so job pages and
+ * company profiles render from job-service's local snapshot without calling this service.
+ * The call is best-effort: a failure is logged and never fails the update; job-service resyncs a
+ * snapshot that was missed once it is read and found stale.
+ * Requirements: 3.1, 3.4
+ */
+@Service
+public class EmployerSnapshotPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployerSnapshotPublisher.class);
+
+    // External service URL (should be configured via properties)
+    private static final String JOB_SERVICE_URL = "http://job-service:8083";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    /**
+     * Send the employer's current company information to job-service
+     * @param employer the employer after the change was saved
+     */
+    public void employerChanged(Employer employer) {
+        try {
+            restTemplate.put(JOB_SERVICE_URL + "/api/jobs/company/{employerId}/snapshot",
+                new EmployerSnapshotResponse(employer), employer.getId());
+        } catch (Exception e) {
+            logger.warn("Failed to publish company information of employer {}: {}",
+                employer.getId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Send the current company information of a batch of employers to job-service in one call
+     * @param employers the employers after the change was saved
+     */
+    public void employersChanged(List<Employer> employers) {
+        if (employers.isEmpty()) {
+            return;
+        }
+        try {
+            restTemplate.put(JOB_SERVICE_URL + "/api/jobs/companies/snapshots",
+                employers.stream().map(EmployerSnapshotResponse::new).toList());
+        } catch (Exception e) {
+            logger.warn("Failed to publish company information of {} employers: {}", employers.size(), e.getMessage());
+        }
+    }
+}
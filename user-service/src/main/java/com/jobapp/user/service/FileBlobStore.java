@@ -0,0 +1,346 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.exception.FileUploadException;
+import com.jobapp.user.model.FileBlob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Content-addressed, deduplicating store for uploaded files, kept in the configured {@link FileStorage}.
+ * An upload is hashed while it is written to a temporary file (or, for a direct upload, read back from
+ * the storage) and kept once under {@code <category>/<sha256>.<ext>}; uploading content that is
+ * already stored only adds a reference.
+ * Each account holds one file per category. The new reference is recorded before the file is written,
+ * but the account's previous file is only released once the file is stored and the account points at
+ * it; if either step fails, the new reference is dropped again and the previous file stays the account's.
+ * Files that stay unreferenced for the grace period are deleted by a scheduled garbage collection.
+ * A file is marked while it is being deleted and its record is only removed if it is still unreferenced
+ * afterwards; an upload of the same content that finds the mark is rejected, to be retried once the
+ * deletion has finished.
+ * Files derived from a stored file (resized logos, see {@link LogoVariantService#variantNames}) are
+ * deleted together with it.
+ * Files uploaded before this store existed are not tracked and are left alone.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@Service
+public class FileBlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileBlobStore.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int GC_BATCH_SIZE = 500;
+
+    /** Marks older than this are left over from a failed collection and no longer block uploads */
+    private static final Duration DELETION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final FileStorage fileStorage;
+    private final Duration gracePeriod;
+
+    public FileBlobStore(MongoTemplate mongoTemplate,
+                         FileStorage fileStorage,
+                         @Value("${app.file.gc.grace-period:P1D}") Duration gracePeriod) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileStorage = fileStorage;
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * Owner key of a candidate's file
+     */
+    public static String candidateOwner(String candidateId) {
+        return "candidate:" + candidateId;
+    }
+
+    /**
+     * Owner key of an employer's file
+     */
+    public static String employerOwner(String employerId) {
+        return "employer:" + employerId;
+    }
+
+    /**
+     * Store content and make it the owner's file of the category
+     * @param content the upload stream, read to the end
+     * @param category the storage category (resumes, logos)
+     * @param extension the file extension without dot
+     * @param contentType the declared content type
+     * @param owner the owner key
+     * @param assign points the owner's account at the stored file; a failure rolls the upload back
+     * @return the stored file
+     */
+    public FileBlob store(InputStream content, String category, String extension, String contentType, String owner,
+                          Consumer<FileBlob> assign) throws IOException {
+        Path temp = Files.createTempFile("upload-", ".tmp");
+        try {
+            MessageDigest messageDigest = newDigest();
+            long size;
+            try (InputStream in = new DigestInputStream(content, messageDigest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String digest = HexFormat.of().formatHex(messageDigest.digest());
+            FileBlob blob = blob(keyOf(category, digest, extension), digest, category, contentType, size);
+
+            // The reference is recorded before the file is placed, so the collector never sees it unreferenced
+            boolean added = attach(blob, owner);
+            try {
+                if (!fileStorage.exists(blob.getId())) {
+                    fileStorage.store(blob.getId(), temp, contentType);
+                }
+                assign.accept(blob);
+            } catch (IOException | RuntimeException e) {
+                rollBack(blob.getId(), owner, added);
+                throw e;
+            }
+            releasePrevious(blob.getId(), category, owner);
+            return blob;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Make an object uploaded directly to the storage the owner's file of the category.
+     * The object is hashed as it is read from the storage, copied to its content-addressed key within
+     * the storage unless that content is already stored, and removed from its upload key.
+     * @param uploadKey the key the client uploaded to
+     * @param category the storage category (resumes, logos)
+     * @param extension the file extension without dot
+     * @param contentType the declared content type
+     * @param owner the owner key
+     * @param assign points the owner's account at the stored file; a failure rolls the upload back
+     * @return the stored file
+     */
+    public FileBlob adopt(String uploadKey, String category, String extension, String contentType, String owner,
+                          Consumer<FileBlob> assign) throws IOException {
+        MessageDigest messageDigest = newDigest();
+        long size;
+        try (InputStream in = new DigestInputStream(fileStorage.open(uploadKey), messageDigest)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+        }
+        String digest = HexFormat.of().formatHex(messageDigest.digest());
+        FileBlob blob = blob(keyOf(category, digest, extension), digest, category, contentType, size);
+
+        boolean added = attach(blob, owner);
+        try {
+            if (!fileStorage.exists(blob.getId())) {
+                fileStorage.copy(uploadKey, blob.getId());
+            }
+            fileStorage.delete(uploadKey);
+            assign.accept(blob);
+        } catch (IOException | RuntimeException e) {
+            rollBack(blob.getId(), owner, added);
+            throw e;
+        }
+        releasePrevious(blob.getId(), category, owner);
+        return blob;
+    }
+
+    /**
+     * Check whether a file is tracked by this store
+     * @param key the storage key
+     * @return true if the file has a record, referenced or not
+     */
+    public boolean isTracked(String key) {
+        return mongoTemplate.exists(Query.query(where("id").is(key)), FileBlob.class);
+    }
+
+    /**
+     * Delete a file by its storage key. A file still referenced by an account is not deleted.
+     * @param key the storage key
+     * @return true if a file was deleted
+     */
+    public boolean delete(String key) throws IOException {
+        Path path = Paths.get(key).normalize();
+        if (path.isAbsolute() || path.startsWith("..")) {
+            throw new FileUploadException("Invalid file path: " + key);
+        }
+
+        FileBlob blob = mongoTemplate.findById(key, FileBlob.class);
+        if (blob != null) {
+            if (blob.getReferenceCount() > 0) {
+                throw new FileUploadException("File is in use by " + blob.getReferenceCount() + " account(s)");
+            }
+            return deleteUnreferenced(key);
+        }
+        return deleteWithDerivedFiles(path.toString().replace('\\', '/'));
+    }
+
+    /**
+     * Delete files that have been unreferenced for longer than the grace period
+     * @return the number of deleted files
+     */
+    @Scheduled(cron = "${app.file.gc.cron:0 30 3 * * *}")
+    public int collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int collected = 0;
+        long reclaimedBytes = 0;
+        List<FileBlob> unreferenced;
+        do {
+            unreferenced = mongoTemplate.find(
+                Query.query(where("owners").size(0).and("releasedAt").lt(cutoff)).limit(GC_BATCH_SIZE), FileBlob.class);
+            for (FileBlob blob : unreferenced) {
+                try {
+                    if (deleteUnreferenced(blob.getId())) {
+                        collected++;
+                        reclaimedBytes += blob.getSize();
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to delete unreferenced file {}: {}", blob.getId(), e.getMessage());
+                }
+            }
+        } while (unreferenced.size() == GC_BATCH_SIZE);
+
+        if (collected > 0) {
+            logger.info("Deleted {} unreferenced uploaded files ({} bytes)", collected, reclaimedBytes);
+        }
+        return collected;
+    }
+
+    /**
+     * Add the owner to a file's record, creating the record if needed. A file that a running collection
+     * is deleting is not attached: its existence could not be relied on, so the upload has to be retried.
+     * @return true if the owner was added, false if it already referenced the file
+     */
+    private boolean attach(FileBlob blob, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        FileBlob previous = mongoTemplate.findAndModify(Query.query(where("id").is(blob.getId())),
+            new Update().addToSet("owners", owner)
+                .unset("releasedAt")
+                .setOnInsert("digest", blob.getDigest())
+                .setOnInsert("category", blob.getCategory())
+                .setOnInsert("contentType", blob.getContentType())
+                .setOnInsert("size", blob.getSize())
+                .setOnInsert("createdAt", now),
+            FindAndModifyOptions.options().upsert(true),
+            FileBlob.class);
+        boolean added = previous == null || previous.getOwners() == null || !previous.getOwners().contains(owner);
+
+        // No mark can be set once the file has an owner, so only a deletion that had already started matters
+        if (previous != null && previous.getDeletingAt() != null
+                && previous.getDeletingAt().isAfter(now.minus(DELETION_TIMEOUT))) {
+            rollBack(blob.getId(), owner, added);
+            throw new FileUploadException("File is being deleted, please retry the upload");
+        }
+        return added;
+    }
+
+    /**
+     * Release the owner's other files of the category once the new one is theirs
+     */
+    private void releasePrevious(String key, String category, String owner) {
+        mongoTemplate.updateMulti(
+            Query.query(where("owners").is(owner).and("category").is(category).and("id").ne(key)),
+            new Update().pull("owners", owner).set("releasedAt", LocalDateTime.now()),
+            FileBlob.class);
+    }
+
+    /**
+     * Drop a reference added by a failed upload; a reference the owner held before is kept
+     */
+    private void rollBack(String key, String owner, boolean added) {
+        if (!added) {
+            return;
+        }
+        try {
+            mongoTemplate.updateFirst(Query.query(where("id").is(key)),
+                new Update().pull("owners", owner).set("releasedAt", LocalDateTime.now()),
+                FileBlob.class);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to drop the reference of {} to {}: {}", owner, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete a file that has no owners, unless an upload of the same content references it again.
+     * The record is marked for the duration of the deletion and only removed if the file is still
+     * unreferenced afterwards; otherwise the mark is cleared and the next upload of the content writes the file again.
+     * @return true if the file and its record were removed
+     */
+    private boolean deleteUnreferenced(String key) throws IOException {
+        FileBlob marked = mongoTemplate.findAndModify(
+            Query.query(where("id").is(key).and("owners").size(0)),
+            new Update().set("deletingAt", LocalDateTime.now()),
+            FindAndModifyOptions.options().returnNew(true),
+            FileBlob.class);
+        if (marked == null) {
+            return false;
+        }
+
+        try {
+            deleteWithDerivedFiles(key);
+        } catch (IOException e) {
+            clearDeletionMark(key);
+            throw e;
+        }
+        if (mongoTemplate.remove(Query.query(where("id").is(key).and("owners").size(0)), FileBlob.class)
+                .getDeletedCount() > 0) {
+            return true;
+        }
+        clearDeletionMark(key);
+        return false;
+    }
+
+    private void clearDeletionMark(String key) {
+        mongoTemplate.updateFirst(Query.query(where("id").is(key)), new Update().unset("deletingAt"), FileBlob.class);
+    }
+
+    private boolean deleteWithDerivedFiles(String key) throws IOException {
+        String prefix = LogoVariantService.CATEGORY + "/";
+        if (key.startsWith(prefix)) {
+            // Exact names only: a logo with the same digest but another extension has variants of its own
+            for (String variant : LogoVariantService.variantNames(key.substring(prefix.length()))) {
+                fileStorage.delete(prefix + variant);
+            }
+        }
+        return fileStorage.delete(key);
+    }
+
+    private static String keyOf(String category, String digest, String extension) {
+        return category + "/" + digest + (extension.isEmpty() ? "" : "." + extension.toLowerCase(Locale.ROOT));
+    }
+
+    private static FileBlob blob(String key, String digest, String category, String contentType, long size) {
+        FileBlob blob = new FileBlob();
+        blob.setId(key);
+        blob.setDigest(digest);
+        blob.setCategory(category);
+        blob.setContentType(contentType);
+        blob.setSize(size);
+        return blob;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
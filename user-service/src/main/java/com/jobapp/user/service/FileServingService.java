@@ -0,0 +1,289 @@
+package com.jobapp.user.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves uploaded files with validators and byte ranges.
+ * Per-file metadata (content type, size, digest, modification time) is kept in a bounded LRU cache and
+ * revalidated against one stat call per request, so content type probing and digesting happen once per
+ * file version. Responses carry an ETag of the content digest and Last-Modified, answer If-None-Match /
+ * If-Modified-Since with 304 and a single {@code Range} (honouring If-Range) with 206. Bodies are sent
+ * by the container's sendfile when it offers it and otherwise with {@link FileChannel#transferTo}.
+ * Content-addressed files and their derived variants never change under their name and are marked
+ * immutable for caches; only logos requested without credentials may be kept by shared caches, while
+ * resumes and every authenticated response stay private to the browser. When the storage backend can
+ * presign downloads, requests are instead redirected to a short-lived URL so the bytes flow from the
+ * object store to the client directly.
+ * {@code FileServingBenchmark} in the tests compares this service with the handler it replaced.
+ * Requirements: 9.4
+ */
+@Service
+public class FileServingService {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("([0-9a-f]{64}(?:-\\d+)?)(\\.[A-Za-z0-9]+)?");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final String PUBLIC_CATEGORY = "logos";
+    private static final String PUBLIC_IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String PRIVATE_IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+    private static final String DEFAULT_CACHE_CONTROL = "private, max-age=3600";
+    private static final String PROVISIONAL_CACHE_CONTROL = "no-cache";
+
+    private final FileStorage fileStorage;
+    private final Path root;
+    private final Duration downloadValidity;
+    private final Map<Path, FileMetadata> metadataCache;
+
+    public FileServingService(FileStorage fileStorage,
+                              @Value("${app.file.serving.metadata-cache-size:10000}") int metadataCacheSize,
+                              @Value("${app.file.storage.presign-ttl:PT15M}") Duration downloadValidity) {
+        this.fileStorage = fileStorage;
+        this.root = fileStorage instanceof LocalFileStorage local ? local.getRoot() : null;
+        this.downloadValidity = downloadValidity;
+        this.metadataCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, FileMetadata> eldest) {
+                return size() > metadataCacheSize;
+            }
+        });
+    }
+
+    /**
+     * Write an uploaded file, or the part or validation status the request asks for, to the response
+     * @param category the storage category directory
+     * @param filename the file name within the category
+     */
+    public void serve(String category, String filename, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        serve(category, filename, false, request, response);
+    }
+
+    /**
+     * Write an uploaded file to the response
+     * @param category the storage category directory
+     * @param filename the file name within the category
+     * @param provisional whether the file stands in for a representation that is not available yet;
+     *                    caches then revalidate instead of keeping it
+     */
+    public void serve(String category, String filename, boolean provisional,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path relative = Paths.get(category, filename).normalize();
+        if (relative.isAbsolute() || relative.getNameCount() < 2 || relative.startsWith("..")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<URL> direct = fileStorage.presignDownload(relative.toString().replace('\\', '/'), downloadValidity);
+        if (direct.isPresent()) {
+            // The redirect is cached for less than the URL stays valid
+            response.setHeader(HttpHeaders.CACHE_CONTROL, provisional ? PROVISIONAL_CACHE_CONTROL
+                : "private, max-age=" + downloadValidity.dividedBy(2).toSeconds());
+            response.sendRedirect(direct.get().toString());
+            return;
+        }
+        if (root == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = root.resolve(relative);
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        FileMetadata metadata = metadataFor(path, attributes);
+        response.setHeader(HttpHeaders.ETAG, metadata.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, metadata.lastModified());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, provisional ? PROVISIONAL_CACHE_CONTROL
+            : !metadata.immutable() ? DEFAULT_CACHE_CONTROL
+            : isShareable(category, request) ? PUBLIC_IMMUTABLE_CACHE_CONTROL : PRIVATE_IMMUTABLE_CACHE_CONTROL);
+
+        if (isNotModified(request, metadata)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = metadata.size() - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeApplies(request, metadata)) {
+            Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+            // Multiple or malformed ranges are answered with the whole file
+            if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                if (matcher.group(1).isEmpty()) {
+                    start = Math.max(0, metadata.size() - parseLength(matcher.group(2)));
+                } else {
+                    start = parseLength(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, parseLength(matcher.group(2)));
+                    }
+                }
+                if (start >= metadata.size() || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + metadata.size());
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + metadata.size());
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(metadata.contentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + path.getFileName() + "\"");
+        if ("HEAD".equals(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The container copies the file to the socket in the kernel after this request returns
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private FileMetadata metadataFor(Path path, BasicFileAttributes attributes) throws IOException {
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        FileMetadata cached = metadataCache.get(path);
+        if (cached != null && cached.size() == attributes.size() && cached.lastModified() == lastModified) {
+            return cached;
+        }
+
+        String contentType = Files.probeContentType(path);
+        Matcher contentAddressed = CONTENT_ADDRESSED.matcher(path.getFileName().toString());
+        boolean immutable = contentAddressed.matches();
+        String digest = immutable ? contentAddressed.group(1) : digestOf(path);
+        FileMetadata metadata = new FileMetadata(contentType != null ? contentType : "application/octet-stream",
+            attributes.size(), "\"" + digest + "\"", lastModified, immutable);
+        metadataCache.put(path, metadata);
+        return metadata;
+    }
+
+    /**
+     * Whether shared caches such as CDNs may keep the response: logos are public, resumes are not, and
+     * a response to a request carrying credentials is never stored for other users
+     */
+    private static boolean isShareable(String category, HttpServletRequest request) {
+        return PUBLIC_CATEGORY.equals(category) && request.getHeader(HttpHeaders.AUTHORIZATION) == null
+            && request.getUserPrincipal() == null;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, FileMetadata metadata) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(metadata.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && metadata.lastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static boolean rangeApplies(HttpServletRequest request, FileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.trim().startsWith("\"")) {
+            return ifRange.trim().equals(metadata.etag());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && metadata.lastModified() / 1000 == date / 1000;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static long parseLength(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static String digestOf(Path path) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record FileMetadata(String contentType, long size, String etag, long lastModified, boolean immutable) {}
+}
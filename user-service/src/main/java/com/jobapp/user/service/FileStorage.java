@@ -0,0 +1,88 @@
+package com.jobapp.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage backend for uploaded files, addressed by storage key ({@code <category>/<name>}).
+ * Implementations keep files on the local disk or in an S3-compatible object store; the latter lets
+ * clients move bytes directly through presigned URLs.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public interface FileStorage {
+
+    /**
+     * Store a local file under a key, replacing any previous object; the source file is consumed
+     * @param key the storage key
+     * @param source the file to store
+     * @param contentType the content type recorded with the object
+     */
+    void store(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Copy an object to another key within the storage
+     */
+    void copy(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * Whether an object exists under the key
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Size and content type of an object
+     * @return the object's info, or empty if there is no object under the key
+     */
+    Optional<StoredObject> stat(String key) throws IOException;
+
+    /**
+     * Open an object for reading
+     * @throws java.nio.file.NoSuchFileException if there is no object under the key
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Read the first bytes of an object
+     * @param length maximum number of bytes
+     */
+    byte[] readPrefix(String key, int length) throws IOException;
+
+    /**
+     * Delete an object
+     * @return true if an object was deleted
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * Delete all objects whose key starts with the prefix
+     * @return the number of deleted objects
+     */
+    int deleteByPrefix(String prefix) throws IOException;
+
+    /**
+     * Presigned request that lets a client upload an object directly
+     * @return the request, or empty if the storage cannot be written to directly
+     */
+    Optional<PresignedRequest> presignUpload(String key, String contentType, Duration validity);
+
+    /**
+     * Presigned URL that lets a client download an object directly
+     * @return the URL, or empty if the storage cannot be read from directly
+     */
+    Optional<URL> presignDownload(String key, Duration validity);
+
+    /**
+     * Size and content type of a stored object
+     */
+    record StoredObject(long size, String contentType) {}
+
+    /**
+     * HTTP request a client sends to upload directly to the storage
+     */
+    record PresignedRequest(String method, URL url, Map<String, String> headers) {}
+}
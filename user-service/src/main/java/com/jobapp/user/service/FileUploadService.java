@@ -1,32 +1,55 @@
 package com.jobapp.user.service;
 
+import com.jobapp.user.dto.DirectUploadRequest;
 import com.jobapp.user.dto.FileUploadResponse;
+import com.jobapp.user.dto.PresignedUploadResponse;
 import com.jobapp.user.exception.FileUploadException;
 import com.jobapp.user.exception.InvalidFileTypeException;
 import com.jobapp.user.exception.FileSizeExceededException;
+import com.jobapp.user.model.FileBlob;
+import com.jobapp.user.model.UploadSession;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
- * Service for handling file uploads (resumes and logos)
+ * Service for handling file uploads (resumes and logos).
+ * Files are sent through this service as multipart uploads or in resumable chunked sessions, or, when
+ * the storage can presign requests, uploaded by the client directly to an {@code incoming/} key and
+ * completed afterwards. Completing a session or a direct upload checks the file's actual size, type and
+ * leading bytes before it is stored. A stored file becomes the account's resume or logo; the account's
+ * previous file is only released once its URL points at the new one.
  * Requirements: 1.4, 3.4, 9.4
  */
 @Service
 public class FileUploadService {
     
+    private static final Logger logger = LoggerFactory.getLogger(FileUploadService.class);
+    
     // File type constants
     private static final List<String> ALLOWED_RESUME_TYPES = Arrays.asList(
         "application/pdf",
@@ -46,12 +69,49 @@ public class FileUploadService {
     private static final long MAX_RESUME_SIZE = 5 * 1024 * 1024; // 5MB
     private static final long MAX_IMAGE_SIZE = 2 * 1024 * 1024;  // 2MB
     
-    @Value("${app.file.upload.dir:uploads}")
-    private String uploadDir;
+    // Direct uploads are written below this prefix until they are completed
+    private static final String INCOMING_PREFIX = "incoming/";
+    
+    // Leading bytes identifying each allowed extension; RIFF files are further checked for WEBP
+    private static final Map<String, byte[]> FILE_SIGNATURES = Map.of(
+        "pdf", "%PDF".getBytes(StandardCharsets.US_ASCII),
+        "doc", HexFormat.of().parseHex("d0cf11e0a1b11ae1"),
+        "docx", HexFormat.of().parseHex("504b0304"),
+        "png", HexFormat.of().parseHex("89504e470d0a1a0a"),
+        "jpg", HexFormat.of().parseHex("ffd8ff"),
+        "jpeg", HexFormat.of().parseHex("ffd8ff"),
+        "gif", "GIF8".getBytes(StandardCharsets.US_ASCII),
+        "webp", "RIFF".getBytes(StandardCharsets.US_ASCII)
+    );
+    private static final int SIGNATURE_LENGTH = 12;
+    
+    @Autowired
+    private FileBlobStore fileBlobStore;
+    
+    @Autowired
+    private LogoVariantService logoVariantService;
+    
+    @Autowired
+    private ResumeIndexingService resumeIndexingService;
+    
+    @Autowired
+    private FileStorage fileStorage;
+    
+    @Autowired
+    private UploadSessionService uploadSessionService;
+    
+    @Autowired
+    private CandidateService candidateService;
+    
+    @Autowired
+    private EmployerService employerService;
     
     @Value("${app.file.base-url:http://localhost:8082}")
     private String baseUrl;
     
+    @Value("${app.file.storage.presign-ttl:PT15M}")
+    private Duration uploadValidity;
+    
     /**
      * Upload resume file for candidate
      * Requirements: 1.4
@@ -59,10 +119,11 @@ public class FileUploadService {
     public FileUploadResponse uploadResume(MultipartFile file, String candidateId) {
         validateFile(file, ALLOWED_RESUME_TYPES, MAX_RESUME_SIZE, "resume");
         
-        String fileName = generateFileName(file.getOriginalFilename(), candidateId, "resume");
-        String filePath = "resumes/" + fileName;
-        
-        return uploadFile(file, filePath, "Resume uploaded successfully");
+        FileUploadResponse response = uploadFile(file, "resumes", FileBlobStore.candidateOwner(candidateId),
+            resumeAssignment(candidateId), "Resume uploaded successfully");
+        // Text extraction for resume search is queued and runs in the background
+        resumeIndexingService.enqueue(candidateId, "resumes/" + response.getFileName());
+        return response;
     }
     
     /**
@@ -72,27 +133,160 @@ public class FileUploadService {
     public FileUploadResponse uploadLogo(MultipartFile file, String employerId) {
         validateFile(file, ALLOWED_IMAGE_TYPES, MAX_IMAGE_SIZE, "logo");
         
-        String fileName = generateFileName(file.getOriginalFilename(), employerId, "logo");
-        String filePath = "logos/" + fileName;
+        FileUploadResponse response = uploadFile(file, "logos", FileBlobStore.employerOwner(employerId),
+            logoAssignment(employerId), "Logo uploaded successfully");
+        // Resized variants are rendered in the background; until then the original is served
+        logoVariantService.generateVariantsAsync(response.getFileName());
+        return response;
+    }
+    
+    /**
+     * Presign a direct resume upload for candidate
+     * Requirements: 1.4
+     * @return the upload request, or empty if the storage does not accept direct uploads
+     */
+    public Optional<PresignedUploadResponse> presignResumeUpload(DirectUploadRequest request, String candidateId) {
+        validateFile(request.getFileName(), request.getContentType(), request.getSize(),
+            ALLOWED_RESUME_TYPES, MAX_RESUME_SIZE, "resume");
+        return presignUpload(request, "candidate-" + candidateId);
+    }
+    
+    /**
+     * Complete a direct resume upload for candidate
+     * Requirements: 1.4
+     */
+    public FileUploadResponse completeResumeUpload(String key, String candidateId) {
+        FileUploadResponse response = completeUpload(key, "candidate-" + candidateId, "resumes",
+            ALLOWED_RESUME_TYPES, MAX_RESUME_SIZE, "resume",
+            FileBlobStore.candidateOwner(candidateId), resumeAssignment(candidateId), "Resume uploaded successfully");
+        resumeIndexingService.enqueue(candidateId, "resumes/" + response.getFileName());
+        return response;
+    }
+    
+    /**
+     * Presign a direct logo upload for employer
+     * Requirements: 3.4
+     * @return the upload request, or empty if the storage does not accept direct uploads
+     */
+    public Optional<PresignedUploadResponse> presignLogoUpload(DirectUploadRequest request, String employerId) {
+        validateFile(request.getFileName(), request.getContentType(), request.getSize(),
+            ALLOWED_IMAGE_TYPES, MAX_IMAGE_SIZE, "logo");
+        return presignUpload(request, "employer-" + employerId);
+    }
+    
+    /**
+     * Complete a direct logo upload for employer
+     * Requirements: 3.4
+     */
+    public FileUploadResponse completeLogoUpload(String key, String employerId) {
+        FileUploadResponse response = completeUpload(key, "employer-" + employerId, "logos",
+            ALLOWED_IMAGE_TYPES, MAX_IMAGE_SIZE, "logo",
+            FileBlobStore.employerOwner(employerId), logoAssignment(employerId), "Logo uploaded successfully");
+        logoVariantService.generateVariantsAsync(response.getFileName());
+        return response;
+    }
+    
+    /**
+     * Open a resumable chunked upload
+     * Requirements: 1.4, 3.4
+     * @param fileCategory "resume" for a candidate or "logo" for an employer
+     * @param ownerId the candidate or employer ID
+     */
+    public UploadSession startUploadSession(String fileCategory, String ownerId, DirectUploadRequest request) {
+        validateFile(request.getFileName(), request.getContentType(), request.getSize(), fileCategory);
+        return uploadSessionService.create(fileCategory, ownerId, request.getFileName(), request.getContentType(),
+            request.getSize());
+    }
+    
+    /**
+     * Finalize a resumable upload once all chunks are received. The assembled file must match the
+     * client's digest and pass the checks of a multipart upload; a rejected session is discarded, while
+     * a storage failure keeps it so completing can be retried.
+     * Requirements: 1.4, 3.4
+     * @param sha256 the client's SHA-256 digest of the whole file
+     */
+    public FileUploadResponse completeUploadSession(String fileCategory, String ownerId, String sessionId,
+                                                    String sha256) {
+        UploadSession session = uploadSessionService.get(sessionId, fileCategory, ownerId);
+        if (!session.isComplete()) {
+            throw new FileUploadException(String.format("Upload is incomplete: %d of %d chunks received",
+                session.getReceivedChunks().size(), session.getTotalChunks()));
+        }
+        
+        boolean resume = "resume".equalsIgnoreCase(fileCategory);
+        FileUploadResponse response;
+        Path assembled = null;
+        try {
+            assembled = uploadSessionService.assemble(session);
+            try {
+                validateAssembledFile(session, fileCategory, assembled, sha256);
+            } catch (FileUploadException | InvalidFileTypeException | FileSizeExceededException e) {
+                // The received file can never pass; the client has to start a new upload
+                uploadSessionService.discard(sessionId);
+                throw e;
+            }
+            
+            FileBlob blob;
+            try (InputStream in = Files.newInputStream(assembled)) {
+                blob = fileBlobStore.store(in, resume ? "resumes" : "logos",
+                    getFileExtension(session.getFileName()).toLowerCase(), session.getContentType(),
+                    resume ? FileBlobStore.candidateOwner(ownerId) : FileBlobStore.employerOwner(ownerId),
+                    resume ? resumeAssignment(ownerId) : logoAssignment(ownerId));
+            }
+            response = toResponse(blob, session.getContentType(),
+                resume ? "Resume uploaded successfully" : "Logo uploaded successfully");
+        } catch (IOException e) {
+            // Storage failures keep the session, so completing can be retried
+            throw new FileUploadException("Failed to complete upload: " + e.getMessage(), e);
+        } finally {
+            if (assembled != null) {
+                try {
+                    Files.deleteIfExists(assembled);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete assembled upload {}: {}", assembled, e.getMessage());
+                }
+            }
+        }
+        uploadSessionService.discard(sessionId);
         
-        return uploadFile(file, filePath, "Logo uploaded successfully");
+        if (resume) {
+            resumeIndexingService.enqueue(ownerId, "resumes/" + response.getFileName());
+        } else {
+            logoVariantService.generateVariantsAsync(response.getFileName());
+        }
+        return response;
     }
     
     /**
-     * Delete file from storage
+     * Check an assembled upload as a multipart upload is checked, and against the client's digest
+     */
+    private void validateAssembledFile(UploadSession session, String fileCategory, Path assembled, String sha256)
+            throws IOException {
+        String extension = getFileExtension(session.getFileName()).toLowerCase();
+        validateFile(session.getFileName(), session.getContentType(), Files.size(assembled), fileCategory);
+        byte[] header;
+        try (InputStream in = Files.newInputStream(assembled)) {
+            header = in.readNBytes(SIGNATURE_LENGTH);
+        }
+        if (!matchesSignature(header, extension)) {
+            throw new InvalidFileTypeException(
+                String.format("File content does not match extension '%s' for %s", extension, fileCategory)
+            );
+        }
+        if (!sha256Of(assembled).equalsIgnoreCase(sha256)) {
+            throw new FileUploadException("Uploaded file does not match the SHA-256 digest");
+        }
+    }
+    
+    /**
+     * Delete file from storage; files still used by an account are kept
      * Requirements: 9.4
      */
     public boolean deleteFile(String fileUrl) {
         try {
             // Extract file path from URL
             String filePath = fileUrl.replace(baseUrl + "/files/", "");
-            Path targetPath = Paths.get(uploadDir, filePath);
-            
-            if (Files.exists(targetPath)) {
-                Files.delete(targetPath);
-                return true;
-            }
-            return false;
+            return fileBlobStore.delete(filePath);
         } catch (IOException e) {
             throw new FileUploadException("Failed to delete file: " + e.getMessage(), e);
         }
@@ -105,16 +299,39 @@ public class FileUploadService {
         if (file == null || file.isEmpty()) {
             throw new FileUploadException("File is empty or null");
         }
+        validateFile(file.getOriginalFilename(), file.getContentType(), file.getSize(), allowedTypes, maxSize, fileCategory);
+    }
+    
+    /**
+     * Validate a file's name, content type and size against the limits of its category
+     */
+    private void validateFile(String originalFilename, String contentType, long size, String fileCategory) {
+        if ("resume".equalsIgnoreCase(fileCategory)) {
+            validateFile(originalFilename, contentType, size, ALLOWED_RESUME_TYPES, MAX_RESUME_SIZE, "resume");
+        } else if ("logo".equalsIgnoreCase(fileCategory)) {
+            validateFile(originalFilename, contentType, size, ALLOWED_IMAGE_TYPES, MAX_IMAGE_SIZE, "logo");
+        } else {
+            throw new InvalidFileTypeException("Invalid file category: " + fileCategory);
+        }
+    }
+    
+    /**
+     * Validate a file's name, content type and size
+     */
+    private void validateFile(String originalFilename, String contentType, long size,
+                              List<String> allowedTypes, long maxSize, String fileCategory) {
+        if (size <= 0) {
+            throw new FileUploadException("File is empty or null");
+        }
         
         // Check file size
-        if (file.getSize() > maxSize) {
+        if (size > maxSize) {
             throw new FileSizeExceededException(
                 String.format("File size exceeds maximum allowed size of %d bytes for %s", maxSize, fileCategory)
             );
         }
         
         // Check file type
-        String contentType = file.getContentType();
         if (contentType == null || !allowedTypes.contains(contentType.toLowerCase())) {
             throw new InvalidFileTypeException(
                 String.format("Invalid file type for %s. Allowed types: %s", fileCategory, allowedTypes)
@@ -122,7 +339,6 @@ public class FileUploadService {
         }
         
         // Check file extension
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new FileUploadException("File name is required");
         }
@@ -141,51 +357,129 @@ public class FileUploadService {
     }
     
     /**
-     * Upload file to storage
+     * Upload file to the content-addressed store; identical content is stored once
      */
-    private FileUploadResponse uploadFile(MultipartFile file, String filePath, String successMessage) {
+    private FileUploadResponse uploadFile(MultipartFile file, String category, String owner,
+                                          Consumer<FileBlob> assign, String successMessage) {
         try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
+            String extension = getFileExtension(file.getOriginalFilename());
+            FileBlob blob = fileBlobStore.store(file.getInputStream(), category, extension, file.getContentType(),
+                owner, assign);
+            return toResponse(blob, file.getContentType(), successMessage);
             
-            // Create subdirectory for file type
-            Path targetDir = uploadPath.resolve(Paths.get(filePath).getParent());
-            if (!Files.exists(targetDir)) {
-                Files.createDirectories(targetDir);
+        } catch (IOException e) {
+            throw new FileUploadException("Failed to upload file: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Presign an upload to a fresh key below the uploader's incoming prefix
+     */
+    private Optional<PresignedUploadResponse> presignUpload(DirectUploadRequest request, String uploader) {
+        String key = INCOMING_PREFIX + uploader + "/" + UUID.randomUUID() + "."
+            + getFileExtension(request.getFileName()).toLowerCase();
+        Instant expiresAt = Instant.now().plus(uploadValidity);
+        return fileStorage.presignUpload(key, request.getContentType(), uploadValidity)
+            .map(presigned -> new PresignedUploadResponse(presigned.url().toString(), presigned.method(),
+                presigned.headers(), key, expiresAt));
+    }
+    
+    /**
+     * Validate a directly uploaded object and adopt it into the content-addressed store. The declared
+     * size and type only gated the presign, so the stored object itself is checked; a rejected object
+     * is deleted.
+     */
+    private FileUploadResponse completeUpload(String key, String uploader, String category,
+                                              List<String> allowedTypes, long maxSize, String fileCategory,
+                                              String owner, Consumer<FileBlob> assign, String successMessage) {
+        String prefix = INCOMING_PREFIX + uploader + "/";
+        if (key == null || !key.startsWith(prefix) || key.indexOf('/', prefix.length()) >= 0 || key.contains("..")) {
+            throw new FileUploadException("Invalid upload key");
+        }
+        
+        try {
+            FileStorage.StoredObject object = fileStorage.stat(key)
+                .orElseThrow(() -> new FileUploadException("Upload not found: " + key));
+            String extension = getFileExtension(key).toLowerCase();
+            try {
+                validateFile(key.substring(prefix.length()), object.contentType(), object.size(),
+                    allowedTypes, maxSize, fileCategory);
+                if (!matchesSignature(fileStorage.readPrefix(key, SIGNATURE_LENGTH), extension)) {
+                    throw new InvalidFileTypeException(
+                        String.format("File content does not match extension '%s' for %s", extension, fileCategory)
+                    );
+                }
+            } catch (RuntimeException e) {
+                fileStorage.delete(key);
+                throw e;
             }
             
-            // Save file
-            Path targetPath = uploadPath.resolve(filePath);
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-            
-            // Generate file URL
-            String fileUrl = baseUrl + "/files/" + filePath;
-            
-            return new FileUploadResponse(
-                Paths.get(filePath).getFileName().toString(),
-                fileUrl,
-                file.getContentType(),
-                file.getSize(),
-                successMessage
-            );
+            FileBlob blob = fileBlobStore.adopt(key, category, extension, object.contentType(), owner, assign);
+            return toResponse(blob, object.contentType(), successMessage);
             
         } catch (IOException e) {
-            throw new FileUploadException("Failed to upload file: " + e.getMessage(), e);
+            throw new FileUploadException("Failed to complete upload: " + e.getMessage(), e);
         }
     }
     
     /**
-     * Generate unique file name
+     * Whether a file starts with the signature of its extension
      */
-    private String generateFileName(String originalFilename, String userId, String category) {
-        String extension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8);
-        
-        return String.format("%s_%s_%s_%s.%s", category, userId, timestamp, uniqueId, extension);
+    private boolean matchesSignature(byte[] header, String extension) {
+        byte[] signature = FILE_SIGNATURES.get(extension);
+        if (signature == null || header.length < signature.length
+                || !Arrays.equals(header, 0, signature.length, signature, 0, signature.length)) {
+            return false;
+        }
+        return !"webp".equals(extension)
+            || (header.length >= 12 && "WEBP".equals(new String(header, 8, 4, StandardCharsets.US_ASCII)));
+    }
+    
+    /**
+     * Hex SHA-256 digest of a file
+     */
+    private static String sha256Of(Path file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), messageDigest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+    
+    /**
+     * Point a candidate's resume URL at a stored file
+     */
+    private Consumer<FileBlob> resumeAssignment(String candidateId) {
+        return blob -> candidateService.updateResumeUrl(candidateId, fileUrl(blob));
+    }
+    
+    /**
+     * Point an employer's logo URL at a stored file
+     */
+    private Consumer<FileBlob> logoAssignment(String employerId) {
+        return blob -> employerService.updateLogoUrl(employerId, fileUrl(blob));
+    }
+    
+    private String fileUrl(FileBlob blob) {
+        return baseUrl + "/files/" + blob.getId();
+    }
+    
+    /**
+     * Response describing a stored file
+     */
+    private FileUploadResponse toResponse(FileBlob blob, String contentType, String successMessage) {
+        return new FileUploadResponse(
+            Paths.get(blob.getId()).getFileName().toString(),
+            fileUrl(blob),
+            contentType,
+            blob.getSize(),
+            successMessage
+        );
     }
     
     /**
@@ -0,0 +1,137 @@
+package com.jobapp.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * File storage in a directory of the local disk.
+ * Objects are placed by an atomic rename, so readers never see a partially written file. Files are
+ * served by user-service itself; presigned URLs are not available.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class LocalFileStorage implements FileStorage {
+
+    private final Path root;
+
+    public LocalFileStorage(String directory) {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Directory the keys are resolved against
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Source on another file system: copied next to the target first so the final step is a rename
+            Path temp = Files.createTempFile(target.getParent(), ".store-", ".tmp");
+            try {
+                Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                Files.deleteIfExists(source);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".copy-", ".tmp");
+        try {
+            Files.copy(resolve(sourceKey), temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredObject(Files.size(path), Files.probeContentType(path)));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public byte[] readPrefix(String key, int length) throws IOException {
+        try (InputStream in = open(key)) {
+            return in.readNBytes(length);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public int deleteByPrefix(String prefix) throws IOException {
+        Path base = resolve(prefix + "_");
+        Path directory = base.getParent();
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        String namePrefix = prefix.substring(prefix.lastIndexOf('/') + 1);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                file -> file.getFileName().toString().startsWith(namePrefix) && Files.isRegularFile(file))) {
+            for (Path file : files) {
+                if (Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignUpload(String key, String contentType, Duration validity) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<URL> presignDownload(String key, Duration validity) {
+        return Optional.empty();
+    }
+
+    private Path resolve(String key) throws IOException {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new NoSuchFileException(key, null, "Key outside the storage directory");
+        }
+        return path;
+    }
+}
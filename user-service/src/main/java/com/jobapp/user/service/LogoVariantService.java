@@ -0,0 +1,301 @@
+package com.jobapp.user.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Generates and selects resized variants of employer logos.
+ * After a logo is uploaded its variants ({@link #VARIANT_SIZES}, longest side in pixels, never upscaled)
+ * are rendered on a small bounded worker pool and stored next to the original in the file storage as
+ * {@code <name>-<size>.<png|jpg>}; the upload itself does not wait for them. Logos with transparency
+ * formats are re-encoded as PNG, the others as JPEG. A request for a size is answered with the smallest
+ * variant at least that large; while it does not exist yet the original is served and the variant is
+ * (re)scheduled, which also backfills logos uploaded before variants existed.
+ * Variants are only generated for originals tracked by the {@link FileBlobStore}; a name that is itself
+ * a variant name ({@code <stem>-<digits>}) is never treated as an original.
+ * Requirements: 3.4, 9.4
+ */
+@Service
+public class LogoVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogoVariantService.class);
+
+    static final String CATEGORY = "logos";
+    static final List<Integer> VARIANT_SIZES = List.of(64, 128, 256);
+
+    private static final Set<String> LOSSLESS_EXTENSIONS = Set.of("png", "gif", "webp");
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final int MAX_KNOWN_VARIANTS = 10_000;
+    private static final Pattern VARIANT_STEM = Pattern.compile(".*-\\d+");
+
+    private final FileStorage fileStorage;
+    private final FileBlobStore fileBlobStore;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Variants never change once written, so their existence is remembered instead of asked again
+    private final Set<String> knownVariants = ConcurrentHashMap.newKeySet();
+
+    public LogoVariantService(FileStorage fileStorage,
+                              FileBlobStore fileBlobStore,
+                              @Value("${app.file.logo-variants.threads:2}") int threads,
+                              @Value("${app.file.logo-variants.queue-capacity:200}") int queueCapacity) {
+        this.fileStorage = fileStorage;
+        this.fileBlobStore = fileBlobStore;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "logo-variants-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * File to serve for a request, and whether it is a stand-in for a variant that is not ready yet
+     */
+    public record Selection(String filename, boolean provisional) {}
+
+    /**
+     * Schedule generation of a logo's variants without waiting for it
+     * @param filename the logo's file name within the logos category
+     */
+    public void generateVariantsAsync(String filename) {
+        if (!isOriginalName(filename) || !pending.add(filename)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generateVariants(filename);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Failed to generate variants of logo {}: {}", filename, e.getMessage());
+                } finally {
+                    pending.remove(filename);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue full: the variants are scheduled again when they are first requested
+            pending.remove(filename);
+            logger.debug("Logo variant queue full, deferring {}", filename);
+        }
+    }
+
+    /**
+     * Select the file that answers a request for a logo at a size
+     * @param category the storage category of the request
+     * @param filename the requested file name
+     * @param size the requested longest side in pixels, or null for the original
+     * @return the file to serve
+     */
+    public Selection select(String category, String filename, Integer size) {
+        if (size == null || size <= 0 || !CATEGORY.equals(category) || !isOriginalName(filename)) {
+            return new Selection(filename, false);
+        }
+        int variantSize = VARIANT_SIZES.stream()
+            .filter(candidate -> candidate >= size)
+            .findFirst()
+            .orElse(VARIANT_SIZES.get(VARIANT_SIZES.size() - 1));
+        String variant = variantName(filename, variantSize);
+        try {
+            if (knownVariants.contains(variant) || fileStorage.exists(keyOf(variant))) {
+                remember(variant);
+                return new Selection(variant, false);
+            }
+            // Only a tracked original gets variants; generateVariants checks that on the worker
+            generateVariantsAsync(filename);
+        } catch (IOException e) {
+            logger.debug("Could not look up variant {}: {}", variant, e.getMessage());
+        }
+        return new Selection(filename, true);
+    }
+
+    /**
+     * Render all variants of a logo that do not exist yet
+     * @param filename the original logo's file name within the logos category
+     */
+    void generateVariants(String filename) throws IOException {
+        if (!isOriginalName(filename) || !fileBlobStore.isTracked(keyOf(filename))) {
+            return;
+        }
+        List<Integer> missing = new ArrayList<>();
+        for (int size : VARIANT_SIZES) {
+            if (!fileStorage.exists(keyOf(variantName(filename, size)))) {
+                missing.add(size);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        BufferedImage image;
+        try (InputStream in = fileStorage.open(keyOf(filename))) {
+            image = read(in);
+        }
+        boolean lossless = LOSSLESS_EXTENSIONS.contains(extensionOf(filename));
+        for (int size : missing) {
+            BufferedImage resized = resize(image, size, lossless);
+            // Rendered to a local file first; the storage places it in one step so it is never served half-written
+            Path temp = Files.createTempFile("variant-", ".tmp");
+            try {
+                write(resized, lossless, temp);
+                fileStorage.store(keyOf(variantName(filename, size)), temp, lossless ? "image/png" : "image/jpeg");
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        logger.debug("Generated {} variant(s) of logo {}", missing.size(), filename);
+    }
+
+    /**
+     * Name of a logo variant; variants share the original's name stem so they are removed along with it
+     */
+    static String variantName(String filename, int size) {
+        return stemOf(filename) + "-" + size + "." + (LOSSLESS_EXTENSIONS.contains(extensionOf(filename)) ? "png" : "jpg");
+    }
+
+    /**
+     * Names of all variants of a logo
+     */
+    static List<String> variantNames(String filename) {
+        return VARIANT_SIZES.stream().map(size -> variantName(filename, size)).toList();
+    }
+
+    private static String stemOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void remember(String variant) {
+        if (knownVariants.size() >= MAX_KNOWN_VARIANTS) {
+            knownVariants.clear();
+        }
+        knownVariants.add(variant);
+    }
+
+    private static String keyOf(String filename) {
+        return CATEGORY + "/" + filename;
+    }
+
+    private static boolean isPlainName(String filename) {
+        return filename != null && !filename.isEmpty() && !filename.contains("/") && !filename.contains("\\")
+            && !filename.equals(".") && !filename.equals("..");
+    }
+
+    private static boolean isOriginalName(String filename) {
+        return isPlainName(filename) && !VARIANT_STEM.matcher(stemOf(filename)).matches();
+    }
+
+    private static BufferedImage read(InputStream source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                // Checked before decoding so a small file cannot expand into a huge bitmap
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image dimensions too large");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage image, int size, boolean keepAlpha) {
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        // Halved in steps so bilinear filtering does not skip source pixels on large reductions
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static void write(BufferedImage image, boolean lossless, Path target) throws IOException {
+        if (lossless) {
+            if (!ImageIO.write(image, "png", target.toFile())) {
+                throw new IOException("No PNG encoder available");
+            }
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
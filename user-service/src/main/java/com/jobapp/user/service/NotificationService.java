@@ -2,6 +2,9 @@ package com.jobapp.user.service;
 
 import com.jobapp.user.model.Candidate;
 import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.ModerationAction;
+
+import java.util.List;
 
 /**
  * Service interface for notification operations
@@ -47,4 +50,20 @@ public interface NotificationService {
      * @param employer the unblocked employer
      */
     void sendEmployerUnblockNotification(Employer employer);
+    
+    /**
+     * Send the notifications of a bulk moderation of employers, enqueued as one batch
+     * @param action the moderation action applied
+     * @param employers the moderated employers
+     * @param reason the reason given, or null
+     */
+    void sendEmployerNotifications(ModerationAction action, List<Employer> employers, String reason);
+    
+    /**
+     * Send the notifications of a bulk moderation of candidates, enqueued as one batch
+     * @param action the moderation action applied
+     * @param candidates the moderated candidates
+     * @param reason the reason given, or null
+     */
+    void sendCandidateNotifications(ModerationAction action, List<Candidate> candidates, String reason);
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package com.jobapp.user.service;
 
 import com.jobapp.user.model.Candidate;
 import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.ModerationAction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Implementation of notification service for admin actions
  * Requirements: 5.3
@@ -72,4 +75,39 @@ public class NotificationServiceImpl implements NotificationService {
         // For now, just log the notification
         // In a real implementation, this would integrate with an email service
     }
-}
\ No newline at end of file
+    
+    @Override
+    public void sendEmployerNotifications(ModerationAction action, List<Employer> employers, String reason) {
+        enqueue(new NotificationBatch("employer", action,
+            employers.stream().map(Employer::getEmail).toList(), reason));
+    }
+    
+    @Override
+    public void sendCandidateNotifications(ModerationAction action, List<Candidate> candidates, String reason) {
+        if (action != ModerationAction.BLOCK && action != ModerationAction.UNBLOCK) {
+            throw new IllegalArgumentException("Candidates can only be blocked or unblocked");
+        }
+        enqueue(new NotificationBatch("candidate", action,
+            candidates.stream().map(Candidate::getEmail).toList(), reason));
+    }
+    
+    /**
+     * Hand a whole moderation batch over at once instead of one notification per account
+     */
+    private void enqueue(NotificationBatch batch) {
+        if (batch.recipients().isEmpty()) {
+            return;
+        }
+        // TODO: Enqueue the batch with the email service in one call
+        logger.info("Enqueuing {} notification batch for {} {} accounts{}", batch.action(),
+                   batch.recipients().size(), batch.accountType(),
+                   batch.reason() != null ? " with reason: " + batch.reason() : "");
+        logger.debug("Recipients of the {} notification batch: {}", batch.action(), batch.recipients());
+    }
+    
+    /**
+     * The notifications of one bulk moderation batch; every recipient gets the same action and reason
+     */
+    private record NotificationBatch(String accountType, ModerationAction action, List<String> recipients,
+                                     String reason) {}
+}
@@ -0,0 +1,67 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.PlatformApplicationStatistics;
+import com.jobapp.user.dto.PlatformJobStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Client for the platform statistics that job-service and application-service compute for the admin dashboard.
+ * Both endpoints require the admin role, so the caller's Authorization header is forwarded.
+ * Failures surface as exceptions; the dashboard aggregation decides how to degrade.
+ * Requirements: 5.4
+ */
+@Service
+public class PlatformStatisticsClient {
+
+    // External service URLs (should be configured via properties)
+    private static final String JOB_SERVICE_URL = "http://job-service:8083";
+    private static final String APPLICATION_SERVICE_URL = "http://application-service:8084";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    /**
+     * Fetch platform-wide job statistics
+     * @param days number of days covered by the posting trend
+     * @param authorization the admin's Authorization header, or null
+     */
+    public PlatformJobStatistics getJobStatistics(int days, String authorization) {
+        return restTemplate.exchange(JOB_SERVICE_URL + "/api/jobs/admin/statistics?days={days}", HttpMethod.GET,
+            request(authorization), PlatformJobStatistics.class, days).getBody();
+    }
+
+    /**
+     * Fetch platform-wide application statistics
+     * @param days number of days covered by the application trend
+     * @param authorization the admin's Authorization header, or null
+     */
+    public PlatformApplicationStatistics getApplicationStatistics(int days, String authorization) {
+        return restTemplate.exchange(APPLICATION_SERVICE_URL + "/api/applications/admin/statistics?days={days}",
+            HttpMethod.GET, request(authorization), PlatformApplicationStatistics.class, days).getBody();
+    }
+
+    /**
+     * Authorization header of the request being handled on this thread, or null outside a request
+     */
+    public String currentAuthorization() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        }
+        return null;
+    }
+
+    private HttpEntity<Void> request(String authorization) {
+        HttpHeaders headers = new HttpHeaders();
+        if (authorization != null) {
+            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return new HttpEntity<>(headers);
+    }
+}
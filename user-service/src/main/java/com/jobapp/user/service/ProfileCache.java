@@ -0,0 +1,190 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.CandidateResponse;
+import com.jobapp.user.dto.EmployerResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of candidate and employer profile responses, looked up by ID or email.
+ * Entries expire after {@code profile-cache.ttl} and the least recently used ones are dropped beyond
+ * {@code profile-cache.max-entries} per account type. Every change to a profile (profile and resume or
+ * logo updates, approval and block actions) evicts the account explicitly; a load that overlapped an
+ * eviction is returned but not cached, so a value read before the change cannot be put back. Eviction
+ * is local to this instance; the TTL bounds how long other instances serve a stale profile. Unknown
+ * accounts are never cached. Cached responses are shared and must not be modified.
+ * Lookups are counted in {@code user.profile.cache.requests} by result, with the hit ratio in
+ * {@code user.profile.cache.hit.ratio}.
+ * Requirements: 1.1, 3.1
+ */
+@Service
+public class ProfileCache {
+    
+    private final Store<CandidateResponse> candidates;
+    private final Store<EmployerResponse> employers;
+    
+    public ProfileCache(MeterRegistry meterRegistry,
+                        @Value("${profile-cache.ttl:PT1M}") Duration ttl,
+                        @Value("${profile-cache.max-entries:10000}") int maxEntries) {
+        this.candidates = new Store<>("candidate", CandidateResponse::getId, CandidateResponse::getEmail, ttl, maxEntries, meterRegistry);
+        this.employers = new Store<>("employer", EmployerResponse::getId, EmployerResponse::getEmail, ttl, maxEntries, meterRegistry);
+    }
+    
+    /**
+     * Candidate profile by ID, loaded on a miss
+     * @param loader reads the profile; its exceptions propagate and nothing is cached
+     */
+    public CandidateResponse candidateById(String candidateId, Supplier<CandidateResponse> loader) {
+        return candidates.byId(candidateId, loader);
+    }
+    
+    /**
+     * Candidate profile by email, loaded on a miss
+     */
+    public CandidateResponse candidateByEmail(String email, Supplier<CandidateResponse> loader) {
+        return candidates.byEmail(email, loader);
+    }
+    
+    /**
+     * Employer profile by ID, loaded on a miss
+     */
+    public EmployerResponse employerById(String employerId, Supplier<EmployerResponse> loader) {
+        return employers.byId(employerId, loader);
+    }
+    
+    /**
+     * Employer profile by email, loaded on a miss
+     */
+    public EmployerResponse employerByEmail(String email, Supplier<EmployerResponse> loader) {
+        return employers.byEmail(email, loader);
+    }
+    
+    /**
+     * Drop a candidate's cached profile after it changed
+     */
+    public void invalidateCandidate(String candidateId) {
+        candidates.invalidate(candidateId);
+    }
+    
+    /**
+     * Drop an employer's cached profile after it changed
+     */
+    public void invalidateEmployer(String employerId) {
+        employers.invalidate(employerId);
+    }
+    
+    /**
+     * Profiles of one account type keyed by ID, with an index from email to ID
+     */
+    private static final class Store<T> {
+        
+        private final Function<T, String> idOf;
+        private final Function<T, String> emailOf;
+        private final long ttlNanos;
+        private final Map<String, Entry<T>> entries;
+        private final ConcurrentMap<String, String> idsByEmail = new ConcurrentHashMap<>();
+        // Advanced by every eviction; a load only caches its value if no eviction happened meanwhile
+        private final AtomicLong generation = new AtomicLong();
+        private final Counter hits;
+        private final Counter misses;
+        
+        Store(String type, Function<T, String> idOf, Function<T, String> emailOf, Duration ttl, int maxEntries,
+              MeterRegistry meterRegistry) {
+            this.idOf = idOf;
+            this.emailOf = emailOf;
+            this.ttlNanos = ttl.toNanos();
+            this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                    if (size() <= maxEntries) {
+                        return false;
+                    }
+                    if (eldest.getValue().email() != null) {
+                        idsByEmail.remove(eldest.getValue().email(), eldest.getKey());
+                    }
+                    return true;
+                }
+            });
+            this.hits = Counter.builder("user.profile.cache.requests")
+                .tag("cache", type).tag("result", "hit")
+                .description("Profile lookups answered from the cache")
+                .register(meterRegistry);
+            this.misses = Counter.builder("user.profile.cache.requests")
+                .tag("cache", type).tag("result", "miss")
+                .description("Profile lookups loaded from the database")
+                .register(meterRegistry);
+            Gauge.builder("user.profile.cache.hit.ratio", this, Store::hitRatio)
+                .tag("cache", type)
+                .description("Share of profile lookups answered from the cache")
+                .register(meterRegistry);
+            Gauge.builder("user.profile.cache.size", entries, Map::size)
+                .tag("cache", type)
+                .description("Cached profiles")
+                .register(meterRegistry);
+        }
+        
+        T byId(String id, Supplier<T> loader) {
+            T cached = lookup(id);
+            return cached != null ? cached : load(loader);
+        }
+        
+        T byEmail(String email, Supplier<T> loader) {
+            String id = idsByEmail.get(email);
+            T cached = id != null ? lookup(id) : null;
+            return cached != null ? cached : load(loader);
+        }
+        
+        void invalidate(String id) {
+            generation.incrementAndGet();
+            Entry<T> removed = entries.remove(id);
+            if (removed != null && removed.email() != null) {
+                idsByEmail.remove(removed.email(), id);
+            }
+        }
+        
+        private T lookup(String id) {
+            Entry<T> entry = entries.get(id);
+            if (entry == null || System.nanoTime() - entry.loadedAtNanos() >= ttlNanos) {
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        }
+        
+        private T load(Supplier<T> loader) {
+            misses.increment();
+            long loadedAtNanos = System.nanoTime();
+            long generationBefore = generation.get();
+            T value = loader.get();
+            String id = idOf.apply(value);
+            if (id != null && generation.get() == generationBefore) {
+                String email = emailOf.apply(value);
+                entries.put(id, new Entry<>(value, email, loadedAtNanos));
+                if (email != null) {
+                    idsByEmail.put(email, id);
+                }
+            }
+            return value;
+        }
+        
+        private double hitRatio() {
+            double total = hits.count() + misses.count();
+            return total == 0 ? 0 : hits.count() / total;
+        }
+    }
+    
+    private record Entry<T>(T value, String email, long loadedAtNanos) {}
+}
@@ -0,0 +1,269 @@
+package com.jobapp.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.common.metrics.RequestMetricsFilter;
+import com.jobapp.user.dto.RequestMetricsSnapshot;
+import com.jobapp.user.dto.SystemReportSummary;
+import com.jobapp.user.model.RequestMetricsBucket;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.aggregation.ObjectOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.unwind;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Collects the request metrics of all services and summarizes them for the admin system report.
+ * On a schedule, this service's own totals and each peer's {@code /actuator/requestmetrics} snapshot are
+ * stored as one {@link RequestMetricsBucket} per process instance and time bucket. A report window is
+ * answered from two reads of that store: the latest bucket of each instance inside the window and the
+ * latest one before it, whose difference is the instance's traffic in the window. Percentiles are
+ * interpolated from the merged latency histogram. Peak concurrency is that of the busiest one-minute
+ * window, with the peaks of all instances in the same window added up.
+ * Requirements: 5.4
+ */
+@Service
+public class RequestMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsService.class);
+
+    private static final String SNAPSHOT_PATH = "/actuator/requestmetrics";
+    private static final int TOP_ENDPOINTS = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final RestTemplate restTemplate;
+    private final RequestMetricsFilter requestMetricsFilter;
+    private final ObjectMapper objectMapper;
+    private final List<String> peers;
+    private final long bucketSeconds;
+
+    public RequestMetricsService(MongoTemplate mongoTemplate,
+                                 RestTemplate restTemplate,
+                                 RequestMetricsFilter requestMetricsFilter,
+                                 ObjectMapper objectMapper,
+                                 @Value("${request-metrics.peers:http://auth-service:8081,http://job-service:8083,http://application-service:8084,http://notification-service:8085}") List<String> peers,
+                                 @Value("${request-metrics.bucket-width:PT15M}") Duration bucketWidth) {
+        this.mongoTemplate = mongoTemplate;
+        this.restTemplate = restTemplate;
+        this.requestMetricsFilter = requestMetricsFilter;
+        this.objectMapper = objectMapper;
+        this.peers = peers;
+        this.bucketSeconds = Math.max(60, bucketWidth.getSeconds());
+    }
+
+    /**
+     * Scrape this service and its peers into the current time bucket
+     */
+    @Scheduled(fixedDelayString = "${request-metrics.scrape-interval-ms:60000}")
+    public void collect() {
+        Instant now = Instant.now();
+        store(objectMapper.convertValue(requestMetricsFilter.snapshot(), RequestMetricsSnapshot.class), now);
+        for (String peer : peers) {
+            try {
+                RequestMetricsSnapshot snapshot = restTemplate.getForObject(peer + SNAPSHOT_PATH, RequestMetricsSnapshot.class);
+                if (snapshot != null && snapshot.getInstance() != null) {
+                    store(snapshot, now);
+                }
+            } catch (Exception e) {
+                // The instance's totals are cumulative, so the next successful scrape covers this interval
+                logger.debug("Failed to scrape request metrics from {}: {}", peer, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Performance metrics of all services over the last days
+     * @param days the report window
+     * @return request totals, latency average and percentiles, error rate and peak concurrency
+     */
+    public SystemReportSummary.PerformanceMetrics summarize(int days) {
+        LocalDateTime windowStart = LocalDateTime.now().minusDays(Math.max(1, days));
+        Map<String, Document> latest = latestPerInstance(where("bucketStart").gte(windowStart));
+        Map<String, Document> baseline = latest.isEmpty() ? Map.of()
+            : latestPerInstance(where("instance").in(latest.keySet()).and("bucketStart").lt(windowStart));
+
+        long requests = 0;
+        long errors = 0;
+        double totalTimeMs = 0;
+        List<Long> bounds = null;
+        long[] latencyCounts = null;
+        long histogramRequests = 0;
+        Map<String, Long> endpointUsage = new HashMap<>();
+
+        for (Map.Entry<String, Document> entry : latest.entrySet()) {
+            RequestMetricsBucket current = read(entry.getValue());
+            RequestMetricsBucket previous = baseline.containsKey(entry.getKey()) ? read(baseline.get(entry.getKey())) : null;
+            long instanceRequests = current.getRequests() - (previous != null ? previous.getRequests() : 0);
+
+            requests += instanceRequests;
+            errors += current.getErrors() - (previous != null ? previous.getErrors() : 0);
+            totalTimeMs += current.getTotalTimeMs() - (previous != null ? previous.getTotalTimeMs() : 0);
+
+            if (bounds == null && current.getLatencyBoundsMs() != null) {
+                bounds = current.getLatencyBoundsMs();
+                latencyCounts = new long[bounds.size()];
+            }
+            // Histograms can only be merged over the same buckets
+            if (bounds != null && bounds.equals(current.getLatencyBoundsMs())) {
+                for (int i = 0; i < latencyCounts.length; i++) {
+                    latencyCounts[i] += current.getLatencyCounts().get(i)
+                        - (previous != null && previous.getLatencyCounts() != null ? previous.getLatencyCounts().get(i) : 0);
+                }
+                histogramRequests += instanceRequests;
+            }
+
+            Map<String, Long> previousEndpoints = new HashMap<>();
+            if (previous != null && previous.getEndpoints() != null) {
+                previous.getEndpoints().forEach(count -> previousEndpoints.put(count.getEndpoint(), count.getRequests()));
+            }
+            if (current.getEndpoints() != null) {
+                for (RequestMetricsBucket.EndpointCount count : current.getEndpoints()) {
+                    long delta = count.getRequests() - previousEndpoints.getOrDefault(count.getEndpoint(), 0L);
+                    if (delta > 0) {
+                        endpointUsage.merge(current.getService() + " " + count.getEndpoint(), delta, Long::sum);
+                    }
+                }
+            }
+        }
+
+        SystemReportSummary.PerformanceMetrics performance = new SystemReportSummary.PerformanceMetrics();
+        performance.setTotalRequests(requests);
+        performance.setAverageResponseTime(requests > 0 ? round(totalTimeMs / requests) : 0.0);
+        performance.setErrorRate(requests > 0 ? round((double) errors / requests) : 0.0);
+        performance.setPeakConcurrentUsers(peakInFlight(windowStart));
+        if (bounds != null) {
+            performance.setP50ResponseTime(percentile(bounds, latencyCounts, histogramRequests, 0.50));
+            performance.setP95ResponseTime(percentile(bounds, latencyCounts, histogramRequests, 0.95));
+            performance.setP99ResponseTime(percentile(bounds, latencyCounts, histogramRequests, 0.99));
+        }
+        performance.setEndpointUsage(topEndpoints(endpointUsage));
+        return performance;
+    }
+
+    void store(RequestMetricsSnapshot snapshot, Instant now) {
+        long epochSecond = now.getEpochSecond();
+        long bucketStart = epochSecond - Math.floorMod(epochSecond, bucketSeconds);
+        String id = snapshot.getInstance() + ":" + bucketStart;
+
+        List<RequestMetricsBucket.EndpointCount> endpoints = new ArrayList<>();
+        if (snapshot.getEndpoints() != null) {
+            snapshot.getEndpoints().forEach((endpoint, count) -> endpoints.add(new RequestMetricsBucket.EndpointCount(endpoint, count)));
+        }
+        Update update = new Update()
+            .set("service", snapshot.getService())
+            .set("instance", snapshot.getInstance())
+            .set("bucketStart", LocalDateTime.ofInstant(Instant.ofEpochSecond(bucketStart), ZoneId.systemDefault()))
+            .set("requests", snapshot.getRequests())
+            .set("errors", snapshot.getErrors())
+            .set("totalTimeMs", snapshot.getTotalTimeMs())
+            .set("latencyBoundsMs", snapshot.getLatencyBoundsMs())
+            .set("latencyCounts", snapshot.getLatencyCounts())
+            .set("endpoints", endpoints);
+        if (snapshot.getPeaks() != null) {
+            snapshot.getPeaks().forEach((window, peak) -> update.max("peaks." + window, peak));
+        }
+        try {
+            // Totals only move forward; a snapshot older than the stored one matches nothing and the
+            // upsert then collides with the existing _id
+            mongoTemplate.upsert(Query.query(where("id").is(id).and("requests").lte(snapshot.getRequests())),
+                update, RequestMetricsBucket.class);
+        } catch (DuplicateKeyException e) {
+            logger.debug("Skipped stale request metrics snapshot of {}", snapshot.getInstance());
+        }
+    }
+
+    static double percentile(List<Long> bounds, long[] cumulativeCounts, long total, double quantile) {
+        if (total <= 0) {
+            return 0.0;
+        }
+        double rank = quantile * total;
+        long lowerCount = 0;
+        long lowerBound = 0;
+        for (int i = 0; i < bounds.size(); i++) {
+            long count = cumulativeCounts[i];
+            if (count >= rank) {
+                long inBucket = count - lowerCount;
+                double fraction = inBucket > 0 ? (rank - lowerCount) / inBucket : 1.0;
+                return round(lowerBound + fraction * (bounds.get(i) - lowerBound));
+            }
+            lowerCount = count;
+            lowerBound = bounds.get(i);
+        }
+        // Slower than the largest bucket; report its bound as the lower estimate
+        return bounds.isEmpty() ? 0.0 : bounds.get(bounds.size() - 1);
+    }
+
+    private Map<String, Document> latestPerInstance(Criteria criteria) {
+        Aggregation aggregation = newAggregation(RequestMetricsBucket.class,
+            match(criteria),
+            sort(Sort.Direction.ASC, "bucketStart"),
+            group("instance").last(Aggregation.ROOT).as("latest"));
+
+        Map<String, Document> latest = new LinkedHashMap<>();
+        for (Document result : mongoTemplate.aggregate(aggregation, RequestMetricsBucket.class, Document.class)) {
+            latest.put(result.getString("_id"), result.get("latest", Document.class));
+        }
+        return latest;
+    }
+
+    private int peakInFlight(LocalDateTime windowStart) {
+        // A window can be reported by scrapes in two buckets, so each instance's window is counted once
+        // before the instances are added up
+        Aggregation aggregation = newAggregation(RequestMetricsBucket.class,
+            match(where("bucketStart").gte(windowStart)),
+            project("instance").and(ObjectOperators.valueOf("peaks").toArray()).as("peaks"),
+            unwind("peaks"),
+            group(Fields.from(Fields.field("instance"), Fields.field("window", "peaks.k"))).max("peaks.v").as("peak"),
+            group("window").sum("peak").as("peak"),
+            group().max("peak").as("peak"));
+
+        Document result = mongoTemplate.aggregate(aggregation, RequestMetricsBucket.class, Document.class)
+            .getUniqueMappedResult();
+        return result != null && result.get("peak") != null ? result.get("peak", Number.class).intValue() : 0;
+    }
+
+    private RequestMetricsBucket read(Document document) {
+        return mongoTemplate.getConverter().read(RequestMetricsBucket.class, document);
+    }
+
+    private static Map<String, Long> topEndpoints(Map<String, Long> endpointUsage) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        endpointUsage.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(TOP_ENDPOINTS)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,260 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.ResumeExtractionJob;
+import com.jobapp.user.model.ResumeText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Extracts the text of uploaded resumes into the full-text indexed {@code candidate_resume_text}
+ * collection.
+ * Uploads are queued in {@code resume_extraction_jobs} and processed on a bounded pool of worker
+ * threads, so the upload does not wait for parsing. The queue lives in MongoDB: an item stays queued
+ * until its text is stored, a worker's claim is a lease that another worker takes over once it expires,
+ * and the stored text carries the version of the upload it came from, so a restart neither loses nor
+ * double-applies work. Failed items are retried with exponential backoff up to a maximum number of
+ * attempts. Workers are woken on enqueue and by a periodic poll that also picks up retries and
+ * expired leases.
+ * Requirements: 1.4
+ */
+@Service
+public class ResumeIndexingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIndexingService.class);
+
+    private static final int MAX_TEXT_LENGTH = ResumeTextExtractor.MAX_TEXT_LENGTH;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final FileStorage fileStorage;
+    private final int threads;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public ResumeIndexingService(MongoTemplate mongoTemplate,
+                                 FileStorage fileStorage,
+                                 @Value("${resume-indexing.threads:2}") int threads,
+                                 @Value("${resume-indexing.max-attempts:5}") int maxAttempts,
+                                 @Value("${resume-indexing.lease:PT5M}") Duration lease,
+                                 @Value("${resume-indexing.retry-backoff:PT1M}") Duration retryBackoff) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileStorage = fileStorage;
+        this.threads = threads;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "resume-indexing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queue a candidate's resume for text extraction, replacing any queued earlier resume
+     * @param candidateId the candidate ID
+     * @param fileKey the storage key of the resume below the upload directory
+     */
+    public void enqueue(String candidateId, String fileKey) {
+        LocalDateTime now = LocalDateTime.now();
+        mongoTemplate.upsert(Query.query(where("id").is(candidateId)),
+            new Update().set("fileKey", fileKey)
+                .set("status", ResumeExtractionJob.Status.PENDING)
+                .set("attempts", 0)
+                .set("version", System.currentTimeMillis())
+                .set("availableAt", now)
+                .set("enqueuedAt", now)
+                .unset("leaseUntil")
+                .unset("claimToken")
+                .unset("lastError"),
+            ResumeExtractionJob.class);
+        wake();
+    }
+
+    /**
+     * Wake workers for due retries and items whose worker lease expired
+     */
+    @Scheduled(fixedDelayString = "${resume-indexing.poll-interval-ms:30000}")
+    public void pollQueue() {
+        for (int i = 0; i < threads; i++) {
+            wake();
+        }
+    }
+
+    /**
+     * Find candidates whose resume matches the search terms, best match first
+     * @param search the search terms
+     * @param limit maximum number of candidates
+     * @return candidate IDs
+     */
+    public List<String> searchCandidateIds(String search, int limit) {
+        String normalized = UserSearchTokens.normalize(search);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(normalized))
+            .sortByScore()
+            .limit(limit);
+        query.fields().include("id");
+        return mongoTemplate.find(query, ResumeText.class).stream()
+            .map(ResumeText::getId)
+            .toList();
+    }
+
+    /**
+     * Normalize extracted text for indexing: accents stripped, lowercased, one space between words
+     */
+    static String normalizeText(String text) {
+        String normalized = UserSearchTokens.normalize(text);
+        if (normalized.length() <= MAX_TEXT_LENGTH) {
+            return normalized;
+        }
+        int cut = normalized.lastIndexOf(' ', MAX_TEXT_LENGTH);
+        return normalized.substring(0, cut > 0 ? cut : MAX_TEXT_LENGTH);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void wake() {
+        int current;
+        do {
+            current = activeWorkers.get();
+            if (current >= threads) {
+                return;
+            }
+        } while (!activeWorkers.compareAndSet(current, current + 1));
+        executor.execute(() -> {
+            try {
+                drain();
+            } finally {
+                activeWorkers.decrementAndGet();
+            }
+        });
+    }
+
+    void drain() {
+        try {
+            ResumeExtractionJob job;
+            while ((job = claim()) != null) {
+                process(job);
+            }
+        } catch (RuntimeException e) {
+            // Queue unavailable; the next poll tries again
+            logger.warn("Resume extraction queue unavailable: {}", e.getMessage());
+        }
+    }
+
+    ResumeExtractionJob claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(new Criteria().orOperator(
+                where("status").is(ResumeExtractionJob.Status.PENDING).and("availableAt").lte(now),
+                where("status").is(ResumeExtractionJob.Status.PROCESSING).and("leaseUntil").lt(now)))
+            .with(Sort.by(Sort.Direction.ASC, "availableAt"));
+        Update update = new Update().set("status", ResumeExtractionJob.Status.PROCESSING)
+            .set("leaseUntil", now.plus(lease))
+            .set("claimToken", UUID.randomUUID().toString())
+            .inc("attempts", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+            ResumeExtractionJob.class);
+    }
+
+    void process(ResumeExtractionJob job) {
+        if (job.getAttempts() > maxAttempts) {
+            // Workers kept dying on this item before they could record a failure
+            fail(job, "Abandoned after " + maxAttempts + " expired leases");
+            return;
+        }
+        String fileKey = job.getFileKey();
+        try {
+            String extension = fileKey.substring(fileKey.lastIndexOf('.') + 1);
+            byte[] content;
+            try (InputStream in = fileStorage.open(fileKey)) {
+                content = in.readAllBytes();
+            }
+            String text = normalizeText(ResumeTextExtractor.extract(content, extension));
+            store(job, text);
+            complete(job);
+        } catch (NoSuchFileException e) {
+            // The file was replaced and collected; a newer upload has its own item
+            logger.info("Resume {} of candidate {} no longer exists", job.getFileKey(), job.getId());
+            complete(job);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to extract resume {} of candidate {} (attempt {}): {}",
+                job.getFileKey(), job.getId(), job.getAttempts(), e.getMessage());
+            fail(job, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void store(ResumeExtractionJob job, String text) {
+        int tokenCount = text.isEmpty() ? 0 : text.split(" ").length;
+        try {
+            // Matches only if no newer upload's text is stored; otherwise the upsert collides on the ID
+            mongoTemplate.upsert(Query.query(where("id").is(job.getId()).and("sourceVersion").lte(job.getVersion())),
+                new Update().set("fileKey", job.getFileKey())
+                    .set("text", text)
+                    .set("tokenCount", tokenCount)
+                    .set("sourceVersion", job.getVersion())
+                    .set("extractedAt", LocalDateTime.now()),
+                ResumeText.class);
+        } catch (DuplicateKeyException e) {
+            logger.debug("Skipping stale resume text of candidate {}", job.getId());
+        }
+    }
+
+    private void complete(ResumeExtractionJob job) {
+        // Kept if the candidate uploaded again meanwhile: the item then belongs to the newer resume
+        mongoTemplate.remove(Query.query(where("id").is(job.getId()).and("claimToken").is(job.getClaimToken())),
+            ResumeExtractionJob.class);
+    }
+
+    private void fail(ResumeExtractionJob job, String error) {
+        Update update = new Update().set("lastError", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+            .unset("leaseUntil")
+            .unset("claimToken");
+        if (job.getAttempts() >= maxAttempts) {
+            update.set("status", ResumeExtractionJob.Status.FAILED);
+        } else {
+            long backoffMillis = retryBackoff.toMillis() << Math.max(0, Math.min(job.getAttempts() - 1, 10));
+            update.set("status", ResumeExtractionJob.Status.PENDING)
+                .set("availableAt", LocalDateTime.now().plus(Duration.ofMillis(backoffMillis)));
+        }
+        mongoTemplate.updateFirst(Query.query(where("id").is(job.getId()).and("claimToken").is(job.getClaimToken())),
+            update, ResumeExtractionJob.class);
+    }
+}
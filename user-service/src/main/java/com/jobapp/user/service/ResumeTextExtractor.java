@@ -0,0 +1,124 @@
+package com.jobapp.user.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.hwpf.extractor.WordExtractor;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Plain text extraction from resume files.
+ * PDF text is extracted with PDFBox, DOCX and legacy binary DOC text with Apache POI; a file the
+ * libraries cannot read fails with an IOException.
+ * The Flate-compressed page contents of a PDF share a budget of {@link #MAX_INFLATED_SIZE} bytes, which
+ * is checked before PDFBox decodes them, and DOCX archives are checked by POI's zip bomb detection; a
+ * file that expands beyond either fails with an IOException. PDF pages are read until
+ * {@link #MAX_TEXT_LENGTH} characters of text have been collected, and the text of every format is
+ * cut to that length.
+ * Requirements: 1.4
+ */
+public final class ResumeTextExtractor {
+
+    static final int MAX_INFLATED_SIZE = 32 * 1024 * 1024;
+    static final int MAX_TEXT_LENGTH = 200_000;
+
+    private ResumeTextExtractor() {}
+
+    /**
+     * Extract the text of a resume
+     * @param content the file content
+     * @param extension the file extension (pdf, doc, docx)
+     * @return the extracted text, empty if the format is not supported
+     */
+    public static String extract(byte[] content, String extension) throws IOException {
+        switch (extension.toLowerCase(Locale.ROOT)) {
+            case "pdf":
+                return extractPdf(content);
+            case "docx":
+                return extractDocx(content);
+            case "doc":
+                return extractDoc(content);
+            default:
+                return "";
+        }
+    }
+
+    private static String extractPdf(byte[] content) throws IOException {
+        try (PDDocument document = Loader.loadPDF(content)) {
+            checkInflatedSize(document);
+            PDFTextStripper stripper = new PDFTextStripper();
+            StringBuilder text = new StringBuilder();
+            for (int page = 1; page <= document.getNumberOfPages() && text.length() < MAX_TEXT_LENGTH; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                text.append(stripper.getText(document));
+            }
+            return truncate(text.toString());
+        } catch (RuntimeException e) {
+            throw new IOException("Unreadable PDF file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Inflate the page contents without keeping them, so a PDF whose contents would exhaust memory when
+     * PDFBox decodes them is rejected first
+     */
+    private static void checkInflatedSize(PDDocument document) throws IOException {
+        long remaining = MAX_INFLATED_SIZE;
+        byte[] buffer = new byte[8192];
+        for (PDPage page : document.getPages()) {
+            Iterator<PDStream> streams = page.getContentStreams();
+            while (streams.hasNext()) {
+                PDStream stream = streams.next();
+                List<COSName> filters = stream.getFilters();
+                if (filters.isEmpty() || !COSName.FLATE_DECODE.equals(filters.get(0))) {
+                    continue;
+                }
+                try (InputStream in = new InflaterInputStream(stream.getCOSObject().createRawInputStream())) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        remaining -= read;
+                        if (remaining < 0) {
+                            throw new IOException("PDF content expands beyond " + MAX_INFLATED_SIZE + " bytes");
+                        }
+                    }
+                } catch (ZipException e) {
+                    // PDFBox reads what it can of a damaged stream
+                }
+            }
+        }
+    }
+
+    private static String extractDocx(byte[] content) throws IOException {
+        try (XWPFWordExtractor extractor = new XWPFWordExtractor(new XWPFDocument(new ByteArrayInputStream(content)))) {
+            return truncate(extractor.getText());
+        } catch (RuntimeException e) {
+            throw new IOException("Unreadable DOCX file: " + e.getMessage(), e);
+        }
+    }
+
+    private static String extractDoc(byte[] content) throws IOException {
+        try (WordExtractor extractor = new WordExtractor(new ByteArrayInputStream(content))) {
+            return truncate(extractor.getText());
+        } catch (RuntimeException e) {
+            throw new IOException("Unreadable DOC file: " + e.getMessage(), e);
+        }
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+    }
+}
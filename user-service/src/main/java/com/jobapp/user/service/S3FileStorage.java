@@ -0,0 +1,175 @@
+package com.jobapp.user.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * File storage in a bucket of S3 or an S3-compatible object store (such as MinIO).
+ * Clients upload and download directly through presigned URLs; user-service only signs the requests
+ * and records metadata. Storage errors surface as {@link IOException}, a missing object as
+ * {@link NoSuchFileException}.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+public class S3FileStorage implements FileStorage {
+
+    private static final int NOT_FOUND = 404;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final AmazonS3 s3;
+    private final String bucket;
+
+    public S3FileStorage(AmazonS3 s3, String bucket) {
+        this.s3 = s3;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void store(String key, Path source, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        try {
+            s3.putObject(new PutObjectRequest(bucket, key, source.toFile()).withMetadata(metadata));
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to store " + key + ": " + e.getMessage(), e);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        try {
+            // Copied inside the object store; the bytes do not pass through this service
+            s3.copyObject(bucket, sourceKey, bucket, targetKey);
+        } catch (AmazonServiceException e) {
+            throw translate(sourceKey, e);
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to copy " + sourceKey + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return stat(key).isPresent();
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        try {
+            ObjectMetadata metadata = s3.getObjectMetadata(bucket, key);
+            return Optional.of(new StoredObject(metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == NOT_FOUND) {
+                return Optional.empty();
+            }
+            throw translate(key, e);
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to read metadata of " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3.getObject(bucket, key).getObjectContent();
+        } catch (AmazonServiceException e) {
+            throw translate(key, e);
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] readPrefix(String key, int length) throws IOException {
+        try (S3Object object = s3.getObject(new GetObjectRequest(bucket, key).withRange(0, length - 1L));
+             S3ObjectInputStream in = object.getObjectContent()) {
+            return in.readNBytes(length);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == RANGE_NOT_SATISFIABLE) {
+                return new byte[0];
+            }
+            throw translate(key, e);
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        boolean existed = exists(key);
+        try {
+            s3.deleteObject(bucket, key);
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to delete " + key + ": " + e.getMessage(), e);
+        }
+        return existed;
+    }
+
+    @Override
+    public int deleteByPrefix(String prefix) throws IOException {
+        int deleted = 0;
+        try {
+            ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket).withPrefix(prefix);
+            ListObjectsV2Result result;
+            do {
+                result = s3.listObjectsV2(request);
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    s3.deleteObject(bucket, summary.getKey());
+                    deleted++;
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        } catch (SdkClientException e) {
+            throw new IOException("Failed to delete objects under " + prefix + ": " + e.getMessage(), e);
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignUpload(String key, String contentType, Duration validity) {
+        // The content type is part of the signature, so the client must send the declared one
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+            .withExpiration(expiration(validity))
+            .withContentType(contentType);
+        return Optional.of(new PresignedRequest("PUT", s3.generatePresignedUrl(request), Map.of("Content-Type", contentType)));
+    }
+
+    @Override
+    public Optional<URL> presignDownload(String key, Duration validity) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+            .withExpiration(expiration(validity));
+        return Optional.of(s3.generatePresignedUrl(request));
+    }
+
+    private static Date expiration(Duration validity) {
+        return new Date(System.currentTimeMillis() + validity.toMillis());
+    }
+
+    private static IOException translate(String key, AmazonServiceException e) {
+        if (e.getStatusCode() == NOT_FOUND) {
+            return new NoSuchFileException(key);
+        }
+        return new IOException("Object store request for " + key + " failed: " + e.getErrorMessage(), e);
+    }
+}
@@ -0,0 +1,229 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.exception.FileUploadException;
+import com.jobapp.user.exception.ResourceNotFoundException;
+import com.jobapp.user.model.UploadSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Keeps the state and the received chunks of resumable chunked uploads.
+ * Every chunk is stored as its own object ({@code upload-sessions/<sessionId>-<index>}) in the file
+ * storage, so the chunks of a session may arrive at any instance, in any order, concurrently or
+ * repeatedly; sending a chunk again replaces the same object. The chunks are joined in order only when
+ * the upload is completed. An owner can keep a limited number of sessions open. Expired sessions are
+ * swept together with their chunks; the TTL index keeps them a day longer as a backstop.
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@Service
+public class UploadSessionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionService.class);
+
+    static final String CHUNK_PREFIX = "upload-sessions/";
+    private static final String CHUNK_CONTENT_TYPE = "application/octet-stream";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SWEEP_BATCH = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final FileStorage fileStorage;
+    private final int chunkSize;
+    private final Duration timeToLive;
+    private final int maxOpenPerOwner;
+
+    public UploadSessionService(MongoTemplate mongoTemplate,
+                                FileStorage fileStorage,
+                                @Value("${app.file.upload-sessions.chunk-size:1MB}") DataSize chunkSize,
+                                @Value("${app.file.upload-sessions.ttl:PT24H}") Duration timeToLive,
+                                @Value("${app.file.upload-sessions.max-open-per-owner:5}") int maxOpenPerOwner) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileStorage = fileStorage;
+        this.chunkSize = Math.toIntExact(chunkSize.toBytes());
+        this.timeToLive = timeToLive;
+        this.maxOpenPerOwner = maxOpenPerOwner;
+    }
+
+    /**
+     * Open an upload session for a validated file
+     * @param category the file category ("resume" or "logo")
+     * @param ownerId the candidate or employer ID
+     * @throws FileUploadException if the owner already has the maximum number of sessions open
+     */
+    public UploadSession create(String category, String ownerId, String fileName, String contentType, long size) {
+        LocalDateTime now = LocalDateTime.now();
+        long open = mongoTemplate.count(Query.query(where("ownerId").is(ownerId).and("expiresAt").gt(now)),
+            UploadSession.class);
+        if (open >= maxOpenPerOwner) {
+            throw new FileUploadException(String.format(
+                "Too many open uploads: complete or abandon one of the %d open uploads first", open));
+        }
+
+        UploadSession session = new UploadSession();
+        session.setId(UUID.randomUUID().toString());
+        session.setCategory(category);
+        session.setOwnerId(ownerId);
+        session.setFileName(fileName);
+        session.setContentType(contentType);
+        session.setSize(size);
+        session.setChunkSize(chunkSize);
+        session.setCreatedAt(now);
+        session.setExpiresAt(now.plus(timeToLive));
+        return mongoTemplate.insert(session);
+    }
+
+    /**
+     * Find an owner's unexpired upload session
+     * @throws ResourceNotFoundException if there is no such session
+     */
+    public UploadSession get(String sessionId, String category, String ownerId) {
+        UploadSession session = mongoTemplate.findOne(
+            Query.query(where("id").is(sessionId).and("category").is(category).and("ownerId").is(ownerId)),
+            UploadSession.class);
+        // The TTL monitor removes expired sessions only periodically
+        if (session == null || session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ResourceNotFoundException("Upload session not found: " + sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * Store a chunk and record it as received
+     * @param index the zero-based chunk index
+     * @param body the chunk content, exactly the chunk size except for the last chunk
+     * @return the session with the chunk recorded
+     */
+    public UploadSession writeChunk(String sessionId, String category, String ownerId, int index, InputStream body)
+            throws IOException {
+        UploadSession session = get(sessionId, category, ownerId);
+        if (index < 0 || index >= session.getTotalChunks()) {
+            throw new FileUploadException(String.format("Chunk index %d is out of range 0-%d", index,
+                session.getTotalChunks() - 1));
+        }
+        long offset = (long) index * session.getChunkSize();
+        int length = (int) Math.min(session.getChunkSize(), session.getSize() - offset);
+
+        // Received in full before it is stored, so a short chunk never replaces a complete one
+        Path chunk = Files.createTempFile("upload-chunk-", ".tmp");
+        try {
+            long received = 0;
+            try (OutputStream out = Files.newOutputStream(chunk)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                // Reads at most one byte past the chunk, enough to reject an oversized one
+                while (received <= length) {
+                    int read = body.read(buffer, 0, (int) Math.min(buffer.length, length + 1 - received));
+                    if (read < 0) {
+                        break;
+                    }
+                    out.write(buffer, 0, read);
+                    received += read;
+                }
+            }
+            if (received != length) {
+                throw new FileUploadException(String.format("Chunk %d must be %d bytes", index, length));
+            }
+            fileStorage.store(chunkKey(sessionId, index), chunk, CHUNK_CONTENT_TYPE);
+        } finally {
+            Files.deleteIfExists(chunk);
+        }
+
+        UploadSession updated = mongoTemplate.findAndModify(Query.query(where("id").is(sessionId)),
+            new Update().addToSet("receivedChunks", index).set("expiresAt", LocalDateTime.now().plus(timeToLive)),
+            FindAndModifyOptions.options().returnNew(true), UploadSession.class);
+        if (updated == null) {
+            throw new ResourceNotFoundException("Upload session not found: " + sessionId);
+        }
+        return updated;
+    }
+
+    /**
+     * Join the chunks of a complete session, in order, into a local temporary file
+     * @return the file; the caller deletes it
+     */
+    public Path assemble(UploadSession session) throws IOException {
+        Path file = Files.createTempFile("upload-" + session.getId() + "-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (int index = 0; index < session.getTotalChunks(); index++) {
+                try (InputStream in = fileStorage.open(chunkKey(session.getId(), index))) {
+                    in.transferTo(out);
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Remove a finished or rejected session and its chunks
+     */
+    public void discard(String sessionId) {
+        try {
+            fileStorage.deleteByPrefix(CHUNK_PREFIX + sessionId + "-");
+        } catch (IOException e) {
+            // The session is kept so the sweep deletes the chunks once it expires
+            logger.warn("Failed to delete chunks of upload session {}: {}", sessionId, e.getMessage());
+            return;
+        }
+        mongoTemplate.remove(Query.query(where("id").is(sessionId)), UploadSession.class);
+    }
+
+    /**
+     * Delete expired sessions together with their chunks
+     * @return the number of deleted sessions
+     */
+    @Scheduled(fixedDelayString = "${app.file.upload-sessions.sweep-interval-ms:3600000}")
+    public int sweepExpiredSessions() {
+        int deleted = 0;
+        List<UploadSession> expired;
+        do {
+            Query query = Query.query(where("expiresAt").lt(LocalDateTime.now()))
+                .with(Sort.by(Sort.Direction.ASC, "expiresAt"))
+                .limit(SWEEP_BATCH);
+            query.fields().include("id");
+            expired = mongoTemplate.find(query, UploadSession.class);
+            for (UploadSession session : expired) {
+                try {
+                    fileStorage.deleteByPrefix(CHUNK_PREFIX + session.getId() + "-");
+                } catch (IOException e) {
+                    logger.warn("Failed to delete chunks of expired upload session {}: {}", session.getId(),
+                        e.getMessage());
+                    return deleted;
+                }
+                // A session extended by a late chunk since it was read is kept
+                mongoTemplate.remove(Query.query(where("id").is(session.getId()).and("expiresAt").lt(LocalDateTime.now())),
+                    UploadSession.class);
+                deleted++;
+            }
+        } while (expired.size() == SWEEP_BATCH);
+        if (deleted > 0) {
+            logger.info("Deleted {} expired upload sessions", deleted);
+        }
+        return deleted;
+    }
+
+    static String chunkKey(String sessionId, int index) {
+        return CHUNK_PREFIX + sessionId + "-" + index;
+    }
+}
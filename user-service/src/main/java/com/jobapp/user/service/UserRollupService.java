@@ -0,0 +1,330 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
+import com.jobapp.user.model.UserRollup;
+import com.jobapp.user.repository.CandidateRepository;
+import com.jobapp.user.repository.EmployerRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Service maintaining the user analytics rollups.
+ * Every registration, approval, rejection, block and unblock increments the counter of its day and
+ * applies the change in account state to the totals, so analytics read a handful of rollup documents
+ * instead of scanning the candidate and employer collections. Recording is best-effort: a failed
+ * increment is logged and repaired by the nightly reconciliation, never surfaced to the user.
+ * History is rebuilt from the timestamps on the accounts; blocks that were later lifted have lost their
+ * block date and only show up as unblocks.
+ * Requirements: 5.4
+ */
+@Service
+public class UserRollupService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserRollupService.class);
+    
+    /**
+     * Timestamp fields the daily event counters are rebuilt from
+     */
+    private static final Object[][] EVENT_SOURCES = {
+        {"candidates", "created_at", RollupCounter.CANDIDATE_REGISTRATIONS},
+        {"candidates", "blocked_at", RollupCounter.CANDIDATE_BLOCKS},
+        {"candidates", "unblocked_at", RollupCounter.CANDIDATE_UNBLOCKS},
+        {"employers", "created_at", RollupCounter.EMPLOYER_REGISTRATIONS},
+        {"employers", "approved_at", RollupCounter.EMPLOYER_APPROVALS},
+        {"employers", "rejected_at", RollupCounter.EMPLOYER_REJECTIONS},
+        {"employers", "blocked_at", RollupCounter.EMPLOYER_BLOCKS},
+        {"employers", "unblocked_at", RollupCounter.EMPLOYER_UNBLOCKS}
+    };
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private CandidateRepository candidateRepository;
+    
+    @Autowired
+    private EmployerRepository employerRepository;
+    
+    @Value("${rollups.backfill-days:365}")
+    private int backfillDays = 365;
+    
+    /**
+     * Totals a candidate counts towards, matching the counts the admin dashboard reports
+     */
+    public static Set<RollupCounter> totalsOf(Candidate candidate) {
+        Set<RollupCounter> totals = EnumSet.of(RollupCounter.CANDIDATES);
+        if (Boolean.TRUE.equals(candidate.getIsActive())) {
+            totals.add(RollupCounter.ACTIVE_CANDIDATES);
+        } else if (Boolean.FALSE.equals(candidate.getIsActive())) {
+            totals.add(RollupCounter.BLOCKED_CANDIDATES);
+        }
+        return totals;
+    }
+    
+    /**
+     * Totals an employer counts towards, matching the counts the admin dashboard reports
+     */
+    public static Set<RollupCounter> totalsOf(Employer employer) {
+        Set<RollupCounter> totals = EnumSet.of(RollupCounter.EMPLOYERS);
+        if (Boolean.TRUE.equals(employer.getIsApproved())) {
+            totals.add(RollupCounter.APPROVED_EMPLOYERS);
+            if (Boolean.FALSE.equals(employer.getIsActive())) {
+                totals.add(RollupCounter.BLOCKED_EMPLOYERS);
+            }
+        } else if (Boolean.FALSE.equals(employer.getIsApproved())) {
+            totals.add(RollupCounter.UNAPPROVED_EMPLOYERS);
+            if (Boolean.TRUE.equals(employer.getIsActive())) {
+                totals.add(RollupCounter.PENDING_EMPLOYERS);
+            }
+        }
+        return totals;
+    }
+    
+    /**
+     * Record a candidate event
+     * @param event the daily counter to increment
+     * @param totalsBefore the candidate's totals before the change, empty for a new candidate
+     * @param candidate the candidate after the change
+     */
+    public void recordCandidateChange(RollupCounter event, Set<RollupCounter> totalsBefore, Candidate candidate) {
+        record(event, totalsBefore, totalsOf(candidate));
+    }
+    
+    /**
+     * Record an employer event
+     * @param event the daily counter to increment
+     * @param totalsBefore the employer's totals before the change, empty for a new employer
+     * @param employer the employer after the change
+     */
+    public void recordEmployerChange(RollupCounter event, Set<RollupCounter> totalsBefore, Employer employer) {
+        record(event, totalsBefore, totalsOf(employer));
+    }
+    
+    /**
+     * Record the same event for a batch of candidates with one update of the daily and the totals rollup
+     * @param event the daily counter to increment once per candidate
+     * @param totalsBefore the candidates' totals before the change, in the order of candidates
+     * @param candidates the candidates after the change
+     */
+    public void recordCandidateChanges(RollupCounter event, List<Set<RollupCounter>> totalsBefore, List<Candidate> candidates) {
+        Map<RollupCounter, Long> deltas = new EnumMap<>(RollupCounter.class);
+        for (int i = 0; i < candidates.size(); i++) {
+            addDeltas(deltas, totalsBefore.get(i), totalsOf(candidates.get(i)));
+        }
+        record(event, candidates.size(), deltas);
+    }
+    
+    /**
+     * Record the same event for a batch of employers with one update of the daily and the totals rollup
+     * @param event the daily counter to increment once per employer
+     * @param totalsBefore the employers' totals before the change, in the order of employers
+     * @param employers the employers after the change
+     */
+    public void recordEmployerChanges(RollupCounter event, List<Set<RollupCounter>> totalsBefore, List<Employer> employers) {
+        Map<RollupCounter, Long> deltas = new EnumMap<>(RollupCounter.class);
+        for (int i = 0; i < employers.size(); i++) {
+            addDeltas(deltas, totalsBefore.get(i), totalsOf(employers.get(i)));
+        }
+        record(event, employers.size(), deltas);
+    }
+    
+    private void record(RollupCounter event, Set<RollupCounter> totalsBefore, Set<RollupCounter> totalsAfter) {
+        Map<RollupCounter, Long> deltas = new EnumMap<>(RollupCounter.class);
+        addDeltas(deltas, totalsBefore, totalsAfter);
+        record(event, 1, deltas);
+    }
+    
+    private static void addDeltas(Map<RollupCounter, Long> deltas, Set<RollupCounter> totalsBefore,
+                                  Set<RollupCounter> totalsAfter) {
+        for (RollupCounter counter : totalsAfter) {
+            if (!totalsBefore.contains(counter)) {
+                deltas.merge(counter, 1L, Long::sum);
+            }
+        }
+        for (RollupCounter counter : totalsBefore) {
+            if (!totalsAfter.contains(counter)) {
+                deltas.merge(counter, -1L, Long::sum);
+            }
+        }
+    }
+    
+    private void record(RollupCounter event, int count, Map<RollupCounter, Long> deltas) {
+        if (count == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            mongoTemplate.upsert(Query.query(where("id").is(now.toLocalDate().toString())),
+                new Update().inc("counters." + event.getKey(), (long) count).set("updatedAt", now), UserRollup.class);
+            
+            Update totals = new Update();
+            boolean changed = false;
+            for (Map.Entry<RollupCounter, Long> delta : deltas.entrySet()) {
+                if (delta.getValue() != 0) {
+                    totals.inc("counters." + delta.getKey().getKey(), delta.getValue());
+                    changed = true;
+                }
+            }
+            if (changed) {
+                mongoTemplate.upsert(Query.query(where("id").is(UserRollup.TOTALS_ID)),
+                    totals.set("updatedAt", now), UserRollup.class);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to record {} in user rollups: {}", event, e.getMessage());
+        }
+    }
+    
+    /**
+     * Get the daily rollups of a date range, oldest first. Days without any events have no rollup.
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @return the daily rollups in the range
+     */
+    public List<UserRollup> getDailyRollups(LocalDate from, LocalDate to) {
+        Query query = Query.query(where("id").gte(from.toString()).lte(to.toString()))
+            .with(Sort.by(Sort.Direction.ASC, "id"));
+        return mongoTemplate.find(query, UserRollup.class);
+    }
+    
+    /**
+     * Get the totals rollup, computing it first if it does not exist yet
+     * @return the totals rollup
+     */
+    public UserRollup getTotals() {
+        UserRollup totals = mongoTemplate.findById(UserRollup.TOTALS_ID, UserRollup.class);
+        return totals != null ? totals : reconcileTotals();
+    }
+    
+    /**
+     * Recount the totals from the account collections and overwrite the totals rollup
+     * @return the recounted totals
+     */
+    public UserRollup reconcileTotals() {
+        UserRollup totals = new UserRollup(UserRollup.TOTALS_ID);
+        Map<String, Long> counters = totals.getCounters();
+        counters.put(RollupCounter.CANDIDATES.getKey(), candidateRepository.count());
+        counters.put(RollupCounter.ACTIVE_CANDIDATES.getKey(), candidateRepository.countByIsActive(true));
+        counters.put(RollupCounter.BLOCKED_CANDIDATES.getKey(), candidateRepository.countByIsActive(false));
+        counters.put(RollupCounter.EMPLOYERS.getKey(), employerRepository.count());
+        counters.put(RollupCounter.APPROVED_EMPLOYERS.getKey(), employerRepository.countByIsApproved(true));
+        counters.put(RollupCounter.UNAPPROVED_EMPLOYERS.getKey(), employerRepository.countByIsApproved(false));
+        counters.put(RollupCounter.PENDING_EMPLOYERS.getKey(), employerRepository.countPendingApproval());
+        counters.put(RollupCounter.BLOCKED_EMPLOYERS.getKey(), employerRepository.countByIsApprovedAndIsActive(true, false));
+        totals.setUpdatedAt(LocalDateTime.now());
+        mongoTemplate.save(totals);
+        return totals;
+    }
+    
+    /**
+     * Rebuild the daily rollups of past days from the account timestamps, one aggregation per counter.
+     * Today is left to the live increments, since overwriting it could drop events recorded meanwhile.
+     * @param from the first day to rebuild, inclusive
+     * @param to the last day to rebuild, inclusive; capped at yesterday
+     * @return the number of days rebuilt
+     */
+    public int rebuildDailyRollups(LocalDate from, LocalDate to) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate last = to.isAfter(yesterday) ? yesterday : to;
+        if (from.isAfter(last)) {
+            return 0;
+        }
+        
+        ZoneId zone = ZoneId.systemDefault();
+        // Raw collection aggregations bypass type mapping, so bounds are passed as Dates
+        Date start = Date.from(from.atStartOfDay(zone).toInstant());
+        Date end = Date.from(last.plusDays(1).atStartOfDay(zone).toInstant());
+        Map<String, Map<String, Long>> days = new TreeMap<>();
+        
+        for (Object[] source : EVENT_SOURCES) {
+            String collection = (String) source[0];
+            String field = (String) source[1];
+            RollupCounter counter = (RollupCounter) source[2];
+            
+            Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where(field).gte(start).lt(end)),
+                Aggregation.project().and(DateOperators.DateToString.dateOf(field)
+                    .toString("%Y-%m-%d").withTimezone(DateOperators.Timezone.valueOf(zone.getId()))).as("day"),
+                Aggregation.group("day").count().as("count"));
+            
+            for (Document row : mongoTemplate.aggregate(aggregation, collection, Document.class)) {
+                days.computeIfAbsent(row.getString("_id"), day -> new HashMap<>())
+                    .put(counter.getKey(), ((Number) row.get("count")).longValue());
+            }
+        }
+        
+        // Every day in the range is written, so days whose events have since vanished are zeroed
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserRollup.class);
+        LocalDateTime now = LocalDateTime.now();
+        int rebuilt = 0;
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            Map<String, Long> counters = days.getOrDefault(day.toString(), new HashMap<>());
+            bulkOps.upsert(Query.query(where("id").is(day.toString())),
+                new Update().set("counters", counters).set("updatedAt", now));
+            rebuilt++;
+        }
+        bulkOps.execute();
+        
+        logger.info("Rebuilt {} daily user rollups from {} to {}", rebuilt, from, last);
+        return rebuilt;
+    }
+    
+    /**
+     * Backfill history on the first start after rollups were introduced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfMissing() {
+        try {
+            if (mongoTemplate.findById(UserRollup.TOTALS_ID, UserRollup.class) == null) {
+                LocalDate today = LocalDate.now();
+                rebuildDailyRollups(today.minusDays(backfillDays), today.minusDays(1));
+                reconcileTotals();
+            }
+        } catch (Exception e) {
+            logger.warn("User rollup backfill failed: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Nightly repair of increments lost to failed writes: rebuild yesterday and recount the totals
+     */
+    @Scheduled(cron = "${rollups.reconcile-cron:0 15 0 * * *}")
+    public void reconcile() {
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            rebuildDailyRollups(yesterday, yesterday);
+            reconcileTotals();
+        } catch (Exception e) {
+            logger.warn("User rollup reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the admin search tokens of candidates and employers in step with their name, company name
+ * and email by recomputing them whenever a document is saved through the repositories or MongoTemplate
+ * Requirements: 5.2
+ */
+@Component
+public class UserSearchIndexListener extends AbstractMongoEventListener<Object> {
+    
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof Candidate candidate) {
+            candidate.setSearchTokens(UserSearchTokens.tokensOf(candidate.getName(), candidate.getEmail()));
+        } else if (source instanceof Employer employer) {
+            employer.setSearchTokens(UserSearchTokens.tokensOf(employer.getCompanyName(), employer.getEmail()));
+        }
+    }
+}
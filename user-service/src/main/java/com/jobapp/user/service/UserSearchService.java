@@ -0,0 +1,147 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Indexed admin search over candidates and employers.
+ * Candidate documents must carry every token of the search term in {@code search_tokens}, which is served
+ * by a multikey index; only those candidates are then checked against the original case-insensitive
+ * substring match on the raw fields, so results are the same as a collection-wide regex scan without
+ * the scan. Terms shorter than three characters match words that start with them.
+ * Tokens are written on every save by {@link UserSearchIndexListener}; documents saved before the index
+ * existed are tokenized once at startup.
+ * Requirements: 5.2
+ */
+@Service
+public class UserSearchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchService.class);
+    
+    static final String SEARCH_INDEX = "search_tokens_idx";
+    
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    /**
+     * Search candidates by name or email
+     * @param search the search term
+     * @param isActive optional status filter
+     * @param pageable the page request
+     * @return the matching candidates, or null if the term has nothing to index on
+     */
+    public Page<Candidate> searchCandidates(String search, Boolean isActive, Pageable pageable) {
+        Criteria criteria = searchCriteria(search, "name");
+        if (criteria == null) {
+            return null;
+        }
+        if (isActive != null) {
+            criteria = criteria.and("isActive").is(isActive);
+        }
+        return page(criteria, pageable, Candidate.class);
+    }
+    
+    /**
+     * Search employers by company name or email
+     * @param search the search term
+     * @param isApproved optional approval filter
+     * @param isActive optional status filter
+     * @param pageable the page request
+     * @return the matching employers, or null if the term has nothing to index on
+     */
+    public Page<Employer> searchEmployers(String search, Boolean isApproved, Boolean isActive, Pageable pageable) {
+        Criteria criteria = searchCriteria(search, "companyName");
+        if (criteria == null) {
+            return null;
+        }
+        if (isApproved != null) {
+            criteria = criteria.and("isApproved").is(isApproved);
+        }
+        if (isActive != null) {
+            criteria = criteria.and("isActive").is(isActive);
+        }
+        return page(criteria, pageable, Employer.class);
+    }
+    
+    /**
+     * Tokenize documents saved before the search index existed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchTokens() {
+        try {
+            int candidates = backfill(Candidate.class, "name");
+            int employers = backfill(Employer.class, "companyName");
+            if (candidates + employers > 0) {
+                logger.info("Indexed {} candidates and {} employers for admin search", candidates, employers);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to backfill admin search tokens: {}", e.getMessage());
+        }
+    }
+    
+    private Criteria searchCriteria(String search, String nameField) {
+        List<String> tokens = UserSearchTokens.queryTokensOf(search);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        String pattern = UserSearchTokens.escapeRegex(search.trim());
+        return where("searchTokens").all(tokens)
+            .orOperator(where(nameField).regex(pattern, "i"), where("email").regex(pattern, "i"));
+    }
+    
+    private <T> Page<T> page(Criteria criteria, Pageable pageable, Class<T> type) {
+        Query query = Query.query(criteria).with(pageable).withHint(SEARCH_INDEX);
+        List<T> content = mongoTemplate.find(query, type);
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> mongoTemplate.count(Query.query(criteria).withHint(SEARCH_INDEX), type));
+    }
+    
+    private <T> int backfill(Class<T> type, String nameField) {
+        int indexed = 0;
+        while (true) {
+            Query query = Query.query(where("searchTokens").exists(false)).limit(BACKFILL_BATCH_SIZE);
+            query.fields().include("id").include(nameField).include("email");
+            List<T> batch = mongoTemplate.find(query, type);
+            if (batch.isEmpty()) {
+                return indexed;
+            }
+            
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+            for (T document : batch) {
+                String id;
+                List<String> tokens;
+                if (document instanceof Candidate candidate) {
+                    id = candidate.getId();
+                    tokens = UserSearchTokens.tokensOf(candidate.getName(), candidate.getEmail());
+                } else {
+                    Employer employer = (Employer) document;
+                    id = employer.getId();
+                    tokens = UserSearchTokens.tokensOf(employer.getCompanyName(), employer.getEmail());
+                }
+                bulkOps.updateOne(Query.query(where("id").is(id)), new Update().set("searchTokens", tokens));
+            }
+            bulkOps.execute();
+            indexed += batch.size();
+        }
+    }
+}
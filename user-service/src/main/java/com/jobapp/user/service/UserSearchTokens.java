@@ -0,0 +1,91 @@
+package com.jobapp.user.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer for the admin user search index.
+ * Field values are normalized (accents stripped, lowercased, runs of non-alphanumerics collapsed to one
+ * space) and indexed as trigrams ({@code t:abc}) of the whole value plus one- and two-character word
+ * prefixes ({@code p:a}, {@code p:ab}). A search term of three or more normalized characters is answered
+ * by requiring all of its trigrams; a shorter term matches words starting with it.
+ * Requirements: 5.2
+ */
+public final class UserSearchTokens {
+    
+    static final String TRIGRAM = "t:";
+    static final String PREFIX = "p:";
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    
+    private UserSearchTokens() {}
+    
+    /**
+     * Index tokens of the given field values
+     * @param values field values, nulls are skipped
+     * @return distinct tokens in first-seen order
+     */
+    public static List<String> tokensOf(String... values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            for (String word : normalized.split(" ")) {
+                tokens.add(PREFIX + word.substring(0, 1));
+                if (word.length() > 1) {
+                    tokens.add(PREFIX + word.substring(0, 2));
+                }
+            }
+            addTrigrams(normalized, tokens);
+        }
+        return new ArrayList<>(tokens);
+    }
+    
+    /**
+     * Tokens a document must all carry to possibly match the search term
+     * @param search the raw search term
+     * @return the required tokens, or an empty list if the term has no alphanumeric characters
+     */
+    public static List<String> queryTokensOf(String search) {
+        String normalized = normalize(search);
+        Set<String> tokens = new LinkedHashSet<>();
+        if (normalized.length() >= 3) {
+            addTrigrams(normalized, tokens);
+        } else if (!normalized.isEmpty()) {
+            for (String word : normalized.split(" ")) {
+                tokens.add(PREFIX + word);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+    
+    /**
+     * Escape a literal for use inside a MongoDB regular expression
+     */
+    public static String escapeRegex(String literal) {
+        return REGEX_METACHARACTERS.matcher(literal).replaceAll("\\\\$0");
+    }
+    
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+    
+    private static void addTrigrams(String normalized, Set<String> tokens) {
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            tokens.add(TRIGRAM + normalized.substring(i, i + 3));
+        }
+    }
+}
@@ -306,8 +306,9 @@ public class EmployerControllerIntegrationTest {
         // When & Then
         mockMvc.perform(get("/api/employers/pending"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[*].isApproved", everyItem(is(false))));
+                .andExpect(jsonPath("$.employers", hasSize(2)))
+                .andExpect(jsonPath("$.employers[*].isApproved", everyItem(is(false))))
+                .andExpect(jsonPath("$.hasMore", is(false)));
     }
     
     @Test
@@ -347,8 +348,9 @@ public class EmployerControllerIntegrationTest {
         // When & Then
         mockMvc.perform(get("/api/employers/approved"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[*].isApproved", everyItem(is(true))));
+                .andExpect(jsonPath("$.employers", hasSize(2)))
+                .andExpect(jsonPath("$.employers[*].isApproved", everyItem(is(true))))
+                .andExpect(jsonPath("$.hasMore", is(false)));
     }
     
     @Test
@@ -1,6 +1,7 @@
 package com.jobapp.user.service;
 
 import com.jobapp.user.dto.DashboardAnalyticsResponse;
+import com.jobapp.user.dto.PlatformJobStatistics;
 import com.jobapp.user.dto.SystemReportSummary;
 import com.jobapp.user.model.*;
 import com.jobapp.user.repository.AdminRepository;
@@ -12,12 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +48,18 @@ public class AdminAnalyticsServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Mock
+    private AdminAuditLog adminAuditLog;
+
+    @Mock
+    private PlatformStatisticsClient platformStatisticsClient;
+
+    @Mock
+    private RequestMetricsService requestMetricsService;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -60,6 +74,13 @@ public class AdminAnalyticsServiceTest {
         testAdmin.setRole(AdminRole.SUPER_ADMIN);
         testAdmin.setPermissions(Arrays.asList(AdminPermission.getAllPermissions()));
         testAdmin.setIsActive(true);
+
+        ReflectionTestUtils.setField(adminService, "adminPrincipalCache",
+                new AdminPrincipalCache(adminRepository, 30));
+        ReflectionTestUtils.setField(adminService, "dashboardAggregationService",
+                new DashboardAggregationService(userRollupService, adminRepository, platformStatisticsClient,
+                        Runnable::run, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1),
+                        Duration.ofMinutes(1), Duration.ofMinutes(10)));
     }
 
     @Test
@@ -67,21 +88,7 @@ public class AdminAnalyticsServiceTest {
         // Given
         when(adminRepository.findByEmailAndIsActive("admin@test.com", true))
                 .thenReturn(Optional.of(testAdmin));
-        when(candidateRepository.count()).thenReturn(100L);
-        when(candidateRepository.countByIsActive(true)).thenReturn(90L);
-        when(candidateRepository.countByIsActive(false)).thenReturn(10L);
-        when(employerRepository.count()).thenReturn(50L);
-        when(employerRepository.countByIsApproved(true)).thenReturn(40L);
-        when(employerRepository.countPendingApproval()).thenReturn(8L);
-        when(employerRepository.countByIsApproved(false)).thenReturn(2L);
-        when(employerRepository.countByIsApprovedAndIsActive(true, false)).thenReturn(5L);
-
-        Page<Candidate> candidatePage = new PageImpl<>(Arrays.asList());
-        Page<Employer> employerPage = new PageImpl<>(Arrays.asList());
-        when(candidateRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(candidatePage);
-        when(employerRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(employerPage);
+        stubUserRollups();
 
         // When
         DashboardAnalyticsResponse.UserStatistics result = adminService.getUserAnalytics("admin@test.com");
@@ -97,9 +104,12 @@ public class AdminAnalyticsServiceTest {
         assertEquals(2L, result.getRejectedEmployers());
         assertEquals(5L, result.getBlockedEmployers());
 
+        assertEquals(3L, result.getNewCandidatesThisMonth());
+        assertEquals(1L, result.getNewEmployersThisMonth());
+
         verify(adminRepository).findByEmailAndIsActive("admin@test.com", true);
-        verify(candidateRepository).count();
-        verify(employerRepository).count();
+        verify(candidateRepository, never()).count();
+        verify(candidateRepository, never()).findByCreatedAtBetween(any(), any(), any());
     }
 
     @Test
@@ -136,15 +146,8 @@ public class AdminAnalyticsServiceTest {
         when(adminRepository.findByEmailAndIsActive("admin@test.com", true))
                 .thenReturn(Optional.of(testAdmin));
 
-        // Mock all the repository calls for user analytics
-        when(candidateRepository.count()).thenReturn(100L);
-        when(candidateRepository.countByIsActive(true)).thenReturn(90L);
-        when(candidateRepository.countByIsActive(false)).thenReturn(10L);
-        when(employerRepository.count()).thenReturn(50L);
-        when(employerRepository.countByIsApproved(true)).thenReturn(40L);
-        when(employerRepository.countPendingApproval()).thenReturn(8L);
-        when(employerRepository.countByIsApproved(false)).thenReturn(2L);
-        when(employerRepository.countByIsApprovedAndIsActive(true, false)).thenReturn(5L);
+        // Mock the rollups for user analytics
+        stubUserRollups();
 
         // Mock system analytics
         when(adminRepository.count()).thenReturn(5L);
@@ -152,12 +155,11 @@ public class AdminAnalyticsServiceTest {
         when(adminRepository.getTotalLoginCount()).thenReturn(150L);
         when(adminRepository.getTotalActionsCount()).thenReturn(500L);
 
-        Page<Candidate> candidatePage = new PageImpl<>(Arrays.asList());
-        Page<Employer> employerPage = new PageImpl<>(Arrays.asList());
-        when(candidateRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(candidatePage);
-        when(employerRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(employerPage);
+        // Mock job statistics from job-service
+        PlatformJobStatistics jobStatistics = new PlatformJobStatistics();
+        jobStatistics.setTotalJobs(25L);
+        jobStatistics.setJobsByLocation(Map.of("New York", 150L));
+        when(platformStatisticsClient.getJobStatistics(eq(30), any())).thenReturn(jobStatistics);
 
         // When
         DashboardAnalyticsResponse result = adminService.getDashboardAnalytics(30, "admin@test.com");
@@ -183,7 +185,8 @@ public class AdminAnalyticsServiceTest {
         assertEquals(5L, result.getSystemStatistics().getTotalAdmins());
         assertEquals(150L, result.getSystemStatistics().getTotalLogins());
 
-        // Verify geographic data
+        // Verify job statistics and geographic data
+        assertEquals(25L, result.getJobStatistics().getTotalJobs());
         assertTrue(result.getJobsByLocation().containsKey("New York"));
         assertTrue(result.getCandidatesByLocation().containsKey("New York"));
     }
@@ -193,6 +196,12 @@ public class AdminAnalyticsServiceTest {
         // Given
         when(adminRepository.findByEmailAndIsActive("admin@test.com", true))
                 .thenReturn(Optional.of(testAdmin));
+        SystemReportSummary.PerformanceMetrics measured = new SystemReportSummary.PerformanceMetrics();
+        measured.setAverageResponseTime(42.5);
+        measured.setP95ResponseTime(180.0);
+        measured.setTotalRequests(1234L);
+        measured.setErrorRate(0.01);
+        when(requestMetricsService.summarize(30)).thenReturn(measured);
 
         // When
         SystemReportSummary result = adminService.getSystemReportsSummary(30, "admin@test.com");
@@ -209,9 +218,10 @@ public class AdminAnalyticsServiceTest {
         assertNotNull(result.getAlerts());
 
         // Verify performance metrics
-        assertEquals(150.0, result.getPerformance().getAverageResponseTime());
-        assertEquals(10000L, result.getPerformance().getTotalRequests());
-        assertEquals(0.02, result.getPerformance().getErrorRate());
+        assertEquals(42.5, result.getPerformance().getAverageResponseTime());
+        assertEquals(180.0, result.getPerformance().getP95ResponseTime());
+        assertEquals(1234L, result.getPerformance().getTotalRequests());
+        assertEquals(0.01, result.getPerformance().getErrorRate());
 
         // Verify security metrics
         assertEquals(25L, result.getSecurity().getFailedLoginAttempts());
@@ -321,28 +331,13 @@ public class AdminAnalyticsServiceTest {
         when(adminRepository.findByEmailAndIsActive("admin@test.com", true))
                 .thenReturn(Optional.of(testAdmin));
 
-        Page<Candidate> candidatePage = new PageImpl<>(Arrays.asList());
-        when(candidateRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(candidatePage);
-
         // Mock other required calls for dashboard analytics
-        when(candidateRepository.count()).thenReturn(100L);
-        when(candidateRepository.countByIsActive(true)).thenReturn(90L);
-        when(candidateRepository.countByIsActive(false)).thenReturn(10L);
-        when(employerRepository.count()).thenReturn(50L);
-        when(employerRepository.countByIsApproved(true)).thenReturn(40L);
-        when(employerRepository.countPendingApproval()).thenReturn(8L);
-        when(employerRepository.countByIsApproved(false)).thenReturn(2L);
-        when(employerRepository.countByIsApprovedAndIsActive(true, false)).thenReturn(5L);
+        stubUserRollups();
         when(adminRepository.count()).thenReturn(5L);
         when(adminRepository.countByIsActive(true)).thenReturn(4L);
         when(adminRepository.getTotalLoginCount()).thenReturn(150L);
         when(adminRepository.getTotalActionsCount()).thenReturn(500L);
 
-        Page<Employer> employerPage = new PageImpl<>(Arrays.asList());
-        when(employerRepository.findByCreatedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                .thenReturn(employerPage);
-
         // When
         DashboardAnalyticsResponse result = adminService.getDashboardAnalytics(7, "admin@test.com");
 
@@ -355,5 +350,26 @@ public class AdminAnalyticsServiceTest {
             assertNotNull(trend.getDate());
             assertTrue(trend.getCount() >= 0);
         }
+
+        // The nested analytics calls reuse the admin resolved by the first permission check
+        verify(adminRepository, times(1)).findByEmailAndIsActive("admin@test.com", true);
+    }
+
+    private void stubUserRollups() {
+        UserRollup totals = new UserRollup(UserRollup.TOTALS_ID);
+        totals.getCounters().put(RollupCounter.CANDIDATES.getKey(), 100L);
+        totals.getCounters().put(RollupCounter.ACTIVE_CANDIDATES.getKey(), 90L);
+        totals.getCounters().put(RollupCounter.BLOCKED_CANDIDATES.getKey(), 10L);
+        totals.getCounters().put(RollupCounter.EMPLOYERS.getKey(), 50L);
+        totals.getCounters().put(RollupCounter.APPROVED_EMPLOYERS.getKey(), 40L);
+        totals.getCounters().put(RollupCounter.PENDING_EMPLOYERS.getKey(), 8L);
+        totals.getCounters().put(RollupCounter.UNAPPROVED_EMPLOYERS.getKey(), 2L);
+        totals.getCounters().put(RollupCounter.BLOCKED_EMPLOYERS.getKey(), 5L);
+        when(userRollupService.getTotals()).thenReturn(totals);
+
+        UserRollup today = new UserRollup(LocalDate.now().toString());
+        today.getCounters().put(RollupCounter.CANDIDATE_REGISTRATIONS.getKey(), 3L);
+        today.getCounters().put(RollupCounter.EMPLOYER_REGISTRATIONS.getKey(), 1L);
+        when(userRollupService.getDailyRollups(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(today));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Admin;
+import com.jobapp.user.model.AdminAuditEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdminAuditLog
+ * Requirements: 5.1, 5.3
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminAuditLogTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations auditInserts;
+
+    @Mock
+    private BulkOperations adminUpdates;
+
+    private AdminAuditLog adminAuditLog;
+
+    @BeforeEach
+    void setUp() {
+        adminAuditLog = new AdminAuditLog(mongoTemplate, new SimpleMeterRegistry(), 100, 500);
+    }
+
+    @Test
+    void record_OnlyQueues() {
+        adminAuditLog.record("admin@test.com", "Generated user analytics");
+
+        assertEquals(1, adminAuditLog.getPendingCount());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void flush_BatchesEntriesAndIncrementsCountersOncePerAdmin() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AdminAuditEntry.class)).thenReturn(auditInserts);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Admin.class)).thenReturn(adminUpdates);
+        List<Integer> insertedBatchSizes = new ArrayList<>();
+        when(auditInserts.insert(anyList())).thenAnswer(invocation -> {
+            insertedBatchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            return auditInserts;
+        });
+        adminAuditLog.record("admin@test.com", "Generated user analytics");
+        adminAuditLog.record("other@test.com", "Blocked candidate: a@b.com");
+        adminAuditLog.record("admin@test.com", "Generated dashboard analytics");
+
+        // When
+        adminAuditLog.flush();
+
+        // Then
+        assertEquals(List.of(3), insertedBatchSizes);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(adminUpdates, times(2)).updateOne(queries.capture(), updates.capture());
+        assertEquals("admin@test.com", queries.getAllValues().get(0).getQueryObject().get("email"));
+        Document update = updates.getAllValues().get(0).getUpdateObject();
+        assertEquals(2, ((Document) update.get("$inc")).get("actionsPerformed"));
+        assertEquals("Generated dashboard analytics", ((Document) update.get("$set")).get("lastAction"));
+        assertEquals(0, adminAuditLog.getPendingCount());
+    }
+
+    @Test
+    void flush_InsertFails_RequeuesEntries() {
+        // Given
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AdminAuditEntry.class)).thenReturn(auditInserts);
+        when(auditInserts.execute()).thenThrow(new RuntimeException("down"));
+        adminAuditLog.record("admin@test.com", "Generated user analytics");
+
+        // When
+        adminAuditLog.flush();
+
+        // Then
+        assertEquals(1, adminAuditLog.getPendingCount());
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, Admin.class);
+    }
+
+    @Test
+    void record_QueueFull_DropsWithoutBlocking() {
+        AdminAuditLog smallLog = new AdminAuditLog(mongoTemplate, new SimpleMeterRegistry(), 1, 500);
+
+        smallLog.record("admin@test.com", "first");
+        smallLog.record("admin@test.com", "second");
+
+        assertEquals(1, smallLog.getPendingCount());
+    }
+}
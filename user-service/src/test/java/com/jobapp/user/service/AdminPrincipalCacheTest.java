@@ -0,0 +1,116 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Admin;
+import com.jobapp.user.model.AdminPermission;
+import com.jobapp.user.model.AdminPrincipal;
+import com.jobapp.user.model.AdminRole;
+import com.jobapp.user.repository.AdminRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdminPrincipalCache
+ * Requirements: 5.1
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminPrincipalCacheTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private AdminPrincipalCache adminPrincipalCache;
+
+    private Admin moderator;
+
+    @BeforeEach
+    void setUp() {
+        adminPrincipalCache = new AdminPrincipalCache(adminRepository, 30);
+
+        moderator = new Admin("mod@test.com", "password", "Moderator", AdminRole.MODERATOR);
+        moderator.setId("admin456");
+        moderator.setPermissions(List.of(AdminPermission.MODERATE_CONTENT));
+        moderator.setIsActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void resolve_CachedAdmin_ReadsRepositoryOnce() {
+        // Given
+        when(adminRepository.findByEmailAndIsActive("mod@test.com", true)).thenReturn(Optional.of(moderator));
+
+        // When
+        AdminPrincipal first = adminPrincipalCache.resolve("mod@test.com").orElseThrow();
+        AdminPrincipal second = adminPrincipalCache.resolve("mod@test.com").orElseThrow();
+
+        // Then
+        assertSame(first, second);
+        assertTrue(first.hasPermission(AdminPermission.MODERATE_CONTENT));
+        assertFalse(first.hasPermission(AdminPermission.MANAGE_ADMINS));
+        verify(adminRepository, times(1)).findByEmailAndIsActive("mod@test.com", true);
+    }
+
+    @Test
+    void resolve_AfterInvalidate_ReadsRepositoryAgain() {
+        // Given
+        when(adminRepository.findByEmailAndIsActive("mod@test.com", true))
+                .thenReturn(Optional.of(moderator))
+                .thenReturn(Optional.empty());
+        adminPrincipalCache.resolve("mod@test.com");
+
+        // When
+        adminPrincipalCache.invalidate("mod@test.com");
+
+        // Then
+        assertTrue(adminPrincipalCache.resolve("mod@test.com").isEmpty());
+        verify(adminRepository, times(2)).findByEmailAndIsActive("mod@test.com", true);
+    }
+
+    @Test
+    void resolve_ZeroTtl_AlwaysReadsRepository() {
+        // Given
+        AdminPrincipalCache uncached = new AdminPrincipalCache(adminRepository, 0);
+        when(adminRepository.findByEmailAndIsActive("mod@test.com", true)).thenReturn(Optional.of(moderator));
+
+        // When
+        uncached.resolve("mod@test.com");
+        uncached.resolve("mod@test.com");
+
+        // Then
+        verify(adminRepository, times(2)).findByEmailAndIsActive("mod@test.com", true);
+    }
+
+    @Test
+    void resolve_AuthenticatedRequest_CarriesPrincipalInSecurityContext() {
+        // Given
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("mod@test.com", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        when(adminRepository.findByEmailAndIsActive("mod@test.com", true)).thenReturn(Optional.of(moderator));
+
+        // When
+        AdminPrincipal principal = adminPrincipalCache.resolve("mod@test.com").orElseThrow();
+        adminPrincipalCache.invalidateAll();
+        AdminPrincipal sameRequest = adminPrincipalCache.resolve("mod@test.com").orElseThrow();
+
+        // Then
+        assertSame(principal, authentication.getDetails());
+        assertSame(principal, sameRequest);
+        verify(adminRepository, times(1)).findByEmailAndIsActive("mod@test.com", true);
+    }
+}
@@ -0,0 +1,213 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.BulkModerationProgress;
+import com.jobapp.user.dto.BulkModerationRequest;
+import com.jobapp.user.exception.UnauthorizedException;
+import com.jobapp.user.model.AdminPermission;
+import com.jobapp.user.model.AdminPrincipal;
+import com.jobapp.user.model.AdminRole;
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.ModerationAction;
+import com.jobapp.user.model.RollupCounter;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkModerationService
+ * Requirements: 5.3
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkModerationServiceTest {
+
+    private static final String ADMIN_EMAIL = "moderator@jobapp.com";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private AdminPrincipalCache adminPrincipalCache;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Mock
+    private AdminAuditLog adminAuditLog;
+
+    @Mock
+    private EmployerSnapshotPublisher employerSnapshotPublisher;
+
+    private BulkModerationService bulkModerationService;
+
+    @BeforeEach
+    void setUp() {
+        ProfileCache profileCache = new ProfileCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+        bulkModerationService = new BulkModerationService(mongoTemplate, adminPrincipalCache, notificationService,
+            userRollupService, adminAuditLog, profileCache, employerSnapshotPublisher, 2);
+        lenient().when(adminPrincipalCache.resolve(ADMIN_EMAIL)).thenReturn(Optional.of(
+            new AdminPrincipal("admin1", ADMIN_EMAIL, AdminRole.MODERATOR, List.of(AdminPermission.BLOCK_USERS), 0)));
+    }
+
+    @Test
+    void moderateEmployers_BlockByIds_WritesEachBatchOnceWithOneNotificationBatchAndAuditEntry() {
+        // Given
+        Employer first = employer("e1");
+        Employer second = employer("e2");
+        Employer third = employer("e3");
+        when(mongoTemplate.count(any(Query.class), eq(Employer.class))).thenReturn(3L);
+        when(mongoTemplate.find(any(Query.class), eq(Employer.class)))
+            .thenReturn(List.of(first, second), List.of(third));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(matched(2), matched(1));
+        BulkModerationRequest request = new BulkModerationRequest(ModerationAction.BLOCK,
+            List.of("e1", "e2", "e3"), "Spam wave of fake companies");
+        List<Long> reported = new ArrayList<>();
+
+        // When
+        BulkModerationProgress progress = bulkModerationService.moderateEmployers(request, ADMIN_EMAIL,
+            p -> reported.add(p.getProcessed()));
+
+        // Then
+        assertTrue(progress.isDone());
+        assertEquals(3, progress.getMatched());
+        assertEquals(3, progress.getProcessed());
+        assertEquals(3, progress.getUpdated());
+        assertEquals(List.of(0L, 2L, 3L, 3L), reported);
+        verify(bulkOperations, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+        verify(notificationService).sendEmployerNotifications(ModerationAction.BLOCK, List.of(first, second),
+            "Spam wave of fake companies");
+        verify(notificationService).sendEmployerNotifications(ModerationAction.BLOCK, List.of(third),
+            "Spam wave of fake companies");
+        verify(adminAuditLog).record(ADMIN_EMAIL, "Bulk blocked 2 employers - Reason: Spam wave of fake companies");
+        verify(adminAuditLog).record(ADMIN_EMAIL, "Bulk blocked 1 employers - Reason: Spam wave of fake companies");
+        verify(userRollupService, times(2)).recordEmployerChanges(eq(RollupCounter.EMPLOYER_BLOCKS), anyList(), anyList());
+        verify(employerSnapshotPublisher).employersChanged(List.of(first, second));
+        assertFalse(third.getIsActive());
+        assertEquals(ADMIN_EMAIL, third.getBlockedBy());
+    }
+
+    @Test
+    void moderateCandidates_FailedWrites_LeaveFailedAccountsOutOfSideEffects() {
+        // Given
+        Candidate first = candidate("c1");
+        Candidate second = candidate("c2");
+        when(mongoTemplate.count(any(Query.class), eq(Candidate.class))).thenReturn(2L);
+        when(mongoTemplate.find(any(Query.class), eq(Candidate.class))).thenReturn(List.of(first, second), List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Candidate.class)).thenReturn(bulkOperations);
+        MongoBulkWriteException failure = new MongoBulkWriteException(matched(1),
+            List.of(new BulkWriteError(112, "WriteConflict", new BsonDocument(), 1)), null, new ServerAddress());
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("Bulk write failed", failure));
+        BulkModerationRequest request = new BulkModerationRequest(ModerationAction.BLOCK,
+            List.of("c1", "c2"), "Posting abusive messages");
+
+        // When
+        BulkModerationProgress progress = bulkModerationService.moderateCandidates(request, ADMIN_EMAIL, p -> { });
+
+        // Then
+        assertEquals(2, progress.getProcessed());
+        assertEquals(1, progress.getUpdated());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Candidate>> notified = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendCandidateNotifications(eq(ModerationAction.BLOCK), notified.capture(), anyString());
+        assertEquals(List.of(first), notified.getValue());
+        verify(adminAuditLog).record(ADMIN_EMAIL, "Bulk blocked 1 candidates - Reason: Posting abusive messages");
+    }
+
+    @Test
+    void moderateEmployers_AccountChangedBeforeWrite_LeftOutOfSideEffects() {
+        // Given
+        Employer first = employer("e1");
+        Employer second = employer("e2");
+        when(mongoTemplate.count(any(Query.class), eq(Employer.class))).thenReturn(2L);
+        // e2 is unblocked elsewhere between the read and the write, so its update matches nothing
+        when(mongoTemplate.find(any(Query.class), eq(Employer.class)))
+            .thenReturn(List.of(first, second), List.of(first), List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employer.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(matched(1));
+        BulkModerationRequest request = new BulkModerationRequest(ModerationAction.BLOCK,
+            List.of("e1", "e2"), "Spam wave of fake companies");
+
+        // When
+        BulkModerationProgress progress = bulkModerationService.moderateEmployers(request, ADMIN_EMAIL, p -> { });
+
+        // Then
+        assertEquals(2, progress.getProcessed());
+        assertEquals(1, progress.getUpdated());
+        verify(employerSnapshotPublisher).employersChanged(List.of(first));
+        verify(adminAuditLog).record(ADMIN_EMAIL, "Bulk blocked 1 employers - Reason: Spam wave of fake companies");
+    }
+
+    @Test
+    void checkRequests_IncompleteOrNotApplicable_AreRejectedBeforeAnyWrite() {
+        // No selection at all would moderate every account
+        BulkModerationRequest unselected = new BulkModerationRequest(ModerationAction.UNBLOCK, null, null);
+        assertThrows(IllegalArgumentException.class,
+            () -> bulkModerationService.checkEmployerRequest(unselected, ADMIN_EMAIL));
+
+        BulkModerationRequest withoutReason = new BulkModerationRequest(ModerationAction.BLOCK, List.of("e1"), null);
+        assertThrows(IllegalArgumentException.class,
+            () -> bulkModerationService.checkEmployerRequest(withoutReason, ADMIN_EMAIL));
+
+        BulkModerationRequest approval = new BulkModerationRequest(ModerationAction.APPROVE, List.of("c1"), null);
+        assertThrows(IllegalArgumentException.class,
+            () -> bulkModerationService.checkCandidateRequest(approval, ADMIN_EMAIL));
+
+        BulkModerationRequest rejection = new BulkModerationRequest(ModerationAction.REJECT, List.of("e1"), "Duplicate registration");
+        assertThrows(UnauthorizedException.class,
+            () -> bulkModerationService.checkEmployerRequest(rejection, ADMIN_EMAIL));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static BulkWriteResult matched(int count) {
+        return BulkWriteResult.acknowledged(0, count, 0, count, List.of(), List.of());
+    }
+
+    private static Employer employer(String id) {
+        Employer employer = new Employer();
+        employer.setId(id);
+        employer.setEmail(id + "@spam.example");
+        employer.setIsApproved(false);
+        employer.setIsActive(true);
+        return employer;
+    }
+
+    private static Candidate candidate(String id) {
+        Candidate candidate = new Candidate();
+        candidate.setId(id);
+        candidate.setEmail(id + "@spam.example");
+        candidate.setIsActive(true);
+        return candidate;
+    }
+}
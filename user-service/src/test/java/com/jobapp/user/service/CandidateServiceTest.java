@@ -4,19 +4,25 @@ import com.jobapp.user.dto.CandidateRegistrationRequest;
 import com.jobapp.user.dto.CandidateProfileUpdateRequest;
 import com.jobapp.user.dto.CandidateResponse;
 import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.RollupCounter;
 import com.jobapp.user.repository.CandidateRepository;
 import com.jobapp.user.exception.ResourceNotFoundException;
 import com.jobapp.user.exception.EmailAlreadyExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +37,18 @@ class CandidateServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Mock
+    private ApplicationScoringClient applicationScoringClient;
+
+    @Mock
+    private ResumeIndexingService resumeIndexingService;
+
+    @Spy
+    private ProfileCache profileCache = new ProfileCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
     @InjectMocks
     private CandidateService candidateService;
 
@@ -92,6 +110,7 @@ class CandidateServiceTest {
         verify(candidateRepository).findByEmail(registrationRequest.getEmail());
         verify(passwordEncoder).encode(registrationRequest.getPassword());
         verify(candidateRepository).save(any(Candidate.class));
+        verify(userRollupService).recordCandidateChange(eq(RollupCounter.CANDIDATE_REGISTRATIONS), eq(Set.of()), any(Candidate.class));
     }
 
     @Test
@@ -215,6 +234,27 @@ class CandidateServiceTest {
         assertNotNull(response);
         verify(candidateRepository).findById(candidateId);
         verify(candidateRepository).save(any(Candidate.class));
+        verify(applicationScoringClient, never()).skillProfileChanged(any(Candidate.class));
+    }
+
+    @Test
+    void updateCandidateProfile_SkillsChanged_RequestsRescoring() {
+        // Given
+        String candidateId = "candidate123";
+        CandidateProfileUpdateRequest skillsRequest = new CandidateProfileUpdateRequest();
+        skillsRequest.setSkills(List.of(" Java ", "Spring", "Java", ""));
+        skillsRequest.setYearsOfExperience(4);
+
+        when(candidateRepository.findById(candidateId)).thenReturn(Optional.of(testCandidate));
+        when(candidateRepository.save(any(Candidate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CandidateResponse response = candidateService.updateCandidateProfile(candidateId, skillsRequest);
+
+        // Then
+        assertEquals(List.of("Java", "Spring"), response.getSkills());
+        assertEquals(4, response.getYearsOfExperience());
+        verify(applicationScoringClient).skillProfileChanged(testCandidate);
     }
 
     @Test
@@ -276,4 +316,62 @@ class CandidateServiceTest {
         assertFalse(result);
         verify(candidateRepository).findByEmail(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCandidatesByIds_MixedIds_ReturnsFoundCandidates() {
+        // Given
+        List<String> ids = List.of("candidate123", "missing");
+        when(candidateRepository.findAllById(ids)).thenReturn(List.of(testCandidate));
+
+        // When
+        List<CandidateResponse> responses = candidateService.getCandidatesByIds(ids);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals("candidate123", responses.get(0).getId());
+        assertEquals("John Doe", responses.get(0).getName());
+        verify(candidateRepository).findAllById(ids);
+    }
+
+    @Test
+    void searchByResumeText_BlockedCandidateMatches_IsLeftOut() {
+        // Given
+        Candidate blocked = new Candidate();
+        blocked.setId("blocked123");
+        blocked.setName("Blocked Candidate");
+        blocked.setIsActive(false);
+        testCandidate.setIsActive(true);
+        List<String> ids = List.of("blocked123", "candidate123");
+        when(resumeIndexingService.searchCandidateIds("java", 20)).thenReturn(ids);
+        when(candidateRepository.findAllById(ids)).thenReturn(List.of(blocked, testCandidate));
+
+        // When
+        List<CandidateResponse> responses = candidateService.searchByResumeText("java", 20);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals("candidate123", responses.get(0).getId());
+    }
+
+    @Test
+    void getCandidateProfile_RepeatedLookups_ReadOnceUntilProfileChanges() {
+        // Given
+        String candidateId = "candidate123";
+        when(candidateRepository.findById(candidateId)).thenReturn(Optional.of(testCandidate));
+        when(candidateRepository.save(any(Candidate.class))).thenReturn(testCandidate);
+
+        // When
+        candidateService.getCandidateProfile(candidateId);
+        CandidateResponse cached = candidateService.getCandidateByEmail("john.doe@example.com");
+        candidateService.updateResumeUrl(candidateId, "http://localhost:8082/files/resumes/new.pdf");
+        CandidateResponse reloaded = candidateService.getCandidateProfile(candidateId);
+
+        // Then
+        assertEquals("candidate123", cached.getId());
+        assertEquals("http://localhost:8082/files/resumes/new.pdf", reloaded.getResumeUrl());
+        // Read by the first lookup, the update and the lookup after it; the email lookup is a hit
+        verify(candidateRepository, times(3)).findById(candidateId);
+        verify(candidateRepository, never()).findByEmail(anyString());
+        verify(profileCache).invalidateCandidate(candidateId);
+    }
+}
@@ -0,0 +1,187 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.DashboardAnalyticsResponse;
+import com.jobapp.user.dto.PlatformApplicationStatistics;
+import com.jobapp.user.dto.PlatformJobStatistics;
+import com.jobapp.user.model.RollupCounter;
+import com.jobapp.user.model.UserRollup;
+import com.jobapp.user.repository.AdminRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardAggregationService
+ * Requirements: 5.4
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DashboardAggregationServiceTest {
+
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @Mock
+    private PlatformStatisticsClient platformStatisticsClient;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+
+        UserRollup totals = new UserRollup(UserRollup.TOTALS_ID);
+        totals.getCounters().put(RollupCounter.CANDIDATES.getKey(), 100L);
+        when(userRollupService.getTotals()).thenReturn(totals);
+        UserRollup today = new UserRollup(LocalDate.now().toString());
+        today.getCounters().put(RollupCounter.CANDIDATE_REGISTRATIONS.getKey(), 3L);
+        when(userRollupService.getDailyRollups(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(today));
+        when(adminRepository.count()).thenReturn(5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getDashboard_AllSourcesAnswer_ComposesFullDashboard() {
+        // Given
+        when(platformStatisticsClient.getJobStatistics(eq(7), any())).thenReturn(jobStatistics(40L));
+        when(platformStatisticsClient.getApplicationStatistics(eq(7), any())).thenReturn(applicationStatistics(300L));
+
+        // When
+        DashboardAnalyticsResponse response = service(Duration.ofMinutes(1)).getDashboard(7);
+
+        // Then
+        assertFalse(response.isPartial());
+        assertNull(response.getUnavailableSources());
+        assertEquals(100L, response.getUserStatistics().getTotalCandidates());
+        assertEquals(5L, response.getSystemStatistics().getTotalAdmins());
+        assertEquals(40L, response.getJobStatistics().getTotalJobs());
+        assertEquals(300L, response.getApplicationStatistics().getTotalApplications());
+        assertEquals(Map.of("Remote", 12L), response.getJobsByLocation());
+        assertEquals(8, response.getJobPostingTrends().size());
+        assertEquals(2L, response.getJobPostingTrends().get(7).getCount());
+        assertEquals(3L, response.getUserRegistrationTrends().get(7).getCount());
+    }
+
+    @Test
+    void getDashboard_FreshEntry_ServedFromCache() {
+        // Given
+        when(platformStatisticsClient.getJobStatistics(anyInt(), any())).thenReturn(jobStatistics(40L));
+        when(platformStatisticsClient.getApplicationStatistics(anyInt(), any())).thenReturn(applicationStatistics(300L));
+        DashboardAggregationService service = service(Duration.ofMinutes(1));
+
+        // When
+        DashboardAnalyticsResponse first = service.getDashboard(30);
+        DashboardAnalyticsResponse second = service.getDashboard(30);
+
+        // Then
+        assertSame(first, second);
+        verify(platformStatisticsClient, times(1)).getJobStatistics(anyInt(), any());
+        verify(userRollupService, times(1)).getTotals();
+    }
+
+    @Test
+    void getDashboard_SlowSource_ReturnsPartialDashboardWithinTimeout() {
+        // Given
+        when(platformStatisticsClient.getJobStatistics(anyInt(), any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return jobStatistics(40L);
+        });
+        when(platformStatisticsClient.getApplicationStatistics(anyInt(), any()))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        // When
+        long started = System.nanoTime();
+        DashboardAnalyticsResponse response = service(Duration.ofMinutes(1)).getDashboard(30);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMillis < 1500, "dashboard waited " + elapsedMillis + " ms");
+        assertTrue(response.isPartial());
+        assertEquals(List.of(DashboardAggregationService.SOURCE_APPLICATIONS, DashboardAggregationService.SOURCE_JOBS),
+                response.getUnavailableSources());
+        assertEquals(100L, response.getUserStatistics().getTotalCandidates());
+        assertEquals(0L, response.getJobStatistics().getTotalJobs());
+        assertNotNull(response.getApplicationStatistics());
+    }
+
+    @Test
+    void getDashboard_StaleEntry_ServedWhileRefreshCarriesOverMissingSections() throws Exception {
+        // Given
+        when(platformStatisticsClient.getJobStatistics(anyInt(), any()))
+                .thenReturn(jobStatistics(40L))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+        when(platformStatisticsClient.getApplicationStatistics(anyInt(), any()))
+                .thenReturn(applicationStatistics(300L))
+                .thenReturn(applicationStatistics(301L));
+        DashboardAggregationService service = service(Duration.ZERO);
+        DashboardAnalyticsResponse first = service.getDashboard(30);
+
+        // When
+        DashboardAnalyticsResponse stale = service.getDashboard(30);
+        verify(platformStatisticsClient, timeout(1000).times(2)).getApplicationStatistics(anyInt(), any());
+        DashboardAnalyticsResponse refreshed = awaitNewResult(service, first);
+
+        // Then
+        assertSame(first, stale);
+        assertTrue(refreshed.isPartial());
+        assertEquals(List.of(DashboardAggregationService.SOURCE_JOBS), refreshed.getUnavailableSources());
+        assertSame(first.getJobStatistics(), refreshed.getJobStatistics());
+        assertEquals(301L, refreshed.getApplicationStatistics().getTotalApplications());
+    }
+
+    private DashboardAnalyticsResponse awaitNewResult(DashboardAggregationService service,
+                                                      DashboardAnalyticsResponse previous) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            DashboardAnalyticsResponse current = service.getDashboard(30);
+            if (current != previous) {
+                return current;
+            }
+            Thread.sleep(10);
+        }
+        fail("dashboard was not refreshed");
+        return null;
+    }
+
+    private DashboardAggregationService service(Duration freshFor) {
+        return new DashboardAggregationService(userRollupService, adminRepository, platformStatisticsClient, executor,
+                Duration.ofMillis(500), Duration.ofMillis(500), Duration.ofMillis(500), freshFor, Duration.ofMinutes(10));
+    }
+
+    private PlatformJobStatistics jobStatistics(long totalJobs) {
+        PlatformJobStatistics stats = new PlatformJobStatistics();
+        stats.setTotalJobs(totalJobs);
+        stats.setJobsByLocation(Map.of("Remote", 12L));
+        stats.setPostingsByDay(Map.of(LocalDate.now().toString(), 2L));
+        return stats;
+    }
+
+    private PlatformApplicationStatistics applicationStatistics(long totalApplications) {
+        PlatformApplicationStatistics stats = new PlatformApplicationStatistics();
+        stats.setTotalApplications(totalApplications);
+        return stats;
+    }
+}
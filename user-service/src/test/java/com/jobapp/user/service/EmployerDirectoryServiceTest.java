@@ -0,0 +1,148 @@
+package com.jobapp.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.user.dto.EmployerPageResponse;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
+import com.jobapp.user.model.UserRollup;
+import com.jobapp.user.service.EmployerDirectoryService.Listing;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployerDirectoryService
+ * Requirements: 3.1, 3.4
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployerDirectoryServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private EmployerDirectoryService employerDirectoryService;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Test
+    void getPage_FirstPageOfApproved_ReturnsCursorOfLastRowAndCachedCount() {
+        // Given
+        List<Employer> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(employer(new ObjectId().toHexString(), createdAt.minusDays(i)));
+        }
+        when(mongoTemplate.find(any(Query.class), eq(Employer.class))).thenReturn(rows);
+        UserRollup totals = new UserRollup(UserRollup.TOTALS_ID);
+        totals.getCounters().put(RollupCounter.APPROVED_EMPLOYERS.getKey(), 42L);
+        totals.getCounters().put(RollupCounter.BLOCKED_EMPLOYERS.getKey(), 2L);
+        when(userRollupService.getTotals()).thenReturn(totals);
+
+        // When
+        EmployerPageResponse response = employerDirectoryService.getPage(Listing.APPROVED, null, 2);
+
+        // Then
+        assertEquals(2, response.getEmployers().size());
+        assertTrue(response.isHasMore());
+        assertEquals(40L, response.getTotalCount());
+        long expectedMillis = createdAt.minusDays(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(expectedMillis + ":" + rows.get(1).getId(), response.getNextCursor());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Employer.class));
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(EmployerDirectoryService.LISTING_INDEX, query.getValue().getHint());
+        assertEquals(true, query.getValue().getQueryObject().get("isApproved"));
+        assertFalse(query.getValue().getFieldsObject().containsKey("password"));
+    }
+
+    @Test
+    void getPage_WithCursor_FiltersAfterCursorWithoutCounting() {
+        // Given
+        String lastId = new ObjectId().toHexString();
+        long millis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        when(mongoTemplate.find(any(Query.class), eq(Employer.class))).thenReturn(List.of());
+
+        // When
+        EmployerPageResponse response = employerDirectoryService.getPage(Listing.PENDING, millis + ":" + lastId, 20);
+
+        // Then
+        assertTrue(response.getEmployers().isEmpty());
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextCursor());
+        assertNull(response.getTotalCount());
+        verifyNoInteractions(userRollupService);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Employer.class));
+        assertEquals(false, query.getValue().getQueryObject().get("isApproved"));
+        assertTrue(query.getValue().getQueryObject().containsKey("$or"));
+        assertEquals(createdAt, ((Document) query.getValue().getQueryObject().get("createdAt")).get("$lte"));
+    }
+
+    @Test
+    void getPage_MalformedCursor_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> employerDirectoryService.getPage(Listing.APPROVED, "not-a-cursor", 20));
+        assertTrue(exception.getMessage().contains("Invalid employer cursor"));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void streamListing_WritesOneJsonLinePerEmployer() throws Exception {
+        // Given
+        Employer first = employer(new ObjectId().toHexString(), createdAt);
+        Employer second = employer(new ObjectId().toHexString(), createdAt.minusDays(1));
+        when(mongoTemplate.stream(any(Query.class), eq(Employer.class))).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = employerDirectoryService.streamListing(Listing.APPROVED, out);
+
+        // Then
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(first.getId(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertFalse(lines[1].contains("password"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Employer.class));
+        assertEquals(EmployerDirectoryService.LISTING_INDEX, query.getValue().getHint());
+    }
+
+    private Employer employer(String id, LocalDateTime createdAt) {
+        Employer employer = new Employer("hr@" + id + ".com", "encoded", "Tech Corp", "https://techcorp.com", "Company");
+        employer.setId(id);
+        employer.setIsApproved(true);
+        employer.setCreatedAt(createdAt);
+        return employer;
+    }
+}
@@ -4,17 +4,21 @@ import com.jobapp.user.dto.EmployerRegistrationRequest;
 import com.jobapp.user.dto.EmployerProfileUpdateRequest;
 import com.jobapp.user.dto.EmployerResponse;
 import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
 import com.jobapp.user.repository.EmployerRepository;
 import com.jobapp.user.exception.ResourceNotFoundException;
 import com.jobapp.user.exception.EmailAlreadyExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -31,6 +35,15 @@ class EmployerServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserRollupService userRollupService;
+
+    @Mock
+    private EmployerSnapshotPublisher employerSnapshotPublisher;
+
+    @Spy
+    private ProfileCache profileCache = new ProfileCache(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
     @InjectMocks
     private EmployerService employerService;
 
@@ -150,6 +163,7 @@ class EmployerServiceTest {
         assertNotNull(response);
         verify(employerRepository).findById(employerId);
         verify(employerRepository).save(any(Employer.class));
+        verify(employerSnapshotPublisher).employerChanged(testEmployer);
     }
 
     @Test
@@ -175,12 +189,14 @@ class EmployerServiceTest {
         when(employerRepository.save(any(Employer.class))).thenReturn(testEmployer);
 
         // When
-        EmployerResponse response = employerService.approveEmployer(employerId);
+        EmployerResponse response = employerService.approveEmployer(employerId, "admin123");
 
         // Then
         assertNotNull(response);
+        assertEquals("admin123", testEmployer.getApprovedBy());
         verify(employerRepository).findById(employerId);
         verify(employerRepository).save(any(Employer.class));
+        verify(userRollupService).recordEmployerChange(eq(RollupCounter.EMPLOYER_APPROVALS), any(), eq(testEmployer));
     }
 
     @Test
@@ -192,12 +208,14 @@ class EmployerServiceTest {
         when(employerRepository.save(any(Employer.class))).thenReturn(testEmployer);
 
         // When
-        EmployerResponse response = employerService.rejectEmployer(employerId);
+        EmployerResponse response = employerService.rejectEmployer(employerId, "Incomplete company information");
 
         // Then
         assertNotNull(response);
+        assertEquals("Incomplete company information", testEmployer.getRejectionReason());
         verify(employerRepository).findById(employerId);
         verify(employerRepository).save(any(Employer.class));
+        verify(userRollupService).recordEmployerChange(eq(RollupCounter.EMPLOYER_REJECTIONS), any(), eq(testEmployer));
     }
 
     @Test
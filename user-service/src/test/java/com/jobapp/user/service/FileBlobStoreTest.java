@@ -0,0 +1,208 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.exception.FileUploadException;
+import com.jobapp.user.model.FileBlob;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FileBlobStore
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@ExtendWith(MockitoExtension.class)
+class FileBlobStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private static final Consumer<FileBlob> ASSIGNED = blob -> { };
+
+    @TempDir
+    Path tempDir;
+
+    private FileBlobStore fileBlobStore;
+
+    @BeforeEach
+    void setUp() {
+        fileBlobStore = new FileBlobStore(mongoTemplate, new LocalFileStorage(tempDir.toString()), Duration.ofDays(1));
+    }
+
+    @Test
+    void store_SameContentForTwoOwners_KeepsOneFileWithTwoReferences() throws IOException {
+        // When
+        FileBlob first = fileBlobStore.store(stream("logo bytes"), "logos", "PNG", "image/png", "employer:1", ASSIGNED);
+        FileBlob second = fileBlobStore.store(stream("logo bytes"), "logos", "png", "image/png", "employer:2", ASSIGNED);
+
+        // Then
+        assertEquals(first.getId(), second.getId());
+        assertEquals("logos/" + first.getDigest() + ".png", first.getId());
+        assertEquals(10, first.getSize());
+        try (Stream<Path> files = Files.list(tempDir.resolve("logos"))) {
+            assertEquals(List.of(tempDir.resolve(first.getId())), files.toList());
+        }
+        assertEquals("logo bytes", Files.readString(tempDir.resolve(first.getId())));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), update.capture(), options.capture(), eq(FileBlob.class));
+        assertEquals("employer:2", ((Document) update.getValue().getUpdateObject().get("$addToSet")).get("owners"));
+        assertTrue(options.getValue().isUpsert());
+    }
+
+    @Test
+    void store_NewFileForOwner_ReleasesOwnersPreviousFileOfCategory() throws IOException {
+        // When
+        FileBlob blob = fileBlobStore.store(stream("resume v2"), "resumes", "pdf", "application/pdf", "candidate:7", ASSIGNED);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq(FileBlob.class));
+        Document queryObject = query.getValue().getQueryObject();
+        assertEquals("candidate:7", queryObject.get("owners"));
+        assertEquals("resumes", queryObject.get("category"));
+        assertEquals(blob.getId(), ((Document) queryObject.get("id")).get("$ne"));
+        assertEquals("candidate:7", ((Document) update.getValue().getUpdateObject().get("$pull")).get("owners"));
+    }
+
+    @Test
+    void store_AssignmentFails_DropsNewReferenceAndKeepsPreviousFile() {
+        // Given
+        Consumer<FileBlob> failing = blob -> {
+            throw new IllegalStateException("account update failed");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+            () -> fileBlobStore.store(stream("resume v2"), "resumes", "pdf", "application/pdf", "candidate:7", failing));
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(FileBlob.class));
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(FileBlob.class));
+        assertEquals("candidate:7", ((Document) update.getValue().getUpdateObject().get("$pull")).get("owners"));
+    }
+
+    @Test
+    void store_AssignmentFailsForFileAlreadyOwned_KeepsReference() {
+        // Given
+        FileBlob current = new FileBlob();
+        current.setOwners(List.of("candidate:7"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(FileBlob.class)))
+            .thenReturn(current);
+        Consumer<FileBlob> failing = blob -> {
+            throw new IllegalStateException("account update failed");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+            () -> fileBlobStore.store(stream("resume v1"), "resumes", "pdf", "application/pdf", "candidate:7", failing));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(FileBlob.class));
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(FileBlob.class));
+    }
+
+    @Test
+    void store_FileBeingDeleted_FailsFastAndDropsReference() {
+        // Given
+        FileBlob deleting = new FileBlob();
+        deleting.setDeletingAt(LocalDateTime.now().minusSeconds(1));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(FileBlob.class)))
+            .thenReturn(deleting);
+
+        // When & Then
+        FileUploadException exception = assertThrows(FileUploadException.class,
+            () -> fileBlobStore.store(stream("old logo"), "logos", "png", "image/png", "employer:2", ASSIGNED));
+        assertTrue(exception.getMessage().contains("retry"));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(FileBlob.class));
+        assertFalse(Files.exists(tempDir.resolve("logos")));
+    }
+
+    @Test
+    void delete_FileStillReferenced_ThrowsAndKeepsFile() throws IOException {
+        // Given
+        FileBlob blob = fileBlobStore.store(stream("shared"), "logos", "png", "image/png", "employer:1", ASSIGNED);
+        blob.setOwners(List.of("employer:1"));
+        when(mongoTemplate.findById(blob.getId(), FileBlob.class)).thenReturn(blob);
+
+        // When & Then
+        FileUploadException exception = assertThrows(FileUploadException.class, () -> fileBlobStore.delete(blob.getId()));
+        assertTrue(exception.getMessage().contains("in use by 1"));
+        assertTrue(Files.exists(tempDir.resolve(blob.getId())));
+        assertThrows(FileUploadException.class, () -> fileBlobStore.delete("../outside.txt"));
+    }
+
+    @Test
+    void collectGarbage_DeletesOnlyFilesStillUnreferenced() throws IOException {
+        // Given
+        FileBlob released = fileBlobStore.store(stream("old logo"), "logos", "png", "image/png", "employer:1", ASSIGNED);
+        FileBlob reattached = fileBlobStore.store(stream("other logo"), "logos", "png", "image/png", "employer:2", ASSIGNED);
+        Path releasedVariant = Files.writeString(tempDir.resolve("logos").resolve(released.getDigest() + "-64.png"), "v");
+        // Same digest with another extension is a different original with variants of its own
+        Path otherVariant = Files.writeString(tempDir.resolve("logos").resolve(released.getDigest() + "-64.jpg"), "v");
+        when(mongoTemplate.find(any(Query.class), eq(FileBlob.class))).thenReturn(List.of(released, reattached));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(FileBlob.class)))
+            .thenReturn(released, (FileBlob) null);
+        when(mongoTemplate.remove(any(Query.class), eq(FileBlob.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        // When
+        int collected = fileBlobStore.collectGarbage();
+
+        // Then
+        assertEquals(1, collected);
+        assertFalse(Files.exists(tempDir.resolve(released.getId())));
+        assertFalse(Files.exists(releasedVariant));
+        assertTrue(Files.exists(otherVariant));
+        assertTrue(Files.exists(tempDir.resolve(reattached.getId())));
+    }
+
+    @Test
+    void collectGarbage_ReferencedAgainWhileDeleting_KeepsRecordAndNextUploadWritesFileAgain() throws IOException {
+        // Given
+        FileBlob released = fileBlobStore.store(stream("old logo"), "logos", "png", "image/png", "employer:1", ASSIGNED);
+        when(mongoTemplate.find(any(Query.class), eq(FileBlob.class))).thenReturn(List.of(released));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(FileBlob.class)))
+            .thenReturn(released);
+        // An upload of the same content attached itself after the file was marked
+        when(mongoTemplate.remove(any(Query.class), eq(FileBlob.class))).thenReturn(DeleteResult.acknowledged(0));
+
+        // When
+        int collected = fileBlobStore.collectGarbage();
+        FileBlob uploaded = fileBlobStore.store(stream("old logo"), "logos", "png", "image/png", "employer:2", ASSIGNED);
+
+        // Then
+        assertEquals(0, collected);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(FileBlob.class));
+        assertTrue(((Document) update.getValue().getUpdateObject().get("$unset")).containsKey("deletingAt"));
+        assertEquals(released.getId(), uploaded.getId());
+        assertEquals("old logo", Files.readString(tempDir.resolve(uploaded.getId())));
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+}
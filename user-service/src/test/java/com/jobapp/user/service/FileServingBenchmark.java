@@ -0,0 +1,216 @@
+package com.jobapp.user.service;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+/**
+ * Throughput, latency and server CPU of {@link FileServingService} compared with the handler it replaced,
+ * which probed the content type and streamed the whole file through a {@link UrlResource} on every request.
+ * Both handlers run in one embedded Tomcat with its default NIO connector, so sendfile is available, and
+ * are loaded over HTTP/1.1 keep-alive for a full download, a revalidation with the ETag from an earlier
+ * response and a 64 KB range of a 1 MB PDF. Server CPU is the CPU time of the connector's threads.
+ * Not part of the unit test run (the class name does not match the surefire includes); run it with
+ * {@code mvn -pl user-service test -Dtest=FileServingBenchmark [-Dbenchmark.concurrency=16]
+ * [-Dbenchmark.seconds=10]}.
+ * Requirements: 9.4
+ */
+class FileServingBenchmark {
+
+    private static final String CATEGORY = "resumes";
+    private static final String FILENAME = "b".repeat(64) + ".pdf";
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("benchmark.warmup", 3));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 10));
+
+    @TempDir
+    Path tempDir;
+
+    private Tomcat tomcat;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path uploads = Files.createDirectories(tempDir.resolve("uploads"));
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        System.arraycopy("%PDF-1.4".getBytes(), 0, content, 0, 8);
+        Files.write(Files.createDirectories(uploads.resolve(CATEGORY)).resolve(FILENAME), content);
+
+        FileServingService fileServingService =
+            new FileServingService(new LocalFileStorage(uploads.toString()), 10_000, Duration.ofMinutes(15));
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(tempDir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector();
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "legacy", new LegacyFileServlet(uploads));
+        context.addServletMappingDecoded("/legacy/*", "legacy");
+        Tomcat.addServlet(context, "serving", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                String[] parts = request.getPathInfo().substring(1).split("/", 2);
+                fileServingService.serve(parts[0], parts[1], request, response);
+            }
+        });
+        context.addServletMappingDecoded("/serving/*", "serving");
+        tomcat.start();
+        baseUrl = "http://localhost:" + tomcat.getConnector().getLocalPort();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Test
+    void compareHandlers() throws Exception {
+        String etag = HttpClient.newHttpClient()
+            .send(get("serving").build(), HttpResponse.BodyHandlers.discarding())
+            .headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+
+        System.out.printf("%nFile serving, %d clients, %ds per run, %d KB file%n",
+            CONCURRENCY, MEASUREMENT.toSeconds(), FILE_SIZE / 1024);
+        System.out.printf("%-14s %-8s %12s %10s %10s %14s %8s%n",
+            "scenario", "handler", "requests/s", "p50 (ms)", "p99 (ms)", "CPU/req (us)", "status");
+        for (String handler : List.of("legacy", "serving")) {
+            report("full", handler, builder -> builder);
+            report("revalidate", handler, builder -> builder.header(HttpHeaders.IF_NONE_MATCH, etag));
+            report("range 64 KB", handler, builder -> builder.header(HttpHeaders.RANGE, "bytes=0-65535"));
+        }
+    }
+
+    private void report(String scenario, String handler, UnaryOperator<HttpRequest.Builder> customizer)
+            throws Exception {
+        HttpRequest request = customizer.apply(get(handler)).build();
+        run(request, WARMUP);
+        long cpuBefore = connectorCpuNanos();
+        Result result = run(request, MEASUREMENT);
+        long cpuNanos = connectorCpuNanos() - cpuBefore;
+
+        long[] latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%-14s %-8s %12.0f %10.2f %10.2f %14.1f %8d%n", scenario, handler,
+            latencies.length / (double) MEASUREMENT.toSeconds(),
+            percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6,
+            cpuNanos / 1e3 / latencies.length, result.status());
+    }
+
+    private HttpRequest.Builder get(String handler) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + handler + "/" + CATEGORY + "/" + FILENAME));
+    }
+
+    private Result run(HttpRequest request, Duration duration) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(clients.submit(() -> {
+                HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+                long[] latencies = new long[1024];
+                int count = 0;
+                int status = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return new Result(Arrays.copyOf(latencies, count), status);
+            }));
+        }
+        long[] all = new long[0];
+        int status = 0;
+        for (Future<Result> future : futures) {
+            Result result = future.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + result.latencies().length);
+            System.arraycopy(result.latencies(), 0, all, offset, result.latencies().length);
+            status = result.status();
+        }
+        clients.shutdown();
+        return new Result(all, status);
+    }
+
+    private static long connectorCpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith("http-nio-")) {
+                total += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return total;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private record Result(long[] latencies, int status) {}
+
+    /**
+     * The download handler before FileServingService, without ETag, Last-Modified or Range support
+     */
+    private static final class LegacyFileServlet extends HttpServlet {
+
+        private final Path root;
+
+        LegacyFileServlet(Path root) {
+            this.root = root;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            Path filePath = root.resolve(request.getPathInfo().substring(1));
+            Resource resource = new UrlResource(filePath.toUri());
+            if (!resource.exists() || !resource.isReadable()) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            String contentType = Files.probeContentType(filePath);
+            response.setContentType(contentType != null ? contentType : "application/octet-stream");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"");
+            response.setContentLengthLong(resource.contentLength());
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copy(in, response.getOutputStream());
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.jobapp.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FileServingService
+ * Requirements: 9.4
+ */
+class FileServingServiceTest {
+
+    private static final String DIGEST = "a".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    private FileServingService fileServingService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(tempDir.resolve("resumes"));
+        Files.writeString(tempDir.resolve("resumes").resolve(DIGEST + ".pdf"), "0123456789");
+        fileServingService = new FileServingService(new LocalFileStorage(tempDir.toString()), 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void serve_FullFile_SendsBodyWithValidators() throws IOException {
+        // When
+        MockHttpServletResponse response = serve(request());
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals(10, response.getContentLengthLong());
+        assertEquals("\"" + DIGEST + "\"", response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertEquals("private, max-age=31536000, immutable", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void serve_Logo_SharedCachesMayStoreUnlessAuthenticated() throws IOException {
+        // Given
+        Files.createDirectories(tempDir.resolve("logos"));
+        Files.writeString(tempDir.resolve("logos").resolve(DIGEST + ".png"), "logo");
+        MockHttpServletRequest authenticated = request();
+        authenticated.addHeader("Authorization", "Bearer token");
+
+        // When
+        MockHttpServletResponse anonymousResponse = new MockHttpServletResponse();
+        fileServingService.serve("logos", DIGEST + ".png", request(), anonymousResponse);
+        MockHttpServletResponse authenticatedResponse = new MockHttpServletResponse();
+        fileServingService.serve("logos", DIGEST + ".png", authenticated, authenticatedResponse);
+
+        // Then
+        assertEquals("public, max-age=31536000, immutable", anonymousResponse.getHeader("Cache-Control"));
+        assertEquals("private, max-age=31536000, immutable", authenticatedResponse.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void serve_MatchingETagOrDate_ReturnsNotModified() throws IOException {
+        MockHttpServletRequest byTag = request();
+        byTag.addHeader("If-None-Match", "\"other\", \"" + DIGEST + "\"");
+        MockHttpServletResponse tagResponse = serve(byTag);
+        assertEquals(304, tagResponse.getStatus());
+        assertEquals("", tagResponse.getContentAsString());
+
+        MockHttpServletRequest byDate = request();
+        byDate.addHeader("If-Modified-Since", System.currentTimeMillis() + 60_000);
+        assertEquals(304, serve(byDate).getStatus());
+    }
+
+    @Test
+    void serve_ByteRanges_ReturnsPartialContent() throws IOException {
+        MockHttpServletRequest middle = request();
+        middle.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse middleResponse = serve(middle);
+        assertEquals(206, middleResponse.getStatus());
+        assertEquals("2345", middleResponse.getContentAsString());
+        assertEquals("bytes 2-5/10", middleResponse.getHeader("Content-Range"));
+
+        MockHttpServletRequest suffix = request();
+        suffix.addHeader("Range", "bytes=-3");
+        assertEquals("789", serve(suffix).getContentAsString());
+
+        MockHttpServletRequest staleIfRange = request();
+        staleIfRange.addHeader("Range", "bytes=2-5");
+        staleIfRange.addHeader("If-Range", "\"stale\"");
+        MockHttpServletResponse staleResponse = serve(staleIfRange);
+        assertEquals(200, staleResponse.getStatus());
+        assertEquals("0123456789", staleResponse.getContentAsString());
+
+        MockHttpServletRequest unsatisfiable = request();
+        unsatisfiable.addHeader("Range", "bytes=10-");
+        MockHttpServletResponse unsatisfiableResponse = serve(unsatisfiable);
+        assertEquals(416, unsatisfiableResponse.getStatus());
+        assertEquals("bytes */10", unsatisfiableResponse.getHeader("Content-Range"));
+    }
+
+    @Test
+    void serve_ContainerWithSendfile_HandsRangeToContainer() throws IOException {
+        // Given
+        MockHttpServletRequest request = request();
+        request.setAttribute(FileServingService.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+
+        // When
+        MockHttpServletResponse response = serve(request);
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("", response.getContentAsString());
+        assertEquals(tempDir.resolve("resumes").resolve(DIGEST + ".pdf").toAbsolutePath().toString(),
+            request.getAttribute(FileServingService.SENDFILE_FILENAME));
+        assertEquals(4L, request.getAttribute(FileServingService.SENDFILE_START));
+        assertEquals(10L, request.getAttribute(FileServingService.SENDFILE_END));
+    }
+
+    @Test
+    void serve_LegacyFileChanged_RefreshesCachedDigest() throws IOException {
+        // Given
+        Path legacy = tempDir.resolve("resumes").resolve("resume_candidate1_20240101.pdf");
+        Files.writeString(legacy, "first");
+        String firstTag = serve(request("resume_candidate1_20240101.pdf")).getHeader("ETag");
+
+        // When
+        Files.writeString(legacy, "second version");
+        Files.setLastModifiedTime(legacy, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        MockHttpServletResponse response = serve(request("resume_candidate1_20240101.pdf"));
+
+        // Then
+        assertNotEquals(firstTag, response.getHeader("ETag"));
+        assertEquals("second version", response.getContentAsString());
+        assertEquals("private, max-age=3600", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void serve_ProvisionalStandIn_IsRevalidatedByCaches() throws IOException {
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileServingService.serve("resumes", DIGEST + ".pdf", true, request(), response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void serve_StorageWithPresignedDownloads_RedirectsToObjectStore() throws IOException {
+        // Given
+        FileStorage objectStorage = mock(FileStorage.class);
+        URL signed = new URL("https://minio.local/jobapp-files/logos/" + DIGEST + ".png?X-Amz-Signature=abc");
+        when(objectStorage.presignDownload("logos/" + DIGEST + ".png", Duration.ofMinutes(15)))
+            .thenReturn(Optional.of(signed));
+        FileServingService redirecting = new FileServingService(objectStorage, 100, Duration.ofMinutes(15));
+
+        // When
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        redirecting.serve("logos", DIGEST + ".png", request(), response);
+
+        // Then
+        assertEquals(302, response.getStatus());
+        assertEquals(signed.toString(), response.getRedirectedUrl());
+        assertEquals("private, max-age=450", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void serve_PathOutsideUploads_ReturnsNotFound() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileServingService.serve("..", "secret.txt", request(), response);
+
+        assertEquals(404, response.getStatus());
+    }
+
+    private MockHttpServletRequest request() {
+        return request(DIGEST + ".pdf");
+    }
+
+    private MockHttpServletRequest request(String filename) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/resumes/" + filename);
+        request.setAttribute("filename", filename);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileServingService.serve("resumes", (String) request.getAttribute("filename"), request, response);
+        return response;
+    }
+}
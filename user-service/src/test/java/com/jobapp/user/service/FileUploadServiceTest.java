@@ -1,24 +1,51 @@
 package com.jobapp.user.service;
 
+import com.jobapp.user.dto.DirectUploadRequest;
 import com.jobapp.user.dto.FileUploadResponse;
+import com.jobapp.user.dto.PresignedUploadResponse;
 import com.jobapp.user.exception.FileUploadException;
 import com.jobapp.user.exception.InvalidFileTypeException;
 import com.jobapp.user.exception.FileSizeExceededException;
+import com.jobapp.user.exception.ResourceNotFoundException;
+import com.jobapp.user.model.FileBlob;
+import com.jobapp.user.model.UploadSession;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for FileUploadService
@@ -27,16 +54,40 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class FileUploadServiceTest {
     
+    @Mock
+    private MongoTemplate mongoTemplate;
+    
+    @Mock
+    private LogoVariantService logoVariantService;
+    
+    @Mock
+    private ResumeIndexingService resumeIndexingService;
+    
+    @Mock
+    private UploadSessionService uploadSessionService;
+    
+    @Mock
+    private CandidateService candidateService;
+    
+    @Mock
+    private EmployerService employerService;
+    
     @InjectMocks
     private FileUploadService fileUploadService;
     
     @TempDir
     Path tempDir;
     
+    private FileStorage fileStorage;
+    
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(fileUploadService, "uploadDir", tempDir.toString());
+        fileStorage = spy(new LocalFileStorage(tempDir.toString()));
+        ReflectionTestUtils.setField(fileUploadService, "fileStorage", fileStorage);
+        ReflectionTestUtils.setField(fileUploadService, "fileBlobStore",
+            new FileBlobStore(mongoTemplate, fileStorage, Duration.ofDays(1)));
         ReflectionTestUtils.setField(fileUploadService, "baseUrl", "http://localhost:8082");
+        ReflectionTestUtils.setField(fileUploadService, "uploadValidity", Duration.ofMinutes(15));
     }
     
     @Test
@@ -55,12 +106,27 @@ class FileUploadServiceTest {
         
         // Then
         assertNotNull(response);
-        assertTrue(response.getFileName().contains("resume_candidate123"));
-        assertTrue(response.getFileName().endsWith(".pdf"));
+        assertTrue(response.getFileName().matches("[0-9a-f]{64}\\.pdf"));
         assertTrue(response.getFileUrl().contains("/files/resumes/"));
         assertEquals("application/pdf", response.getFileType());
         assertEquals(11, response.getFileSize()); // "PDF content".length()
         assertEquals("Resume uploaded successfully", response.getMessage());
+        verify(candidateService).updateResumeUrl(candidateId, response.getFileUrl());
+        verify(resumeIndexingService).enqueue(candidateId, "resumes/" + response.getFileName());
+    }
+    
+    @Test
+    void uploadResume_CandidateNotUpdated_KeepsPreviousResume() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "resume.pdf", "application/pdf", "PDF content".getBytes());
+        when(candidateService.updateResumeUrl(eq("candidate123"), anyString()))
+            .thenThrow(new ResourceNotFoundException("Candidate not found with id: candidate123"));
+        
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> fileUploadService.uploadResume(file, "candidate123"));
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(FileBlob.class));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(FileBlob.class));
+        verify(resumeIndexingService, never()).enqueue(anyString(), anyString());
     }
     
     @Test
@@ -182,8 +248,7 @@ class FileUploadServiceTest {
         
         // Then
         assertNotNull(response);
-        assertTrue(response.getFileName().contains("logo_employer123"));
-        assertTrue(response.getFileName().endsWith(".jpg"));
+        assertTrue(response.getFileName().matches("[0-9a-f]{64}\\.jpg"));
         assertTrue(response.getFileUrl().contains("/files/logos/"));
         assertEquals("image/jpeg", response.getFileType());
         assertEquals("Logo uploaded successfully", response.getMessage());
@@ -207,6 +272,7 @@ class FileUploadServiceTest {
         assertNotNull(response);
         assertTrue(response.getFileName().endsWith(".png"));
         assertEquals("image/png", response.getFileType());
+        verify(logoVariantService).generateVariantsAsync(response.getFileName());
     }
     
     @Test
@@ -419,4 +485,188 @@ class FileUploadServiceTest {
         
         assertTrue(exception.getMessage().contains("Invalid file extension"));
     }
+    
+    @Test
+    void presignResumeUpload_LocalStorage_ReturnsEmpty() {
+        // Given
+        DirectUploadRequest request = new DirectUploadRequest("resume.pdf", "application/pdf", 1024);
+        
+        // When
+        Optional<PresignedUploadResponse> upload = fileUploadService.presignResumeUpload(request, "candidate123");
+        
+        // Then
+        assertTrue(upload.isEmpty());
+    }
+    
+    @Test
+    void presignLogoUpload_ObjectStorage_ReturnsUploadBelowIncomingPrefix() throws IOException {
+        // Given
+        URL url = new URL("https://minio.local/jobapp-files/upload?X-Amz-Signature=abc");
+        doReturn(Optional.of(new FileStorage.PresignedRequest("PUT", url, Map.of("Content-Type", "image/png"))))
+            .when(fileStorage).presignUpload(anyString(), eq("image/png"), eq(Duration.ofMinutes(15)));
+        
+        // When
+        PresignedUploadResponse upload = fileUploadService.presignLogoUpload(
+            new DirectUploadRequest("Logo.PNG", "image/png", 2048), "employer123").orElseThrow();
+        
+        // Then
+        assertTrue(upload.getKey().matches("incoming/employer-employer123/[0-9a-f-]{36}\\.png"));
+        assertEquals(url.toString(), upload.getUploadUrl());
+        assertEquals("PUT", upload.getMethod());
+        assertEquals("image/png", upload.getHeaders().get("Content-Type"));
+    }
+    
+    @Test
+    void presignLogoUpload_DeclaredSizeExceeded_ThrowsException() {
+        // Given
+        DirectUploadRequest request = new DirectUploadRequest("logo.png", "image/png", 3 * 1024 * 1024);
+        
+        // When & Then
+        assertThrows(FileSizeExceededException.class,
+            () -> fileUploadService.presignLogoUpload(request, "employer123"));
+        verify(fileStorage, never()).presignUpload(anyString(), anyString(), any(Duration.class));
+    }
+    
+    @Test
+    void completeResumeUpload_ValidPdf_AdoptsIntoContentAddressedStore() throws IOException {
+        // Given
+        String key = "incoming/candidate-candidate123/upload.pdf";
+        Path upload = writeUpload(key, "%PDF-1.7 resume");
+        doReturn(Optional.of(new FileStorage.StoredObject(15, "application/pdf"))).when(fileStorage).stat(key);
+        
+        // When
+        FileUploadResponse response = fileUploadService.completeResumeUpload(key, "candidate123");
+        
+        // Then
+        assertTrue(response.getFileName().matches("[0-9a-f]{64}\\.pdf"));
+        assertEquals("application/pdf", response.getFileType());
+        assertEquals(15, response.getFileSize());
+        assertTrue(Files.exists(tempDir.resolve("resumes").resolve(response.getFileName())));
+        assertFalse(Files.exists(upload));
+        verify(resumeIndexingService).enqueue("candidate123", "resumes/" + response.getFileName());
+    }
+    
+    @Test
+    void completeLogoUpload_ContentNotMatchingExtension_DeletesUpload() throws IOException {
+        // Given
+        String key = "incoming/employer-employer123/upload.png";
+        Path upload = writeUpload(key, "GIF89a not a png");
+        doReturn(Optional.of(new FileStorage.StoredObject(16, "image/png"))).when(fileStorage).stat(key);
+        
+        // When & Then
+        InvalidFileTypeException exception = assertThrows(InvalidFileTypeException.class,
+            () -> fileUploadService.completeLogoUpload(key, "employer123"));
+        assertTrue(exception.getMessage().contains("File content does not match extension 'png'"));
+        assertFalse(Files.exists(upload));
+        verify(logoVariantService, never()).generateVariantsAsync(anyString());
+    }
+    
+    @Test
+    void completeResumeUpload_KeyOfAnotherCandidate_ThrowsException() throws IOException {
+        // Given
+        String key = "incoming/candidate-other/upload.pdf";
+        Path upload = writeUpload(key, "%PDF-1.7 resume");
+        
+        // When & Then
+        FileUploadException exception = assertThrows(FileUploadException.class,
+            () -> fileUploadService.completeResumeUpload(key, "candidate123"));
+        assertEquals("Invalid upload key", exception.getMessage());
+        assertTrue(Files.exists(upload));
+    }
+    
+    private Path writeUpload(String key, String content) throws IOException {
+        Path upload = tempDir.resolve(key);
+        Files.createDirectories(upload.getParent());
+        return Files.writeString(upload, content);
+    }
+    
+    @Test
+    void startUploadSession_InvalidFileType_ThrowsException() {
+        // Given
+        DirectUploadRequest request = new DirectUploadRequest("resume.txt", "text/plain", 1024);
+        
+        // When & Then
+        assertThrows(InvalidFileTypeException.class,
+            () -> fileUploadService.startUploadSession("resume", "candidate123", request));
+        verify(uploadSessionService, never()).create(anyString(), anyString(), anyString(), anyString(), anyLong());
+    }
+    
+    @Test
+    void completeUploadSession_AllChunksWithMatchingDigest_StoresFileAndDiscardsSession() throws Exception {
+        // Given
+        byte[] content = "%PDF-1.7 chunked resume".getBytes();
+        givenSession(content, List.of(0, 1));
+        
+        // When
+        FileUploadResponse response = fileUploadService.completeUploadSession("resume", "candidate123", "session1",
+            sha256(content));
+        
+        // Then
+        assertEquals(sha256(content) + ".pdf", response.getFileName());
+        assertEquals(content.length, response.getFileSize());
+        assertTrue(Files.exists(tempDir.resolve("resumes").resolve(response.getFileName())));
+        verify(uploadSessionService).discard("session1");
+        verify(resumeIndexingService).enqueue("candidate123", "resumes/" + response.getFileName());
+    }
+    
+    @Test
+    void completeUploadSession_DigestMismatch_DiscardsSession() throws Exception {
+        // Given
+        byte[] content = "%PDF-1.7 chunked resume".getBytes();
+        givenSession(content, List.of(0, 1));
+        
+        // When & Then
+        FileUploadException exception = assertThrows(FileUploadException.class,
+            () -> fileUploadService.completeUploadSession("resume", "candidate123", "session1", "0".repeat(64)));
+        assertEquals("Uploaded file does not match the SHA-256 digest", exception.getMessage());
+        verify(uploadSessionService).discard("session1");
+        verify(resumeIndexingService, never()).enqueue(anyString(), anyString());
+    }
+    
+    @Test
+    void completeUploadSession_MissingChunks_KeepsSession() throws Exception {
+        // Given
+        byte[] content = "%PDF-1.7 chunked resume".getBytes();
+        givenSession(content, List.of(1));
+        
+        // When & Then
+        FileUploadException exception = assertThrows(FileUploadException.class,
+            () -> fileUploadService.completeUploadSession("resume", "candidate123", "session1", sha256(content)));
+        assertEquals("Upload is incomplete: 1 of 2 chunks received", exception.getMessage());
+        verify(uploadSessionService, never()).discard(anyString());
+    }
+    
+    @Test
+    void completeUploadSession_ChunksUnreadable_KeepsSessionForRetry() throws Exception {
+        // Given
+        byte[] content = "%PDF-1.7 chunked resume".getBytes();
+        UploadSession session = givenSession(content, List.of(0, 1));
+        when(uploadSessionService.assemble(session)).thenThrow(new IOException("storage unavailable"));
+        
+        // When & Then
+        assertThrows(FileUploadException.class,
+            () -> fileUploadService.completeUploadSession("resume", "candidate123", "session1", sha256(content)));
+        verify(uploadSessionService, never()).discard(anyString());
+    }
+    
+    private UploadSession givenSession(byte[] content, List<Integer> receivedChunks) throws IOException {
+        UploadSession session = new UploadSession();
+        session.setId("session1");
+        session.setFileName("resume.pdf");
+        session.setContentType("application/pdf");
+        session.setSize(content.length);
+        session.setChunkSize(16);
+        session.setReceivedChunks(receivedChunks);
+        session.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(uploadSessionService.get("session1", "resume", "candidate123")).thenReturn(session);
+        Path assembled = Files.write(tempDir.resolve("session1.tmp"), content);
+        if (receivedChunks.size() == session.getTotalChunks()) {
+            when(uploadSessionService.assemble(session)).thenReturn(assembled);
+        }
+        return session;
+    }
+    
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
 }
\ No newline at end of file
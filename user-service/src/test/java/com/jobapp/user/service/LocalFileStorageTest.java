@@ -0,0 +1,75 @@
+package com.jobapp.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LocalFileStorage
+ * Requirements: 9.4
+ */
+class LocalFileStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStorage fileStorage;
+
+    @BeforeEach
+    void setUp() {
+        fileStorage = new LocalFileStorage(tempDir.resolve("uploads").toString());
+    }
+
+    @Test
+    void store_ConsumesSourceAndMakesObjectReadable() throws IOException {
+        // Given
+        Path source = Files.writeString(tempDir.resolve("upload.tmp"), "%PDF-1.7 content");
+
+        // When
+        fileStorage.store("resumes/a.pdf", source, "application/pdf");
+
+        // Then
+        assertFalse(Files.exists(source));
+        assertTrue(fileStorage.exists("resumes/a.pdf"));
+        assertEquals(16, fileStorage.stat("resumes/a.pdf").orElseThrow().size());
+        assertArrayEquals("%PDF".getBytes(), fileStorage.readPrefix("resumes/a.pdf", 4));
+        try (InputStream in = fileStorage.open("resumes/a.pdf")) {
+            assertEquals("%PDF-1.7 content", new String(in.readAllBytes()));
+        }
+    }
+
+    @Test
+    void copyAndDeleteByPrefix_HandleDerivedObjects() throws IOException {
+        // Given
+        fileStorage.store("logos/abc.png", Files.writeString(tempDir.resolve("a.tmp"), "png"), "image/png");
+        fileStorage.copy("logos/abc.png", "logos/abc-64.png");
+        fileStorage.copy("logos/abc.png", "logos/abc-128.png");
+
+        // When
+        int deleted = fileStorage.deleteByPrefix("logos/abc-");
+
+        // Then
+        assertEquals(2, deleted);
+        assertTrue(fileStorage.exists("logos/abc.png"));
+        assertTrue(fileStorage.delete("logos/abc.png"));
+        assertFalse(fileStorage.delete("logos/abc.png"));
+        assertTrue(fileStorage.stat("logos/abc.png").isEmpty());
+    }
+
+    @Test
+    void keysOutsideRootAndPresigning_AreRejected() {
+        assertThrows(NoSuchFileException.class, () -> fileStorage.open("../outside.txt"));
+        assertThrows(NoSuchFileException.class, () -> fileStorage.open("resumes/missing.pdf"));
+        assertTrue(fileStorage.presignUpload("incoming/a.pdf", "application/pdf", Duration.ofMinutes(5)).isEmpty());
+        assertTrue(fileStorage.presignDownload("resumes/a.pdf", Duration.ofMinutes(5)).isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobapp.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LogoVariantService
+ * Requirements: 3.4, 9.4
+ */
+class LogoVariantServiceTest {
+
+    private static final String LOGO = "b".repeat(64) + ".png";
+
+    @TempDir
+    Path tempDir;
+
+    private Path logos;
+    private FileBlobStore fileBlobStore;
+    private LogoVariantService logoVariantService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        logos = Files.createDirectories(tempDir.resolve("logos"));
+        fileBlobStore = mock(FileBlobStore.class);
+        lenient().when(fileBlobStore.isTracked(anyString())).thenReturn(true);
+        logoVariantService = new LogoVariantService(new LocalFileStorage(tempDir.toString()), fileBlobStore, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logoVariantService.shutdown();
+    }
+
+    @Test
+    void generateVariants_LargeLogo_WritesEachSizeKeepingAspectRatio() throws IOException {
+        // Given
+        writeImage(logos.resolve(LOGO), 800, 400, "png");
+
+        // When
+        logoVariantService.generateVariants(LOGO);
+
+        // Then
+        for (int size : LogoVariantService.VARIANT_SIZES) {
+            BufferedImage variant = ImageIO.read(logos.resolve("b".repeat(64) + "-" + size + ".png").toFile());
+            assertEquals(size, variant.getWidth());
+            assertEquals(size / 2, variant.getHeight());
+        }
+    }
+
+    @Test
+    void generateVariants_SmallJpeg_DoesNotUpscale() throws IOException {
+        // Given
+        Path source = logos.resolve("logo.jpg");
+        writeImage(source, 100, 50, "jpg");
+
+        // When
+        logoVariantService.generateVariants("logo.jpg");
+
+        // Then
+        BufferedImage largest = ImageIO.read(logos.resolve("logo-256.jpg").toFile());
+        assertEquals(100, largest.getWidth());
+        assertEquals(64, ImageIO.read(logos.resolve("logo-64.jpg").toFile()).getWidth());
+    }
+
+    @Test
+    void select_VariantReady_ReturnsSmallestVariantCoveringSize() throws IOException {
+        // Given
+        writeImage(logos.resolve(LOGO), 800, 400, "png");
+        logoVariantService.generateVariants(LOGO);
+
+        // When & Then
+        assertEquals(new LogoVariantService.Selection("b".repeat(64) + "-128.png", false),
+            logoVariantService.select("logos", LOGO, 100));
+        assertEquals(new LogoVariantService.Selection("b".repeat(64) + "-256.png", false),
+            logoVariantService.select("logos", LOGO, 1000));
+        assertEquals(new LogoVariantService.Selection(LOGO, false), logoVariantService.select("logos", LOGO, null));
+        assertEquals(new LogoVariantService.Selection("resume.pdf", false),
+            logoVariantService.select("resumes", "resume.pdf", 64));
+    }
+
+    @Test
+    void select_VariantMissing_ServesOriginalProvisionallyAndGeneratesInBackground() throws Exception {
+        // Given
+        writeImage(logos.resolve(LOGO), 300, 300, "png");
+
+        // When
+        LogoVariantService.Selection selection = logoVariantService.select("logos", LOGO, 64);
+
+        // Then
+        assertEquals(new LogoVariantService.Selection(LOGO, true), selection);
+        Path variant = logos.resolve("b".repeat(64) + "-64.png");
+        for (int i = 0; i < 100 && !Files.exists(variant); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(Files.exists(variant));
+        assertEquals(new LogoVariantService.Selection("b".repeat(64) + "-64.png", false),
+            logoVariantService.select("logos", LOGO, 64));
+    }
+
+    @Test
+    void select_VariantNameAsOriginal_NeverGeneratesVariantsOfVariants() throws Exception {
+        // Given
+        writeImage(logos.resolve(LOGO), 300, 300, "png");
+        logoVariantService.generateVariants(LOGO);
+        String variant = "b".repeat(64) + "-64.png";
+
+        // When
+        LogoVariantService.Selection selection = logoVariantService.select("logos", variant, 64);
+        logoVariantService.generateVariantsAsync(variant);
+        logoVariantService.generateVariants(variant);
+
+        // Then
+        assertEquals(new LogoVariantService.Selection(variant, false), selection);
+        Thread.sleep(200);
+        assertFalse(Files.exists(logos.resolve("b".repeat(64) + "-64-64.png")));
+    }
+
+    @Test
+    void generateVariants_UntrackedFile_IsSkipped() throws IOException {
+        // Given
+        writeImage(logos.resolve("unknown.png"), 300, 300, "png");
+        when(fileBlobStore.isTracked("logos/unknown.png")).thenReturn(false);
+
+        // When
+        logoVariantService.generateVariants("unknown.png");
+
+        // Then
+        assertFalse(Files.exists(logos.resolve("unknown-64.png")));
+    }
+
+    private static void writeImage(Path path, int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        assertTrue(ImageIO.write(image, format, path.toFile()));
+    }
+}
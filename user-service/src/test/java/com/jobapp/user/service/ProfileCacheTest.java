@@ -0,0 +1,107 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.dto.EmployerResponse;
+import com.jobapp.user.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProfileCache
+ * Requirements: 1.1, 3.1
+ */
+class ProfileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProfileCache profileCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        profileCache = new ProfileCache(meterRegistry, Duration.ofMinutes(1), 2);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void employerById_RepeatedLookups_LoadOnceAndCountHits() {
+        // When
+        profileCache.employerById("employer1", loader("employer1", "Acme"));
+        profileCache.employerById("employer1", loader("employer1", "Acme"));
+        EmployerResponse byEmail = profileCache.employerByEmail("employer1@test.com", loader("employer1", "Acme"));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals("Acme", byEmail.getCompanyName());
+        assertEquals(2, meterRegistry.get("user.profile.cache.requests").tag("cache", "employer").tag("result", "hit")
+            .counter().count());
+        assertEquals(2.0 / 3, meterRegistry.get("user.profile.cache.hit.ratio").tag("cache", "employer")
+            .gauge().value(), 1e-9);
+    }
+
+    @Test
+    void invalidateEmployer_DropsIdAndEmailEntries() {
+        // Given
+        profileCache.employerById("employer1", loader("employer1", "Acme"));
+
+        // When
+        profileCache.invalidateEmployer("employer1");
+        EmployerResponse byEmail = profileCache.employerByEmail("employer1@test.com", loader("employer1", "Acme Inc"));
+        EmployerResponse byId = profileCache.employerById("employer1", loader("employer1", "Other"));
+
+        // Then
+        assertEquals("Acme Inc", byEmail.getCompanyName());
+        assertEquals("Acme Inc", byId.getCompanyName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void employerById_InvalidatedDuringLoad_DoesNotCacheStaleValue() {
+        // When: the profile changes while the old version is being read
+        profileCache.employerById("employer1", () -> {
+            profileCache.invalidateEmployer("employer1");
+            return loader("employer1", "Old").get();
+        });
+        EmployerResponse next = profileCache.employerById("employer1", loader("employer1", "New"));
+
+        // Then
+        assertEquals("New", next.getCompanyName());
+    }
+
+    @Test
+    void employerById_UnknownOrEvicted_IsLoadedAgain() {
+        // Given
+        Supplier<EmployerResponse> missing = () -> {
+            loads.incrementAndGet();
+            throw new ResourceNotFoundException("Employer not found with id: missing");
+        };
+
+        // When
+        assertThrows(ResourceNotFoundException.class, () -> profileCache.employerById("missing", missing));
+        assertThrows(ResourceNotFoundException.class, () -> profileCache.employerById("missing", missing));
+        profileCache.employerById("employer1", loader("employer1", "A"));
+        profileCache.employerById("employer2", loader("employer2", "B"));
+        profileCache.employerById("employer3", loader("employer3", "C"));
+        profileCache.employerByEmail("employer1@test.com", loader("employer1", "A"));
+
+        // Then: unknown IDs are not cached and the least recently used entry beyond two is dropped
+        assertEquals(6, loads.get());
+    }
+
+    private Supplier<EmployerResponse> loader(String id, String companyName) {
+        return () -> {
+            loads.incrementAndGet();
+            EmployerResponse response = new EmployerResponse();
+            response.setId(id);
+            response.setEmail(id + "@test.com");
+            response.setCompanyName(companyName);
+            return response;
+        };
+    }
+}
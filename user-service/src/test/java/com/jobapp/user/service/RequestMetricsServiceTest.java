@@ -0,0 +1,220 @@
+package com.jobapp.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobapp.common.metrics.RequestMetricsFilter;
+import com.jobapp.user.dto.RequestMetricsSnapshot;
+import com.jobapp.user.dto.SystemReportSummary;
+import com.jobapp.user.model.RequestMetricsBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RequestMetricsService and the request metrics filter it scrapes
+ * Requirements: 5.4
+ */
+@ExtendWith(MockitoExtension.class)
+class RequestMetricsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsFilter requestMetricsFilter;
+    private RequestMetricsService requestMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestMetricsFilter = new RequestMetricsFilter(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+            "user-service");
+        requestMetricsService = new RequestMetricsService(mongoTemplate, restTemplate, requestMetricsFilter,
+            new ObjectMapper(), List.of("http://job-service:8083", "http://application-service:8084"), Duration.ofMinutes(15));
+    }
+
+    @Test
+    void filter_RecordsRouteLatencyAndServerErrors() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/candidates/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/admin/candidates/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(503);
+
+        // When
+        requestMetricsFilter.doFilter(request, response, new MockFilterChain());
+        requestMetricsFilter.doFilter(new MockHttpServletRequest("GET", "/actuator/requestmetrics"),
+            new MockHttpServletResponse(), new MockFilterChain());
+        Map<String, Object> snapshot = requestMetricsFilter.snapshot();
+
+        // Then
+        assertEquals(1L, snapshot.get("requests"));
+        assertEquals(1L, snapshot.get("errors"));
+        Map<?, ?> peaks = (Map<?, ?>) snapshot.get("peaks");
+        assertEquals(1, peaks.size());
+        assertEquals(1, peaks.values().iterator().next());
+        // Reading does not reset anything, so every reader sees the same peaks
+        assertEquals(peaks, requestMetricsFilter.snapshot().get("peaks"));
+        assertEquals(Map.of("GET /api/admin/candidates/{id}", 1L), snapshot.get("endpoints"));
+        assertEquals(1L, ((List<?>) snapshot.get("latencyCounts")).get(10));
+        assertEquals(1L, meterRegistry.get("http.server.endpoint.requests")
+            .tag("uri", "/api/admin/candidates/{id}").tag("outcome", "SERVER_ERROR").timer().count());
+    }
+
+    @Test
+    void collect_StoresLocalAndReachablePeerSnapshotsInCurrentBucket() {
+        // Given
+        RequestMetricsSnapshot jobs = new RequestMetricsSnapshot();
+        jobs.setService("job-service");
+        jobs.setInstance("job-1");
+        jobs.setRequests(500);
+        jobs.setPeaks(Map.of(1700000040L, 7, 1700000100L, 5));
+        when(restTemplate.getForObject("http://job-service:8083/actuator/requestmetrics", RequestMetricsSnapshot.class))
+            .thenReturn(jobs);
+        when(restTemplate.getForObject("http://application-service:8084/actuator/requestmetrics", RequestMetricsSnapshot.class))
+            .thenThrow(new ResourceAccessException("Connection refused"));
+
+        // When
+        requestMetricsService.collect();
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(query.capture(), update.capture(), eq(RequestMetricsBucket.class));
+
+        Document jobQuery = query.getAllValues().get(1).getQueryObject();
+        assertTrue(jobQuery.getString("id").startsWith("job-1:"));
+        assertEquals(500L, ((Document) jobQuery.get("requests")).get("$lte"));
+        Document jobUpdate = update.getAllValues().get(1).getUpdateObject();
+        assertEquals(7, ((Document) jobUpdate.get("$max")).get("peaks.1700000040"));
+        assertEquals(5, ((Document) jobUpdate.get("$max")).get("peaks.1700000100"));
+        assertEquals("job-service", ((Document) jobUpdate.get("$set")).get("service"));
+    }
+
+    @Test
+    void summarize_DifferencesEachInstanceAgainstItsLastBucketBeforeWindow() {
+        // Given
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+
+        Document jobLatest = bucket("job-service", "job-1", 300, 3, 9000.0, List.of(100L, 250L, 290L),
+            List.of(new Document("endpoint", "GET /api/jobs").append("requests", 280L)));
+        Document applicationLatest = bucket("application-service", "app-1", 100, 0, 2000.0, List.of(60L, 100L, 100L),
+            List.of(new Document("endpoint", "POST /api/applications").append("requests", 100L)));
+        Document jobBaseline = bucket("job-service", "job-1", 100, 1, 3000.0, List.of(0L, 80L, 100L),
+            List.of(new Document("endpoint", "GET /api/jobs").append("requests", 100L)));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(RequestMetricsBucket.class), eq(Document.class)))
+            .thenReturn(results(jobLatest, applicationLatest))
+            .thenReturn(results(jobBaseline))
+            .thenReturn(results(new Document("_id", null).append("peak", 16)));
+
+        // When
+        SystemReportSummary.PerformanceMetrics performance = requestMetricsService.summarize(7);
+
+        // Then
+        assertEquals(300L, performance.getTotalRequests());
+        assertEquals(26.67, performance.getAverageResponseTime());
+        assertEquals(0.01, performance.getErrorRate());
+        assertEquals(16L, performance.getPeakConcurrentUsers());
+        // Merged histogram: 160 under 10ms, 270 under 50ms, 290 under 100ms of 300
+        assertEquals(9.38, performance.getP50ResponseTime());
+        assertEquals(87.5, performance.getP95ResponseTime());
+        assertEquals(100.0, performance.getP99ResponseTime());
+        assertEquals(List.of("job-service GET /api/jobs", "application-service POST /api/applications"),
+            List.copyOf(performance.getEndpointUsage().keySet()));
+        assertEquals(180L, performance.getEndpointUsage().get("job-service GET /api/jobs"));
+    }
+
+    @Test
+    void summarize_AddsUpInstancePeaksPerWindowBeforeTakingBusiestWindow() {
+        // Given
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(RequestMetricsBucket.class), eq(Document.class)))
+            .thenReturn(results());
+
+        // When
+        SystemReportSummary.PerformanceMetrics performance = requestMetricsService.summarize(7);
+
+        // Then
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate, times(2)).aggregate(aggregation.capture(), eq(RequestMetricsBucket.class), eq(Document.class));
+        List<Document> pipeline = aggregation.getAllValues().get(1).toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(new Document("_id", new Document("instance", "$instance").append("window", "$peaks.k"))
+            .append("peak", new Document("$max", "$peaks.v")), pipeline.get(3).get("$group"));
+        assertEquals(new Document("_id", "$_id.window").append("peak", new Document("$sum", "$peak")),
+            pipeline.get(4).get("$group"));
+        assertEquals(new Document("$max", "$peak"), ((Document) pipeline.get(5).get("$group")).get("peak"));
+        assertEquals(0L, performance.getPeakConcurrentUsers());
+    }
+
+    @Test
+    void percentile_InterpolatesWithinBucketAndCapsAtLargestBound() {
+        List<Long> bounds = List.of(10L, 100L);
+
+        assertEquals(10.0, RequestMetricsService.percentile(bounds, new long[] {50, 100}, 100, 0.50));
+        assertEquals(91.0, RequestMetricsService.percentile(bounds, new long[] {50, 100}, 100, 0.95));
+        assertEquals(100.0, RequestMetricsService.percentile(bounds, new long[] {50, 100}, 200, 0.99));
+        assertEquals(0.0, RequestMetricsService.percentile(bounds, new long[] {0, 0}, 0, 0.50));
+    }
+
+    private Document bucket(String service, String instance, long requests, long errors, double totalTimeMs,
+                            List<Long> latencyCounts, List<Document> endpoints) {
+        Document bucket = new Document("_id", instance + ":0")
+            .append("service", service)
+            .append("instance", instance)
+            .append("bucket_start", Date.from(Instant.now()))
+            .append("requests", requests)
+            .append("errors", errors)
+            .append("total_time_ms", totalTimeMs)
+            .append("latency_bounds_ms", List.of(10L, 50L, 100L))
+            .append("latency_counts", latencyCounts)
+            .append("peaks", new Document("1700000040", 9))
+            .append("endpoints", endpoints);
+        // Shaped like the per-instance $group result
+        return new Document("_id", instance).append("latest", bucket);
+    }
+
+    private AggregationResults<Document> results(Document... groups) {
+        return new AggregationResults<>(List.of(groups), new Document());
+    }
+}
@@ -0,0 +1,161 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.ResumeExtractionJob;
+import com.jobapp.user.model.ResumeText;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResumeIndexingService
+ * Requirements: 1.4
+ */
+@ExtendWith(MockitoExtension.class)
+class ResumeIndexingServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private ResumeIndexingService resumeIndexingService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(tempDir.resolve("resumes"));
+        resumeIndexingService = new ResumeIndexingService(mongoTemplate, new LocalFileStorage(tempDir.toString()), 1, 3,
+            Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeIndexingService.shutdown();
+    }
+
+    @Test
+    void process_ExtractableResume_StoresNormalizedTextAndRemovesItem() throws IOException {
+        // Given
+        writeDocx(tempDir.resolve("resumes/a.docx"), "Senior Backend Engineer!");
+        ResumeExtractionJob job = job("resumes/a.docx", 1);
+
+        // When
+        resumeIndexingService.process(job);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(ResumeText.class));
+        assertEquals(42L, ((Document) query.getValue().getQueryObject().get("sourceVersion")).get("$lte"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals("senior backend engineer", set.get("text"));
+        assertEquals(3, set.get("tokenCount"));
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(ResumeExtractionJob.class));
+        assertEquals("token-1", removed.getValue().getQueryObject().get("claimToken"));
+    }
+
+    @Test
+    void process_NewerTextAlreadyStored_CompletesWithoutOverwriting() throws IOException {
+        // Given
+        writeDocx(tempDir.resolve("resumes/a.docx"), "Older resume text");
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ResumeText.class)))
+            .thenThrow(new DuplicateKeyException("duplicate key"));
+
+        // When
+        resumeIndexingService.process(job("resumes/a.docx", 1));
+
+        // Then
+        verify(mongoTemplate).remove(any(Query.class), eq(ResumeExtractionJob.class));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(ResumeExtractionJob.class));
+    }
+
+    @Test
+    void process_ExtractionFails_RetriesWithBackoffThenGivesUp() throws IOException {
+        // Given: a directory in place of the file cannot be read
+        Files.createDirectories(tempDir.resolve("resumes/dir.pdf"));
+
+        // When
+        resumeIndexingService.process(job("resumes/dir.pdf", 2));
+        resumeIndexingService.process(job("resumes/dir.pdf", 3));
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updates.capture(), eq(ResumeExtractionJob.class));
+        Document retry = (Document) updates.getAllValues().get(0).getUpdateObject().get("$set");
+        assertEquals(ResumeExtractionJob.Status.PENDING, retry.get("status"));
+        assertTrue(((LocalDateTime) retry.get("availableAt")).isAfter(LocalDateTime.now().plusSeconds(110)));
+        Document failed = (Document) updates.getAllValues().get(1).getUpdateObject().get("$set");
+        assertEquals(ResumeExtractionJob.Status.FAILED, failed.get("status"));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ResumeExtractionJob.class));
+    }
+
+    @Test
+    void process_FileGone_CompletesItem() {
+        // When
+        resumeIndexingService.process(job("resumes/missing.pdf", 1));
+
+        // Then
+        verify(mongoTemplate).remove(any(Query.class), eq(ResumeExtractionJob.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ResumeText.class));
+    }
+
+    @Test
+    void enqueue_ReplacesQueuedItemWithNewVersion() {
+        // When
+        resumeIndexingService.enqueue("candidate1", "resumes/b.pdf");
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(ResumeExtractionJob.class));
+        assertEquals("candidate1", query.getValue().getQueryObject().get("id"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals("resumes/b.pdf", set.get("fileKey"));
+        assertEquals(ResumeExtractionJob.Status.PENDING, set.get("status"));
+        assertEquals(0, set.get("attempts"));
+        assertTrue(((Document) update.getValue().getUpdateObject().get("$unset")).containsKey("claimToken"));
+    }
+
+    private static void writeDocx(Path path, String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); OutputStream out = Files.newOutputStream(path)) {
+            document.createParagraph().createRun().setText(text);
+            document.write(out);
+        }
+    }
+
+    private static ResumeExtractionJob job(String fileKey, int attempts) {
+        ResumeExtractionJob job = new ResumeExtractionJob();
+        job.setId("candidate1");
+        job.setFileKey(fileKey);
+        job.setStatus(ResumeExtractionJob.Status.PROCESSING);
+        job.setAttempts(attempts);
+        job.setVersion(42L);
+        job.setClaimToken("token-" + attempts);
+        return job;
+    }
+}
@@ -0,0 +1,140 @@
+package com.jobapp.user.service;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResumeTextExtractor
+ * Requirements: 1.4
+ */
+class ResumeTextExtractorTest {
+
+    @Test
+    void extract_Pdf_ReturnsShownText() throws IOException {
+        // Given
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(72, 720);
+                content.showText("Senior Java (Spring) Developer");
+                content.newLineAtOffset(0, -14);
+                content.showText("Kubernetes Docker");
+                content.endText();
+            }
+            document.save(pdf);
+        }
+
+        // When
+        String text = ResumeTextExtractor.extract(pdf.toByteArray(), "PDF");
+
+        // Then
+        assertEquals("senior java spring developer kubernetes docker", ResumeIndexingService.normalizeText(text));
+    }
+
+    @Test
+    void extract_Docx_ReturnsParagraphText() throws IOException {
+        // Given
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            document.createParagraph().createRun().setText("Jos\u00e9 Garc\u00eda");
+            XWPFParagraph paragraph = document.createParagraph();
+            paragraph.createRun().setText("Data ");
+            XWPFRun run = paragraph.createRun();
+            run.setText("Engineer");
+            run.addTab();
+            run.setText("Python");
+            document.write(docx);
+        }
+
+        // When
+        String text = ResumeTextExtractor.extract(docx.toByteArray(), "docx");
+
+        // Then
+        assertEquals("jose garcia data engineer python", ResumeIndexingService.normalizeText(text));
+    }
+
+    @Test
+    void extract_PdfStreamInflatingBeyondBudget_ThrowsException() throws IOException {
+        // Given
+        byte[] padding = new byte[ResumeTextExtractor.MAX_INFLATED_SIZE + 1];
+        Arrays.fill(padding, (byte) ' ');
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            page.setContents(new PDStream(document, new ByteArrayInputStream(padding), COSName.FLATE_DECODE));
+            document.addPage(page);
+            document.save(pdf);
+        }
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class,
+            () -> ResumeTextExtractor.extract(pdf.toByteArray(), "pdf"));
+        assertTrue(exception.getMessage().contains("expands beyond"));
+    }
+
+    @Test
+    void extract_DocxInflatingBeyondRatio_ThrowsException() throws IOException {
+        // Given
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            char[] whitespace = new char[ResumeTextExtractor.MAX_INFLATED_SIZE];
+            Arrays.fill(whitespace, ' ');
+            document.createParagraph().createRun().setText(new String(whitespace));
+            document.write(docx);
+        }
+
+        // When & Then
+        assertThrows(IOException.class, () -> ResumeTextExtractor.extract(docx.toByteArray(), "docx"));
+    }
+
+    @Test
+    void extract_DocxWithLongText_StopsAtTextLimit() throws IOException {
+        // Given
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            for (int i = 0; i < 20_000; i++) {
+                document.createParagraph().createRun().setText("java spring " + i);
+            }
+            document.write(docx);
+        }
+
+        // When
+        String text = ResumeTextExtractor.extract(docx.toByteArray(), "docx");
+
+        // Then
+        assertEquals(ResumeTextExtractor.MAX_TEXT_LENGTH, text.length());
+    }
+
+    @Test
+    void extract_NotAWordDocument_ThrowsException() {
+        byte[] content = "not a word document".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> ResumeTextExtractor.extract(content, "doc"));
+    }
+
+    @Test
+    void extract_UnsupportedExtension_ReturnsEmpty() throws IOException {
+        assertEquals("", ResumeTextExtractor.extract("text".getBytes(StandardCharsets.UTF_8), "txt"));
+    }
+}
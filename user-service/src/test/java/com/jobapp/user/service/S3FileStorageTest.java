@@ -0,0 +1,289 @@
+package com.jobapp.user.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for S3FileStorage against an in-process S3-compatible stand-in
+ * Requirements: 9.4
+ */
+class S3FileStorageTest {
+
+    private static final String BUCKET = "jobapp-files";
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectStoreStub objectStore;
+    private S3FileStorage fileStorage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectStore = new ObjectStoreStub();
+        AmazonS3 s3 = AmazonS3ClientBuilder.standard()
+            .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access", "secret")))
+            .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(objectStore.endpoint(), "us-east-1"))
+            .withPathStyleAccessEnabled(true)
+            .disableChunkedEncoding()
+            .build();
+        fileStorage = new S3FileStorage(s3, BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        objectStore.stop();
+    }
+
+    @Test
+    void storeStatOpenAndReadPrefix_RoundTripThroughObjectStore() throws IOException {
+        // Given
+        Path source = Files.writeString(tempDir.resolve("upload.tmp"), "%PDF-1.7 resume body");
+
+        // When
+        fileStorage.store("resumes/a.pdf", source, "application/pdf");
+
+        // Then
+        assertFalse(Files.exists(source));
+        FileStorage.StoredObject object = fileStorage.stat("resumes/a.pdf").orElseThrow();
+        assertEquals(20, object.size());
+        assertEquals("application/pdf", object.contentType());
+        assertArrayEquals("%PDF".getBytes(StandardCharsets.US_ASCII), fileStorage.readPrefix("resumes/a.pdf", 4));
+        try (InputStream in = fileStorage.open("resumes/a.pdf")) {
+            assertEquals("%PDF-1.7 resume body", new String(in.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void missingObject_IsReportedAsNoSuchFile() throws IOException {
+        assertTrue(fileStorage.stat("resumes/missing.pdf").isEmpty());
+        assertFalse(fileStorage.exists("resumes/missing.pdf"));
+        assertThrows(NoSuchFileException.class, () -> fileStorage.open("resumes/missing.pdf"));
+        assertThrows(NoSuchFileException.class, () -> fileStorage.copy("resumes/missing.pdf", "resumes/b.pdf"));
+    }
+
+    @Test
+    void copyAndDeleteByPrefix_WorkInsideObjectStore() throws IOException {
+        // Given
+        fileStorage.store("logos/abc.png", Files.writeString(tempDir.resolve("a.tmp"), "png"), "image/png");
+        fileStorage.copy("logos/abc.png", "logos/abc-64.png");
+        fileStorage.copy("logos/abc.png", "logos/abc-128.png");
+
+        // When
+        int deleted = fileStorage.deleteByPrefix("logos/abc-");
+
+        // Then
+        assertEquals(2, deleted);
+        assertEquals(Map.of("logos/abc.png", "png"), objectStore.contents());
+        assertTrue(fileStorage.delete("logos/abc.png"));
+        assertTrue(objectStore.contents().isEmpty());
+    }
+
+    @Test
+    void presign_SignsUploadWithContentTypeAndDownload() {
+        // When
+        FileStorage.PresignedRequest upload = fileStorage
+            .presignUpload("incoming/candidate-1/a.pdf", "application/pdf", Duration.ofMinutes(15)).orElseThrow();
+        URL download = fileStorage.presignDownload("resumes/a.pdf", Duration.ofMinutes(15)).orElseThrow();
+
+        // Then
+        assertEquals("PUT", upload.method());
+        assertEquals("application/pdf", upload.headers().get("Content-Type"));
+        assertEquals("/" + BUCKET + "/incoming/candidate-1/a.pdf", upload.url().getPath());
+        assertTrue(upload.url().getQuery().contains("X-Amz-Signature="));
+        assertTrue(upload.url().getQuery().contains("X-Amz-SignedHeaders=content-type%3Bhost"));
+        assertTrue(upload.url().getQuery().matches(".*X-Amz-Expires=(899|900)(&.*)?"));
+        assertEquals("/" + BUCKET + "/resumes/a.pdf", download.getPath());
+        assertTrue(download.getQuery().contains("X-Amz-Signature="));
+    }
+
+    /**
+     * Path-style S3 endpoint keeping objects in memory, enough for the requests S3FileStorage sends
+     */
+    private static class ObjectStoreStub {
+
+        private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+        private final Map<String, byte[]> objects = new ConcurrentSkipListMap<>();
+        private final Map<String, String> contentTypes = new ConcurrentSkipListMap<>();
+        private final HttpServer server;
+
+        ObjectStoreStub() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/" + BUCKET, this::handle);
+            server.start();
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        Map<String, String> contents() {
+            Map<String, String> contents = new ConcurrentSkipListMap<>();
+            objects.forEach((key, value) -> contents.put(key, new String(value, StandardCharsets.UTF_8)));
+            return contents;
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                String key = path.length() > BUCKET.length() + 2 ? path.substring(BUCKET.length() + 2) : "";
+                String query = exchange.getRequestURI().getQuery();
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                switch (exchange.getRequestMethod()) {
+                    case "PUT" -> put(exchange, key, body);
+                    case "HEAD" -> head(exchange, key);
+                    case "GET" -> {
+                        if (query != null && query.contains("list-type=2")) {
+                            list(exchange, query);
+                        } else {
+                            get(exchange, key);
+                        }
+                    }
+                    case "DELETE" -> {
+                        objects.remove(key);
+                        contentTypes.remove(key);
+                        exchange.sendResponseHeaders(204, -1);
+                    }
+                    default -> exchange.sendResponseHeaders(405, -1);
+                }
+            }
+        }
+
+        private void put(HttpExchange exchange, String key, byte[] body) throws IOException {
+            String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+            if (copySource != null) {
+                String source = URLDecoder.decode(copySource, StandardCharsets.UTF_8)
+                    .replaceFirst("^/?" + BUCKET + "/", "");
+                byte[] content = objects.get(source);
+                if (content == null) {
+                    notFound(exchange);
+                    return;
+                }
+                objects.put(key, content);
+                contentTypes.put(key, contentTypes.get(source));
+                xml(exchange, 200, "<CopyObjectResult><LastModified>2024-01-01T00:00:00.000Z</LastModified>"
+                    + "<ETag>\"" + md5(content) + "\"</ETag></CopyObjectResult>");
+                return;
+            }
+            objects.put(key, body);
+            contentTypes.put(key, exchange.getRequestHeaders().getFirst("Content-Type"));
+            exchange.getResponseHeaders().set("ETag", "\"" + md5(body) + "\"");
+            exchange.sendResponseHeaders(200, -1);
+        }
+
+        private void head(HttpExchange exchange, String key) throws IOException {
+            byte[] content = objects.get(key);
+            if (content == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            objectHeaders(exchange, key, content);
+            exchange.getResponseHeaders().set("Content-Length", Integer.toString(content.length));
+            exchange.sendResponseHeaders(200, -1);
+        }
+
+        private void get(HttpExchange exchange, String key) throws IOException {
+            byte[] content = objects.get(key);
+            if (content == null) {
+                notFound(exchange);
+                return;
+            }
+            objectHeaders(exchange, key, content);
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            Matcher matcher = range != null ? RANGE.matcher(range) : null;
+            if (matcher != null && matcher.matches()) {
+                int start = Integer.parseInt(matcher.group(1));
+                int end = Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+                exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+                exchange.sendResponseHeaders(206, end - start + 1);
+                exchange.getResponseBody().write(content, start, end - start + 1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, content.length);
+            exchange.getResponseBody().write(content);
+        }
+
+        private void list(HttpExchange exchange, String query) throws IOException {
+            String prefix = "";
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("prefix=")) {
+                    prefix = URLDecoder.decode(parameter.substring(7), StandardCharsets.UTF_8);
+                }
+            }
+            StringBuilder body = new StringBuilder("<ListBucketResult><Name>" + BUCKET + "</Name><Prefix>")
+                .append(prefix).append("</Prefix><IsTruncated>false</IsTruncated>");
+            int count = 0;
+            for (Map.Entry<String, byte[]> object : objects.entrySet()) {
+                if (object.getKey().startsWith(prefix)) {
+                    body.append("<Contents><Key>").append(object.getKey()).append("</Key><Size>")
+                        .append(object.getValue().length).append("</Size></Contents>");
+                    count++;
+                }
+            }
+            body.append("<KeyCount>").append(count).append("</KeyCount></ListBucketResult>");
+            xml(exchange, 200, body.toString());
+        }
+
+        private void objectHeaders(HttpExchange exchange, String key, byte[] content) {
+            exchange.getResponseHeaders().set("Content-Type", contentTypes.get(key));
+            exchange.getResponseHeaders().set("ETag", "\"" + md5(content) + "\"");
+            exchange.getResponseHeaders().set("Last-Modified",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        }
+
+        private static void notFound(HttpExchange exchange) throws IOException {
+            xml(exchange, 404, "<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>");
+        }
+
+        private static void xml(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+
+        private static String md5(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
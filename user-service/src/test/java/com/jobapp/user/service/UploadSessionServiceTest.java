@@ -0,0 +1,162 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.exception.FileUploadException;
+import com.jobapp.user.exception.ResourceNotFoundException;
+import com.jobapp.user.model.UploadSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UploadSessionService
+ * Requirements: 1.4, 3.4, 9.4
+ */
+@ExtendWith(MockitoExtension.class)
+class UploadSessionServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStorage fileStorage;
+    private UploadSessionService uploadSessionService;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        fileStorage = new LocalFileStorage(tempDir.toString());
+        uploadSessionService = new UploadSessionService(mongoTemplate, fileStorage, DataSize.ofBytes(4),
+            Duration.ofHours(24), 2);
+        session = new UploadSession();
+        session.setId("session1");
+        session.setCategory("resume");
+        session.setOwnerId("candidate1");
+        session.setSize(10);
+        session.setChunkSize(4);
+        session.setExpiresAt(LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void writeChunk_ChunksOutOfOrderAndRepeated_AssembleInOrder() throws IOException {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(UploadSession.class))).thenReturn(session);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(UploadSession.class))).thenReturn(session);
+
+        // When
+        uploadSessionService.writeChunk("session1", "resume", "candidate1", 2, body("89"));
+        uploadSessionService.writeChunk("session1", "resume", "candidate1", 0, body("0123"));
+        uploadSessionService.writeChunk("session1", "resume", "candidate1", 1, body("4567"));
+        uploadSessionService.writeChunk("session1", "resume", "candidate1", 0, body("0123"));
+
+        // Then
+        Path assembled = uploadSessionService.assemble(session);
+        assertEquals("0123456789", Files.readString(assembled));
+        Files.delete(assembled);
+        verify(mongoTemplate, times(4)).findAndModify(any(Query.class), any(Update.class),
+            any(FindAndModifyOptions.class), eq(UploadSession.class));
+    }
+
+    @Test
+    void writeChunk_WrongLength_IsNotRecorded() {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(UploadSession.class))).thenReturn(session);
+
+        // When & Then
+        FileUploadException shortChunk = assertThrows(FileUploadException.class,
+            () -> uploadSessionService.writeChunk("session1", "resume", "candidate1", 1, body("45")));
+        assertEquals("Chunk 1 must be 4 bytes", shortChunk.getMessage());
+        assertThrows(FileUploadException.class,
+            () -> uploadSessionService.writeChunk("session1", "resume", "candidate1", 2, body("890")));
+        assertThrows(FileUploadException.class,
+            () -> uploadSessionService.writeChunk("session1", "resume", "candidate1", 3, body("")));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class),
+            any(FindAndModifyOptions.class), eq(UploadSession.class));
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.chunkKey("session1", 1))));
+    }
+
+    @Test
+    void create_OwnerAtOpenSessionLimit_IsRejected() {
+        // Given
+        when(mongoTemplate.count(any(Query.class), eq(UploadSession.class))).thenReturn(2L);
+
+        // When & Then
+        assertThrows(FileUploadException.class,
+            () -> uploadSessionService.create("resume", "candidate1", "resume.pdf", "application/pdf", 10));
+        verify(mongoTemplate, never()).insert(any(UploadSession.class));
+    }
+
+    @Test
+    void get_ExpiredSession_ThrowsNotFound() {
+        // Given
+        session.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(mongoTemplate.findOne(any(Query.class), eq(UploadSession.class))).thenReturn(session);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+            () -> uploadSessionService.get("session1", "resume", "candidate1"));
+    }
+
+    @Test
+    void discard_DeletesChunksOfOnlyThatSession() throws IOException {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(UploadSession.class))).thenReturn(session);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+            eq(UploadSession.class))).thenReturn(session);
+        uploadSessionService.writeChunk("session1", "resume", "candidate1", 0, body("0123"));
+        Path other = Files.writeString(tempDir.resolve(UploadSessionService.chunkKey("session10", 0)), "x");
+
+        // When
+        uploadSessionService.discard("session1");
+
+        // Then
+        assertFalse(Files.exists(tempDir.resolve(UploadSessionService.chunkKey("session1", 0))));
+        assertTrue(Files.exists(other));
+        verify(mongoTemplate).remove(any(Query.class), eq(UploadSession.class));
+    }
+
+    @Test
+    void sweepExpiredSessions_DeletesChunksAndSessions() throws IOException {
+        // Given
+        Path chunk = tempDir.resolve(UploadSessionService.chunkKey("session1", 0));
+        Files.createDirectories(chunk.getParent());
+        Files.writeString(chunk, "0123");
+        when(mongoTemplate.find(any(Query.class), eq(UploadSession.class))).thenReturn(List.of(session));
+
+        // When
+        int deleted = uploadSessionService.sweepExpiredSessions();
+
+        // Then
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(chunk));
+        verify(mongoTemplate).remove(any(Query.class), eq(UploadSession.class));
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
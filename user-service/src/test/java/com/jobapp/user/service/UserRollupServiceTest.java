@@ -0,0 +1,134 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import com.jobapp.user.model.RollupCounter;
+import com.jobapp.user.model.UserRollup;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserRollupService
+ * Requirements: 5.4
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRollupServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private UserRollupService userRollupService;
+
+    @Test
+    void totalsOf_PendingEmployer_CountsAsPendingAndUnapproved() {
+        Employer employer = new Employer();
+        employer.setIsApproved(false);
+        employer.setIsActive(true);
+
+        assertEquals(EnumSet.of(RollupCounter.EMPLOYERS, RollupCounter.UNAPPROVED_EMPLOYERS, RollupCounter.PENDING_EMPLOYERS),
+            UserRollupService.totalsOf(employer));
+    }
+
+    @Test
+    void recordCandidateChange_Block_IncrementsDayAndMovesTotals() {
+        // Given
+        Candidate candidate = new Candidate();
+        candidate.setIsActive(true);
+        Set<RollupCounter> before = UserRollupService.totalsOf(candidate);
+        candidate.setIsActive(false);
+
+        // When
+        userRollupService.recordCandidateChange(RollupCounter.CANDIDATE_BLOCKS, before, candidate);
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(queries.capture(), updates.capture(), eq(UserRollup.class));
+
+        assertEquals(LocalDate.now().toString(), queries.getAllValues().get(0).getQueryObject().get("id"));
+        Document dayInc = (Document) updates.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertEquals(1L, dayInc.get("counters.candidate_blocks"));
+
+        assertEquals(UserRollup.TOTALS_ID, queries.getAllValues().get(1).getQueryObject().get("id"));
+        Document totalsInc = (Document) updates.getAllValues().get(1).getUpdateObject().get("$inc");
+        assertEquals(-1L, totalsInc.get("counters.active_candidates"));
+        assertEquals(1L, totalsInc.get("counters.blocked_candidates"));
+        assertFalse(totalsInc.containsKey("counters.candidates"));
+    }
+
+    @Test
+    void recordEmployerChanges_Batch_IncrementsOnceBySum() {
+        // Given
+        List<Employer> employers = new ArrayList<>();
+        List<Set<RollupCounter>> before = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Employer employer = new Employer();
+            employer.setIsApproved(false);
+            employer.setIsActive(true);
+            before.add(UserRollupService.totalsOf(employer));
+            employer.setIsActive(false);
+            employers.add(employer);
+        }
+
+        // When
+        userRollupService.recordEmployerChanges(RollupCounter.EMPLOYER_BLOCKS, before, employers);
+
+        // Then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), updates.capture(), eq(UserRollup.class));
+        Document dayInc = (Document) updates.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertEquals(3L, dayInc.get("counters.employer_blocks"));
+        Document totalsInc = (Document) updates.getAllValues().get(1).getUpdateObject().get("$inc");
+        assertEquals(-3L, totalsInc.get("counters.pending_employers"));
+    }
+
+    @Test
+    void recordCandidateChange_StoreUnavailable_DoesNotThrow() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(UserRollup.class)))
+            .thenThrow(new RuntimeException("down"));
+
+        assertDoesNotThrow(() -> userRollupService.recordCandidateChange(
+            RollupCounter.CANDIDATE_REGISTRATIONS, Set.of(), new Candidate()));
+    }
+
+    @Test
+    void rebuildDailyRollups_RangeInFuture_RebuildsNothing() {
+        LocalDate today = LocalDate.now();
+
+        assertEquals(0, userRollupService.rebuildDailyRollups(today, today.plusDays(3)));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void getDailyRollups_ReadsIdRange() {
+        when(mongoTemplate.find(any(Query.class), eq(UserRollup.class))).thenReturn(List.of());
+
+        userRollupService.getDailyRollups(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(UserRollup.class));
+        Document range = (Document) query.getValue().getQueryObject().get("id");
+        assertEquals("2024-01-01", range.get("$gte"));
+        assertEquals("2024-01-31", range.get("$lte"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobapp.user.service;
+
+import com.jobapp.user.model.Candidate;
+import com.jobapp.user.model.Employer;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserSearchService and UserSearchTokens
+ * Requirements: 5.2
+ */
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private UserSearchService userSearchService;
+
+    @Test
+    void tokensOf_IndexesWordPrefixesAndTrigramsOfNormalizedValue() {
+        List<String> tokens = UserSearchTokens.tokensOf("Jos\u00e9 Ng", null);
+
+        assertTrue(tokens.containsAll(List.of("p:j", "p:jo", "p:n", "p:ng", "t:jos", "t:ose", "t:se ", "t:e n", "t: ng")));
+        assertFalse(tokens.contains("p:ngx"));
+        assertEquals(tokens.size(), tokens.stream().distinct().count());
+    }
+
+    @Test
+    void queryTokensOf_ShortTermUsesPrefixAndLongTermUsesTrigrams() {
+        assertEquals(List.of("p:jo"), UserSearchTokens.queryTokensOf(" Jo "));
+        assertEquals(List.of("t:smi", "t:mit", "t:ith"), UserSearchTokens.queryTokensOf("SMITH"));
+        assertTrue(UserSearchTokens.queryTokensOf("@.+").isEmpty());
+
+        // Every query token of a substring is among the index tokens of the value
+        assertTrue(UserSearchTokens.tokensOf("john.smith@example.com")
+            .containsAll(UserSearchTokens.queryTokensOf("smith@ex")));
+    }
+
+    @Test
+    void searchCandidates_NarrowsByTokensAndMatchesEscapedTerm() {
+        // Given
+        Candidate candidate = new Candidate();
+        candidate.setName("John Smith");
+        when(mongoTemplate.find(any(Query.class), eq(Candidate.class))).thenReturn(List.of(candidate));
+
+        // When
+        Page<Candidate> page = userSearchService.searchCandidates("smith+", true, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, page.getTotalElements());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Candidate.class));
+        assertEquals(UserSearchService.SEARCH_INDEX, query.getValue().getHint());
+
+        Document queryObject = query.getValue().getQueryObject();
+        assertEquals(List.of("t:smi", "t:mit", "t:ith"),
+            ((Document) queryObject.get("searchTokens")).get("$all"));
+        assertEquals(true, queryObject.get("isActive"));
+        Pattern namePattern = (Pattern) ((List<Document>) queryObject.get("$or")).get(0).get("name");
+        assertEquals("smith\\+", namePattern.pattern());
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Candidate.class));
+    }
+
+    @Test
+    void searchEmployers_TermWithoutLettersOrDigits_ReturnsNull() {
+        assertNull(userSearchService.searchEmployers("--", true, null, PageRequest.of(0, 10)));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void searchEmployers_AppliesApprovalAndStatusFilters() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Employer.class))).thenReturn(List.of());
+
+        // When
+        Page<Employer> page = userSearchService.searchEmployers("ac", false, true, PageRequest.of(0, 10));
+
+        // Then
+        assertTrue(page.isEmpty());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Employer.class));
+        Document queryObject = query.getValue().getQueryObject();
+        assertEquals(List.of("p:ac"), ((Document) queryObject.get("searchTokens")).get("$all"));
+        assertEquals(false, queryObject.get("isApproved"));
+        assertEquals(true, queryObject.get("isActive"));
+    }
+}